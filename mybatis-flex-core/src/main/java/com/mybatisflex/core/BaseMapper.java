@@ -16,9 +16,15 @@
 package com.mybatisflex.core;
 
 import com.mybatisflex.core.constant.FuncName;
+import com.mybatisflex.core.dialect.BatchInsertPlanner;
+import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.field.FieldQueryBuilder;
 import com.mybatisflex.core.mybatis.MappedStatementTypes;
+import com.mybatisflex.core.paginate.CountCacheKey;
+import com.mybatisflex.core.paginate.CountCacheManager;
+import com.mybatisflex.core.paginate.CursorPage;
+import com.mybatisflex.core.paginate.KeysetPaginator;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.provider.EntitySqlProvider;
 import com.mybatisflex.core.query.CPI;
@@ -45,12 +51,14 @@ import org.apache.ibatis.session.SqlSessionFactory;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static com.mybatisflex.core.query.QueryMethods.count;
 
@@ -152,6 +160,8 @@ public interface BaseMapper<T> {
 
     /**
      * 批量插入实体类数据，按 size 切分。
+     * <p>
+     * 当 size 条数据的参数数量或 SQL 大小超出数据库的限制时，会按 {@link BatchInsertPlanner} 计算的行数进一步切分。
      *
      * @param entities 插入的数据列表
      * @param size     切分大小
@@ -169,6 +179,10 @@ public interface BaseMapper<T> {
 
         List<T> entityList = entities instanceof List ? (List<T>) entities : new ArrayList<>(entities);
 
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(entityList.get(0).getClass());
+        size = BatchInsertPlanner.getRowsPerStatement(DialectFactory.getDbType(), size
+            , tableInfo.getTableNameWithSchema(), Arrays.asList(tableInfo.obtainInsertColumns(null, false)));
+
         int sum = 0;
         int entitiesSize = entities.size();
         int maxIndex = entitiesSize / size + (entitiesSize % size == 0 ? 0 : 1);
@@ -835,6 +849,52 @@ public interface BaseMapper<T> {
         }
     }
 
+    /**
+     * 以游标的方式分批查询实体类及其 Relation 注解字段。每次从游标中读取 windowSize 条数据，并查询这一批数据的
+     * Relation 注解字段，内存中最多只保存一批数据。
+     *
+     * <p>该方法必须在事务中才能正常使用，返回的 {@link Stream} 使用完毕后必须关闭（例如使用 try-with-resources），
+     * 以便关闭游标。MySQL 下需要开启 {@code useCursorFetch=true}，才能在游标未关闭时执行关联查询。
+     *
+     * @param queryWrapper 条件
+     * @param windowSize   每批数据的数量
+     * @return 数据流
+     */
+    default Stream<T> selectStreamWithRelations(QueryWrapper queryWrapper, int windowSize) {
+        Cursor<T> cursor = selectCursorByQuery(queryWrapper);
+        return new CursorWindowIterator<>(this, cursor, windowSize, true, null).stream();
+    }
+
+    /**
+     * 以游标的方式分批查询实体类及其 Relation 注解字段，要求返回的数据为 asType 类型。
+     *
+     * <p>该方法必须在事务中才能正常使用，返回的 {@link Stream} 使用完毕后必须关闭（例如使用 try-with-resources），
+     * 以便关闭游标。
+     *
+     * @param queryWrapper 条件
+     * @param asType       返回的类型
+     * @param windowSize   每批数据的数量
+     * @param consumers    字段查询
+     * @return 数据流
+     */
+    default <R> Stream<R> selectStreamWithRelationsAs(QueryWrapper queryWrapper, Class<R> asType, int windowSize, Consumer<FieldQueryBuilder<R>>... consumers) {
+        Cursor<R> cursor = selectCursorByQueryAs(queryWrapper, asType);
+        return new CursorWindowIterator<>(this, cursor, windowSize, true, consumers).stream();
+    }
+
+    /**
+     * 以游标的方式分批查询实体类及其 Relation 注解字段，每一批数据查询完成后交给 windowConsumer 处理，
+     * 全部处理完成后自动关闭游标。该方法必须在事务中才能正常使用。
+     *
+     * @param queryWrapper   条件
+     * @param windowSize     每批数据的数量
+     * @param windowConsumer 每批数据的处理
+     */
+    default void selectCursorWithRelations(QueryWrapper queryWrapper, int windowSize, Consumer<List<T>> windowConsumer) {
+        Cursor<T> cursor = selectCursorByQuery(queryWrapper);
+        new CursorWindowIterator<>(this, cursor, windowSize, true, null).forEachWindow(windowConsumer);
+    }
+
     /**
      * 查询全部数据。
      *
@@ -1225,6 +1285,39 @@ public interface BaseMapper<T> {
         return MapperUtil.doPaginate(this, page, queryWrapper, asType, true, consumers);
     }
 
+    /**
+     * 游标（Keyset）分页查询，排序列取自 {@code queryWrapper} 的 orderBy，查询代价与翻页深度无关。
+     *
+     * @param page         包含了游标和每页的数据量
+     * @param queryWrapper 条件，必须包含排序列
+     * @return 分页数据
+     * @see KeysetPaginator
+     */
+    default CursorPage<T> paginateByKeyset(CursorPage<T> page, QueryWrapper queryWrapper) {
+        return paginateByKeysetAs(page, queryWrapper, null);
+    }
+
+    /**
+     * 游标（Keyset）分页查询，排序列取自 {@code queryWrapper} 的 orderBy，查询代价与翻页深度无关。
+     *
+     * @param page         包含了游标和每页的数据量
+     * @param queryWrapper 条件，必须包含排序列
+     * @param asType       接收数据类型
+     * @return 分页数据
+     * @see KeysetPaginator
+     */
+    default <R> CursorPage<R> paginateByKeysetAs(CursorPage<R> page, QueryWrapper queryWrapper, Class<R> asType) {
+        FlexAssert.notNull(page, "page");
+        FlexAssert.notNull(queryWrapper, "queryWrapper");
+        return KeysetPaginator.paginate(page, queryWrapper, query -> {
+            if (asType != null) {
+                return selectListByQueryAs(query, asType);
+            }
+            // noinspection unchecked
+            return (List<R>) selectListByQuery(query);
+        });
+    }
+
 
     default <E> Page<E> xmlPaginate(String dataSelectId, Page<E> page, QueryWrapper queryWrapper) {
         return xmlPaginate(dataSelectId, dataSelectId + "_COUNT", page, queryWrapper, null);
@@ -1253,8 +1346,20 @@ public interface BaseMapper<T> {
                 if (!countSelectId.contains(".")) {
                     countSelectId = mapperClassName + "." + countSelectId;
                 }
-                Number number = sqlSession.selectOne(countSelectId, preparedParams);
-                page.setTotalRow(number == null ? Page.INIT_VALUE : number.longValue());
+                CountCacheKey countCacheKey = CountCacheManager.isEnable() ? MapperUtil.createXmlCountCacheKey(
+                    sqlSession.getConfiguration(), countSelectId, preparedParams, queryWrapper) : null;
+                Long cachedCount = countCacheKey != null ? CountCacheManager.getCount(countCacheKey) : null;
+                if (cachedCount != null) {
+                    page.setTotalRow(cachedCount);
+                } else {
+                    long generation = CountCacheManager.getGeneration();
+                    long start = System.nanoTime();
+                    Number number = sqlSession.selectOne(countSelectId, preparedParams);
+                    page.setTotalRow(number == null ? Page.INIT_VALUE : number.longValue());
+                    if (countCacheKey != null) {
+                        CountCacheManager.putCount(countCacheKey, page.getTotalRow(), System.nanoTime() - start, generation);
+                    }
+                }
             }
 
             if (page.hasRecords()) {
@@ -0,0 +1,514 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core;
+
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.exception.FlexAssert;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * 当前线程的执行上下文。
+ *
+ * <p>数据源、方言、忽略租户条件、跳过逻辑删除/乐观锁/脱敏、动态表名、{@code CompactRow} 以及关联查询配置等设置，
+ * 都保存在同一个 {@link FlexContext} 中，{@code DataSourceKey}、{@code TenantManager} 等管理器只是读写其中的某个属性，
+ * 每个线程只占用一个 {@link ThreadLocal}。
+ *
+ * <p>{@link FlexContext} 是不可变的，修改任意属性都会生成新的对象，因此 {@link #current()} 返回的对象可以直接作为快照
+ * 传递给其他线程，在其他线程中通过 {@link #run(Runnable)}、{@link #call(Supplier)} 或 {@link #wrap(Executor)}
+ * 恢复调用线程的设置：
+ *
+ * <pre>{@code
+ * FlexContext context = FlexContext.current();
+ * executor.execute(() -> context.run(() -> accountMapper.selectAll()));
+ * }</pre>
+ *
+ * <p>事务的连接与当前线程绑定，不属于上下文，不会被传递。
+ */
+public final class FlexContext {
+
+    /**
+     * 没有任何设置的上下文
+     */
+    public static final FlexContext EMPTY = new FlexContext();
+
+    private static ThreadLocal<FlexContext> holder = new ThreadLocal<>();
+
+    private DataSourceKeyNode dataSourceKeys;
+    private DbType hintDbType;
+    private boolean ignoreTenantCondition;
+    private boolean skipLogicDelete;
+    private boolean skipOptimisticLock;
+    private boolean skipMask;
+    private Boolean compactRow;
+    private Map<String, String> hintTableMappings;
+    private Map<String, String> hintSchemaMappings;
+    private Integer relationQueryDepth;
+    private Map<String, Object> relationExtraConditionParams;
+    private Set<String> ignoreRelations;
+    private Set<String> queryRelations;
+    private Boolean relationAutoClearConfig;
+    private long primaryStickyUntil;
+
+    private FlexContext() {
+    }
+
+    private FlexContext(FlexContext context) {
+        this.dataSourceKeys = context.dataSourceKeys;
+        this.hintDbType = context.hintDbType;
+        this.ignoreTenantCondition = context.ignoreTenantCondition;
+        this.skipLogicDelete = context.skipLogicDelete;
+        this.skipOptimisticLock = context.skipOptimisticLock;
+        this.skipMask = context.skipMask;
+        this.compactRow = context.compactRow;
+        this.hintTableMappings = context.hintTableMappings;
+        this.hintSchemaMappings = context.hintSchemaMappings;
+        this.relationQueryDepth = context.relationQueryDepth;
+        this.relationExtraConditionParams = context.relationExtraConditionParams;
+        this.ignoreRelations = context.ignoreRelations;
+        this.queryRelations = context.queryRelations;
+        this.relationAutoClearConfig = context.relationAutoClearConfig;
+        this.primaryStickyUntil = context.primaryStickyUntil;
+    }
+
+    /**
+     * 获取当前线程的上下文。
+     *
+     * @return 上下文，没有任何设置时返回 {@link #EMPTY}
+     */
+    public static FlexContext current() {
+        FlexContext context = holder.get();
+        return context != null ? context : EMPTY;
+    }
+
+    /**
+     * 设置当前线程的上下文。
+     *
+     * @param context 上下文，为 {@code null} 或者没有任何设置时清除当前线程的上下文
+     */
+    public static void set(FlexContext context) {
+        if (context == null || context.isEmpty()) {
+            holder.remove();
+        } else {
+            holder.set(context);
+        }
+    }
+
+    /**
+     * 清除当前线程的上下文。
+     */
+    public static void clear() {
+        holder.remove();
+    }
+
+    /**
+     * 设置保存上下文的 {@link ThreadLocal}，例如使用 {@code TransmittableThreadLocal} 自动传递上下文。
+     * 由于上下文是不可变的，子线程直接共享父线程的上下文对象即可，不需要复制。
+     * 注意子线程会继承忽略租户条件、跳过逻辑删除等全部设置，只需要传递数据源 key 时使用 {@code DataSourceKey.setThreadLocal}。
+     *
+     * @param threadLocal 保存上下文的 {@link ThreadLocal}
+     */
+    public static void setThreadLocal(ThreadLocal<FlexContext> threadLocal) {
+        FlexAssert.notNull(threadLocal, "threadLocal");
+        if (threadLocal.get() == null) {
+            FlexContext context = holder.get();
+            if (context != null) {
+                threadLocal.set(context);
+            }
+        }
+        holder = threadLocal;
+    }
+
+    /**
+     * 包装线程池，提交的任务在执行时恢复提交任务的线程的上下文。
+     *
+     * @param executor 线程池
+     * @return 包装后的线程池
+     */
+    public static Executor wrap(Executor executor) {
+        FlexAssert.notNull(executor, "executor");
+        return command -> executor.execute(current().wrap(command));
+    }
+
+    /**
+     * 在当前线程中使用这个上下文执行，执行完成后恢复当前线程原来的上下文。
+     *
+     * @param runnable 任务
+     */
+    public void run(Runnable runnable) {
+        FlexContext prev = holder.get();
+        set(this);
+        try {
+            runnable.run();
+        } finally {
+            set(prev);
+        }
+    }
+
+    /**
+     * 在当前线程中使用这个上下文执行，执行完成后恢复当前线程原来的上下文。
+     *
+     * @param supplier 任务
+     * @return 执行结果
+     */
+    public <T> T call(Supplier<T> supplier) {
+        FlexContext prev = holder.get();
+        set(this);
+        try {
+            return supplier.get();
+        } finally {
+            set(prev);
+        }
+    }
+
+    /**
+     * 包装任务，任务在其他线程中执行时使用这个上下文。
+     *
+     * @param runnable 任务
+     * @return 包装后的任务
+     */
+    public Runnable wrap(Runnable runnable) {
+        return () -> run(runnable);
+    }
+
+    /**
+     * 包装任务，任务在其他线程中执行时使用这个上下文。
+     *
+     * @param callable 任务
+     * @return 包装后的任务
+     */
+    public <T> Callable<T> wrap(Callable<T> callable) {
+        return () -> {
+            FlexContext prev = holder.get();
+            set(this);
+            try {
+                return callable.call();
+            } finally {
+                set(prev);
+            }
+        };
+    }
+
+    /**
+     * 是否没有任何设置。
+     *
+     * @return {@code true} 没有任何设置
+     */
+    public boolean isEmpty() {
+        return dataSourceKeys == null
+            && hintDbType == null
+            && !ignoreTenantCondition
+            && !skipLogicDelete
+            && !skipOptimisticLock
+            && !skipMask
+            && compactRow == null
+            && hintTableMappings == null
+            && hintSchemaMappings == null
+            && relationQueryDepth == null
+            && relationExtraConditionParams == null
+            && ignoreRelations == null
+            && queryRelations == null
+            && relationAutoClearConfig == null
+            && primaryStickyUntil == 0;
+    }
+
+
+    ////// datasource //////
+
+    public String getDataSourceKey() {
+        return dataSourceKeys != null ? dataSourceKeys.key : null;
+    }
+
+    public FlexContext pushDataSourceKey(String dataSourceKey) {
+        FlexContext context = new FlexContext(this);
+        context.dataSourceKeys = new DataSourceKeyNode(dataSourceKey, dataSourceKeys);
+        return context;
+    }
+
+    public FlexContext popDataSourceKey() {
+        if (dataSourceKeys == null) {
+            throw new NoSuchElementException();
+        }
+        FlexContext context = new FlexContext(this);
+        context.dataSourceKeys = dataSourceKeys.next;
+        return context;
+    }
+
+    public FlexContext withoutDataSourceKeys() {
+        if (dataSourceKeys == null) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.dataSourceKeys = null;
+        return context;
+    }
+
+
+    ////// dialect //////
+
+    public DbType getHintDbType() {
+        return hintDbType;
+    }
+
+    public FlexContext withHintDbType(DbType hintDbType) {
+        FlexContext context = new FlexContext(this);
+        context.hintDbType = hintDbType;
+        return context;
+    }
+
+
+    ////// skip flags //////
+
+    public boolean isIgnoreTenantCondition() {
+        return ignoreTenantCondition;
+    }
+
+    public FlexContext withIgnoreTenantCondition(boolean ignoreTenantCondition) {
+        if (this.ignoreTenantCondition == ignoreTenantCondition) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.ignoreTenantCondition = ignoreTenantCondition;
+        return context;
+    }
+
+    public boolean isSkipLogicDelete() {
+        return skipLogicDelete;
+    }
+
+    public FlexContext withSkipLogicDelete(boolean skipLogicDelete) {
+        if (this.skipLogicDelete == skipLogicDelete) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.skipLogicDelete = skipLogicDelete;
+        return context;
+    }
+
+    public boolean isSkipOptimisticLock() {
+        return skipOptimisticLock;
+    }
+
+    public FlexContext withSkipOptimisticLock(boolean skipOptimisticLock) {
+        if (this.skipOptimisticLock == skipOptimisticLock) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.skipOptimisticLock = skipOptimisticLock;
+        return context;
+    }
+
+    public boolean isSkipMask() {
+        return skipMask;
+    }
+
+    public FlexContext withSkipMask(boolean skipMask) {
+        if (this.skipMask == skipMask) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.skipMask = skipMask;
+        return context;
+    }
+
+    public Boolean getCompactRow() {
+        return compactRow;
+    }
+
+    public FlexContext withCompactRow(Boolean compactRow) {
+        FlexContext context = new FlexContext(this);
+        context.compactRow = compactRow;
+        return context;
+    }
+
+
+    ////// table //////
+
+    public Map<String, String> getHintTableMappings() {
+        return hintTableMappings;
+    }
+
+    public FlexContext withHintTableMapping(String tableName, String mappingTable) {
+        FlexContext context = new FlexContext(this);
+        context.hintTableMappings = put(hintTableMappings, tableName, mappingTable);
+        return context;
+    }
+
+    public Map<String, String> getHintSchemaMappings() {
+        return hintSchemaMappings;
+    }
+
+    public FlexContext withHintSchemaMapping(String schema, String mappingSchema) {
+        FlexContext context = new FlexContext(this);
+        context.hintSchemaMappings = put(hintSchemaMappings, schema, mappingSchema);
+        return context;
+    }
+
+    public FlexContext withoutHintMappings() {
+        if (hintTableMappings == null && hintSchemaMappings == null) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.hintTableMappings = null;
+        context.hintSchemaMappings = null;
+        return context;
+    }
+
+    private static <V> Map<String, V> put(Map<String, V> map, String key, V value) {
+        Map<String, V> newMap = map == null ? new HashMap<>() : new HashMap<>(map);
+        newMap.put(key, value);
+        return newMap;
+    }
+
+
+    ////// relation //////
+
+    public Integer getRelationQueryDepth() {
+        return relationQueryDepth;
+    }
+
+    public FlexContext withRelationQueryDepth(Integer relationQueryDepth) {
+        FlexContext context = new FlexContext(this);
+        context.relationQueryDepth = relationQueryDepth;
+        return context;
+    }
+
+    public Map<String, Object> getRelationExtraConditionParams() {
+        return relationExtraConditionParams;
+    }
+
+    public FlexContext withRelationExtraConditionParams(Map<String, Object> relationExtraConditionParams) {
+        FlexContext context = new FlexContext(this);
+        context.relationExtraConditionParams = relationExtraConditionParams;
+        return context;
+    }
+
+    public FlexContext withRelationExtraConditionParam(String key, Object value) {
+        return withRelationExtraConditionParams(put(relationExtraConditionParams, key, value));
+    }
+
+    public Set<String> getIgnoreRelations() {
+        return ignoreRelations;
+    }
+
+    public FlexContext withIgnoreRelations(Set<String> ignoreRelations) {
+        FlexContext context = new FlexContext(this);
+        context.ignoreRelations = ignoreRelations;
+        return context;
+    }
+
+    public Set<String> getQueryRelations() {
+        return queryRelations;
+    }
+
+    public FlexContext withQueryRelations(Set<String> queryRelations) {
+        FlexContext context = new FlexContext(this);
+        context.queryRelations = queryRelations;
+        return context;
+    }
+
+    public Boolean getRelationAutoClearConfig() {
+        return relationAutoClearConfig;
+    }
+
+    public FlexContext withRelationAutoClearConfig(Boolean relationAutoClearConfig) {
+        FlexContext context = new FlexContext(this);
+        context.relationAutoClearConfig = relationAutoClearConfig;
+        return context;
+    }
+
+    /**
+     * 清除关联查询的深度、附加条件参数、忽略和仅查询的 Relation 配置。
+     *
+     * @return 新的上下文
+     */
+    public FlexContext withoutRelationConfig() {
+        if (relationQueryDepth == null && relationExtraConditionParams == null
+            && ignoreRelations == null && queryRelations == null) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.relationQueryDepth = null;
+        context.relationExtraConditionParams = null;
+        context.ignoreRelations = null;
+        context.queryRelations = null;
+        return context;
+    }
+
+
+
+    ////// read write splitting //////
+
+    /**
+     * 读写分离时，在这个时间（毫秒时间戳）之前的查询都使用主库，保证可以读取到刚写入的数据。
+     */
+    public long getPrimaryStickyUntil() {
+        return primaryStickyUntil;
+    }
+
+    public FlexContext withPrimaryStickyUntil(long primaryStickyUntil) {
+        if (this.primaryStickyUntil == primaryStickyUntil) {
+            return this;
+        }
+        FlexContext context = new FlexContext(this);
+        context.primaryStickyUntil = primaryStickyUntil;
+        return context;
+    }
+
+    @Override
+    public String toString() {
+        return "FlexContext{" +
+            "dataSourceKey='" + getDataSourceKey() + '\'' +
+            ", hintDbType=" + hintDbType +
+            ", ignoreTenantCondition=" + ignoreTenantCondition +
+            ", skipLogicDelete=" + skipLogicDelete +
+            ", skipOptimisticLock=" + skipOptimisticLock +
+            ", skipMask=" + skipMask +
+            ", compactRow=" + compactRow +
+            ", hintTableMappings=" + hintTableMappings +
+            ", hintSchemaMappings=" + hintSchemaMappings +
+            ", relationQueryDepth=" + relationQueryDepth +
+            ", relationExtraConditionParams=" + relationExtraConditionParams +
+            ", ignoreRelations=" + ignoreRelations +
+            ", queryRelations=" + queryRelations +
+            ", relationAutoClearConfig=" + relationAutoClearConfig +
+            ", primaryStickyUntil=" + primaryStickyUntil +
+            '}';
+    }
+
+
+    /**
+     * 数据源 key 的栈，{@code DataSourceKey.use} 入栈，{@code DataSourceKey.clear} 出栈。
+     */
+    private static final class DataSourceKeyNode {
+
+        private final String key;
+        private final DataSourceKeyNode next;
+
+        DataSourceKeyNode(String key, DataSourceKeyNode next) {
+            this.key = key;
+            this.next = next;
+        }
+
+    }
+
+}
@@ -22,6 +22,7 @@ import com.mybatisflex.annotation.SetListener;
 import com.mybatisflex.annotation.UpdateListener;
 import com.mybatisflex.core.datasource.FlexDataSource;
 import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.SqlTemplateCache;
 import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.mybatis.UnMappedColumnHandler;
 import org.apache.ibatis.session.Configuration;
@@ -32,6 +33,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 /**
@@ -89,6 +91,16 @@ public class FlexGlobalConfig {
      */
     private int defaultMaxPageSize = Integer.MAX_VALUE;
 
+    /**
+     * 分页查询时，是否默认在另一个连接上与数据查询并发执行 COUNT 查询，事务中始终串行执行。
+     */
+    private boolean concurrentCountQuery = false;
+
+    /**
+     * 并发执行 COUNT 查询的线程池，为 {@code null} 时使用内置的线程池，JDK 21 可以设置为虚拟线程。
+     */
+    private Executor paginateExecutor;
+
 
     /**
      * 默认的 Relation 注解查询深度
@@ -275,6 +287,7 @@ public class FlexGlobalConfig {
     public void setNormalValueOfLogicDelete(Object normalValueOfLogicDelete) {
         FlexAssert.notNull(normalValueOfLogicDelete, "normalValueOfLogicDelete");
         this.normalValueOfLogicDelete = normalValueOfLogicDelete;
+        SqlTemplateCache.clear();
     }
 
     public Object getDeletedValueOfLogicDelete() {
@@ -284,6 +297,7 @@ public class FlexGlobalConfig {
     public void setDeletedValueOfLogicDelete(Object deletedValueOfLogicDelete) {
         FlexAssert.notNull(deletedValueOfLogicDelete, "deletedValueOfLogicDelete");
         this.deletedValueOfLogicDelete = deletedValueOfLogicDelete;
+        SqlTemplateCache.clear();
     }
 
     public int getDefaultPageSize() {
@@ -302,6 +316,22 @@ public class FlexGlobalConfig {
         this.defaultMaxPageSize = defaultMaxPageSize;
     }
 
+    public boolean isConcurrentCountQuery() {
+        return concurrentCountQuery;
+    }
+
+    public void setConcurrentCountQuery(boolean concurrentCountQuery) {
+        this.concurrentCountQuery = concurrentCountQuery;
+    }
+
+    public Executor getPaginateExecutor() {
+        return paginateExecutor;
+    }
+
+    public void setPaginateExecutor(Executor paginateExecutor) {
+        this.paginateExecutor = paginateExecutor;
+    }
+
     public int getDefaultRelationQueryDepth() {
         return defaultRelationQueryDepth;
     }
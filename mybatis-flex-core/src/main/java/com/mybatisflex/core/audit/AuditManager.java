@@ -94,6 +94,9 @@ public class AuditManager {
         if (messageCollector instanceof ScheduledMessageCollector) {
             ((ScheduledMessageCollector) messageCollector).release();
         }
+        if (messageCollector instanceof RingBufferMessageCollector) {
+            ((RingBufferMessageCollector) messageCollector).release();
+        }
     }
 
     @SuppressWarnings("rawtypes")
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.audit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 有界的多生产者多消费者环形队列，每个槽位使用序号标记是否可写或可读，入队和出队都只需要一次 CAS。
+ *
+ * @param <E> 元素类型
+ */
+class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    /**
+     * @param capacity 容量，向上取整为 2 的幂
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("capacity must be between 1 and 2^30, current value is: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.mask = size - 1;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * 入队。
+     *
+     * @return {@code false} 队列已满
+     */
+    boolean offer(E element) {
+        long index = producerIndex.get();
+        for (; ; ) {
+            int slot = (int) (index & mask);
+            long diff = sequences.get(slot) - index;
+            if (diff == 0) {
+                if (producerIndex.compareAndSet(index, index + 1)) {
+                    elements.lazySet(slot, element);
+                    sequences.set(slot, index + 1);
+                    return true;
+                }
+                index = producerIndex.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                index = producerIndex.get();
+            }
+        }
+    }
+
+    /**
+     * 出队。
+     *
+     * @return 队列为空时返回 {@code null}
+     */
+    E poll() {
+        long index = consumerIndex.get();
+        for (; ; ) {
+            int slot = (int) (index & mask);
+            long diff = sequences.get(slot) - (index + 1);
+            if (diff == 0) {
+                if (consumerIndex.compareAndSet(index, index + 1)) {
+                    E element = elements.get(slot);
+                    elements.lazySet(slot, null);
+                    sequences.set(slot, index + mask + 1);
+                    return element;
+                }
+                index = consumerIndex.get();
+            } else if (diff < 0) {
+                return null;
+            } else {
+                index = consumerIndex.get();
+            }
+        }
+    }
+
+    /**
+     * 当前元素数量的估计值。
+     */
+    int size() {
+        long size = producerIndex.get() - consumerIndex.get();
+        return (int) Math.max(0, Math.min(size, capacity()));
+    }
+
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.audit;
+
+import org.apache.ibatis.logging.LogFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 基于有界环形队列的审计消息收集器。
+ *
+ * <p>与 {@link ScheduledMessageCollector} 使用无界的同步列表不同，消息保存在固定容量的无锁环形队列中，
+ * 收集消息时不需要加锁，队列已满时根据 {@link OverflowPolicy} 丢弃消息或者等待，不会因为突发的大量 SQL 占用过多内存。
+ * 队列中的消息定时（或者在队列已满时立即）按批次发送给 {@link MessageReporter}。
+ *
+ * <p>可以为全部或者某些 SQL 设置采样率，只收集部分消息，被丢弃和未被采样的消息数量可以通过
+ * {@link #getDroppedCount()} 和 {@link #getSampledOutCount()} 获取。
+ */
+public class RingBufferMessageCollector implements MessageCollector {
+
+    /**
+     * 队列已满时的处理策略。
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * 丢弃队列中最早的消息
+         */
+        DROP_OLDEST,
+
+        /**
+         * 丢弃新的消息
+         */
+        DROP_NEWEST,
+
+        /**
+         * 等待队列中的消息被发送
+         */
+        BLOCK
+
+    }
+
+    private final RingBuffer<AuditMessage> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final MessageReporter messageReporter;
+    private final int batchSize;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean sendRequested = new AtomicBoolean();
+
+    private volatile double defaultSampleRate = 1.0D;
+    private final Map<String, Double> sampleRates = new ConcurrentHashMap<>();
+
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder sampledOutCount = new LongAdder();
+
+    public RingBufferMessageCollector() {
+        this(8192, OverflowPolicy.DROP_OLDEST, 10, new ConsoleMessageReporter());
+    }
+
+    public RingBufferMessageCollector(int capacity, OverflowPolicy overflowPolicy, long period, MessageReporter messageReporter) {
+        this(capacity, overflowPolicy, period, 1000, messageReporter);
+    }
+
+    /**
+     * @param capacity        队列容量，向上取整为 2 的幂
+     * @param overflowPolicy  队列已满时的处理策略
+     * @param period          定时发送消息的间隔（秒）
+     * @param batchSize       每次发送给 {@link MessageReporter} 的最多消息数量
+     * @param messageReporter 消息发送器
+     */
+    public RingBufferMessageCollector(int capacity, OverflowPolicy overflowPolicy, long period, int batchSize, MessageReporter messageReporter) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must greater than 0, current value is: " + batchSize);
+        }
+        this.buffer = new RingBuffer<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.batchSize = batchSize;
+        this.messageReporter = messageReporter;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RingBufferMessageCollector");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleAtFixedRate(this::doSendMessages, period, period, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void collect(AuditMessage message) {
+        if (!isSampled(message)) {
+            sampledOutCount.increment();
+            return;
+        }
+
+        if (buffer.offer(message)) {
+            return;
+        }
+
+        requestSend();
+        switch (overflowPolicy) {
+            case DROP_NEWEST:
+                droppedCount.increment();
+                break;
+            case DROP_OLDEST:
+                while (!buffer.offer(message)) {
+                    if (buffer.poll() != null) {
+                        droppedCount.increment();
+                    }
+                }
+                break;
+            default:
+                while (!buffer.offer(message)) {
+                    if (scheduler.isShutdown()) {
+                        droppedCount.increment();
+                        return;
+                    }
+                    requestSend();
+                    LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+                }
+                break;
+        }
+    }
+
+    private boolean isSampled(AuditMessage message) {
+        double rate = defaultSampleRate;
+        if (!sampleRates.isEmpty() && message.getQuery() != null) {
+            Double queryRate = sampleRates.get(message.getQuery());
+            if (queryRate != null) {
+                rate = queryRate;
+            }
+        }
+        return rate >= 1.0D || (rate > 0.0D && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /**
+     * 队列已满时立即发送消息，同一时间只提交一次。
+     */
+    private void requestSend() {
+        if (sendRequested.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> {
+                    sendRequested.set(false);
+                    doSendMessages();
+                });
+            } catch (Exception e) {
+                sendRequested.set(false);
+            }
+        }
+    }
+
+    /**
+     * 发送队列中的全部消息。
+     */
+    protected synchronized void doSendMessages() {
+        List<AuditMessage> messages = new ArrayList<>(Math.min(batchSize, buffer.size()));
+        AuditMessage message;
+        while ((message = buffer.poll()) != null) {
+            messages.add(message);
+            if (messages.size() >= batchSize) {
+                sendMessages(messages);
+                messages = new ArrayList<>(Math.min(batchSize, buffer.size()));
+            }
+        }
+        if (!messages.isEmpty()) {
+            sendMessages(messages);
+        }
+    }
+
+    private void sendMessages(List<AuditMessage> messages) {
+        try {
+            messageReporter.sendMessages(messages);
+        } catch (Exception e) {
+            LogFactory.getLog(RingBufferMessageCollector.class).error(e.toString(), e);
+        }
+    }
+
+    public void release() {
+        scheduler.shutdown();
+        doSendMessages();
+    }
+
+    /**
+     * 设置默认的采样率。
+     *
+     * @param sampleRate 采样率，0 ~ 1，1 表示收集全部消息
+     */
+    public void setDefaultSampleRate(double sampleRate) {
+        this.defaultSampleRate = sampleRate;
+    }
+
+    public double getDefaultSampleRate() {
+        return defaultSampleRate;
+    }
+
+    /**
+     * 设置某条 SQL 的采样率。
+     *
+     * @param query      SQL，与 {@link AuditMessage#getQuery()} 相同
+     * @param sampleRate 采样率，0 ~ 1，1 表示收集全部消息
+     */
+    public void setSampleRate(String query, double sampleRate) {
+        sampleRates.put(query, sampleRate);
+    }
+
+    public void removeSampleRate(String query) {
+        sampleRates.remove(query);
+    }
+
+    /**
+     * 由于队列已满而被丢弃的消息数量。
+     */
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * 由于采样而未被收集的消息数量。
+     */
+    public long getSampledOutCount() {
+        return sampledOutCount.sum();
+    }
+
+    /**
+     * 队列中等待发送的消息数量。
+     */
+    public int getPendingCount() {
+        return buffer.size();
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    protected MessageReporter getMessageReporter() {
+        return messageReporter;
+    }
+
+}
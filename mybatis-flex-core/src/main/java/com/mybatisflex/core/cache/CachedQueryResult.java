@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+import java.io.Serializable;
+import java.util.Set;
+
+/**
+ * 缓存的查询结果。
+ */
+public final class CachedQueryResult implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object result;
+    private final Set<String> tableNames;
+
+    public CachedQueryResult(Object result, Set<String> tableNames) {
+        this.result = result;
+        this.tableNames = tableNames;
+    }
+
+    /**
+     * 缓存的值，不可变的查询结果、复制的查询结果或者序列化后的查询结果，通过 {@code QueryResultCacheManager.get} 获取查询结果。
+     */
+    public Object getResult() {
+        return result;
+    }
+
+    /**
+     * 查询中使用的表（小写，不包含 schema），包括 join 的表、子查询的表以及关联查询的表。
+     */
+    public Set<String> getTableNames() {
+        return tableNames;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedQueryResult{" +
+            "tableNames=" + tableNames +
+            ", result=" + result +
+            '}';
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 默认的查询结果缓存，保存在当前进程内，超出最大数量时移除最久未使用的缓存。
+ */
+public class DefaultQueryResultCache implements QueryResultCache {
+
+    private final long ttlMillis;
+    private final Map<QueryResultCacheKey, Entry> cache;
+
+    public DefaultQueryResultCache() {
+        this(60_000, 1024);
+    }
+
+    /**
+     * @param ttlMillis 过期时间（毫秒）
+     * @param maxSize   最大缓存数量
+     */
+    public DefaultQueryResultCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.cache = new LinkedHashMap<QueryResultCacheKey, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<QueryResultCacheKey, Entry> eldest) {
+                if (size() > maxSize) {
+                    QueryResultCacheManager.recordEviction(eldest.getValue().result.getTableNames());
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    @Override
+    public CachedQueryResult get(QueryResultCacheKey key) {
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt < System.currentTimeMillis()) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+    }
+
+    @Override
+    public void put(QueryResultCacheKey key, CachedQueryResult result) {
+        Entry entry = new Entry(result, System.currentTimeMillis() + ttlMillis);
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    @Override
+    public int invalidate(String tableName) {
+        int count = 0;
+        synchronized (cache) {
+            Iterator<Entry> iterator = cache.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().result.getTableNames().contains(tableName)) {
+                    iterator.remove();
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+
+    private static class Entry {
+
+        private final CachedQueryResult result;
+        private final long expireAt;
+
+        Entry(CachedQueryResult result, long expireAt) {
+            this.result = result;
+            this.expireAt = expireAt;
+        }
+
+    }
+
+}
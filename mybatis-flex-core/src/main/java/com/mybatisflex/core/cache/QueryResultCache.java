@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+/**
+ * 查询结果缓存的存储，默认使用进程内的 {@link DefaultQueryResultCache}，可以实现该接口使用 Redis 等外部存储。
+ *
+ * <p>实现类需要是线程安全的。
+ *
+ * @see QueryResultCacheManager#setQueryResultCache(QueryResultCache)
+ */
+public interface QueryResultCache {
+
+    /**
+     * 获取缓存的查询结果。
+     *
+     * @param key 缓存 key
+     * @return 查询结果，不存在或已过期时返回 {@code null}
+     */
+    CachedQueryResult get(QueryResultCacheKey key);
+
+    /**
+     * 缓存查询结果。
+     *
+     * @param key    缓存 key
+     * @param result 查询结果以及查询中使用的表
+     */
+    void put(QueryResultCacheKey key, CachedQueryResult result);
+
+    /**
+     * 移除查询中使用了指定表的缓存。
+     *
+     * @param tableName 表名（小写，不包含 schema）
+     * @return 移除的缓存数量
+     */
+    int invalidate(String tableName);
+
+    /**
+     * 清空缓存。
+     */
+    void clear();
+
+}
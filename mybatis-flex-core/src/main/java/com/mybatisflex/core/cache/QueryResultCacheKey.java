@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * 查询结果缓存 key，由 Mapper 方法、参数以及数据源、租户、动态表名等会影响查询结果的上下文组成。
+ *
+ * <p>{@link com.mybatisflex.core.query.QueryWrapper} 参数以结构指纹和参数值表示，不需要生成 SQL。
+ */
+public final class QueryResultCacheKey {
+
+    private final Class<?> mapperInterface;
+    private final Method method;
+    private final Object[] args;
+    private final Object[] context;
+    private final int hashCode;
+
+    public QueryResultCacheKey(Class<?> mapperInterface, Method method, Object[] args, Object[] context) {
+        this.mapperInterface = mapperInterface;
+        this.method = method;
+        this.args = args;
+        this.context = context;
+        this.hashCode = 31 * (31 * (31 * mapperInterface.hashCode() + method.hashCode())
+            + Arrays.deepHashCode(args)) + Arrays.deepHashCode(context);
+    }
+
+    public Class<?> getMapperInterface() {
+        return mapperInterface;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    public Object[] getContext() {
+        return context;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryResultCacheKey)) {
+            return false;
+        }
+        QueryResultCacheKey that = (QueryResultCacheKey) o;
+        return hashCode == that.hashCode
+            && mapperInterface == that.mapperInterface
+            && method.equals(that.method)
+            && Arrays.deepEquals(args, that.args)
+            && Arrays.deepEquals(context, that.context);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryResultCacheKey{" +
+            "mapper=" + mapperInterface.getName() +
+            ", method=" + method.getName() +
+            ", args=" + Arrays.deepToString(args) +
+            ", context=" + Arrays.deepToString(context) +
+            '}';
+    }
+
+}
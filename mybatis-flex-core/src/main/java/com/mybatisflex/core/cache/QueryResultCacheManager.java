@@ -0,0 +1,725 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.cache;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.exception.FlexAssert;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.row.RowMapper;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.transaction.TransactionContext;
+import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.core.util.QueryKeyUtil;
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+
+/**
+ * 查询结果缓存（二级缓存）管理。
+ *
+ * <p>开启后，{@code BaseMapper} 和 {@code RowMapper}（包括 {@code Db}）中以 select 开头的查询方法，会以 Mapper 方法、参数、
+ * 数据源、租户以及动态表名等为 key 缓存查询结果，并记录查询中使用的表，包括 join 的表、子查询的表以及关联查询的表。
+ * 通过 {@code BaseMapper} 或 {@code Db} 增删改数据后，使用了该表的缓存会被移除；无法确定修改了哪些表时（例如自定义的 XML 方法、
+ * {@code Db.updateBySql}），清空全部缓存。在事务中修改数据时，等到事务提交后再移除缓存，事务回滚时不移除。
+ *
+ * <p>以下情况不使用缓存：
+ * <ul>
+ *     <li>事务中的查询；
+ *     <li>无法确定使用了哪些表的查询，例如自定义的 XML 方法、{@code Db.selectListBySql}；
+ *     <li>参数中包含无法作为 key 的对象，例如实体类、lambda，或者无法生成结构指纹的 {@link QueryWrapper}；
+ *     <li>游标、Stream 以及分页查询（分页查询的总数可以使用 {@code CountCacheManager} 缓存）；
+ *     <li>需要复制时无法序列化的查询结果，例如没有实现 {@link Serializable} 的实体类。
+ * </ul>
+ *
+ * <p>默认每次命中时返回查询结果的副本，修改查询结果不会影响缓存：字符串、数字等不可变的结果直接缓存；值都不可变的 {@link Row}
+ * 复制后缓存，命中时再复制一次；其他结果（例如实体类）序列化后缓存，命中时反序列化，开销与结果的大小成正比。
+ * 通过 {@link #setCopyResults(boolean)} 关闭复制后，所有线程共享缓存的结果对象，不需要实现 {@link Serializable}，
+ * 但调用方不能修改查询结果。
+ */
+public class QueryResultCacheManager {
+
+    private QueryResultCacheManager() {
+    }
+
+    private static volatile boolean enable = false;
+
+    private static volatile boolean copyResults = true;
+
+    private static volatile QueryResultCache queryResultCache = new DefaultQueryResultCache();
+
+    /**
+     * 每次移除缓存时加一，查询期间有数据被修改时不缓存查询结果，避免缓存修改前的数据
+     */
+    private static final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 最后一次清空全部缓存时的版本
+     */
+    private static final AtomicLong clearedGeneration = new AtomicLong();
+
+    /**
+     * 每张表（小写）最后一次被修改时的版本，缓存查询结果时只比较查询中使用的表，修改其他表不影响
+     */
+    private static final Map<String, Long> tableGenerations = new ConcurrentHashMap<>();
+
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+    private static final Map<String, QueryResultCacheStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * 继承的方法（例如 BaseMapper 中的方法）在不同的 Mapper 中对应不同的 SQL，需要按 Mapper 接口区分
+     */
+    private static final Map<Class<?>, Map<Method, SqlCommandType>> commandTypes = new ConcurrentHashMap<>();
+
+    private static final ThreadLocal<Scope> scopeTL = new ThreadLocal<>();
+
+    private static final Object UNCACHEABLE = new Object();
+
+    public static boolean isEnable() {
+        return enable;
+    }
+
+    public static void setEnable(boolean enable) {
+        QueryResultCacheManager.enable = enable;
+        clear();
+    }
+
+    public static boolean isCopyResults() {
+        return copyResults;
+    }
+
+    /**
+     * 设置命中缓存时是否返回查询结果的副本，默认为 {@code true}。
+     *
+     * <p>为 {@code false} 时直接返回缓存的对象，省去复制和反序列化的开销，适合结果较大且只读的查询，
+     * 修改查询结果会影响之后命中该缓存的所有查询。
+     *
+     * @param copyResults 是否复制
+     */
+    public static void setCopyResults(boolean copyResults) {
+        QueryResultCacheManager.copyResults = copyResults;
+        clear();
+    }
+
+    public static QueryResultCache getQueryResultCache() {
+        return queryResultCache;
+    }
+
+    public static void setQueryResultCache(QueryResultCache queryResultCache) {
+        FlexAssert.notNull(queryResultCache, "queryResultCache");
+        QueryResultCacheManager.queryResultCache = queryResultCache;
+    }
+
+
+    ////////////// key //////////////
+
+    /**
+     * 创建 Mapper 方法的缓存 key。
+     *
+     * @param mapperInterface Mapper 接口
+     * @param method          Mapper 方法
+     * @param args            方法参数
+     * @return 缓存 key，不能缓存时返回 {@code null}
+     */
+    public static QueryResultCacheKey createKey(Class<?> mapperInterface, Method method, Object[] args) {
+        if (!isCacheableMethod(method) || TransactionContext.isTransactionActive()) {
+            return null;
+        }
+        Object[] keyArgs = QueryKeyUtil.toKeyArgs(args);
+        Object[] context = keyArgs == null ? null : QueryKeyUtil.getKeyContext(mapperInterface, args);
+        if (context == null) {
+            return null;
+        }
+        return new QueryResultCacheKey(mapperInterface, method, keyArgs, context);
+    }
+
+    private static boolean isCacheableMethod(Method method) {
+        Class<?> declaringClass = method.getDeclaringClass();
+        if (declaringClass != BaseMapper.class && declaringClass != RowMapper.class) {
+            return false;
+        }
+        if (!method.getName().startsWith("select")) {
+            return false;
+        }
+        Class<?> returnType = method.getReturnType();
+        return returnType != void.class
+            && !Cursor.class.isAssignableFrom(returnType)
+            && !BaseStream.class.isAssignableFrom(returnType)
+            && !Iterator.class.isAssignableFrom(returnType);
+    }
+
+
+    ////////////// tables //////////////
+
+    /**
+     * 获取 Mapper 方法（非 default 方法）读取或修改的表。
+     *
+     * @param mapperInterface Mapper 接口
+     * @param method          Mapper 方法
+     * @param args            方法参数
+     * @return 表名（小写，不包含 schema），无法确定时返回 {@code null}
+     */
+    public static Set<String> getTableNames(Class<?> mapperInterface, Method method, Object[] args) {
+        Set<String> tableNames = new HashSet<>();
+        if (mapperInterface == RowMapper.class) {
+            Class<?>[] parameterTypes = method.getParameterTypes();
+            if (parameterTypes.length > 1 && parameterTypes[1] == String.class && args[1] instanceof String) {
+                QueryKeyUtil.addTableName((String) args[1], tableNames);
+            } else if ("updateEntity".equals(method.getName()) && args[0] != null) {
+                TableInfo tableInfo = TableInfoFactory.ofEntityClass(args[0].getClass());
+                if (tableInfo == null) {
+                    return null;
+                }
+                QueryKeyUtil.addTableName(tableInfo.getTableName(), tableNames);
+            } else {
+                return null;
+            }
+        } else if (method.getDeclaringClass() == BaseMapper.class) {
+            TableInfo tableInfo = TableInfoFactory.ofMapperClass(mapperInterface);
+            if (tableInfo == null) {
+                return null;
+            }
+            QueryKeyUtil.addTableName(tableInfo.getTableName(), tableNames);
+        } else {
+            return null;
+        }
+
+        if (args != null) {
+            for (Object arg : args) {
+                if (arg instanceof QueryWrapper) {
+                    QueryKeyUtil.collectTableNames((QueryWrapper) arg, tableNames, false);
+                }
+            }
+        }
+        return tableNames;
+    }
+
+    /**
+     * 获取 Mapper 方法的 SQL 类型。
+     *
+     * @param configuration   MyBatis 配置
+     * @param mapperInterface Mapper 接口
+     * @param method          Mapper 方法
+     * @return SQL 类型，没有对应的 SQL 时返回 {@link SqlCommandType#UNKNOWN}
+     */
+    public static SqlCommandType getSqlCommandType(Configuration configuration, Class<?> mapperInterface, Method method) {
+        Map<Method, SqlCommandType> mapperCommandTypes = MapUtil.computeIfAbsent(commandTypes, mapperInterface
+            , k -> new ConcurrentHashMap<>());
+        return MapUtil.computeIfAbsent(mapperCommandTypes, method, m -> {
+            String statementId = mapperInterface.getName() + "." + m.getName();
+            if (!configuration.hasStatement(statementId, false)) {
+                return SqlCommandType.UNKNOWN;
+            }
+            return configuration.getMappedStatement(statementId, false).getSqlCommandType();
+        });
+    }
+
+
+    ////////////// cache //////////////
+
+    /**
+     * 获取缓存的查询结果，每次返回新的对象。
+     *
+     * @param key 缓存 key
+     * @return 查询结果，未命中时返回 {@code null}
+     */
+    public static Object get(QueryResultCacheKey key) {
+        CachedQueryResult cached = queryResultCache.get(key);
+        Object result = cached == null ? null : fromCachedValue(cached.getResult());
+        if (result == null) {
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        for (String tableName : cached.getTableNames()) {
+            getStatistics(tableName).hitCount.increment();
+        }
+        return result;
+    }
+
+    /**
+     * 获取当前的缓存版本，在执行查询之前获取，缓存结果时传入。
+     */
+    public static long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 缓存查询结果。
+     *
+     * @param key        缓存 key
+     * @param result     查询结果，为 {@code null} 或者需要复制时无法序列化时不缓存
+     * @param tableNames 查询中使用的表，为 {@code null} 或者为空时不缓存
+     * @param generation 执行查询之前通过 {@link #getGeneration()} 获取的缓存版本，执行查询期间 {@code tableNames}
+     *                   中的表被修改或者缓存被清空时不缓存
+     */
+    public static void put(QueryResultCacheKey key, Object result, Set<String> tableNames, long generation) {
+        if (!enable || result == null || tableNames == null || tableNames.isEmpty()
+            || isModifiedSince(tableNames, generation)) {
+            return;
+        }
+        Object cachedValue = toCachedValue(result);
+        if (cachedValue == UNCACHEABLE) {
+            return;
+        }
+        for (String tableName : tableNames) {
+            getStatistics(tableName).missCount.increment();
+        }
+        queryResultCache.put(key, new CachedQueryResult(cachedValue, Collections.unmodifiableSet(tableNames)));
+    }
+
+    private static boolean isModifiedSince(Set<String> tableNames, long generation) {
+        if (clearedGeneration.get() > generation) {
+            return true;
+        }
+        for (String tableName : tableNames) {
+            Long tableGeneration = tableGenerations.get(tableName);
+            if (tableGeneration != null && tableGeneration > generation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 记录表被修改时的版本。
+     *
+     * @param tableNames 表名（小写），为 {@code null} 时表示全部的表
+     */
+    private static void nextGeneration(Set<String> tableNames) {
+        long next = generation.incrementAndGet();
+        if (tableNames == null) {
+            clearedGeneration.accumulateAndGet(next, Math::max);
+        } else {
+            for (String tableName : tableNames) {
+                tableGenerations.merge(tableName, next, Math::max);
+            }
+        }
+    }
+
+    /**
+     * 转换为缓存的值。不可变的值直接缓存，{@link Row}（以及只包含不可变的值和 {@link Row} 的 {@link List}）复制后缓存，
+     * 其他值序列化后缓存。
+     *
+     * @return 缓存的值，无法序列化时返回 {@link #UNCACHEABLE}
+     */
+    private static Object toCachedValue(Object result) {
+        if (!copyResults || isImmutable(result)) {
+            return result;
+        }
+        if (isCopyable(result)) {
+            return copyValue(result);
+        }
+        if (result instanceof List && isCopyableElements((List<?>) result)) {
+            return copyList((List<?>) result);
+        }
+        if (!(result instanceof Serializable)) {
+            return UNCACHEABLE;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(result);
+        } catch (IOException e) {
+            // 实体类或者其属性没有实现 Serializable
+            return UNCACHEABLE;
+        }
+        return new SerializedResult(bytes.toByteArray());
+    }
+
+    /**
+     * 把缓存的值转换为新的查询结果，反序列化失败时返回 {@code null}。
+     */
+    private static Object fromCachedValue(Object cachedValue) {
+        if (cachedValue instanceof SerializedResult) {
+            try (ObjectInputStream in = new ContextObjectInputStream(new ByteArrayInputStream(((SerializedResult) cachedValue).bytes))) {
+                return in.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                return null;
+            }
+        }
+        if (!copyResults) {
+            return cachedValue;
+        }
+        return cachedValue instanceof List ? copyList((List<?>) cachedValue) : copyValue(cachedValue);
+    }
+
+    private static List<Object> copyList(List<?> list) {
+        List<Object> copy = new ArrayList<>(list.size());
+        for (Object element : list) {
+            copy.add(copyValue(element));
+        }
+        return copy;
+    }
+
+    private static Object copyValue(Object value) {
+        if (!(value instanceof Row)) {
+            return value;
+        }
+        Row row = (Row) value;
+        Row copy = (Row) row.clone();
+        // clone 只复制了主键集合的引用，缓存的 Row 中主键集合不为 null，读取时不会被修改
+        copy.setPrimaryKeys(new HashSet<>(row.getPrimaryKeys()));
+        return copy;
+    }
+
+    /**
+     * 是否可以不通过序列化复制：{@code null}、不可变的值，或者值都不可变的 {@link Row}。
+     */
+    private static boolean isCopyable(Object value) {
+        if (value == null || isImmutable(value)) {
+            return true;
+        }
+        if (value instanceof Row) {
+            for (Object columnValue : ((Row) value).values()) {
+                if (columnValue != null && !isImmutable(columnValue)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isCopyableElements(List<?> list) {
+        for (Object element : list) {
+            if (!isCopyable(element)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isImmutable(Object value) {
+        if (value instanceof String || value instanceof Boolean || value instanceof Character || value instanceof Enum
+            || value instanceof UUID) {
+            return true;
+        }
+        Class<?> valueClass = value.getClass();
+        if (value instanceof Number || value instanceof TemporalAccessor) {
+            // 只有 JDK 中的数字、时间类型是不可变的，例如 AtomicLong 是可变的
+            String className = valueClass.getName();
+            return !(value instanceof AtomicLong) && (className.startsWith("java.lang.") || className.startsWith("java.math.")
+                || className.startsWith("java.time."));
+        }
+        return false;
+    }
+
+    /**
+     * 表中的数据被修改，移除使用了这些表的缓存，在事务中时等到事务提交后再移除，事务回滚时不移除。
+     *
+     * @param tableNames 表名，为 {@code null} 时表示无法确定修改了哪些表，清空全部缓存
+     */
+    public static void invalidate(Collection<String> tableNames) {
+        if (!enable) {
+            return;
+        }
+        Set<String> lowerCaseNames = null;
+        if (tableNames != null) {
+            lowerCaseNames = new HashSet<>(tableNames.size());
+            for (String tableName : tableNames) {
+                if (StringUtil.hasText(tableName)) {
+                    lowerCaseNames.add(tableName.toLowerCase());
+                }
+            }
+        }
+        // 正在进行的查询可能读取了修改前的数据，不缓存其结果
+        nextGeneration(lowerCaseNames);
+        markUncacheable();
+        TransactionContext.runAfterCommit(new Invalidation(lowerCaseNames));
+    }
+
+    /**
+     * 表中的数据被修改，移除使用了该表的缓存。
+     *
+     * @param tableName 表名
+     */
+    public static void invalidate(String tableName) {
+        invalidate(Collections.singleton(tableName));
+    }
+
+    /**
+     * 清空缓存，统计不会被重置。
+     */
+    public static void clear() {
+        nextGeneration(null);
+        markUncacheable();
+        queryResultCache.clear();
+    }
+
+    /**
+     * 记录缓存因为超出数量限制、过期等原因被移除，供 {@link QueryResultCache} 的实现调用。
+     *
+     * @param tableNames 被移除的缓存使用的表
+     */
+    public static void recordEviction(Set<String> tableNames) {
+        for (String tableName : tableNames) {
+            getStatistics(tableName).evictionCount.increment();
+        }
+    }
+
+
+    ////////////// scope //////////////
+
+    /**
+     * 开始一个 default 方法（例如关联查询）的调用，调用期间执行的查询不单独缓存，只记录使用的表。
+     */
+    public static void beginScope() {
+        scopeTL.set(new Scope());
+    }
+
+    /**
+     * 结束当前的调用。
+     *
+     * @return 调用期间使用的表，无法确定或者调用期间修改了数据时返回 {@code null}
+     */
+    public static Set<String> endScope() {
+        Scope scope = scopeTL.get();
+        scopeTL.remove();
+        return scope != null && scope.cacheable ? scope.tableNames : null;
+    }
+
+    public static Scope currentScope() {
+        return scopeTL.get();
+    }
+
+    /**
+     * 记录当前调用中执行的查询使用的表。
+     *
+     * @param tableNames 表名，为 {@code null} 时表示无法确定，当前调用的结果不会被缓存
+     */
+    public static void recordRead(Set<String> tableNames) {
+        Scope scope = scopeTL.get();
+        if (scope != null) {
+            if (tableNames == null) {
+                scope.cacheable = false;
+            } else {
+                scope.tableNames.addAll(tableNames);
+            }
+        }
+    }
+
+    private static void markUncacheable() {
+        Scope scope = scopeTL.get();
+        if (scope != null) {
+            scope.cacheable = false;
+        }
+    }
+
+    /**
+     * 在其他线程中执行当前调用中的查询，例如并发的关联查询。
+     *
+     * @param scope    调用线程的 {@link #currentScope()}
+     * @param supplier 查询
+     * @param <T>      查询结果类型
+     * @return 查询结果
+     */
+    public static <T> T callInScope(Scope scope, Supplier<T> supplier) {
+        if (scope == null) {
+            return supplier.get();
+        }
+        Scope prev = scopeTL.get();
+        scopeTL.set(scope);
+        try {
+            return supplier.get();
+        } finally {
+            if (prev != null) {
+                scopeTL.set(prev);
+            } else {
+                scopeTL.remove();
+            }
+        }
+    }
+
+
+    ////////////// statistics //////////////
+
+    public static long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public static long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取命中率。
+     *
+     * @return 命中率，没有查询时返回 0
+     */
+    public static double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * 获取表的缓存统计。
+     *
+     * @param tableName 表名（不包含 schema）
+     * @return 缓存统计
+     */
+    public static QueryResultCacheStatistics getStatistics(String tableName) {
+        return MapUtil.computeIfAbsent(statistics, tableName.toLowerCase(), QueryResultCacheStatistics::new);
+    }
+
+    /**
+     * 获取所有表的缓存统计。
+     *
+     * @return 表名和缓存统计
+     */
+    public static Map<String, QueryResultCacheStatistics> getAllStatistics() {
+        return Collections.unmodifiableMap(new HashMap<>(statistics));
+    }
+
+    /**
+     * 重置统计。
+     */
+    public static void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        for (QueryResultCacheStatistics tableStatistics : statistics.values()) {
+            tableStatistics.reset();
+        }
+    }
+
+
+    /**
+     * 移除缓存的操作，同一个事务中相同的操作只执行一次。
+     */
+    private static final class Invalidation implements Runnable {
+
+        private final Set<String> tableNames;
+
+        Invalidation(Set<String> tableNames) {
+            this.tableNames = tableNames;
+        }
+
+        @Override
+        public void run() {
+            if (tableNames == null) {
+                clear();
+                return;
+            }
+            nextGeneration(tableNames);
+            for (String tableName : tableNames) {
+                int count = queryResultCache.invalidate(tableName);
+                if (count > 0) {
+                    getStatistics(tableName).evictionCount.add(count);
+                }
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Invalidation)) {
+                return false;
+            }
+            return Objects.equals(tableNames, ((Invalidation) o).tableNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(tableNames);
+        }
+
+    }
+
+    /**
+     * 序列化后缓存的查询结果。
+     */
+    private static final class SerializedResult implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] bytes;
+
+        SerializedResult(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+    }
+
+    /**
+     * 优先使用线程上下文的 ClassLoader 加载实体类。
+     */
+    private static final class ContextObjectInputStream extends ObjectInputStream {
+
+        ContextObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+            if (classLoader != null) {
+                try {
+                    return Class.forName(desc.getName(), false, classLoader);
+                } catch (ClassNotFoundException e) {
+                    // 使用默认的 ClassLoader
+                }
+            }
+            return super.resolveClass(desc);
+        }
+
+    }
+
+    /**
+     * default 方法的一次调用。
+     */
+    public static final class Scope {
+
+        private final Set<String> tableNames = ConcurrentHashMap.newKeySet();
+        private volatile boolean cacheable = true;
+
+        private Scope() {
+        }
+
+    }
+
+}
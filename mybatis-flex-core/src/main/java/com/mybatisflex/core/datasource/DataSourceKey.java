@@ -15,7 +15,10 @@
  */
 package com.mybatisflex.core.datasource;
 
+import com.mybatisflex.core.FlexContext;
 import com.mybatisflex.core.exception.FlexAssert;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
 
 import java.lang.reflect.Method;
 import java.util.ArrayDeque;
@@ -27,35 +30,64 @@ import java.util.function.Supplier;
  */
 public class DataSourceKey {
 
-    private static ThreadLocal<Deque<String>> lookup = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final Log log = LogFactory.getLog(DataSourceKey.class);
+
+    /**
+     * 通过 {@link #setThreadLocal(ThreadLocal)} 设置的 {@link ThreadLocal}，只用于把数据源 key 传递给子线程，
+     * 为 {@code null} 时数据源 key 只保存在 {@link FlexContext} 中
+     */
+    private static volatile ThreadLocal<Deque<String>> lookup;
 
     private DataSourceKey() {
     }
 
     public static void use(String dataSourceKey) {
-        Deque<String> deque = lookup.get();
-        if (deque != null) {
+        FlexContext.set(FlexContext.current().pushDataSourceKey(dataSourceKey));
+        ThreadLocal<Deque<String>> threadLocal = lookup;
+        if (threadLocal != null) {
+            // 子线程可能与父线程共享同一个 Deque，修改时复制
+            Deque<String> deque = threadLocal.get();
+            deque = deque != null ? new ArrayDeque<>(deque) : new ArrayDeque<>();
             deque.push(dataSourceKey);
+            threadLocal.set(deque);
         }
     }
 
     public static String get() {
-        Deque<String> deque = lookup.get();
+        String dataSourceKey = FlexContext.current().getDataSourceKey();
+        ThreadLocal<Deque<String>> threadLocal = lookup;
+        if (dataSourceKey != null || threadLocal == null) {
+            return dataSourceKey;
+        }
+        // 子线程从 lookup 继承的数据源 key
+        Deque<String> deque = threadLocal.get();
         return deque != null ? deque.peek() : null;
     }
 
     public static void clear() {
-        Deque<String> deque = lookup.get();
-        if (deque != null) {
-            deque.pop();
-            if (deque.isEmpty()) {
-                lookup.remove();
+        FlexContext context = FlexContext.current();
+        if (context.getDataSourceKey() != null || lookup == null) {
+            FlexContext.set(context.popDataSourceKey());
+        }
+        ThreadLocal<Deque<String>> threadLocal = lookup;
+        if (threadLocal != null) {
+            Deque<String> deque = threadLocal.get();
+            if (deque != null && deque.size() > 1) {
+                deque = new ArrayDeque<>(deque);
+                deque.pop();
+                threadLocal.set(deque);
+            } else {
+                threadLocal.remove();
             }
         }
     }
 
     public static void forceClear() {
-        lookup.remove();
+        FlexContext.set(FlexContext.current().withoutDataSourceKeys());
+        ThreadLocal<Deque<String>> threadLocal = lookup;
+        if (threadLocal != null) {
+            threadLocal.remove();
+        }
     }
 
     public static void use(String dataSourceKey, Runnable runnable) {
@@ -76,10 +108,25 @@ public class DataSourceKey {
         }
     }
 
+    /**
+     * 设置传递数据源 key 的 {@link ThreadLocal}，例如 {@link InheritableThreadLocal}、{@code TransmittableThreadLocal}，
+     * 子线程只继承数据源 key，不会继承 {@link FlexContext} 中忽略租户条件、跳过逻辑删除等其他设置。
+     *
+     * @deprecated 使用 {@link FlexContext#setThreadLocal(ThreadLocal)} 传递整个上下文，或者通过 {@link FlexContext#wrap(Runnable)}
+     * 把调用线程的上下文传递给其他线程。
+     */
+    @Deprecated
     public static void setThreadLocal(ThreadLocal<Deque<String>> threadLocal) {
         FlexAssert.notNull(threadLocal, "threadLocal");
+        log.warn("DataSourceKey.setThreadLocal(ThreadLocal<Deque<String>>) is deprecated, " +
+            "use FlexContext.setThreadLocal(ThreadLocal<FlexContext>) or FlexContext.wrap(...) instead.");
         if (threadLocal.get() == null) {
-            threadLocal.set(lookup.get());
+            String dataSourceKey = FlexContext.current().getDataSourceKey();
+            if (dataSourceKey != null) {
+                Deque<String> deque = new ArrayDeque<>();
+                deque.push(dataSourceKey);
+                threadLocal.set(deque);
+            }
         }
         lookup = threadLocal;
     }
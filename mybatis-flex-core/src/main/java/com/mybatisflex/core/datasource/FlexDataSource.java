@@ -15,23 +15,23 @@
  */
 package com.mybatisflex.core.datasource;
 
+import com.mybatisflex.core.datasource.loadbalance.DataSourceMember;
+import com.mybatisflex.core.datasource.loadbalance.LoadBalanceDataSource;
+import com.mybatisflex.core.datasource.loadbalance.LoadBalancer;
+import com.mybatisflex.core.datasource.loadbalance.RandomLoadBalancer;
 import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.DbTypeUtil;
 import com.mybatisflex.core.transaction.TransactionContext;
 import com.mybatisflex.core.transaction.TransactionalManager;
-import com.mybatisflex.core.util.ArrayUtil;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.logging.Log;
 import org.apache.ibatis.logging.LogFactory;
 
 import javax.sql.DataSource;
-import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.*;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author michael
@@ -48,6 +48,16 @@ public class FlexDataSource extends AbstractDataSource {
     private String defaultDataSourceKey;
     private DataSource defaultDataSource;
 
+    /**
+     * 负载均衡 key（以 * 结尾）对应的数据源组，在添加或者删除数据源时重新计算
+     */
+    private final Map<String, LoadBalanceDataSource> loadBalanceDataSources = new ConcurrentHashMap<>();
+    private final Map<String, DataSourceMember> loadBalanceMembers = new ConcurrentHashMap<>();
+    private final Map<String, Integer> dataSourceWeights = new ConcurrentHashMap<>();
+    private LoadBalancer loadBalancer = new RandomLoadBalancer();
+    private long baseEjectMillis = 5000;
+    private long maxEjectMillis = 60000;
+
     public FlexDataSource(String dataSourceKey, DataSource dataSource) {
         this(dataSourceKey, dataSource, true);
     }
@@ -109,12 +119,100 @@ public class FlexDataSource extends AbstractDataSource {
 
         dataSourceMap.put(dataSourceKey, dataSource);
         dbTypeHashMap.put(dataSourceKey, dbType);
+        loadBalanceMembers.remove(dataSourceKey);
+        refreshLoadBalanceDataSources();
     }
 
 
     public void removeDatasource(String dataSourceKey) {
         dataSourceMap.remove(dataSourceKey);
         dbTypeHashMap.remove(dataSourceKey);
+        loadBalanceMembers.remove(dataSourceKey);
+        refreshLoadBalanceDataSources();
+    }
+
+    /**
+     * 设置数据源在负载均衡时的权重，默认为 1。
+     *
+     * @param dataSourceKey 数据源 key
+     * @param weight        权重
+     */
+    public void setDataSourceWeight(String dataSourceKey, int weight) {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("weight must greater than 0, current value is: " + weight);
+        }
+        dataSourceWeights.put(dataSourceKey, weight);
+        loadBalanceMembers.remove(dataSourceKey);
+        refreshLoadBalanceDataSources();
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * 设置负载均衡策略，默认为 {@link RandomLoadBalancer}。
+     *
+     * @param loadBalancer 负载均衡策略
+     */
+    public void setLoadBalancer(LoadBalancer loadBalancer) {
+        this.loadBalancer = Objects.requireNonNull(loadBalancer, "loadBalancer");
+        refreshLoadBalanceDataSources();
+    }
+
+    /**
+     * 设置获取连接失败时数据源被剔除的时间，连续失败时剔除时间翻倍，最长为 {@code maxEjectMillis}。
+     *
+     * @param baseEjectMillis 剔除时间（毫秒）
+     * @param maxEjectMillis  最长剔除时间（毫秒）
+     */
+    public void setEjectMillis(long baseEjectMillis, long maxEjectMillis) {
+        this.baseEjectMillis = baseEjectMillis;
+        this.maxEjectMillis = maxEjectMillis;
+        refreshLoadBalanceDataSources();
+    }
+
+    /**
+     * 获取负载均衡 key 匹配的数据源及其统计数据。
+     *
+     * @param loadBalanceKey 负载均衡 key，以 * 结尾
+     * @return 数据源
+     */
+    public List<DataSourceMember> getLoadBalanceMembers(String loadBalanceKey) {
+        return getLoadBalanceDataSource(loadBalanceKey).getMembers();
+    }
+
+    private LoadBalanceDataSource getLoadBalanceDataSource(String loadBalanceKey) {
+        LoadBalanceDataSource dataSource = loadBalanceDataSources.get(loadBalanceKey);
+        if (dataSource == null) {
+            dataSource = loadBalanceDataSources.computeIfAbsent(loadBalanceKey, this::createLoadBalanceDataSource);
+        }
+        return dataSource;
+    }
+
+    private LoadBalanceDataSource createLoadBalanceDataSource(String loadBalanceKey) {
+        String prefix = loadBalanceKey.substring(0, loadBalanceKey.length() - 1);
+        List<DataSourceMember> members = new ArrayList<>();
+        for (Map.Entry<String, DataSource> entry : dataSourceMap.entrySet()) {
+            String key = entry.getKey();
+            if (key.startsWith(prefix)) {
+                // 同一个数据源在多个组中共享统计数据
+                members.add(loadBalanceMembers.computeIfAbsent(key
+                    , k -> new DataSourceMember(k, entry.getValue(), dataSourceWeights.getOrDefault(k, 1))));
+            }
+        }
+        return new LoadBalanceDataSource(loadBalanceKey, members, loadBalancer, baseEjectMillis, maxEjectMillis);
+    }
+
+    private void refreshLoadBalanceDataSources() {
+        for (String loadBalanceKey : new ArrayList<>(loadBalanceDataSources.keySet())) {
+            try {
+                loadBalanceDataSources.put(loadBalanceKey, createLoadBalanceDataSource(loadBalanceKey));
+            } catch (IllegalStateException e) {
+                // 已经没有匹配的数据源
+                loadBalanceDataSources.remove(loadBalanceKey);
+            }
+        }
     }
 
     public Map<String, DataSource> getDataSourceMap() {
@@ -207,10 +305,7 @@ public class FlexDataSource extends AbstractDataSource {
 
 
     public Connection proxy(Connection connection, String xid) {
-        return (Connection) Proxy.newProxyInstance(FlexDataSource.class.getClassLoader()
-            , new Class[]{Connection.class}
-            , new ConnectionHandler(connection, xid)
-        );
+        return new TransactionalConnection(connection, xid);
     }
 
     /**
@@ -243,20 +338,7 @@ public class FlexDataSource extends AbstractDataSource {
             if (StringUtil.hasText(dataSourceKey)) {
                 //负载均衡 key
                 if (dataSourceKey.charAt(dataSourceKey.length() - 1) == LOAD_BALANCE_KEY_SUFFIX) {
-                    String prefix = dataSourceKey.substring(0, dataSourceKey.length() - 1);
-                    List<String> matchedKeys = new ArrayList<>();
-                    for (String key : dataSourceMap.keySet()) {
-                        if (key.startsWith(prefix)) {
-                            matchedKeys.add(key);
-                        }
-                    }
-
-                    if (matchedKeys.isEmpty()) {
-                        throw new IllegalStateException("Can not matched dataSource by key: \"" + dataSourceKey + "\"");
-                    }
-
-                    String randomKey = matchedKeys.get(ThreadLocalRandom.current().nextInt(matchedKeys.size()));
-                    return dataSourceMap.get(randomKey);
+                    return getLoadBalanceDataSource(dataSourceKey);
                 }
                 //非负载均衡 key
                 else {
@@ -270,36 +352,4 @@ public class FlexDataSource extends AbstractDataSource {
         return dataSource;
     }
 
-    private static class ConnectionHandler implements InvocationHandler {
-        private static final String[] proxyMethods = new String[]{"commit", "rollback", "close", "setAutoCommit"};
-        private final Connection original;
-        private final String xid;
-
-        public ConnectionHandler(Connection original, String xid) {
-            closeAutoCommit(original);
-            this.original = original;
-            this.xid = xid;
-        }
-
-        @Override
-        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-            if (ArrayUtil.contains(proxyMethods, method.getName())
-                && isTransactional()) {
-                //do nothing
-                return null;
-            }
-
-            //setAutoCommit: true
-            if ("close".equalsIgnoreCase(method.getName())) {
-                resetAutoCommit(original);
-            }
-
-            return method.invoke(original, args);
-        }
-
-        private boolean isTransactional() {
-            return Objects.equals(xid, TransactionContext.getXID());
-        }
-
-    }
 }
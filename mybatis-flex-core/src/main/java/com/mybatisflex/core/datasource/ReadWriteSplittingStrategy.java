@@ -0,0 +1,166 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource;
+
+import com.mybatisflex.core.FlexContext;
+import com.mybatisflex.core.mybatis.binding.MybatisMapperProxy;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.transaction.TransactionContext;
+import com.mybatisflex.core.util.MapUtil;
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 自动读写分离策略。
+ *
+ * <p>没有通过 {@code DataSourceKey.use()}、{@code @UseDataSource} 等方式指定数据源时：
+ * <ul>
+ *     <li>事务（包括 {@code Db.tx()} 和 Spring 事务）中的全部操作，使用主库；
+ *     <li>增删改以及 {@code FOR UPDATE} 查询，使用主库；
+ *     <li>写操作之后的 {@link #getStickyMillis()} 毫秒内，当前线程的查询使用主库，保证可以读取到刚写入的数据；
+ *     <li>其他查询使用从库，从库可以是以 * 结尾的负载均衡 key。
+ * </ul>
+ *
+ * <pre>{@code
+ * DataSourceManager.setDataSourceShardingStrategy(new ReadWriteSplittingStrategy("master", "slave*"));
+ * }</pre>
+ */
+public class ReadWriteSplittingStrategy implements DataSourceShardingStrategy {
+
+    private final String primaryKey;
+    private final String replicaKey;
+
+    /**
+     * 写操作之后的查询继续使用主库的时间（毫秒），小于等于 0 时不启用
+     */
+    private volatile long stickyMillis = 1000;
+
+    private final Map<Method, SqlCommandType> commandTypes = new ConcurrentHashMap<>();
+
+    /**
+     * @param primaryKey 主库的数据源 key
+     * @param replicaKey 从库的数据源 key，例如 {@code slave*}
+     */
+    public ReadWriteSplittingStrategy(String primaryKey, String replicaKey) {
+        this.primaryKey = primaryKey;
+        this.replicaKey = replicaKey;
+    }
+
+    @Override
+    public String doSharding(String currentDataSourceKey, Object mapper, Method mapperMethod, Object[] methodArgs) {
+        // 用户指定了数据源
+        if (StringUtil.hasText(currentDataSourceKey)) {
+            return currentDataSourceKey;
+        }
+
+        SqlCommandType commandType = getCommandType(mapper, mapperMethod);
+        // 没有对应的 SQL，例如 BaseMapper 的 default 方法，由其调用的方法决定使用的数据源
+        if (commandType == null) {
+            return currentDataSourceKey;
+        }
+
+        if (commandType != SqlCommandType.SELECT) {
+            long sticky = stickyMillis;
+            if (sticky > 0) {
+                FlexContext.set(FlexContext.current().withPrimaryStickyUntil(System.currentTimeMillis() + sticky));
+            }
+            return primaryKey;
+        }
+
+        if (TransactionContext.isTransactionActive() || isForUpdate(methodArgs) || isSticky()) {
+            return primaryKey;
+        }
+        return replicaKey;
+    }
+
+    private static boolean isSticky() {
+        FlexContext context = FlexContext.current();
+        long stickyUntil = context.getPrimaryStickyUntil();
+        if (stickyUntil == 0) {
+            return false;
+        }
+        if (stickyUntil > System.currentTimeMillis()) {
+            return true;
+        }
+        FlexContext.set(context.withPrimaryStickyUntil(0));
+        return false;
+    }
+
+    private static boolean isForUpdate(Object[] methodArgs) {
+        if (methodArgs == null) {
+            return false;
+        }
+        for (Object arg : methodArgs) {
+            if (arg instanceof QueryWrapper) {
+                List<String> endFragments = CPI.getEndFragments((QueryWrapper) arg);
+                if (endFragments != null) {
+                    for (String fragment : endFragments) {
+                        if (fragment != null && fragment.trim().toUpperCase().startsWith("FOR UPDATE")) {
+                            return true;
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private SqlCommandType getCommandType(Object mapper, Method mapperMethod) {
+        SqlCommandType commandType = MapUtil.computeIfAbsent(commandTypes, mapperMethod, m -> {
+            if (!Proxy.isProxyClass(mapper.getClass())) {
+                return SqlCommandType.UNKNOWN;
+            }
+            InvocationHandler handler = Proxy.getInvocationHandler(mapper);
+            if (!(handler instanceof MybatisMapperProxy)) {
+                return SqlCommandType.UNKNOWN;
+            }
+            MybatisMapperProxy<?> mapperProxy = (MybatisMapperProxy<?>) handler;
+            Configuration configuration = mapperProxy.getSqlSession().getConfiguration();
+            String statementId = mapperProxy.getMapperInterface().getName() + "." + m.getName();
+            if (!configuration.hasStatement(statementId, false)) {
+                return SqlCommandType.UNKNOWN;
+            }
+            return configuration.getMappedStatement(statementId, false).getSqlCommandType();
+        });
+        return commandType == SqlCommandType.UNKNOWN ? null : commandType;
+    }
+
+    public String getPrimaryKey() {
+        return primaryKey;
+    }
+
+    public String getReplicaKey() {
+        return replicaKey;
+    }
+
+    public long getStickyMillis() {
+        return stickyMillis;
+    }
+
+    public void setStickyMillis(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+}
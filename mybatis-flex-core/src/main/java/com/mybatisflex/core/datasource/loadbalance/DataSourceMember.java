@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource.loadbalance;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 负载均衡数据源组中的一个数据源，以及它的统计数据。
+ */
+public class DataSourceMember {
+
+    /**
+     * 平滑系数，新的耗时占 EWMA 的比例
+     */
+    private static final double EWMA_ALPHA = 0.2D;
+
+    private final String key;
+    private final DataSource dataSource;
+    private final int weight;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder acquiredCount = new LongAdder();
+    private final LongAdder failureCount = new LongAdder();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong latencyEwmaBits = new AtomicLong(Double.doubleToRawLongBits(0D));
+    private volatile long ejectedUntil;
+
+    public DataSourceMember(String key, DataSource dataSource, int weight) {
+        this.key = key;
+        this.dataSource = dataSource;
+        this.weight = Math.max(weight, 1);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public DataSource getDataSource() {
+        return dataSource;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * 正在使用的连接数量，只有 {@link LoadBalancer#isTrackInFlight()} 为 {@code true} 时才会统计。
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 成功获取连接的次数。
+     */
+    public long getAcquiredCount() {
+        return acquiredCount.sum();
+    }
+
+    /**
+     * 获取连接失败的次数。
+     */
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    /**
+     * 获取连接耗时的指数加权移动平均值（纳秒）。
+     */
+    public double getLatencyEwma() {
+        return Double.longBitsToDouble(latencyEwmaBits.get());
+    }
+
+    /**
+     * 是否因为获取连接失败被临时剔除。
+     */
+    public boolean isEjected() {
+        return isEjected(System.currentTimeMillis());
+    }
+
+    boolean isEjected(long now) {
+        return ejectedUntil > now;
+    }
+
+    void onAcquired(long latencyNanos) {
+        acquiredCount.increment();
+        consecutiveFailures.set(0);
+        ejectedUntil = 0;
+        for (; ; ) {
+            long bits = latencyEwmaBits.get();
+            double prev = Double.longBitsToDouble(bits);
+            double next = prev == 0D ? latencyNanos : prev + EWMA_ALPHA * (latencyNanos - prev);
+            if (latencyEwmaBits.compareAndSet(bits, Double.doubleToRawLongBits(next))) {
+                return;
+            }
+        }
+    }
+
+    void onFailure(long baseEjectMillis, long maxEjectMillis) {
+        failureCount.increment();
+        int failures = consecutiveFailures.incrementAndGet();
+        // 连续失败时剔除的时间翻倍
+        long ejectMillis = baseEjectMillis << Math.min(failures - 1, 20);
+        ejectedUntil = System.currentTimeMillis() + Math.min(ejectMillis, maxEjectMillis);
+    }
+
+    void incrementInFlight() {
+        inFlight.incrementAndGet();
+    }
+
+    void decrementInFlight() {
+        inFlight.decrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "DataSourceMember{" +
+            "key='" + key + '\'' +
+            ", weight=" + weight +
+            ", inFlight=" + inFlight +
+            ", acquiredCount=" + acquiredCount +
+            ", failureCount=" + failureCount +
+            ", latencyEwma=" + getLatencyEwma() +
+            ", ejected=" + isEjected() +
+            '}';
+    }
+
+}
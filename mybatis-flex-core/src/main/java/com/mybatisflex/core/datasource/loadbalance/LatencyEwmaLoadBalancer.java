@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource.loadbalance;
+
+/**
+ * 选择获取连接耗时（指数加权移动平均值）较低的数据源，耗时同时乘以正在使用的连接数量，避免所有请求涌向同一个数据源。
+ *
+ * <p>响应变慢的数据源会逐渐减少被选择的次数，直到其耗时恢复正常。
+ */
+public class LatencyEwmaLoadBalancer extends TwoChoicesLoadBalancer {
+
+    @Override
+    protected double load(DataSourceMember member) {
+        // 加 1 微秒，避免尚未统计耗时的数据源总是被选择
+        return (member.getLatencyEwma() + 1000D) * (member.getInFlight() + 1D) / member.getWeight();
+    }
+
+    @Override
+    public boolean isTrackInFlight() {
+        return true;
+    }
+
+}
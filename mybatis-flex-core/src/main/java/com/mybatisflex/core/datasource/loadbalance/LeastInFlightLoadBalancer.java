@@ -0,0 +1,33 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource.loadbalance;
+
+/**
+ * 选择正在使用的连接数量（按权重折算）较少的数据源。
+ */
+public class LeastInFlightLoadBalancer extends TwoChoicesLoadBalancer {
+
+    @Override
+    protected double load(DataSourceMember member) {
+        return (member.getInFlight() + 1D) / member.getWeight();
+    }
+
+    @Override
+    public boolean isTrackInFlight() {
+        return true;
+    }
+
+}
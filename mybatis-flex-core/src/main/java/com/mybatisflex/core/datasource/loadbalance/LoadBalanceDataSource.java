@@ -0,0 +1,259 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource.loadbalance;
+
+import com.mybatisflex.core.datasource.AbstractDataSource;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 负载均衡数据源，即以 * 结尾的数据源 key 匹配到的一组数据源。
+ *
+ * <p>每次获取连接时通过 {@link LoadBalancer} 选择一个数据源，获取连接失败的数据源会被临时剔除，剔除时间到期后再次被选择时
+ * 重新尝试获取连接，连续失败时剔除时间翻倍。所有数据源都被剔除时，依然会尝试从中获取连接。
+ */
+public class LoadBalanceDataSource extends AbstractDataSource {
+
+    private static final Log log = LogFactory.getLog(LoadBalanceDataSource.class);
+
+    private final String key;
+    private final DataSourceMember[] members;
+    private final LoadBalancer loadBalancer;
+    private final long baseEjectMillis;
+    private final long maxEjectMillis;
+
+    /**
+     * 平滑加权轮询的顺序，保存数据源的下标
+     */
+    private final int[] schedule;
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * @param key             负载均衡的数据源 key
+     * @param members         数据源
+     * @param loadBalancer    负载均衡策略
+     * @param baseEjectMillis 获取连接失败时剔除的时间（毫秒）
+     * @param maxEjectMillis  连续失败时最长的剔除时间（毫秒）
+     */
+    public LoadBalanceDataSource(String key, List<DataSourceMember> members, LoadBalancer loadBalancer
+        , long baseEjectMillis, long maxEjectMillis) {
+        if (members.isEmpty()) {
+            throw new IllegalStateException("Can not matched dataSource by key: \"" + key + "\"");
+        }
+        this.key = key;
+        this.members = members.toArray(new DataSourceMember[0]);
+        this.loadBalancer = loadBalancer;
+        this.baseEjectMillis = baseEjectMillis;
+        this.maxEjectMillis = maxEjectMillis;
+        this.schedule = buildSchedule(this.members);
+    }
+
+    /**
+     * 平滑加权轮询，例如权重为 5、1、1 时顺序为 a a b a c a a，同一个数据源不会被连续选择太多次。
+     */
+    private static int[] buildSchedule(DataSourceMember[] members) {
+        int gcd = 0;
+        for (DataSourceMember member : members) {
+            gcd = gcd(gcd, member.getWeight());
+        }
+        int[] weights = new int[members.length];
+        int total = 0;
+        for (int i = 0; i < members.length; i++) {
+            weights[i] = members[i].getWeight() / gcd;
+            total += weights[i];
+        }
+
+        int[] schedule = new int[total];
+        int[] current = new int[members.length];
+        for (int n = 0; n < total; n++) {
+            int selected = 0;
+            for (int i = 0; i < members.length; i++) {
+                current[i] += weights[i];
+                if (current[i] > current[selected]) {
+                    selected = i;
+                }
+            }
+            current[selected] -= total;
+            schedule[n] = selected;
+        }
+        return schedule;
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public List<DataSourceMember> getMembers() {
+        return Collections.unmodifiableList(Arrays.asList(members));
+    }
+
+    public LoadBalancer getLoadBalancer() {
+        return loadBalancer;
+    }
+
+    /**
+     * 数据源数量。
+     */
+    public int size() {
+        return members.length;
+    }
+
+    public DataSourceMember getMember(int index) {
+        return members[index];
+    }
+
+    /**
+     * 按照平滑加权轮询的顺序返回下一个数据源。
+     */
+    public DataSourceMember nextRoundRobin() {
+        int index = (int) ((sequence.getAndIncrement() & Long.MAX_VALUE) % schedule.length);
+        return members[schedule[index]];
+    }
+
+    /**
+     * 随机返回一个未被剔除的数据源，全部被剔除时随机返回一个数据源。
+     */
+    public DataSourceMember randomAvailable() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int start = random.nextInt(members.length);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < members.length; i++) {
+            DataSourceMember member = members[(start + i) % members.length];
+            if (!member.isEjected(now)) {
+                return member;
+            }
+        }
+        return members[start];
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(null, null, false);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(username, password, true);
+    }
+
+    private Connection getConnection(String username, String password, boolean withUser) throws SQLException {
+        DataSourceMember member = members.length == 1 ? members[0] : loadBalancer.choose(this);
+        try {
+            return acquire(member, username, password, withUser);
+        } catch (SQLException e) {
+            if (members.length == 1) {
+                throw e;
+            }
+            log.warn("Can not get connection from dataSource \"" + member.getKey() + "\", try other dataSources. Cause: " + e);
+
+            // 依次尝试其他未被剔除的数据源
+            SQLException lastException = e;
+            List<DataSourceMember> others = new ArrayList<>(members.length - 1);
+            long now = System.currentTimeMillis();
+            for (DataSourceMember other : members) {
+                if (other != member && !other.isEjected(now)) {
+                    others.add(other);
+                }
+            }
+            Collections.shuffle(others, ThreadLocalRandom.current());
+            for (DataSourceMember other : others) {
+                try {
+                    return acquire(other, username, password, withUser);
+                } catch (SQLException ex) {
+                    lastException = ex;
+                }
+            }
+            throw lastException;
+        }
+    }
+
+    private Connection acquire(DataSourceMember member, String username, String password, boolean withUser) throws SQLException {
+        DataSource dataSource = member.getDataSource();
+        long start = System.nanoTime();
+        Connection connection;
+        try {
+            connection = withUser ? dataSource.getConnection(username, password) : dataSource.getConnection();
+        } catch (SQLException | RuntimeException e) {
+            member.onFailure(baseEjectMillis, maxEjectMillis);
+            throw e;
+        }
+        member.onAcquired(System.nanoTime() - start);
+
+        if (!loadBalancer.isTrackInFlight()) {
+            return connection;
+        }
+        member.incrementInFlight();
+        return new InFlightConnection(connection, member);
+    }
+
+    /**
+     * 依次检查每个数据源，返回第一个支持 {@code iface} 的数据源解包的结果，都不支持时按当前数据源解包。
+     */
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return iface.cast(this);
+        }
+        for (DataSourceMember member : members) {
+            DataSource dataSource = member.getDataSource();
+            if (iface.isInstance(dataSource)) {
+                return iface.cast(dataSource);
+            }
+            if (dataSource.isWrapperFor(iface)) {
+                return dataSource.unwrap(iface);
+            }
+        }
+        return super.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        if (iface.isInstance(this)) {
+            return true;
+        }
+        for (DataSourceMember member : members) {
+            DataSource dataSource = member.getDataSource();
+            if (iface.isInstance(dataSource) || dataSource.isWrapperFor(iface)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadBalanceDataSource{" +
+            "key='" + key + '\'' +
+            ", loadBalancer=" + loadBalancer.getClass().getSimpleName() +
+            ", members=" + Arrays.toString(members) +
+            '}';
+    }
+
+}
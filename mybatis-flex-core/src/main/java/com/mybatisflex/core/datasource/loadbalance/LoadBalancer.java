@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource.loadbalance;
+
+/**
+ * 负载均衡策略，从同一组数据源中选择一个数据源获取连接。
+ *
+ * @see RandomLoadBalancer
+ * @see WeightedRoundRobinLoadBalancer
+ * @see LeastInFlightLoadBalancer
+ * @see LatencyEwmaLoadBalancer
+ */
+public interface LoadBalancer {
+
+    /**
+     * 选择一个数据源。
+     *
+     * @param group 数据源组，其中至少有一个数据源
+     * @return 数据源
+     */
+    DataSourceMember choose(LoadBalanceDataSource group);
+
+    /**
+     * 是否需要统计每个数据源正在使用的连接数量，需要时获取的连接会被代理，在连接关闭时减少计数。
+     *
+     * @return {@code true} 统计正在使用的连接数量
+     */
+    default boolean isTrackInFlight() {
+        return false;
+    }
+
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource.loadbalance;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 随机选择两个未被剔除的数据源（Power of Two Choices），返回其中负载较低的一个。
+ *
+ * <p>每次选择的代价与数据源数量无关，又能避免所有请求同时涌向同一个负载最低的数据源。
+ */
+abstract class TwoChoicesLoadBalancer implements LoadBalancer {
+
+    @Override
+    public DataSourceMember choose(LoadBalanceDataSource group) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+
+        DataSourceMember first = pick(group, random, now);
+        DataSourceMember second = pick(group, random, now);
+        if (first == null || second == null) {
+            return first != null ? first : (second != null ? second : group.randomAvailable());
+        }
+        return load(first) <= load(second) ? first : second;
+    }
+
+    private static DataSourceMember pick(LoadBalanceDataSource group, ThreadLocalRandom random, long now) {
+        DataSourceMember member = group.getMember(random.nextInt(group.size()));
+        return member.isEjected(now) ? null : member;
+    }
+
+    /**
+     * 数据源的负载，值越小越优先。
+     */
+    protected abstract double load(DataSourceMember member);
+
+}
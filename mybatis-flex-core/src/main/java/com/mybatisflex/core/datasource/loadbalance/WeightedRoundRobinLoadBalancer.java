@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.datasource.loadbalance;
+
+/**
+ * 平滑加权轮询，按照数据源的权重依次选择数据源，跳过被剔除的数据源。
+ */
+public class WeightedRoundRobinLoadBalancer implements LoadBalancer {
+
+    @Override
+    public DataSourceMember choose(LoadBalanceDataSource group) {
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < group.size(); i++) {
+            DataSourceMember member = group.nextRoundRobin();
+            if (!member.isEjected(now)) {
+                return member;
+            }
+        }
+        return group.randomAvailable();
+    }
+
+}
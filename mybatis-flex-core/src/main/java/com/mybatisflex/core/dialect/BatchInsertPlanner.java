@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 多行 INSERT 语句的切分计划。
+ *
+ * <p>根据每行的参数数量、数据库的最大绑定参数数量以及最大数据包大小，计算每条 INSERT 语句最多可以包含的行数，
+ * 避免出现 PostgreSQL 超出 65535 个参数、SQLServer 超出 2100 个参数或 MySQL 超出 max_allowed_packet 的问题。
+ *
+ * <p>切分后除最后一批外，每一批的行数都相同，生成的 SQL 文本也完全一致，可以命中驱动的预编译语句缓存。
+ */
+public class BatchInsertPlanner {
+
+    private BatchInsertPlanner() {
+    }
+
+    /**
+     * 估算的每个参数在 SQL 中占用的字节数，驱动在客户端拼接参数时（例如 MySQL 默认情况下）参数值也计入数据包大小
+     */
+    private static volatile int estimatedParameterSize = 32;
+
+    /**
+     * 每条 INSERT 语句的目标大小（字节），小于等于 0 时表示不限制
+     */
+    private static volatile int targetStatementSize = 0;
+
+    private static final Map<DbType, Limit> limits = new EnumMap<>(DbType.class);
+
+    static {
+        Limit mysql = new Limit(65535, 4 * 1024 * 1024);
+        limits.put(DbType.MYSQL, mysql);
+        limits.put(DbType.MARIADB, mysql);
+        limits.put(DbType.OCEAN_BASE, mysql);
+
+        Limit postgresql = new Limit(65535, 0);
+        limits.put(DbType.POSTGRE_SQL, postgresql);
+        limits.put(DbType.KINGBASE_ES, postgresql);
+        limits.put(DbType.OPENGAUSS, postgresql);
+        limits.put(DbType.GAUSS, postgresql);
+        limits.put(DbType.HIGH_GO, postgresql);
+        limits.put(DbType.UXDB, postgresql);
+        limits.put(DbType.REDSHIFT, new Limit(32767, 0));
+
+        Limit sqlserver = new Limit(2100, 0);
+        limits.put(DbType.SQLSERVER, sqlserver);
+        limits.put(DbType.SQLSERVER_2005, sqlserver);
+
+        Limit oracle = new Limit(65535, 0);
+        limits.put(DbType.ORACLE, oracle);
+        limits.put(DbType.ORACLE_12C, oracle);
+
+        limits.put(DbType.SQLITE, new Limit(32766, 0));
+    }
+
+    public static int getEstimatedParameterSize() {
+        return estimatedParameterSize;
+    }
+
+    public static void setEstimatedParameterSize(int estimatedParameterSize) {
+        BatchInsertPlanner.estimatedParameterSize = estimatedParameterSize;
+    }
+
+    public static int getTargetStatementSize() {
+        return targetStatementSize;
+    }
+
+    public static void setTargetStatementSize(int targetStatementSize) {
+        BatchInsertPlanner.targetStatementSize = targetStatementSize;
+    }
+
+    /**
+     * 设置数据库的限制。
+     *
+     * @param dbType        数据库类型
+     * @param maxParameters 每条语句最大的绑定参数数量，小于等于 0 时表示不限制
+     * @param maxPacketSize 每条语句最大的字节数，小于等于 0 时表示不限制
+     */
+    public static void setLimit(DbType dbType, int maxParameters, int maxPacketSize) {
+        synchronized (limits) {
+            limits.put(dbType, new Limit(maxParameters, maxPacketSize));
+        }
+    }
+
+    public static int getMaxParameters(DbType dbType) {
+        Limit limit = getLimit(dbType);
+        return limit == null ? 0 : limit.maxParameters;
+    }
+
+    public static int getMaxPacketSize(DbType dbType) {
+        Limit limit = getLimit(dbType);
+        return limit == null ? 0 : limit.maxPacketSize;
+    }
+
+    private static Limit getLimit(DbType dbType) {
+        if (dbType == null) {
+            return null;
+        }
+        synchronized (limits) {
+            return limits.get(dbType);
+        }
+    }
+
+    /**
+     * 计算每条 INSERT 语句的行数。
+     *
+     * @param dbType        数据库类型
+     * @param requestedRows 期望的行数
+     * @param tableName     表名
+     * @param columns       插入的列
+     * @return 每条语句的行数，最少为 1，最多为 {@code requestedRows}
+     */
+    public static int getRowsPerStatement(DbType dbType, int requestedRows, String tableName, Collection<String> columns) {
+        // INSERT INTO table (col1, col2) VALUES
+        int headerLength = 20 + (tableName == null ? 0 : tableName.length());
+        for (String column : columns) {
+            headerLength += column.length() + 4;
+        }
+        return getRowsPerStatement(dbType, requestedRows, columns.size(), headerLength);
+    }
+
+    /**
+     * 计算每条 INSERT 语句的行数。
+     *
+     * @param dbType        数据库类型
+     * @param requestedRows 期望的行数
+     * @param columnCount   每行的列数（参数数量）
+     * @param headerLength  INSERT INTO 表名和列名部分的长度
+     * @return 每条语句的行数，最少为 1，最多为 {@code requestedRows}
+     */
+    public static int getRowsPerStatement(DbType dbType, int requestedRows, int columnCount, int headerLength) {
+        int rows = Math.max(requestedRows, 1);
+        if (columnCount <= 0) {
+            return rows;
+        }
+
+        Limit limit = getLimit(dbType);
+        if (limit != null && limit.maxParameters > 0) {
+            rows = Math.min(rows, limit.maxParameters / columnCount);
+        }
+
+        // Oracle 的 INSERT ALL 语句每一行都需要重复表名和列名
+        boolean insertAll = dbType == DbType.ORACLE || dbType == DbType.ORACLE_12C;
+        long rowLength = (long) columnCount * (3 + estimatedParameterSize) + (insertAll ? headerLength : 0);
+
+        int maxStatementSize = limit == null ? 0 : limit.maxPacketSize;
+        int target = targetStatementSize;
+        if (target > 0 && (maxStatementSize <= 0 || target < maxStatementSize)) {
+            maxStatementSize = target;
+        }
+        if (maxStatementSize > 0) {
+            rows = (int) Math.min(rows, (maxStatementSize - headerLength) / rowLength);
+        }
+
+        return Math.max(rows, 1);
+    }
+
+
+    private static class Limit {
+
+        private final int maxParameters;
+        private final int maxPacketSize;
+
+        Limit(int maxParameters, int maxPacketSize) {
+            this.maxParameters = maxParameters;
+            this.maxPacketSize = maxPacketSize;
+        }
+
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * 有容量上限的并发缓存，{@link SqlTemplateCache} 与 {@link QuerySqlCache} 共用。
+ *
+ * <p>读取不加锁，只标记条目被访问过。条目数量达到上限时，由一个线程按 CLOCK（二次机会）策略近似淘汰：
+ * 跳过并清除被访问过的条目的标记，移除其余条目，每次淘汰上限的 1/16 以均摊开销。
+ * 淘汰期间其他线程的写入不会被阻塞，条目数量可能短暂地超过上限。
+ *
+ * @param <K> key 类型
+ * @param <V> 值类型
+ */
+final class BoundedCache<K, V> {
+
+    private final Map<K, Entry<V>> map = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean evicting = new AtomicBoolean();
+
+    private volatile int maxSize;
+
+    BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    int getMaxSize() {
+        return maxSize;
+    }
+
+    void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+        map.clear();
+    }
+
+    V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            return null;
+        }
+        // 已经标记过时不再写入，避免多个线程反复写同一个缓存行
+        if (!entry.accessed) {
+            entry.accessed = true;
+        }
+        return entry.value;
+    }
+
+    void put(K key, V value) {
+        if (map.size() >= maxSize) {
+            evict();
+        }
+        map.put(key, new Entry<>(value));
+    }
+
+    void removeIf(Predicate<K> filter) {
+        map.keySet().removeIf(filter);
+    }
+
+    void clear() {
+        map.clear();
+    }
+
+    int size() {
+        return map.size();
+    }
+
+    private void evict() {
+        if (!evicting.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxSize - Math.max(1, maxSize >> 4);
+            // 第一轮给被访问过的条目一次机会，第二轮直接移除
+            for (int round = 0; round < 2 && map.size() > target; round++) {
+                Iterator<Entry<V>> iterator = map.values().iterator();
+                while (iterator.hasNext() && map.size() > target) {
+                    Entry<V> entry = iterator.next();
+                    if (round == 0 && entry.accessed) {
+                        entry.accessed = false;
+                    } else {
+                        iterator.remove();
+                    }
+                }
+            }
+        } finally {
+            evicting.set(false);
+        }
+    }
+
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile boolean accessed;
+
+        Entry(V value) {
+            this.value = value;
+        }
+
+    }
+
+}
@@ -16,6 +16,7 @@
 package com.mybatisflex.core.dialect;
 
 
+import com.mybatisflex.core.FlexContext;
 import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.dialect.impl.*;
 import com.mybatisflex.core.util.MapUtil;
@@ -38,10 +39,6 @@ public class DialectFactory {
      * 此 map 中，用于覆盖系统的方言实现
      */
     private static final Map<DbType, IDialect> dialectMap = new EnumMap<>(DbType.class);
-    /**
-     * 通过设置当前线程的数据库类型，以达到在代码执行时随时切换方言的功能
-     */
-    private static final ThreadLocal<DbType> dbTypeThreadLocal = new ThreadLocal<>();
 
     /**
      * 获取方言
@@ -49,9 +46,17 @@ public class DialectFactory {
      * @return IDialect
      */
     public static IDialect getDialect() {
-        DbType dbType = ObjectUtil.requireNonNullElse(dbTypeThreadLocal.get(),
+        return MapUtil.computeIfAbsent(dialectMap, getDbType(), DialectFactory::createDialect);
+    }
+
+    /**
+     * 获取当前线程的 dbType，未设置时返回全局配置的 dbType
+     *
+     * @return dbType
+     */
+    public static DbType getDbType() {
+        return ObjectUtil.requireNonNullElse(FlexContext.current().getHintDbType(),
             FlexGlobalConfig.getDefaultConfig().getDbType());
-        return MapUtil.computeIfAbsent(dialectMap, dbType, DialectFactory::createDialect);
     }
 
     /**
@@ -60,7 +65,7 @@ public class DialectFactory {
      * @param dbType
      */
     public static void setHintDbType(DbType dbType) {
-        dbTypeThreadLocal.set(dbType);
+        FlexContext.set(FlexContext.current().withHintDbType(dbType));
     }
 
     /**
@@ -69,7 +74,7 @@ public class DialectFactory {
      * @return dbType
      */
     public static DbType getHintDbType() {
-        return dbTypeThreadLocal.get();
+        return FlexContext.current().getHintDbType();
     }
 
 
@@ -77,7 +82,7 @@ public class DialectFactory {
      * 清除当前线程的 dbType
      */
     public static void clearHintDbType() {
-        dbTypeThreadLocal.remove();
+        FlexContext.set(FlexContext.current().withHintDbType(null));
     }
 
 
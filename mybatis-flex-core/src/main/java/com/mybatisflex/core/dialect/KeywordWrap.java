@@ -168,6 +168,8 @@ public class KeywordWrap {
 
     public void setCaseSensitive(boolean caseSensitive) {
         this.caseSensitive = caseSensitive;
+        SqlTemplateCache.clear();
+        QuerySqlCache.clear();
     }
 
     public boolean isKeywordsToUpperCase() {
@@ -176,6 +178,8 @@ public class KeywordWrap {
 
     public void setKeywordsToUpperCase(boolean keywordsToUpperCase) {
         this.keywordsToUpperCase = keywordsToUpperCase;
+        SqlTemplateCache.clear();
+        QuerySqlCache.clear();
     }
 
     public Set<String> getKeywords() {
@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect;
+
+import com.mybatisflex.core.query.QueryFingerprint;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * {@link com.mybatisflex.core.query.QueryWrapper} 查询 SQL 缓存。
+ *
+ * <p>以 {@link QueryFingerprint} 为 key 缓存 {@code forSelectByQuery} 生成的 SQL，命中后只需要收集参数，
+ * 不再重新遍历查询列、关联表、条件和排序构建 SQL。读取时不加锁，缓存满时近似地淘汰最近未使用的 SQL，默认不开启，
+ * 可以通过 {@link #getHitCount()}、{@link #getMissCount()} 观察命中情况以调整容量。
+ */
+public class QuerySqlCache {
+
+    private QuerySqlCache() {
+    }
+
+    private static volatile boolean enable = false;
+
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+
+    private static final BoundedCache<QueryFingerprint, String> cache = new BoundedCache<>(1024);
+
+    public static boolean isEnable() {
+        return enable;
+    }
+
+    public static void setEnable(boolean enable) {
+        QuerySqlCache.enable = enable;
+        clear();
+    }
+
+    public static int getMaxSize() {
+        return cache.getMaxSize();
+    }
+
+    public static void setMaxSize(int maxSize) {
+        cache.setMaxSize(maxSize);
+    }
+
+    /**
+     * 获取 SQL，不存在时通过 {@code sqlBuilder} 构建并缓存。
+     *
+     * @param fingerprint 结构指纹
+     * @param sqlBuilder  SQL 构建器
+     * @return SQL
+     */
+    public static String computeIfAbsent(QueryFingerprint fingerprint, Supplier<String> sqlBuilder) {
+        String sql = cache.get(fingerprint);
+        if (sql != null) {
+            hitCount.increment();
+            return sql;
+        }
+        missCount.increment();
+        sql = sqlBuilder.get();
+        cache.put(fingerprint, sql);
+        return sql;
+    }
+
+    /**
+     * 清空缓存，命中统计不会被重置。
+     */
+    public static void clear() {
+        cache.clear();
+    }
+
+    public static int size() {
+        return cache.size();
+    }
+
+    public static long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public static long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 重置命中统计。
+     */
+    public static void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+    }
+
+}
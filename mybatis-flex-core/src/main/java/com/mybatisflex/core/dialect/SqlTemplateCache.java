@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.dialect;
+
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.util.StringUtil;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 实体 SQL 模板缓存。
+ *
+ * <p>根据 {@link TableInfo}、方言、语句类型、真实表名以及逻辑删除、多租户等"形状"缓存最终生成的 SQL，
+ * 使 {@code selectOneById}、{@code deleteById}、{@code update} 等语句在每次调用时只需要构建参数。
+ *
+ * <p>当动态表名、动态 schema、逻辑删除处理器等全局配置发生变化时，会自动清空缓存。逻辑删除处理器每次生成的 SQL 不同时
+ * （参考 {@link com.mybatisflex.core.logicdelete.LogicDeleteProcessor#isConstant()}），包含逻辑删除的语句不会被缓存。
+ *
+ * <p>缓存数量达到 {@link #getMaxSize()} 时，近似地移除最近未使用的 SQL 模板，读取时不加锁。
+ */
+public class SqlTemplateCache {
+
+    private SqlTemplateCache() {
+    }
+
+    private static volatile boolean enable = true;
+
+    private static final BoundedCache<Key, String> templates = new BoundedCache<>(4096);
+
+    public static boolean isEnable() {
+        return enable;
+    }
+
+    public static void setEnable(boolean enable) {
+        SqlTemplateCache.enable = enable;
+        clear();
+    }
+
+    public static int getMaxSize() {
+        return templates.getMaxSize();
+    }
+
+    public static void setMaxSize(int maxSize) {
+        templates.setMaxSize(maxSize);
+    }
+
+    /**
+     * 获取 SQL 模板，不存在时通过 {@code sqlBuilder} 构建并缓存。
+     *
+     * @param key        缓存 key
+     * @param sqlBuilder SQL 构建器
+     * @return SQL 模板
+     */
+    public static String computeIfAbsent(Key key, Supplier<String> sqlBuilder) {
+        String sql = templates.get(key);
+        if (sql != null) {
+            return sql;
+        }
+        sql = sqlBuilder.get();
+        templates.put(key, sql);
+        return sql;
+    }
+
+    /**
+     * 清空所有 SQL 模板。
+     */
+    public static void clear() {
+        templates.clear();
+    }
+
+    /**
+     * 清空某张表的 SQL 模板。
+     *
+     * @param tableInfo 表信息
+     */
+    public static void clear(TableInfo tableInfo) {
+        templates.removeIf(key -> key.tableInfo == tableInfo);
+    }
+
+    public static int size() {
+        return templates.size();
+    }
+
+
+    /**
+     * SQL 模板的缓存 key。
+     */
+    public static class Key {
+
+        private final TableInfo tableInfo;
+        private final IDialect dialect;
+        private final String statement;
+        private final String realSchema;
+        private final String realTable;
+        private final boolean logicDelete;
+        private final int tenantIdCount;
+        private final Object shape;
+        private final int hashCode;
+
+        /**
+         * @param tableInfo     表信息
+         * @param dialect       方言
+         * @param statement     语句名称
+         * @param operateType   解析真实表名时使用的操作类型
+         * @param logicDelete   是否包含逻辑删除条件
+         * @param tenantIdArgs  租户 ID 参数
+         * @param shape         其他影响 SQL 内容的数据，比如 update 的列、主键数量等
+         */
+        public Key(TableInfo tableInfo, IDialect dialect, String statement, OperateType operateType
+            , boolean logicDelete, Object[] tenantIdArgs, Object shape) {
+            this.tableInfo = tableInfo;
+            this.dialect = dialect;
+            this.statement = statement;
+            this.realTable = dialect.getRealTable(tableInfo.getTableName(), operateType);
+            this.realSchema = StringUtil.noText(tableInfo.getSchema()) ? null : dialect.getRealSchema(tableInfo.getSchema(), realTable, operateType);
+            this.logicDelete = logicDelete;
+            this.tenantIdCount = tenantIdArgs == null ? 0 : tenantIdArgs.length;
+            this.shape = shape;
+
+            int result = System.identityHashCode(tableInfo);
+            result = 31 * result + System.identityHashCode(dialect);
+            result = 31 * result + statement.hashCode();
+            result = 31 * result + Objects.hashCode(realSchema);
+            result = 31 * result + Objects.hashCode(realTable);
+            result = 31 * result + (logicDelete ? 1 : 0);
+            result = 31 * result + tenantIdCount;
+            result = 31 * result + Objects.hashCode(shape);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return tableInfo == key.tableInfo
+                && dialect == key.dialect
+                && logicDelete == key.logicDelete
+                && tenantIdCount == key.tenantIdCount
+                && statement.equals(key.statement)
+                && Objects.equals(realSchema, key.realSchema)
+                && Objects.equals(realTable, key.realTable)
+                && Objects.equals(shape, key.shape);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -19,6 +19,8 @@ import com.mybatisflex.core.dialect.IDialect;
 import com.mybatisflex.core.dialect.KeywordWrap;
 import com.mybatisflex.core.dialect.LimitOffsetProcessor;
 import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.dialect.QuerySqlCache;
+import com.mybatisflex.core.dialect.SqlTemplateCache;
 import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.exception.locale.LocalizedFormats;
@@ -27,6 +29,7 @@ import com.mybatisflex.core.query.CPI;
 import com.mybatisflex.core.query.Join;
 import com.mybatisflex.core.query.QueryColumn;
 import com.mybatisflex.core.query.QueryCondition;
+import com.mybatisflex.core.query.QueryFingerprint;
 import com.mybatisflex.core.query.QueryOrderBy;
 import com.mybatisflex.core.query.QueryTable;
 import com.mybatisflex.core.query.QueryWrapper;
@@ -43,6 +46,7 @@ import com.mybatisflex.core.util.StringUtil;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -85,6 +89,12 @@ public class CommonsDialectImpl implements IDialect {
     protected KeywordWrap keywordWrap = KeywordWrap.BACK_QUOTE;
     private LimitOffsetProcessor limitOffsetProcessor = LimitOffsetProcessor.MYSQL;
 
+    /**
+     * 自定义了权限处理（prepareAuth）的方言，其 SQL 可能随上下文变化，不使用 SQL 模板缓存
+     */
+    private final boolean authCustomized = isAuthCustomized(getClass());
+    private final boolean queryAuthCustomized = isQueryAuthCustomized(getClass());
+
     public CommonsDialectImpl() {
     }
 
@@ -388,7 +398,15 @@ public class CommonsDialectImpl implements IDialect {
     @Override
     public String forSelectByQuery(QueryWrapper queryWrapper) {
         prepareAuth(queryWrapper, OperateType.SELECT);
-        return buildSelectSql(queryWrapper);
+        // 子查询列会再次调用 prepareAuth，自定义权限处理时不能跳过 SQL 构建
+        if (queryAuthCustomized || !QuerySqlCache.isEnable()) {
+            return buildSelectSql(queryWrapper);
+        }
+        QueryFingerprint fingerprint = QueryFingerprint.of(queryWrapper, this);
+        if (fingerprint == null) {
+            return buildSelectSql(queryWrapper);
+        }
+        return QuerySqlCache.computeIfAbsent(fingerprint, () -> buildSelectSql(queryWrapper));
     }
 
 
@@ -700,7 +718,12 @@ public class CommonsDialectImpl implements IDialect {
     public String forDeleteEntityById(TableInfo tableInfo) {
         String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
         Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
+        OperateType operateType = StringUtil.noText(logicDeleteColumn) ? OperateType.DELETE : OperateType.UPDATE;
+        return getSqlTemplate(tableInfo, "deleteEntityById", operateType, logicDeleteColumn, tenantIdArgs, null
+            , () -> buildDeleteEntityByIdSql(tableInfo, logicDeleteColumn, tenantIdArgs));
+    }
 
+    private String buildDeleteEntityByIdSql(TableInfo tableInfo, String logicDeleteColumn, Object[] tenantIdArgs) {
         String[] primaryKeys = tableInfo.getPrimaryColumns();
         assertPrimaryKeysNotEmpty(primaryKeys);
 
@@ -735,7 +758,12 @@ public class CommonsDialectImpl implements IDialect {
     public String forDeleteEntityBatchByIds(TableInfo tableInfo, Object[] primaryValues) {
         String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
         Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
+        OperateType operateType = StringUtil.noText(logicDeleteColumn) ? OperateType.DELETE : OperateType.UPDATE;
+        return getSqlTemplate(tableInfo, "deleteEntityBatchByIds", operateType, logicDeleteColumn, tenantIdArgs, primaryValues.length
+            , () -> buildDeleteEntityBatchByIdsSql(tableInfo, primaryValues, logicDeleteColumn, tenantIdArgs));
+    }
 
+    private String buildDeleteEntityBatchByIdsSql(TableInfo tableInfo, Object[] primaryValues, String logicDeleteColumn, Object[] tenantIdArgs) {
         String[] primaryKeys = tableInfo.getPrimaryColumns();
         assertPrimaryKeysNotEmpty(primaryKeys);
 
@@ -829,10 +857,47 @@ public class CommonsDialectImpl implements IDialect {
 
     @Override
     public String forUpdateEntity(TableInfo tableInfo, Object entity, boolean ignoreNulls) {
-        StringBuilder sql = new StringBuilder();
-
         Set<String> updateColumns = tableInfo.obtainUpdateColumns(entity, ignoreNulls, false);
         Map<String, RawValue> rawValueMap = tableInfo.obtainUpdateRawValueMap(entity);
+        String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
+        Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
+        boolean optimisticLock = StringUtil.hasText(tableInfo.getOptimisticLockColumnOrSkip());
+
+        String sql;
+        Supplier<String> sqlBuilder = () -> buildUpdateEntitySql(tableInfo, updateColumns, rawValueMap, logicDeleteColumn, tenantIdArgs, optimisticLock);
+        if (rawValueMap.isEmpty()) {
+            // 更新的列（及其顺序）决定了 SQL 的内容
+            List<Object> shape = new ArrayList<>(updateColumns.size() + 1);
+            shape.add(optimisticLock);
+            shape.addAll(updateColumns);
+            sql = getSqlTemplate(tableInfo, "updateEntity", OperateType.UPDATE, logicDeleteColumn, tenantIdArgs, shape, sqlBuilder);
+        } else {
+            // RawValue 的 SQL 片段由用户传入，不进行缓存
+            sql = sqlBuilder.get();
+        }
+
+        // 乐观锁条件
+        if (optimisticLock) {
+            String versionColumn = tableInfo.getVersionColumn();
+            Object versionValue = tableInfo.buildColumnSqlArg(entity, versionColumn);
+            if (versionValue == null) {
+                throw FlexExceptions.wrap(LocalizedFormats.ENTITY_VERSION_NULL, entity);
+            }
+            sql = sql + AND + wrap(versionColumn) + EQUALS + versionValue;
+        }
+
+        if (authCustomized) {
+            StringBuilder sqlWithAuth = new StringBuilder(sql);
+            prepareAuth(tableInfo, sqlWithAuth, OperateType.UPDATE);
+            return sqlWithAuth.toString();
+        }
+        return sql;
+    }
+
+    private String buildUpdateEntitySql(TableInfo tableInfo, Set<String> updateColumns, Map<String, RawValue> rawValueMap
+        , String logicDeleteColumn, Object[] tenantIdArgs, boolean optimisticLock) {
+        StringBuilder sql = new StringBuilder();
+
         String[] primaryKeys = tableInfo.getPrimaryColumns();
         assertPrimaryKeysNotEmpty(primaryKeys);
 
@@ -855,7 +920,7 @@ public class CommonsDialectImpl implements IDialect {
 
         // 乐观锁字段
         String versionColumn = tableInfo.getVersionColumn();
-        if (StringUtil.hasText(tableInfo.getOptimisticLockColumnOrSkip())) {
+        if (optimisticLock) {
             stringJoiner.add(wrap(versionColumn) + EQUALS + wrap(versionColumn) + " + 1 ");
         }
 
@@ -870,26 +935,15 @@ public class CommonsDialectImpl implements IDialect {
         }
 
         // 逻辑删除条件，已删除的数据不能被修改
-        String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
         if (StringUtil.hasText(logicDeleteColumn)) {
             sql.append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
         }
 
 
         // 租户ID字段
-        Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
         tableInfo.buildTenantCondition(sql, tenantIdArgs, this);
 
-        // 乐观锁条件
-        if (StringUtil.hasText(tableInfo.getOptimisticLockColumnOrSkip())) {
-            Object versionValue = tableInfo.buildColumnSqlArg(entity, versionColumn);
-            if (versionValue == null) {
-                throw FlexExceptions.wrap(LocalizedFormats.ENTITY_VERSION_NULL, entity);
-            }
-            sql.append(AND).append(wrap(versionColumn)).append(EQUALS).append(versionValue);
-        }
-
-        prepareAuth(tableInfo, sql, OperateType.UPDATE);
+        // 乐观锁条件的值每次都不一样，由 forUpdateEntity 在模板之后追加
         return sql.toString();
     }
 
@@ -964,6 +1018,13 @@ public class CommonsDialectImpl implements IDialect {
 
     @Override
     public String forSelectOneEntityById(TableInfo tableInfo) {
+        String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
+        Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
+        return getSqlTemplate(tableInfo, "selectOneEntityById", OperateType.SELECT, logicDeleteColumn, tenantIdArgs, null
+            , () -> buildSelectOneEntityByIdSql(tableInfo, logicDeleteColumn, tenantIdArgs));
+    }
+
+    private String buildSelectOneEntityByIdSql(TableInfo tableInfo, String logicDeleteColumn, Object[] tenantIdArgs) {
         StringBuilder sql = new StringBuilder();
         buildSelectColumnSql(sql, null, null, null);
         sql.append(FROM).append(tableInfo.getWrapSchemaAndTableName(this, OperateType.SELECT));
@@ -979,13 +1040,11 @@ public class CommonsDialectImpl implements IDialect {
         }
 
         // 逻辑删除的情况下，需要添加逻辑删除的条件
-        String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
         if (StringUtil.hasText(logicDeleteColumn)) {
             sql.append(AND).append(buildLogicNormalCondition(logicDeleteColumn, tableInfo));
         }
 
         // 多租户
-        Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
         tableInfo.buildTenantCondition(sql, tenantIdArgs, this);
         prepareAuth(tableInfo, sql, OperateType.SELECT);
         return sql.toString();
@@ -994,6 +1053,13 @@ public class CommonsDialectImpl implements IDialect {
 
     @Override
     public String forSelectEntityListByIds(TableInfo tableInfo, Object[] primaryValues) {
+        String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
+        Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
+        return getSqlTemplate(tableInfo, "selectEntityListByIds", OperateType.SELECT, logicDeleteColumn, tenantIdArgs, primaryValues.length
+            , () -> buildSelectEntityListByIdsSql(tableInfo, primaryValues, logicDeleteColumn, tenantIdArgs));
+    }
+
+    private String buildSelectEntityListByIdsSql(TableInfo tableInfo, Object[] primaryValues, String logicDeleteColumn, Object[] tenantIdArgs) {
         StringBuilder sql = new StringBuilder();
         buildSelectColumnSql(sql, null, tableInfo.getDefaultQueryColumn(), null);
         sql.append(FROM).append(tableInfo.getWrapSchemaAndTableName(this, OperateType.SELECT));
@@ -1001,8 +1067,6 @@ public class CommonsDialectImpl implements IDialect {
         String[] primaryKeys = tableInfo.getPrimaryColumns();
         assertPrimaryKeysNotEmpty(primaryKeys);
 
-        String logicDeleteColumn = tableInfo.getLogicDeleteColumnOrSkip();
-        Object[] tenantIdArgs = tableInfo.buildTenantIdArgs();
         if (StringUtil.hasText(logicDeleteColumn) || ArrayUtil.isNotEmpty(tenantIdArgs)) {
             sql.append(BRACKET_LEFT);
         }
@@ -1068,11 +1132,15 @@ public class CommonsDialectImpl implements IDialect {
     protected void buildWhereSql(StringBuilder sqlBuilder, QueryWrapper queryWrapper, List<QueryTable> queryTables, boolean allowNoCondition) {
         QueryCondition whereQueryCondition = CPI.getWhereQueryCondition(queryWrapper);
         if (whereQueryCondition != null) {
-            String whereSql = whereQueryCondition.toSql(queryTables, this);
-            if (StringUtil.hasText(whereSql)) {
-                sqlBuilder.append(WHERE).append(whereSql);
-            } else if (!allowNoCondition) {
-                throw FlexExceptions.wrap(LocalizedFormats.UPDATE_OR_DELETE_NOT_ALLOW);
+            int start = sqlBuilder.length();
+            sqlBuilder.append(WHERE);
+            int conditionStart = sqlBuilder.length();
+            whereQueryCondition.buildSql(sqlBuilder, queryTables, this);
+            if (!StringUtil.hasText(sqlBuilder, conditionStart)) {
+                sqlBuilder.setLength(start);
+                if (!allowNoCondition) {
+                    throw FlexExceptions.wrap(LocalizedFormats.UPDATE_OR_DELETE_NOT_ALLOW);
+                }
             }
         } else {
             // whereQueryCondition == null
@@ -1103,9 +1171,12 @@ public class CommonsDialectImpl implements IDialect {
     protected void buildHavingSql(StringBuilder sqlBuilder, QueryWrapper queryWrapper, List<QueryTable> queryTables) {
         QueryCondition havingQueryCondition = CPI.getHavingQueryCondition(queryWrapper);
         if (havingQueryCondition != null) {
-            String havingSql = havingQueryCondition.toSql(queryTables, this);
-            if (StringUtil.hasText(havingSql)) {
-                sqlBuilder.append(HAVING).append(havingSql);
+            int start = sqlBuilder.length();
+            sqlBuilder.append(HAVING);
+            int conditionStart = sqlBuilder.length();
+            havingQueryCondition.buildSql(sqlBuilder, queryTables, this);
+            if (!StringUtil.hasText(sqlBuilder, conditionStart)) {
+                sqlBuilder.setLength(start);
             }
         }
     }
@@ -1144,6 +1215,49 @@ public class CommonsDialectImpl implements IDialect {
         return LogicDeleteManager.getProcessor().buildLogicDeletedSet(logicColumn, tableInfo, this);
     }
 
+    /**
+     * 获取实体语句的 SQL 模板，在没有缓存时通过 {@code sqlBuilder} 构建。
+     *
+     * @param tableInfo         表信息
+     * @param statement         语句名称
+     * @param operateType       解析真实表名时使用的操作类型
+     * @param logicDeleteColumn 逻辑删除列，{@code null} 表示不包含逻辑删除条件
+     * @param tenantIdArgs      租户 ID 参数
+     * @param shape             其他影响 SQL 内容的数据
+     * @param sqlBuilder        SQL 构建器
+     * @return SQL
+     */
+    protected String getSqlTemplate(TableInfo tableInfo, String statement, OperateType operateType, String logicDeleteColumn
+        , Object[] tenantIdArgs, Object shape, Supplier<String> sqlBuilder) {
+        if (authCustomized || !SqlTemplateCache.isEnable()) {
+            return sqlBuilder.get();
+        }
+        // 逻辑删除的值每次可能不同，例如时间戳
+        if (StringUtil.hasText(logicDeleteColumn) && !LogicDeleteManager.getProcessor().isConstant()) {
+            return sqlBuilder.get();
+        }
+        SqlTemplateCache.Key key = new SqlTemplateCache.Key(tableInfo, this, statement, operateType
+            , StringUtil.hasText(logicDeleteColumn), tenantIdArgs, shape);
+        return SqlTemplateCache.computeIfAbsent(key, sqlBuilder);
+    }
+
+    private static boolean isAuthCustomized(Class<?> dialectClass) {
+        try {
+            return dialectClass.getMethod("prepareAuth", TableInfo.class, StringBuilder.class, OperateType.class).getDeclaringClass() != IDialect.class
+                || dialectClass.getMethod("prepareAuth", String.class, String.class, StringBuilder.class, OperateType.class).getDeclaringClass() != IDialect.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
+    private static boolean isQueryAuthCustomized(Class<?> dialectClass) {
+        try {
+            return dialectClass.getMethod("prepareAuth", QueryWrapper.class, OperateType.class).getDeclaringClass() != IDialect.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
+    }
+
     /**
      * 断言主键非空
      *
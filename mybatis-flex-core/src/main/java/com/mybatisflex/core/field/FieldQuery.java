@@ -15,9 +15,18 @@
  */
 package com.mybatisflex.core.field;
 
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryWrapper;
 import com.mybatisflex.core.util.FieldWrapper;
+import com.mybatisflex.core.util.LambdaGetter;
+import com.mybatisflex.core.util.LambdaUtil;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+import static com.mybatisflex.core.table.TableInfoFactory.defaultSupportColumnTypes;
 
 /**
  * 查询属性的信息。
@@ -30,6 +39,10 @@ public class FieldQuery implements Serializable {
     private FieldWrapper fieldWrapper;
     private boolean prevent;
     private QueryBuilder queryBuilder;
+    private FieldWrapper batchSelfFieldWrapper;
+    private FieldWrapper batchTargetFieldWrapper;
+    private QueryColumn batchTargetColumn;
+    private QueryWrapper batchQueryWrapper;
 
     public Class<?> getEntityClass() {
         return entityClass;
@@ -71,6 +84,47 @@ public class FieldQuery implements Serializable {
         this.queryBuilder = queryBuilder;
     }
 
+    /**
+     * 是否批量查询该属性。
+     *
+     * @return {@code true} 批量查询，{@code false} 每个实体类单独查询
+     */
+    public boolean isBatch() {
+        return batchQueryWrapper != null;
+    }
+
+    public FieldWrapper getBatchSelfFieldWrapper() {
+        return batchSelfFieldWrapper;
+    }
+
+    public void setBatchSelfFieldWrapper(FieldWrapper batchSelfFieldWrapper) {
+        this.batchSelfFieldWrapper = batchSelfFieldWrapper;
+    }
+
+    public FieldWrapper getBatchTargetFieldWrapper() {
+        return batchTargetFieldWrapper;
+    }
+
+    public void setBatchTargetFieldWrapper(FieldWrapper batchTargetFieldWrapper) {
+        this.batchTargetFieldWrapper = batchTargetFieldWrapper;
+    }
+
+    public QueryColumn getBatchTargetColumn() {
+        return batchTargetColumn;
+    }
+
+    public void setBatchTargetColumn(QueryColumn batchTargetColumn) {
+        this.batchTargetColumn = batchTargetColumn;
+    }
+
+    public QueryWrapper getBatchQueryWrapper() {
+        return batchQueryWrapper;
+    }
+
+    public void setBatchQueryWrapper(QueryWrapper batchQueryWrapper) {
+        this.batchQueryWrapper = batchQueryWrapper;
+    }
+
     public static class Builder<T> {
 
         private final FieldQuery fieldQuery;
@@ -114,6 +168,40 @@ public class FieldQuery implements Serializable {
             return this;
         }
 
+        /**
+         * <p>批量查询这个属性，所有实体类共用一个 {@code IN} 查询（值过多时按
+         * {@link com.mybatisflex.core.relation.RelationManager#getMaxInSize()} 拆分），
+         * 查询结果按关联属性的值分组后设置到每个实体类中。
+         *
+         * <p>只支持属性类型为实体类，或者实体类的集合、数组。例如：
+         * <pre>{@code
+         * builder.field(Account::getArticles)
+         *     .batchQuery(Account::getId, Article::getAccountId, QueryWrapper.create().from(ARTICLE));
+         * }</pre>
+         *
+         * @param selfField    当前实体类中关联的属性
+         * @param targetField  查询结果中关联的属性，对应的列作为 {@code IN} 查询的条件
+         * @param queryWrapper 不包含关联条件的查询
+         * @param <R>          查询结果类型
+         * @return 构建者
+         */
+        public <R> Builder<T> batchQuery(LambdaGetter<T> selfField, LambdaGetter<R> targetField, QueryWrapper queryWrapper) {
+            FieldWrapper fieldWrapper = this.fieldQuery.getFieldWrapper();
+            Class<?> fieldType = fieldWrapper.getFieldType();
+            Class<?> resultType = Collection.class.isAssignableFrom(fieldType) ? fieldWrapper.getMappingType()
+                : fieldType.isArray() ? fieldType.getComponentType() : fieldType;
+            if (Map.class.isAssignableFrom(fieldType) || Map.class.isAssignableFrom(resultType)
+                || defaultSupportColumnTypes.contains(resultType)) {
+                throw FlexExceptions.wrap("Batch query only support entity field, but current field type is: " + fieldType.getName());
+            }
+
+            this.fieldQuery.setBatchSelfFieldWrapper(FieldWrapper.of(this.fieldQuery.getEntityClass(), LambdaUtil.getFieldName(selfField)));
+            this.fieldQuery.setBatchTargetFieldWrapper(FieldWrapper.of(LambdaUtil.getImplClass(targetField), LambdaUtil.getFieldName(targetField)));
+            this.fieldQuery.setBatchTargetColumn(LambdaUtil.getQueryColumn(targetField));
+            this.fieldQuery.setBatchQueryWrapper(queryWrapper);
+            return this;
+        }
+
         protected FieldQuery build() {
             return this.fieldQuery;
         }
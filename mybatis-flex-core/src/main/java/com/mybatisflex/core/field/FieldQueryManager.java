@@ -19,9 +19,12 @@ package com.mybatisflex.core.field;
 import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.relation.RelationManager;
 import com.mybatisflex.core.row.Row;
 import com.mybatisflex.core.util.ClassUtil;
 import com.mybatisflex.core.util.CollectionUtil;
+import com.mybatisflex.core.util.ConvertUtil;
+import com.mybatisflex.core.util.FieldWrapper;
 
 import java.lang.reflect.Array;
 import java.util.*;
@@ -40,6 +43,8 @@ public class FieldQueryManager {
     }
 
     public static void queryFields(BaseMapper<?> mapper, Collection<?> entities, Map<String, FieldQuery> fieldQueryMap) {
+        queryBatchFields(mapper, entities, fieldQueryMap);
+
         for (Object entity : entities) {
 
             if (entity == null) {
@@ -49,8 +54,8 @@ public class FieldQueryManager {
             String className = ClassUtil.getUsefulClass(entity.getClass()).getName();
 
             fieldQueryMap.forEach((key, fieldQuery) -> {
-                // 不是当前类的内容
-                if (!key.startsWith(className + "#")) {
+                // 不是当前类的内容，或者已经批量查询
+                if (!key.startsWith(className + "#") || fieldQuery.isBatch()) {
                     return;
                 }
 
@@ -107,6 +112,95 @@ public class FieldQueryManager {
     }
 
 
+    private static void queryBatchFields(BaseMapper<?> mapper, Collection<?> entities, Map<String, FieldQuery> fieldQueryMap) {
+        Map<Class<?>, List<Object>> entitiesMap = null;
+        for (FieldQuery fieldQuery : fieldQueryMap.values()) {
+            if (!fieldQuery.isBatch()) {
+                continue;
+            }
+            if (entitiesMap == null) {
+                entitiesMap = new HashMap<>();
+                for (Object entity : entities) {
+                    if (entity != null) {
+                        entitiesMap.computeIfAbsent(ClassUtil.getUsefulClass(entity.getClass()), k -> new ArrayList<>()).add(entity);
+                    }
+                }
+            }
+            List<Object> classEntities = entitiesMap.get(fieldQuery.getEntityClass());
+            if (classEntities != null) {
+                queryBatchField(mapper, classEntities, fieldQuery, fieldQueryMap);
+            }
+        }
+    }
+
+
+    private static void queryBatchField(BaseMapper<?> mapper, List<Object> entities, FieldQuery fieldQuery, Map<String, FieldQuery> fieldQueryMap) {
+        FieldWrapper selfFieldWrapper = fieldQuery.getBatchSelfFieldWrapper();
+        Set<Object> selfValues = new LinkedHashSet<>();
+        for (Object entity : entities) {
+            Object selfValue = selfFieldWrapper.get(entity);
+            if (selfValue != null) {
+                selfValues.add(selfValue);
+            }
+        }
+        if (selfValues.isEmpty()) {
+            return;
+        }
+
+        Class<?> fieldType = fieldQuery.getFieldWrapper().getFieldType();
+        boolean isCollection = Collection.class.isAssignableFrom(fieldType);
+        Class<?> resultType = isCollection ? fieldQuery.getFieldWrapper().getMappingType()
+            : fieldType.isArray() ? fieldType.getComponentType() : fieldType;
+
+        // IN 条件的值过多时拆分为多个查询
+        List<Object> values = new ArrayList<>(selfValues);
+        int maxInSize = RelationManager.getMaxInSize();
+        int chunkSize = maxInSize > 0 ? maxInSize : values.size();
+        List<Object> results = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += chunkSize) {
+            QueryWrapper queryWrapper = fieldQuery.getBatchQueryWrapper().clone();
+            queryWrapper.and(fieldQuery.getBatchTargetColumn().in(values.subList(i, Math.min(i + chunkSize, values.size()))));
+            results.addAll(mapper.selectListByQueryAs(queryWrapper, resultType));
+        }
+
+        // 按关联属性的值分组，并转换为当前实体类中关联属性的类型
+        FieldWrapper targetFieldWrapper = fieldQuery.getBatchTargetFieldWrapper();
+        Class<?> selfType = selfFieldWrapper.getFieldType();
+        Map<Object, List<Object>> resultsMap = new HashMap<>();
+        for (Object result : results) {
+            if (result == null) {
+                continue;
+            }
+            Object targetValue = ConvertUtil.convert(targetFieldWrapper.get(result), selfType);
+            if (targetValue != null) {
+                resultsMap.computeIfAbsent(targetValue, k -> new ArrayList<>(1)).add(result);
+            }
+        }
+
+        for (Object entity : entities) {
+            Object selfValue = selfFieldWrapper.get(entity);
+            List<Object> list = selfValue == null ? null : resultsMap.get(selfValue);
+            Object value;
+            if (isCollection) {
+                value = getCollectionValue(fieldType, list == null ? new ArrayList<>(0) : list);
+            } else if (fieldType.isArray()) {
+                value = getArrayValue(resultType, list);
+            } else {
+                value = list == null ? null : list.get(0);
+            }
+            // 属性查询出来的值不为 null 时，为属性设置值
+            if (value != null) {
+                fieldQuery.getFieldWrapper().set(value, entity);
+            }
+        }
+
+        // 循环查询嵌套类
+        if (!fieldQuery.isPrevent() && !results.isEmpty()) {
+            queryFields(mapper, results, fieldQueryMap);
+        }
+    }
+
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static Object getCollectionValue(Class<?> fieldType, Collection value) {
         if (value == null) {
@@ -15,39 +15,25 @@
  */
 package com.mybatisflex.core.handler;
 
-import com.mybatisflex.annotation.EnumValue;
-import com.mybatisflex.core.util.ClassUtil;
+import com.mybatisflex.core.util.EnumWrapper;
 import org.apache.ibatis.type.EnumTypeHandler;
 import org.apache.ibatis.type.JdbcType;
 import org.apache.ibatis.type.TypeHandler;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
 
 public class CompositeEnumTypeHandler<E extends Enum<E>> implements TypeHandler<E> {
 
     private final TypeHandler<E> delegate;
 
     public CompositeEnumTypeHandler(Class<E> enumClass) {
-        boolean isNotFound = false;
-        List<Field> enumDbValueFields = ClassUtil.getAllFields(enumClass, f -> f.getAnnotation(EnumValue.class) != null);
-        if (enumDbValueFields.isEmpty()) {
-            Method enumDbValueMethod = ClassUtil.getFirstMethodByAnnotation(enumClass, EnumValue.class);
-            if (enumDbValueMethod == null) {
-                isNotFound = true;
-            }
-        }
-        if (isNotFound) {
-            delegate = new EnumTypeHandler<>(enumClass);
-        } else {
+        if (EnumWrapper.of(enumClass).hasEnumValueAnnotation()) {
             delegate = new FlexEnumTypeHandler<>(enumClass);
+        } else {
+            delegate = new EnumTypeHandler<>(enumClass);
         }
     }
 
@@ -0,0 +1,158 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.handler;
+
+import com.alibaba.fastjson2.annotation.JSONField;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.gson.annotations.JsonAdapter;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 延迟解析的 JSON 字段。
+ *
+ * <p>实体类的属性声明为 {@code LazyJson<T>} 并配置 {@link BaseJsonTypeHandler} 的子类（例如 {@link JacksonTypeHandler}、
+ * {@link Fastjson2TypeHandler}、{@link GsonTypeHandler}）后，查询时只保存原始的 JSON 内容，第一次调用 {@link #get()}
+ * 时才会解析并缓存解析结果；没有调用过 {@link #get()} 或 {@link #set(Object)} 时，保存数据时直接使用原始的 JSON 内容，
+ * 不会重新序列化。
+ *
+ * <p>{@link #get()} 可以在多个线程中调用，解析只会执行一次；{@link #set(Object)} 与其他对象的 setter 一样，
+ * 不应与读取同时进行。使用 Jackson、Fastjson2、Gson 序列化实体类时，{@code LazyJson} 序列化为解析后的值；
+ * Java 序列化前会先完成解析，不会写入 TypeHandler。
+ *
+ * <pre>{@code
+ * @Column(typeHandler = JacksonTypeHandler.class)
+ * private LazyJson<List<Item>> items;
+ * }</pre>
+ *
+ * @param <T> JSON 解析后的类型
+ */
+@JsonAdapter(LazyJsonTypeAdapterFactory.class)
+public class LazyJson<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String json;
+    private transient BaseJsonTypeHandler<T> typeHandler;
+
+    private T value;
+    private volatile boolean resolved;
+
+    public LazyJson() {
+        this.resolved = true;
+    }
+
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    private LazyJson(T value) {
+        this.value = value;
+        this.resolved = true;
+    }
+
+    LazyJson(String json, BaseJsonTypeHandler<T> typeHandler) {
+        this.json = json;
+        this.typeHandler = typeHandler;
+    }
+
+    public static <T> LazyJson<T> of(T value) {
+        return new LazyJson<>(value);
+    }
+
+    /**
+     * 获取 JSON 解析后的值，第一次调用时解析，多个线程同时调用时只解析一次。
+     *
+     * @return 解析后的值
+     */
+    @JsonValue
+    @JSONField(value = true)
+    public T get() {
+        if (!resolved) {
+            synchronized (this) {
+                if (!resolved) {
+                    value = typeHandler.parseJson(json);
+                    json = null;
+                    typeHandler = null;
+                    // volatile 写入，保证其他线程看到 resolved 时也能看到 value
+                    resolved = true;
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 设置新的值，保存时会重新序列化。
+     *
+     * @param value 值
+     */
+    public synchronized void set(T value) {
+        this.value = value;
+        this.json = null;
+        this.resolved = true;
+    }
+
+    /**
+     * 是否已经解析（或者设置了新的值）。
+     *
+     * @return {@code true} 已经解析
+     */
+    @JsonIgnore
+    @JSONField(serialize = false)
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * 获取未解析的原始 JSON 内容，已经解析时返回 {@code null}。
+     *
+     * @return 原始的 JSON 内容
+     */
+    synchronized String getRawJson() {
+        return resolved ? null : json;
+    }
+
+    private synchronized void writeObject(ObjectOutputStream out) throws IOException {
+        // 反序列化后没有 TypeHandler，只写入解析后的值
+        get();
+        out.defaultWriteObject();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LazyJson)) {
+            return false;
+        }
+        return Objects.equals(get(), ((LazyJson<?>) o).get());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(get());
+    }
+
+    @Override
+    public synchronized String toString() {
+        return resolved ? String.valueOf(value) : json;
+    }
+
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.handler;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+
+/**
+ * Gson 序列化 {@link LazyJson} 时使用解析后的值，与 Jackson、Fastjson2 保持一致。
+ */
+class LazyJsonTypeAdapterFactory implements TypeAdapterFactory {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+        Type valueType = type.getType() instanceof ParameterizedType
+            ? ((ParameterizedType) type.getType()).getActualTypeArguments()[0] : Object.class;
+        TypeAdapter<Object> valueAdapter = (TypeAdapter<Object>) gson.getAdapter(TypeToken.get(valueType));
+        return (TypeAdapter<T>) new TypeAdapter<LazyJson<Object>>() {
+
+            @Override
+            public void write(JsonWriter out, LazyJson<Object> value) throws IOException {
+                if (value == null) {
+                    out.nullValue();
+                } else {
+                    valueAdapter.write(out, value.get());
+                }
+            }
+
+            @Override
+            public LazyJson<Object> read(JsonReader in) throws IOException {
+                if (in.peek() == JsonToken.NULL) {
+                    in.nextNull();
+                    return null;
+                }
+                return LazyJson.of(valueAdapter.read(in));
+            }
+
+        };
+    }
+
+}
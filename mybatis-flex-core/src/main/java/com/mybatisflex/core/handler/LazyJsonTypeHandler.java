@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.handler;
+
+import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@link LazyJson} 类型的处理器，查询时不解析 JSON 内容，解析和序列化都交给 {@code delegate} 处理。
+ *
+ * @param <T> JSON 解析后的类型
+ */
+public class LazyJsonTypeHandler<T> extends BaseTypeHandler<LazyJson<T>> {
+
+    private final BaseJsonTypeHandler<T> delegate;
+
+    public LazyJsonTypeHandler(BaseJsonTypeHandler<T> delegate) {
+        this.delegate = delegate;
+    }
+
+    public BaseJsonTypeHandler<T> getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, LazyJson<T> parameter, JdbcType jdbcType) throws SQLException {
+        String json = parameter.getRawJson();
+        if (json == null) {
+            T value = parameter.get();
+            if (value == null) {
+                ps.setNull(i, jdbcType == null ? JdbcType.VARCHAR.TYPE_CODE : jdbcType.TYPE_CODE);
+                return;
+            }
+            json = delegate.toJson(value);
+        }
+        ps.setString(i, json);
+    }
+
+    @Override
+    public LazyJson<T> getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        return wrap(rs.getString(columnName));
+    }
+
+    @Override
+    public LazyJson<T> getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        return wrap(rs.getString(columnIndex));
+    }
+
+    @Override
+    public LazyJson<T> getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        return wrap(cs.getString(columnIndex));
+    }
+
+    private LazyJson<T> wrap(String json) {
+        return StringUtil.noText(json) ? null : new LazyJson<>(json, delegate);
+    }
+
+}
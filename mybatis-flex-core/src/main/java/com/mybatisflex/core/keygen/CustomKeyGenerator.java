@@ -31,6 +31,9 @@ import org.apache.ibatis.reflection.MetaObject;
 import org.apache.ibatis.session.Configuration;
 
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -88,6 +91,47 @@ public class CustomKeyGenerator implements KeyGenerator {
     }
 
 
+    /**
+     * 是否可以一次生成多条数据的主键。
+     *
+     * @return {@code true} 主键生成器实现了 {@link IBatchKeyGenerator}
+     */
+    public boolean isBatchSupported() {
+        return keyGenerator instanceof IBatchKeyGenerator;
+    }
+
+    /**
+     * 批量插入时，一次生成所有未设置主键的数据的主键。
+     *
+     * @param ms       MappedStatement
+     * @param entities 插入的数据
+     */
+    public void processBatchBefore(MappedStatement ms, Collection<?> entities) {
+        try {
+            Configuration msConfiguration = ms.getConfiguration();
+            List<MetaObject> metaEntities = new ArrayList<>(entities.size());
+            for (Object entity : entities) {
+                Object existId = tableInfo.getValue(entity, idInfo.getProperty());
+                if (existId == null || (existId instanceof String && StringUtil.noText((String) existId))) {
+                    metaEntities.add(msConfiguration.newMetaObject(entity));
+                }
+            }
+            if (metaEntities.isEmpty()) {
+                return;
+            }
+
+            Object[] generateIds = ((IBatchKeyGenerator) keyGenerator).generate(metaEntities.size(), idInfo.getColumn());
+            Class<?> setterType = tableInfo.getReflector().getSetterType(idInfo.getProperty());
+            for (int i = 0; i < generateIds.length; i++) {
+                Object id = ConvertUtil.convert(generateIds[i], setterType);
+                this.setValue(metaEntities.get(i), this.idInfo.getProperty(), id);
+            }
+        } catch (Exception e) {
+            throw FlexExceptions.wrap(e);
+        }
+    }
+
+
     @Override
     public void processAfter(Executor executor, MappedStatement ms, Statement stmt, Object parameter) {
         // do nothing
@@ -0,0 +1,32 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.keygen;
+
+/**
+ * 支持一次生成多个主键的生成器，批量插入时一次生成所有数据的主键。
+ */
+public interface IBatchKeyGenerator extends IKeyGenerator {
+
+    /**
+     * 一次生成多个主键。
+     *
+     * @param count     主键数量
+     * @param keyColumn 主键列名
+     * @return 主键，数组长度为 {@code count}
+     */
+    Object[] generate(int count, String keyColumn);
+
+}
@@ -17,6 +17,7 @@ package com.mybatisflex.core.keygen;
 
 import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.exception.locale.LocalizedFormats;
+import com.mybatisflex.core.keygen.impl.AtomicSnowFlakeIDKeyGenerator;
 import com.mybatisflex.core.keygen.impl.FlexIDKeyGenerator;
 import com.mybatisflex.core.keygen.impl.SnowFlakeIDKeyGenerator;
 import com.mybatisflex.core.keygen.impl.ULIDKeyGenerator;
@@ -40,6 +41,7 @@ public class KeyGeneratorFactory {
         register(KeyGenerators.uuid, new UUIDKeyGenerator());
         register(KeyGenerators.flexId, new FlexIDKeyGenerator());
         register(KeyGenerators.snowFlakeId, new SnowFlakeIDKeyGenerator());
+        register(KeyGenerators.atomicSnowFlakeId, new AtomicSnowFlakeIDKeyGenerator());
         register(KeyGenerators.ulid, new ULIDKeyGenerator());
 
     }
@@ -38,6 +38,12 @@ public class KeyGenerators {
      */
     public static final String snowFlakeId = "snowFlakeId";
 
+    /**
+     * 无锁的雪花算法主键生成器，批量插入时一次生成所有主键
+     * {@link com.mybatisflex.core.keygen.impl.AtomicSnowFlakeIDKeyGenerator}
+     */
+    public static final String atomicSnowFlakeId = "atomicSnowFlakeId";
+
     /**
      * ulid 主键生成器
      * {@link com.mybatisflex.core.keygen.impl.ULIDKeyGenerator}
@@ -41,6 +41,11 @@ public class MultiEntityKeyGenerator implements KeyGenerator {
     public void processBefore(Executor executor, MappedStatement ms, Statement stmt, Object parameter) {
         Collection<Object> entities = (Collection<Object>) ((Map) parameter).get(FlexConsts.ENTITIES);
         if (CollectionUtil.isNotEmpty(entities)) {
+            // 一次生成所有数据的主键
+            if (keyGenerator instanceof CustomKeyGenerator && ((CustomKeyGenerator) keyGenerator).isBatchSupported()) {
+                ((CustomKeyGenerator) keyGenerator).processBatchBefore(ms, entities);
+                return;
+            }
             for (Object entity : entities) {
                 ((Map) parameter).put(FlexConsts.ENTITY, entity);
                 keyGenerator.processBefore(executor, ms, stmt, parameter);
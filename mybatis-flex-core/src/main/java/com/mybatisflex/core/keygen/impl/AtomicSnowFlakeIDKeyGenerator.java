@@ -0,0 +1,180 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.keygen.impl;
+
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.keygen.IBatchKeyGenerator;
+
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 无锁的雪花算法 ID 生成器。
+ *
+ * <p>生成的 ID 与 {@link SnowFlakeIDKeyGenerator} 的组成完全相同，但不使用 {@code synchronized}，而是把最后一次使用的
+ * 毫秒时间戳和序列号保存在同一个 {@link AtomicLong} 中，通过 CAS 更新，适用于多线程并发插入的场景。
+ *
+ * <p>批量插入时，通过 {@link #generate(int, String)} 一次 CAS 预留同一毫秒内连续的多个序列号。
+ *
+ * <p>时钟回拨的处理与 {@link SnowFlakeIDKeyGenerator} 相同：回拨在 {@link #getOffsetPeriod()} 毫秒之内时等待时间恢复，
+ * 否则抛出异常。
+ */
+public class AtomicSnowFlakeIDKeyGenerator extends SnowFlakeIDKeyGenerator implements IBatchKeyGenerator {
+
+    /**
+     * 同一毫秒内最多的 ID 数量（4096）。
+     */
+    private static final int MAX_SEQUENCE_COUNT = (int) SEQUENCE_MASK + 1;
+
+    /**
+     * 高位为最后一次使用的毫秒时间戳，低 12 位为这一毫秒内最后一次使用的序列号。
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * 无锁的雪花算法 ID 生成器。
+     */
+    public AtomicSnowFlakeIDKeyGenerator() {
+        super();
+    }
+
+    /**
+     * 根据 IP 地址计算数据中心 ID 和工作机器 ID 生成数据库 ID。
+     *
+     * @param address IP 地址
+     */
+    public AtomicSnowFlakeIDKeyGenerator(InetAddress address) {
+        super(address);
+    }
+
+    /**
+     * 根据数据中心 ID 和工作机器 ID 生成数据库 ID。
+     *
+     * @param workerId     工作机器 ID
+     * @param dataCenterId 数据中心 ID
+     */
+    public AtomicSnowFlakeIDKeyGenerator(long workerId, long dataCenterId) {
+        super(workerId, dataCenterId);
+    }
+
+    @Override
+    public Object[] generate(int count, String keyColumn) {
+        Object[] ids = new Object[count];
+        int index = 0;
+        while (index < count) {
+            int size = Math.min(count - index, MAX_SEQUENCE_COUNT);
+            long firstId = reserve(size);
+            for (int i = 0; i < size; i++) {
+                ids[index++] = firstId + i;
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 获取下一个 ID。
+     */
+    @Override
+    public long nextId() {
+        return reserve(1);
+    }
+
+    /**
+     * 预留同一毫秒内连续的 {@code count} 个序列号。
+     *
+     * @param count 数量，不能大于 4096
+     * @return 第一个 ID，其余 ID 依次加 1
+     */
+    public long reserve(int count) {
+        if (count <= 0 || count > MAX_SEQUENCE_COUNT) {
+            throw new IllegalArgumentException("count must be between 1 and " + MAX_SEQUENCE_COUNT + ", current value is: " + count);
+        }
+        for (; ; ) {
+            long current = state.get();
+            long lastTimeMillis = current >>> SEQUENCE_BITS;
+            long lastSequence = current & SEQUENCE_MASK;
+
+            // 必须在读取 state 之后读取时间，否则其他线程更新的时间戳可能大于当前时间，被误判为时钟回拨
+            long currentTimeMillis = System.currentTimeMillis();
+            if (currentTimeMillis < lastTimeMillis) {
+                currentTimeMillis = waitClockBackwards(currentTimeMillis, lastTimeMillis);
+            }
+
+            long firstSequence;
+            if (currentTimeMillis > lastTimeMillis) {
+                // 不同毫秒内，序列号从 0 开始
+                firstSequence = 0;
+            } else if (lastSequence + count <= SEQUENCE_MASK) {
+                // 相同毫秒内，序列号自增
+                firstSequence = lastSequence + 1;
+            } else {
+                // 同一毫秒的序列数已经达到最大，等待下一毫秒
+                Thread.yield();
+                continue;
+            }
+
+            long next = (currentTimeMillis << SEQUENCE_BITS) | (firstSequence + count - 1);
+            if (state.compareAndSet(current, next)) {
+                // 时间戳部分 | 数据中心部分 | 机器标识部分 | 序列号部分
+                return ((currentTimeMillis - getTwepoch()) << TIMESTAMP_SHIFT)
+                    | (getDataCenterId() << DATA_CENTER_ID_SHIFT)
+                    | (getWorkerId() << WORK_ID_SHIFT)
+                    | firstSequence;
+            }
+        }
+    }
+
+    /**
+     * 当前时间小于上一次生成 ID 使用的时间，可能出现服务器时钟回拨问题，在可容忍的时间差值之内等待时间恢复正常。
+     */
+    private long waitClockBackwards(long currentTimeMillis, long lastTimeMillis) {
+        long offset = lastTimeMillis - currentTimeMillis;
+        if (offset <= getOffsetPeriod()) {
+            try {
+                Thread.sleep(offset << 1L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw FlexExceptions.wrap(e);
+            }
+            currentTimeMillis = System.currentTimeMillis();
+            if (currentTimeMillis >= lastTimeMillis) {
+                return currentTimeMillis;
+            }
+        }
+        throw FlexExceptions.wrap("Clock moved backwards, please check the time. Current timestamp: %d, last used timestamp: %d", currentTimeMillis, lastTimeMillis);
+    }
+
+    @Override
+    public long getSequence() {
+        return state.get() & SEQUENCE_MASK;
+    }
+
+    @Override
+    public void setSequence(long sequence) {
+        state.set((getLastTimeMillis() << SEQUENCE_BITS) | (sequence & SEQUENCE_MASK));
+    }
+
+    @Override
+    public long getLastTimeMillis() {
+        return state.get() >>> SEQUENCE_BITS;
+    }
+
+    @Override
+    public void setLastTimeMillis(long lastTimeMillis) {
+        state.set((Math.max(lastTimeMillis, 0) << SEQUENCE_BITS) | getSequence());
+    }
+
+}
@@ -52,7 +52,7 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
     /**
      * 序号占用的位数（12bit）。
      */
-    private static final long SEQUENCE_BITS = 12L;
+    static final long SEQUENCE_BITS = 12L;
     /**
      * 工作机器 ID 占用 5bit 时的最大值 31。
      */
@@ -64,19 +64,19 @@ public class SnowFlakeIDKeyGenerator implements IKeyGenerator {
     /**
      * 序号掩码，用于与自增后的序列号进行位“与”操作，如果值为 0，则代表自增后的序列号超过了 4095。
      */
-    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+    static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
     /**
      * 工作机器 ID 位需要左移的位数（12bit）。
      */
-    private static final long WORK_ID_SHIFT = SEQUENCE_BITS;
+    static final long WORK_ID_SHIFT = SEQUENCE_BITS;
     /**
      * 数据中心 ID 位需要左移的位数（12bit + 5bit）。
      */
-    private static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
+    static final long DATA_CENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
     /**
      * 时间戳需要左移的位数（12bit + 5bit + 5bit）。
      */
-    private static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
+    static final long TIMESTAMP_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS + DATA_CENTER_ID_BITS;
     /**
      * 时间起始标记点，一旦确定不能变动（2023-04-02 13:01:00）。
      */
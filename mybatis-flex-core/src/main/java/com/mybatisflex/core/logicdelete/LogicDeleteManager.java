@@ -15,6 +15,8 @@
  */
 package com.mybatisflex.core.logicdelete;
 
+import com.mybatisflex.core.FlexContext;
+import com.mybatisflex.core.dialect.SqlTemplateCache;
 import com.mybatisflex.core.logicdelete.impl.DefaultLogicDeleteProcessor;
 
 import java.util.function.Supplier;
@@ -28,7 +30,6 @@ public class LogicDeleteManager {
     }
 
     private static LogicDeleteProcessor processor = new DefaultLogicDeleteProcessor();
-    private static final ThreadLocal<Boolean> skipFlags = new ThreadLocal<>();
 
     /**
      * 获取逻辑删除处理器。
@@ -46,6 +47,8 @@ public class LogicDeleteManager {
      */
     public static void setProcessor(LogicDeleteProcessor processor) {
         LogicDeleteManager.processor = processor;
+        // 逻辑删除条件会被缓存在 SQL 模板中
+        SqlTemplateCache.clear();
     }
 
     /**
@@ -76,14 +79,23 @@ public class LogicDeleteManager {
      * 跳过逻辑删除字段处理。
      */
     public static void skipLogicDelete() {
-        skipFlags.set(Boolean.TRUE);
+        FlexContext.set(FlexContext.current().withSkipLogicDelete(true));
     }
 
     /**
      * 恢复逻辑删除字段处理。
      */
     public static void restoreLogicDelete() {
-        skipFlags.remove();
+        FlexContext.set(FlexContext.current().withSkipLogicDelete(false));
+    }
+
+    /**
+     * 当前线程是否跳过逻辑删除字段处理。
+     *
+     * @return {@code true} 跳过
+     */
+    public static boolean isSkipLogicDelete() {
+        return FlexContext.current().isSkipLogicDelete();
     }
 
     /**
@@ -96,11 +108,7 @@ public class LogicDeleteManager {
         if (logicDeleteColumn == null) {
             return null;
         }
-        Boolean skipFlag = skipFlags.get();
-        if (skipFlag == null) {
-            return logicDeleteColumn;
-        }
-        return skipFlag ? null : logicDeleteColumn;
+        return FlexContext.current().isSkipLogicDelete() ? null : logicDeleteColumn;
     }
 
 }
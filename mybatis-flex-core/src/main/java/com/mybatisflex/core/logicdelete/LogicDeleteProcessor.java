@@ -64,6 +64,18 @@ public interface LogicDeleteProcessor {
      */
     Object getLogicDeletedValue();
 
+    /**
+     * 每次生成的逻辑删除条件和删除内容是否都相同。只有相同时，包含逻辑删除的实体 SQL 才会被缓存，
+     * 删除标记值与当前时间、上下文等有关时需要返回 {@code false}。
+     *
+     * <p>内置的处理器只有在没有被继承时才返回 {@code true}，继承它们的子类需要自行重写该方法。
+     *
+     * @return 默认为 {@code false}
+     */
+    default boolean isConstant() {
+        return false;
+    }
+
 }
 
 
@@ -42,4 +42,9 @@ public class BooleanLogicDeleteProcessor extends AbstractLogicDeleteProcessor {
         return true;
     }
 
+    @Override
+    public boolean isConstant() {
+        return getClass() == BooleanLogicDeleteProcessor.class;
+    }
+
 }
@@ -34,4 +34,9 @@ public class DateTimeLogicDeleteProcessor extends NullableColumnLogicDeleteProce
         return "NOW()";
     }
 
+    @Override
+    public boolean isConstant() {
+        return getClass() == DateTimeLogicDeleteProcessor.class;
+    }
+
 }
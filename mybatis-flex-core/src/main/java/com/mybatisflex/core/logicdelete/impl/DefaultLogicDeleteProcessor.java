@@ -56,6 +56,9 @@ public class DefaultLogicDeleteProcessor extends AbstractLogicDeleteProcessor {
         return SINGLE_QUOTE + value + SINGLE_QUOTE;
     }
 
-}
-
+    @Override
+    public boolean isConstant() {
+        return getClass() == DefaultLogicDeleteProcessor.class;
+    }
 
+}
@@ -42,4 +42,9 @@ public class IntegerLogicDeleteProcessor extends AbstractLogicDeleteProcessor {
         return 1;
     }
 
+    @Override
+    public boolean isConstant() {
+        return getClass() == IntegerLogicDeleteProcessor.class;
+    }
+
 }
@@ -51,4 +51,9 @@ public class PrimaryKeyLogicDeleteProcessor extends NullableColumnLogicDeletePro
         return null;
     }
 
+    @Override
+    public boolean isConstant() {
+        return getClass() == PrimaryKeyLogicDeleteProcessor.class;
+    }
+
 }
@@ -15,6 +15,8 @@
  */
 package com.mybatisflex.core.mask;
 
+import com.mybatisflex.core.FlexContext;
+
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,8 +35,6 @@ public class MaskManager {
      */
     private static final Map<String, MaskProcessor> processorMap = new HashMap<>();
 
-    private static final ThreadLocal<Boolean> skipFlags = new ThreadLocal<>();
-
 
     static {
         registerMaskProcessor(Masks.MOBILE, Masks.MOBILE_PROCESSOR);
@@ -91,7 +91,7 @@ public class MaskManager {
      * 跳过脱敏处理
      */
     public static void skipMask() {
-        skipFlags.set(Boolean.TRUE);
+        FlexContext.set(FlexContext.current().withSkipMask(true));
     }
 
 
@@ -99,13 +99,12 @@ public class MaskManager {
      * 恢复脱敏处理
      */
     public static void restoreMask() {
-        skipFlags.remove();
+        FlexContext.set(FlexContext.current().withSkipMask(false));
     }
 
 
     public static Object mask(String type, Object data) {
-        Boolean skipMask = skipFlags.get();
-        if (skipMask != null && skipMask) {
+        if (FlexContext.current().isSkipMask()) {
             return data;
         }
 
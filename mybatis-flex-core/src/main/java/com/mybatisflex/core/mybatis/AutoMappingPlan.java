@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import com.mybatisflex.core.row.CompactRow;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.row.RowCPI;
+import com.mybatisflex.core.row.RowHeader;
+import com.mybatisflex.core.table.EntityAccessor;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.ReflectionException;
+import org.apache.ibatis.reflection.Reflector;
+import org.apache.ibatis.reflection.invoker.Invoker;
+import org.apache.ibatis.reflection.wrapper.DefaultObjectWrapperFactory;
+import org.apache.ibatis.reflection.wrapper.ObjectWrapperFactory;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 自动映射计划，保存结果集中未在 ResultMap 配置的列与属性的对应关系。
+ *
+ * <p>创建时为每一列预先绑定属性的 setter：优先使用 APT 生成的 {@link EntityAccessor}，否则使用 MyBatis
+ * {@link Reflector} 中的 {@link Invoker}，映射每一行数据时不再通过 {@link MetaObject} 解析属性。
+ * 结果对象的类型与计划不一致（例如懒加载代理对象）或者属性为嵌套属性时，依然通过 {@link MetaObject} 设置属性。
+ * 结果对象为 {@link CompactRow} 时，一次性读取整行数据。
+ */
+class AutoMappingPlan {
+
+    private final Slot[] slots;
+
+    /**
+     * 可以直接设置属性的结果对象类型，为 {@code null} 时全部通过 {@link MetaObject} 设置
+     */
+    private final Class<?> type;
+
+    /**
+     * 使用 {@link FlexWrapperFactory} 时需要调用实体类的 SetListener
+     */
+    private final TableInfo tableInfo;
+
+    private final EntityAccessor<Object> entityAccessor;
+
+    /**
+     * 结果类型为 {@link Row} 时，同一个结果集的 {@link CompactRow} 共享的列头
+     */
+    private final RowHeader rowHeader;
+    private final int[] rowPositions;
+
+    AutoMappingPlan(Configuration configuration, Class<?> resultType, List<Slot> slots) {
+        this.slots = slots.toArray(new Slot[0]);
+
+        if (resultType == Row.class && this.slots.length > 0) {
+            List<String> columns = new ArrayList<>(this.slots.length);
+            for (Slot slot : this.slots) {
+                columns.add(slot.property);
+            }
+            this.rowPositions = new int[this.slots.length];
+            this.rowHeader = RowHeader.ofResultColumns(columns, rowPositions);
+        } else {
+            this.rowPositions = null;
+            this.rowHeader = null;
+        }
+
+        ObjectWrapperFactory objectWrapperFactory = configuration.getObjectWrapperFactory();
+        boolean flexWrapper = objectWrapperFactory.getClass() == FlexWrapperFactory.class;
+        if (this.slots.length == 0
+            || resultType == null
+            || resultType.isInterface()
+            || Map.class.isAssignableFrom(resultType)
+            || Collection.class.isAssignableFrom(resultType)
+            || !flexWrapper && objectWrapperFactory.getClass() != DefaultObjectWrapperFactory.class) {
+            this.type = null;
+            this.tableInfo = null;
+            this.entityAccessor = null;
+            return;
+        }
+
+        this.type = resultType;
+        this.tableInfo = flexWrapper ? TableInfoFactory.ofEntityClass(resultType) : null;
+        this.entityAccessor = tableInfo != null ? tableInfo.getEntityAccessor() : null;
+
+        Reflector reflector = configuration.getReflectorFactory().findForClass(resultType);
+        String[] accessorProperties = entityAccessor != null ? entityAccessor.getProperties() : new String[0];
+        for (int i = 0; i < this.slots.length; i++) {
+            Slot slot = this.slots[i];
+            if (slot.property.indexOf('.') >= 0 || slot.property.indexOf('[') >= 0 || !reflector.hasSetter(slot.property)) {
+                continue;
+            }
+            int accessorIndex = -1;
+            for (int j = 0; j < accessorProperties.length; j++) {
+                if (accessorProperties[j].equals(slot.property)) {
+                    accessorIndex = j;
+                    break;
+                }
+            }
+            this.slots[i] = new Slot(slot, accessorIndex, reflector.getSetInvoker(slot.property));
+        }
+    }
+
+    boolean isEmpty() {
+        return slots.length == 0;
+    }
+
+    /**
+     * 读取当前行的数据并设置到结果对象中。
+     *
+     * @param rs                 结果集
+     * @param metaObject         结果对象
+     * @param callSettersOnNulls 值为 {@code null} 时是否调用 setter
+     * @return 是否读取到了不为 {@code null} 的值
+     */
+    boolean apply(ResultSet rs, MetaObject metaObject, boolean callSettersOnNulls) throws SQLException {
+        Object object = metaObject.getOriginalObject();
+        if (rowHeader != null && object.getClass() == CompactRow.class && ((CompactRow) object).isEmpty()) {
+            return applyCompactRow(rs, (CompactRow) object, callSettersOnNulls);
+        }
+        boolean direct = type != null && object.getClass() == type;
+        boolean foundValues = false;
+        for (Slot slot : slots) {
+            final Object value = slot.typeHandler.getResult(rs, slot.column);
+            if (value != null) {
+                foundValues = true;
+            }
+            if (value != null || callSettersOnNulls && !slot.primitive) {
+                // gcode issue #377, call setter on nulls (value is not 'found')
+                if (direct && slot.setInvoker != null) {
+                    setValue(object, slot, value);
+                } else {
+                    metaObject.setValue(slot.property, value);
+                }
+            }
+        }
+        return foundValues;
+    }
+
+    private boolean applyCompactRow(ResultSet rs, CompactRow row, boolean callSettersOnNulls) throws SQLException {
+        Object[] values = RowCPI.newCompactValues(rowHeader);
+        boolean foundValues = false;
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            final Object value = slot.typeHandler.getResult(rs, slot.column);
+            if (value != null) {
+                foundValues = true;
+            }
+            if (value != null || callSettersOnNulls && !slot.primitive) {
+                values[rowPositions[i]] = value;
+            }
+        }
+        RowCPI.initCompactRow(row, rowHeader, values);
+        return foundValues;
+    }
+
+    private void setValue(Object object, Slot slot, Object value) {
+        if (tableInfo != null) {
+            value = tableInfo.invokeOnSetListener(object, slot.property, value);
+        }
+        if (slot.accessorIndex >= 0) {
+            try {
+                entityAccessor.set(object, slot.accessorIndex, value);
+                return;
+            } catch (UnsupportedOperationException e) {
+                // APT 没有找到 setter 方法，使用反射。计划会被多个线程共享，这里不修改 slot
+            }
+        }
+        try {
+            slot.setInvoker.invoke(object, new Object[]{value});
+        } catch (Throwable t) {
+            Throwable cause = ExceptionUtil.unwrapThrowable(t);
+            throw new ReflectionException("Could not set property '" + slot.property + "' of '" + object.getClass()
+                + "' with value '" + value + "' Cause: " + cause, cause);
+        }
+    }
+
+
+    static class Slot {
+
+        private final String column;
+        private final String property;
+        private final TypeHandler<?> typeHandler;
+        private final boolean primitive;
+
+        private final Invoker setInvoker;
+        private final int accessorIndex;
+
+        Slot(String column, String property, TypeHandler<?> typeHandler, boolean primitive) {
+            this.column = column;
+            this.property = property;
+            this.typeHandler = typeHandler;
+            this.primitive = primitive;
+            this.setInvoker = null;
+            this.accessorIndex = -1;
+        }
+
+        private Slot(Slot slot, int accessorIndex, Invoker setInvoker) {
+            this.column = slot.column;
+            this.property = slot.property;
+            this.typeHandler = slot.typeHandler;
+            this.primitive = slot.primitive;
+            this.setInvoker = setInvoker;
+            this.accessorIndex = accessorIndex;
+        }
+
+    }
+
+}
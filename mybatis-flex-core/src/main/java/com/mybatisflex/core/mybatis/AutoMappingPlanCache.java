@@ -0,0 +1,162 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import org.apache.ibatis.executor.resultset.ResultSetWrapper;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.type.JdbcType;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 自动映射计划缓存。
+ *
+ * <p>{@link FlexDefaultResultSetHandler} 每次执行查询都会重新创建，列和属性的对应关系、TypeHandler 等都需要重新解析。
+ * 该缓存以 ResultMap、列前缀、结果对象的类型以及结果集的列名、JDBC 类型为 key，全局缓存解析后的 {@link AutoMappingPlan}，
+ * 相同结构的结果集只需要解析一次。缓存使用 LRU 策略淘汰。
+ */
+public class AutoMappingPlanCache {
+
+    private AutoMappingPlanCache() {
+    }
+
+    private static volatile boolean enable = true;
+
+    private static volatile int maxSize = 1024;
+
+    private static final Map<Key, AutoMappingPlan> cache = new LinkedHashMap<Key, AutoMappingPlan>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, AutoMappingPlan> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    public static boolean isEnable() {
+        return enable;
+    }
+
+    public static void setEnable(boolean enable) {
+        AutoMappingPlanCache.enable = enable;
+        clear();
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    public static void setMaxSize(int maxSize) {
+        AutoMappingPlanCache.maxSize = maxSize;
+        clear();
+    }
+
+    /**
+     * 清空缓存，修改了 TypeHandler 或者 SetListener 等配置后需要调用。
+     */
+    public static void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public static int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    static Key createKey(ResultMap resultMap, String columnPrefix, MetaObject metaObject, ResultSetWrapper rsw,
+                         boolean mapUnderscoreToCamelCase) {
+        // 属性的解析依赖于结果对象（例如 Row 与 CompactRow、实体类与其代理类），需要区分
+        return new Key(resultMap, columnPrefix, metaObject.getOriginalObject().getClass(), rsw.getColumnNames(),
+            rsw.getJdbcTypes(), rsw.getClassNames(), mapUnderscoreToCamelCase);
+    }
+
+    static AutoMappingPlan get(Key key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    static void put(Key key, AutoMappingPlan plan) {
+        synchronized (cache) {
+            cache.put(key, plan);
+        }
+    }
+
+
+    static final class Key {
+
+        private final ResultMap resultMap;
+        private final String columnPrefix;
+        private final Class<?> objectClass;
+        private final List<String> columnNames;
+        private final List<JdbcType> jdbcTypes;
+        private final List<String> classNames;
+        private final boolean mapUnderscoreToCamelCase;
+        private final int hashCode;
+
+        Key(ResultMap resultMap, String columnPrefix, Class<?> objectClass, List<String> columnNames, List<JdbcType> jdbcTypes,
+            List<String> classNames, boolean mapUnderscoreToCamelCase) {
+            this.resultMap = resultMap;
+            this.columnPrefix = columnPrefix;
+            this.objectClass = objectClass;
+            this.columnNames = columnNames;
+            this.jdbcTypes = jdbcTypes;
+            this.classNames = classNames;
+            this.mapUnderscoreToCamelCase = mapUnderscoreToCamelCase;
+
+            int result = System.identityHashCode(resultMap);
+            result = 31 * result + Objects.hashCode(columnPrefix);
+            result = 31 * result + objectClass.hashCode();
+            result = 31 * result + columnNames.hashCode();
+            result = 31 * result + jdbcTypes.hashCode();
+            result = 31 * result + classNames.hashCode();
+            result = 31 * result + (mapUnderscoreToCamelCase ? 1 : 0);
+            this.hashCode = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            // ResultMap 缓存在 Configuration 中，直接比较引用
+            return hashCode == key.hashCode
+                && resultMap == key.resultMap
+                && objectClass == key.objectClass
+                && mapUnderscoreToCamelCase == key.mapUnderscoreToCamelCase
+                && Objects.equals(columnPrefix, key.columnPrefix)
+                && columnNames.equals(key.columnNames)
+                && jdbcTypes.equals(key.jdbcTypes)
+                && classNames.equals(key.classNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+    }
+
+}
@@ -24,6 +24,7 @@ import com.mybatisflex.core.keygen.MybatisKeyGeneratorUtil;
 import com.mybatisflex.core.keygen.RowKeyGenerator;
 import com.mybatisflex.core.mybatis.binding.FlexMapperRegistry;
 import com.mybatisflex.core.mybatis.executor.FlexBatchExecutor;
+import com.mybatisflex.core.mybatis.executor.FlexCachingExecutor;
 import com.mybatisflex.core.mybatis.executor.FlexReuseExecutor;
 import com.mybatisflex.core.mybatis.executor.FlexSimpleExecutor;
 import com.mybatisflex.core.table.TableInfo;
@@ -31,7 +32,6 @@ import com.mybatisflex.core.table.TableInfoFactory;
 import com.mybatisflex.core.util.MapUtil;
 import com.mybatisflex.core.util.StringUtil;
 import org.apache.ibatis.binding.MapperRegistry;
-import org.apache.ibatis.executor.CachingExecutor;
 import org.apache.ibatis.executor.Executor;
 import org.apache.ibatis.executor.keygen.KeyGenerator;
 import org.apache.ibatis.executor.keygen.NoKeyGenerator;
@@ -131,7 +131,7 @@ public class FlexConfiguration extends Configuration {
             executor = new FlexSimpleExecutor(this, transaction);
         }
         if (cacheEnabled) {
-            executor = new CachingExecutor(executor);
+            executor = new FlexCachingExecutor(executor);
         }
         executor = (Executor) interceptorChain.pluginAll(executor);
         return executor;
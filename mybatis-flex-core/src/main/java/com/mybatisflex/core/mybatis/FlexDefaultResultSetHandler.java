@@ -16,6 +16,9 @@
 package com.mybatisflex.core.mybatis;
 
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.row.CompactRow;
+import com.mybatisflex.core.row.CompactRowManager;
+import com.mybatisflex.core.row.Row;
 import com.mybatisflex.core.util.MapUtil;
 import org.apache.ibatis.annotations.AutomapConstructor;
 import org.apache.ibatis.annotations.Param;
@@ -89,7 +92,7 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
     private final Map<CacheKey, List<PendingRelation>> pendingRelations = new HashMap<>();
 
     // Cached Automappings
-    private final Map<String, List<UnMappedColumnAutoMapping>> autoMappingsCache = new HashMap<>();
+    private final Map<String, AutoMappingPlan> autoMappingsCache = new HashMap<>();
     private final Map<String, List<String>> constructorAutoMappingColumns = new HashMap<>();
 
     // temporary marking flag that indicate using constructor mapping (use field to reduce memory usage)
@@ -100,20 +103,6 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
         public ResultMapping propertyMapping;
     }
 
-    private static class UnMappedColumnAutoMapping {
-        private final String column;
-        private final String property;
-        private final TypeHandler<?> typeHandler;
-        private final boolean primitive;
-
-        public UnMappedColumnAutoMapping(String column, String property, TypeHandler<?> typeHandler, boolean primitive) {
-            this.column = column;
-            this.property = property;
-            this.typeHandler = typeHandler;
-            this.primitive = primitive;
-        }
-    }
-
     public FlexDefaultResultSetHandler(Executor executor, MappedStatement mappedStatement, ParameterHandler parameterHandler,
                                        ResultHandler<?> resultHandler, BoundSql boundSql, RowBounds rowBounds) {
         super(executor, mappedStatement, parameterHandler, resultHandler, boundSql, rowBounds);
@@ -532,15 +521,28 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
         }
     }
 
-    private List<UnMappedColumnAutoMapping> createAutomaticMappings(ResultSetWrapper rsw, ResultMap resultMap,
-                                                                    MetaObject metaObject, String columnPrefix) throws SQLException {
+    private AutoMappingPlan createAutomaticMappings(ResultSetWrapper rsw, ResultMap resultMap,
+                                                    MetaObject metaObject, String columnPrefix) throws SQLException {
         final String mapKey = resultMap.getId() + ":" + columnPrefix;
-        List<UnMappedColumnAutoMapping> autoMapping = autoMappingsCache.get(mapKey);
-        if (autoMapping == null) {
-            autoMapping = new ArrayList<>();
-            final List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
+        AutoMappingPlan autoMappingPlan = autoMappingsCache.get(mapKey);
+        if (autoMappingPlan == null) {
             // Remove the entry to release the memory
             List<String> mappedInConstructorAutoMapping = constructorAutoMappingColumns.remove(mapKey);
+
+            // 相同结构的结果集使用全局缓存的映射计划
+            AutoMappingPlanCache.Key planKey = null;
+            if (AutoMappingPlanCache.isEnable()) {
+                planKey = AutoMappingPlanCache.createKey(resultMap, columnPrefix, metaObject, rsw,
+                    configuration.isMapUnderscoreToCamelCase());
+                autoMappingPlan = AutoMappingPlanCache.get(planKey);
+                if (autoMappingPlan != null) {
+                    autoMappingsCache.put(mapKey, autoMappingPlan);
+                    return autoMappingPlan;
+                }
+            }
+
+            List<AutoMappingPlan.Slot> autoMapping = new ArrayList<>();
+            final List<String> unmappedColumnNames = rsw.getUnmappedColumnNames(resultMap, columnPrefix);
             if (mappedInConstructorAutoMapping != null) {
                 unmappedColumnNames.removeAll(mappedInConstructorAutoMapping);
             }
@@ -563,7 +565,7 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
                     if (typeHandlerRegistry.hasTypeHandler(propertyType, rsw.getJdbcType(columnName))) {
                         final TypeHandler<?> typeHandler = rsw.getTypeHandler(propertyType, columnName);
                         autoMapping
-                            .add(new UnMappedColumnAutoMapping(columnName, property, typeHandler, propertyType.isPrimitive()));
+                            .add(new AutoMappingPlan.Slot(columnName, property, typeHandler, propertyType.isPrimitive()));
                     } else {
                         configuration.getAutoMappingUnknownColumnBehavior().doAction(mappedStatement, columnName, property,
                             propertyType);
@@ -573,26 +575,21 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
                         property != null ? property : propertyName, null);
                 }
             }
-            autoMappingsCache.put(mapKey, autoMapping);
+            autoMappingPlan = new AutoMappingPlan(configuration, resultMap.getType(), autoMapping);
+            autoMappingsCache.put(mapKey, autoMappingPlan);
+            if (planKey != null) {
+                AutoMappingPlanCache.put(planKey, autoMappingPlan);
+            }
         }
-        return autoMapping;
+        return autoMappingPlan;
     }
 
     private boolean applyAutomaticMappings(ResultSetWrapper rsw, ResultMap resultMap, MetaObject metaObject,
                                            String columnPrefix) throws SQLException {
-        List<UnMappedColumnAutoMapping> autoMapping = createAutomaticMappings(rsw, resultMap, metaObject, columnPrefix);
+        AutoMappingPlan autoMappingPlan = createAutomaticMappings(rsw, resultMap, metaObject, columnPrefix);
         boolean foundValues = false;
-        if (!autoMapping.isEmpty()) {
-            for (UnMappedColumnAutoMapping mapping : autoMapping) {
-                final Object value = mapping.typeHandler.getResult(rsw.getResultSet(), mapping.column);
-                if (value != null) {
-                    foundValues = true;
-                }
-                if (value != null || configuration.isCallSettersOnNulls() && !mapping.primitive) {
-                    // gcode issue #377, call setter on nulls (value is not 'found')
-                    metaObject.setValue(mapping.property, value);
-                }
-            }
+        if (!autoMappingPlan.isEmpty()) {
+            foundValues = autoMappingPlan.apply(rsw.getResultSet(), metaObject, configuration.isCallSettersOnNulls());
         } else {
             UnMappedColumnHandler unMappedColumnHandler = FlexGlobalConfig.getDefaultConfig().getUnMappedColumnHandler();
             if (unMappedColumnHandler != null) {
@@ -696,6 +693,8 @@ public class FlexDefaultResultSetHandler extends DefaultResultSetHandler {
         if (!constructorMappings.isEmpty()) {
             return createParameterizedResultObject(rsw, resultType, constructorMappings, constructorArgTypes, constructorArgs,
                 columnPrefix);
+        } else if (resultType == Row.class && CompactRowManager.isCompact()) {
+            return new CompactRow();
         } else if (resultType.isInterface() || metaType.hasDefaultConstructor()) {
             return objectFactory.create(resultType);
         } else if (shouldApplyAutomaticMappings(resultMap, false)) {
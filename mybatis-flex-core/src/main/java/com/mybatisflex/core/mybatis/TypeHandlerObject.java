@@ -54,6 +54,14 @@ public class TypeHandlerObject implements Serializable {
         return value;
     }
 
+    public TypeHandler getTypeHandler() {
+        return typeHandler;
+    }
+
+    public JdbcType getJdbcType() {
+        return jdbcType;
+    }
+
     @Override
     public String toString() {
         return "TypeHandlerObject{"
@@ -16,21 +16,28 @@
 package com.mybatisflex.core.mybatis.binding;
 
 import com.mybatisflex.annotation.UseDataSource;
+import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.cache.QueryResultCacheKey;
+import com.mybatisflex.core.cache.QueryResultCacheManager;
 import com.mybatisflex.core.datasource.DataSourceKey;
 import com.mybatisflex.core.datasource.FlexDataSource;
 import com.mybatisflex.core.dialect.DbType;
 import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.mybatis.FlexConfiguration;
+import com.mybatisflex.core.paginate.CountCacheManager;
 import com.mybatisflex.core.row.RowMapper;
 import com.mybatisflex.core.table.TableInfo;
 import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.relation.RelationManager;
 import com.mybatisflex.core.util.StringUtil;
+import org.apache.ibatis.mapping.SqlCommandType;
 import org.apache.ibatis.reflection.ExceptionUtil;
 import org.apache.ibatis.session.SqlSession;
 
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.Set;
 
 public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
     private final FlexDataSource dataSource;
@@ -87,7 +94,13 @@ public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
                 needClearDbType = true;
                 DialectFactory.setHintDbType(hintDbType);
             }
-            return cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+            Object result = QueryResultCacheManager.isEnable()
+                ? invokeWithResultCache(proxy, method, args)
+                : cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+            if (CountCacheManager.isEnable()) {
+                invalidateCountCache(method, proxy, args, finalDsKey);
+            }
+            return result;
         } catch (Throwable e) {
             throw ExceptionUtil.unwrapThrowable(e);
         } finally {
@@ -106,6 +119,103 @@ public class FlexMapperProxy<T> extends MybatisMapperProxy<T> {
     }
 
 
+    /**
+     * 使用查询结果缓存执行 Mapper 方法。
+     *
+     * <p>default 方法（例如关联查询）中执行的查询不单独缓存，只记录使用的表，由最外层的方法缓存结果，
+     * 避免缓存的对象被关联查询修改。
+     */
+    private Object invokeWithResultCache(Object proxy, Method method, Object[] args) throws Throwable {
+        Class<T> mapperInterface = getMapperInterface();
+        boolean inScope = QueryResultCacheManager.currentScope() != null;
+        if (!method.isDefault()) {
+            SqlCommandType commandType = QueryResultCacheManager.getSqlCommandType(sqlSession.getConfiguration(), mapperInterface, method);
+            if (commandType != SqlCommandType.SELECT) {
+                try {
+                    return cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+                } finally {
+                    QueryResultCacheManager.invalidate(QueryResultCacheManager.getTableNames(mapperInterface, method, args));
+                }
+            }
+            if (inScope) {
+                QueryResultCacheManager.recordRead(QueryResultCacheManager.getTableNames(mapperInterface, method, args));
+                return cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+            }
+        } else if (inScope) {
+            return cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+        }
+
+        QueryResultCacheKey key = QueryResultCacheManager.createKey(mapperInterface, method, args);
+        if (key != null) {
+            Object cached = QueryResultCacheManager.get(key);
+            if (cached != null) {
+                // 命中时不会执行关联查询，需要清除关联查询的配置
+                if (method.isDefault()) {
+                    RelationManager.clearConfigIfNecessary();
+                }
+                return cached;
+            }
+        }
+
+        long generation = QueryResultCacheManager.getGeneration();
+        if (!method.isDefault()) {
+            Object result = cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+            if (key != null) {
+                QueryResultCacheManager.put(key, result, QueryResultCacheManager.getTableNames(mapperInterface, method, args), generation);
+            }
+            return result;
+        }
+
+        Object result;
+        Set<String> tableNames;
+        QueryResultCacheManager.beginScope();
+        try {
+            result = cachedInvoker(method).invoke(proxy, method, args, sqlSession);
+        } finally {
+            tableNames = QueryResultCacheManager.endScope();
+        }
+        if (key != null) {
+            QueryResultCacheManager.put(key, result, tableNames, generation);
+        }
+        return result;
+    }
+
+
+    /**
+     * 插入、删除数据后，移除分页总数缓存，在事务中时等到事务提交后再移除。
+     */
+    private void invalidateCountCache(Method method, Object proxy, Object[] args, String dsKey) {
+        if (method.isDefault()) {
+            return;
+        }
+        String methodName = method.getName();
+        boolean insertOrDelete = methodName.startsWith("insert") || methodName.startsWith("delete");
+
+        Class<?> mapperInterface = proxy.getClass().getInterfaces()[0];
+        if (mapperInterface == RowMapper.class) {
+            // insertBySql、updateBySql、deleteBySql 无法确定修改的表
+            if (methodName.endsWith("BySql") && !methodName.startsWith("select")) {
+                CountCacheManager.invalidateAll();
+            } else if (insertOrDelete && args != null && args.length > 1 && args[1] instanceof String) {
+                CountCacheManager.invalidate(dsKey, args[0] instanceof String ? (String) args[0] : null, (String) args[1]);
+            }
+        } else if (method.getDeclaringClass() == BaseMapper.class) {
+            if (insertOrDelete) {
+                TableInfo tableInfo = TableInfoFactory.ofMapperClass(mapperInterface);
+                if (tableInfo != null) {
+                    CountCacheManager.invalidate(dsKey, tableInfo.getSchema(), tableInfo.getTableName());
+                }
+            }
+        } else {
+            // 自定义的 XML 或注解方法无法确定修改的表
+            SqlCommandType commandType = QueryResultCacheManager.getSqlCommandType(sqlSession.getConfiguration(), mapperInterface, method);
+            if (commandType == SqlCommandType.INSERT || commandType == SqlCommandType.UPDATE || commandType == SqlCommandType.DELETE) {
+                CountCacheManager.invalidateAll();
+            }
+        }
+    }
+
+
     private static String getMethodDsKey(Method method, Object proxy) {
         UseDataSource methodAnno = method.getAnnotation(UseDataSource.class);
         if (methodAnno != null && StringUtil.hasText(methodAnno.value())) {
@@ -55,6 +55,14 @@ public class MybatisMapperProxy<T> implements InvocationHandler, Serializable {
         this.methodCache = methodCache;
     }
 
+    public SqlSession getSqlSession() {
+        return sqlSession;
+    }
+
+    public Class<T> getMapperInterface() {
+        return mapperInterface;
+    }
+
     static {
         Method privateLookupIn;
         try {
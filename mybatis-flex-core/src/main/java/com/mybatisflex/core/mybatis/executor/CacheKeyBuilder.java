@@ -16,18 +16,58 @@
 package com.mybatisflex.core.mybatis.executor;
 
 import com.mybatisflex.core.FlexConsts;
+import com.mybatisflex.core.mybatis.TypeHandlerObject;
 import org.apache.ibatis.cache.CacheKey;
 
-import java.util.Arrays;
+import java.util.Collection;
 import java.util.Map;
 
 public interface CacheKeyBuilder {
 
     default CacheKey buildCacheKey(CacheKey cacheKey, Object parameterObject) {
         if (parameterObject instanceof Map && ((Map) parameterObject).containsKey(FlexConsts.SQL_ARGS)) {
-            cacheKey.update(Arrays.toString((Object[]) ((Map<?, ?>) parameterObject).get(FlexConsts.SQL_ARGS)));
+            Object[] args = (Object[]) ((Map<?, ?>) parameterObject).get(FlexConsts.SQL_ARGS);
+            cacheKey.update(new SqlArgsKey(normalize(args)));
         }
         return cacheKey;
     }
 
+    /**
+     * 把参数转换为可以按内容比较的数组：{@link TypeHandlerObject} 转换为 TypeHandler 的类型、JdbcType 和原始值组成的数组，
+     * 相同的值使用不同的 TypeHandler 时 key 不相等；集合转换为数组，数组中的元素同样处理。不需要转换时返回原数组。
+     *
+     * @param args 参数
+     * @return 转换后的参数
+     */
+    static Object[] normalize(Object[] args) {
+        if (args == null) {
+            return null;
+        }
+        Object[] normalized = args;
+        for (int i = 0; i < args.length; i++) {
+            Object arg = args[i];
+            // 大部分参数是数字和字符串，避免对它们做接口类型的 instanceof 判断
+            if (arg == null || arg instanceof Number || arg.getClass() == String.class) {
+                continue;
+            }
+            Object value = arg;
+            if (value instanceof TypeHandlerObject) {
+                TypeHandlerObject typeHandlerObject = (TypeHandlerObject) value;
+                value = normalize(new Object[]{typeHandlerObject.getTypeHandler().getClass()
+                    , typeHandlerObject.getJdbcType(), typeHandlerObject.getValue()});
+            } else if (value instanceof Collection) {
+                value = normalize(((Collection<?>) value).toArray());
+            } else if (value instanceof Object[]) {
+                value = normalize((Object[]) value);
+            }
+            if (value != arg) {
+                if (normalized == args) {
+                    normalized = args.clone();
+                }
+                normalized[i] = value;
+            }
+        }
+        return normalized;
+    }
+
 }
@@ -52,6 +52,9 @@ public class FlexBatchExecutor extends BatchExecutor implements CacheKeyBuilder
 
     @Override
     public CacheKey createCacheKey(MappedStatement ms, Object parameterObject, RowBounds rowBounds, BoundSql boundSql) {
+        if (LocalCacheManager.isSkipCacheKey(ms)) {
+            return LocalCacheManager.newUniqueCacheKey();
+        }
         return buildCacheKey(super.createCacheKey(ms, parameterObject, rowBounds, boundSql), parameterObject);
     }
 
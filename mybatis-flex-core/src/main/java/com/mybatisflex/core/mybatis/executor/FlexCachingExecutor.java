@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis.executor;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.CachingExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 二级缓存的 Executor，{@link LocalCacheManager} 设置了跳过缓存 key 的查询不读写二级缓存。
+ */
+public class FlexCachingExecutor extends CachingExecutor {
+
+    private final Executor delegate;
+
+    public FlexCachingExecutor(Executor delegate) {
+        super(delegate);
+        this.delegate = delegate;
+    }
+
+    @Override
+    public <E> List<E> query(MappedStatement ms, Object parameterObject, RowBounds rowBounds, ResultHandler resultHandler
+        , CacheKey key, BoundSql boundSql) throws SQLException {
+        // 需要刷新缓存的查询仍然交给 CachingExecutor 处理
+        if (LocalCacheManager.isSkipCacheKey(ms) && !ms.isFlushCacheRequired()) {
+            return delegate.query(ms, parameterObject, rowBounds, resultHandler, key, boundSql);
+        }
+        return super.query(ms, parameterObject, rowBounds, resultHandler, key, boundSql);
+    }
+
+}
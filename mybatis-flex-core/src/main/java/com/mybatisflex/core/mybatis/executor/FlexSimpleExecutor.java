@@ -31,6 +31,9 @@ public class FlexSimpleExecutor extends SimpleExecutor implements CacheKeyBuilde
 
     @Override
     public CacheKey createCacheKey(MappedStatement ms, Object parameterObject, RowBounds rowBounds, BoundSql boundSql) {
+        if (LocalCacheManager.isSkipCacheKey(ms)) {
+            return LocalCacheManager.newUniqueCacheKey();
+        }
         return buildCacheKey(super.createCacheKey(ms, parameterObject, rowBounds, boundSql), parameterObject);
     }
 
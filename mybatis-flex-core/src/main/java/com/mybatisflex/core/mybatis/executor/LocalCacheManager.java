@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis.executor;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.mapping.MappedStatement;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MyBatis 一级缓存（本地缓存）的 key 配置。
+ *
+ * <p>只执行一次的查询、通过 {@code ResultHandler} 流式处理结果的查询等不会命中一级缓存，但 MyBatis 仍然会为每次查询创建缓存 key。
+ * 可以为这些查询设置跳过缓存 key 的创建，使用一个不会与其他 key 相等的 key，不再计算参数的哈希值。
+ * 跳过后这些查询不读写二级缓存（见 {@link FlexCachingExecutor}）。
+ */
+public class LocalCacheManager {
+
+    private LocalCacheManager() {
+    }
+
+    private static final Set<String> skipStatementIds = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 唯一 key 的前缀和序号，都是可以序列化的值，前缀区分不同的进程
+     */
+    private static final String UNIQUE_KEY_PREFIX = "flex-unique-cache-key:" + UUID.randomUUID();
+    private static final AtomicLong uniqueKeySequence = new AtomicLong();
+
+    /**
+     * 设置查询跳过缓存 key 的创建。
+     *
+     * @param statementId MappedStatement 的 id，例如 {@code com.example.mapper.AccountMapper.selectListByQuery}
+     */
+    public static void skipCacheKey(String statementId) {
+        skipStatementIds.add(statementId);
+    }
+
+    /**
+     * 设置 Mapper 方法跳过缓存 key 的创建。
+     *
+     * @param mapperClass Mapper 接口
+     * @param methodName  方法名，包括从 {@code BaseMapper} 继承的方法
+     */
+    public static void skipCacheKey(Class<?> mapperClass, String methodName) {
+        skipCacheKey(mapperClass.getName() + "." + methodName);
+    }
+
+    /**
+     * 取消跳过缓存 key 的创建。
+     *
+     * @param statementId MappedStatement 的 id
+     */
+    public static void removeSkipCacheKey(String statementId) {
+        skipStatementIds.remove(statementId);
+    }
+
+    public static boolean isSkipCacheKey(MappedStatement ms) {
+        return !skipStatementIds.isEmpty() && skipStatementIds.contains(ms.getId());
+    }
+
+    /**
+     * 创建一个不会与其他 key 相等的缓存 key。
+     */
+    public static CacheKey newUniqueCacheKey() {
+        CacheKey cacheKey = new CacheKey();
+        cacheKey.update(UNIQUE_KEY_PREFIX);
+        cacheKey.update(uniqueKeySequence.incrementAndGet());
+        return cacheKey;
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis.executor;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * SQL 参数在 {@code CacheKey} 中的表示，创建时计算一次哈希值，比较时逐个比较参数（数组按内容比较），不需要把参数拼接为字符串。
+ */
+final class SqlArgsKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Object[] args;
+    private final int hashCode;
+
+    SqlArgsKey(Object[] args) {
+        this.args = args;
+        this.hashCode = Arrays.deepHashCode(args);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SqlArgsKey)) {
+            return false;
+        }
+        SqlArgsKey that = (SqlArgsKey) o;
+        return hashCode == that.hashCode && Arrays.deepEquals(args, that.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.deepToString(args);
+    }
+
+}
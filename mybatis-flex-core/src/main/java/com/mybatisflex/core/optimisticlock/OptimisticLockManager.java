@@ -15,6 +15,8 @@
  */
 package com.mybatisflex.core.optimisticlock;
 
+import com.mybatisflex.core.FlexContext;
+
 import java.util.function.Supplier;
 
 /**
@@ -25,8 +27,6 @@ public class OptimisticLockManager {
     private OptimisticLockManager() {
     }
 
-    private static final ThreadLocal<Boolean> skipFlags = new ThreadLocal<>();
-
     /**
      * 跳过乐观锁字段处理，直接进行数据库物理操作。
      */
@@ -55,14 +55,14 @@ public class OptimisticLockManager {
      * 跳过乐观锁字段处理。
      */
     public static void skipOptimisticLock() {
-        skipFlags.set(Boolean.TRUE);
+        FlexContext.set(FlexContext.current().withSkipOptimisticLock(true));
     }
 
     /**
      * 恢复乐观锁字段处理。
      */
     public static void restoreOptimisticLock() {
-        skipFlags.remove();
+        FlexContext.set(FlexContext.current().withSkipOptimisticLock(false));
     }
 
     /**
@@ -75,11 +75,7 @@ public class OptimisticLockManager {
         if (optimisticLockColumn == null) {
             return null;
         }
-        Boolean skipFlag = skipFlags.get();
-        if (skipFlag == null) {
-            return optimisticLockColumn;
-        }
-        return skipFlag ? null : optimisticLockColumn;
+        return FlexContext.current().isSkipOptimisticLock() ? null : optimisticLockColumn;
     }
 
 }
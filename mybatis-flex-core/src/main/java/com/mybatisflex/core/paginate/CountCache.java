@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.paginate;
+
+/**
+ * 分页查询总数缓存，可以通过 {@link CountCacheManager#setCountCache(CountCache)} 替换为 Redis 等实现。
+ */
+public interface CountCache {
+
+    /**
+     * 获取缓存的总数。
+     *
+     * @param key 缓存 key
+     * @return 总数，不存在或已过期时返回 {@code null}
+     */
+    Long get(CountCacheKey key);
+
+    /**
+     * 缓存总数。
+     *
+     * @param key   缓存 key
+     * @param count 总数
+     */
+    void put(CountCacheKey key, long count);
+
+    /**
+     * 移除查询中包含指定表的缓存，可以通过 {@link CountCacheKey#matches(String, String, String)} 判断。
+     *
+     * @param dataSourceKey 修改数据的数据源，可以为 {@code null}
+     * @param schema        表的 schema，可以为 {@code null}
+     * @param tableName     表名
+     */
+    void invalidate(String dataSourceKey, String schema, String tableName);
+
+    /**
+     * 清空缓存。
+     */
+    void clear();
+
+}
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.paginate;
+
+import com.mybatisflex.core.util.StringUtil;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 分页查询总数缓存的 key，由 COUNT 查询（SQL 或者查询条件的 key）、参数以及数据源组成。
+ */
+public final class CountCacheKey {
+
+    private final Object query;
+    private final Object[] args;
+    private final String dataSourceKey;
+    private final Set<String> tableNames;
+    private final int hashCode;
+
+    /**
+     * @param query         COUNT 查询的 SQL，或者可以代表 COUNT 查询的 key，需要实现 {@code equals} 和 {@code hashCode}
+     * @param args          COUNT 查询参数
+     * @param dataSourceKey 数据源
+     * @param tableNames    查询中使用的表（小写），指定了 schema 的表为 {@code schema.table}
+     */
+    public CountCacheKey(Object query, Object[] args, String dataSourceKey, Set<String> tableNames) {
+        this.query = query;
+        this.args = args;
+        this.dataSourceKey = dataSourceKey;
+        this.tableNames = tableNames;
+        this.hashCode = 31 * (31 * query.hashCode() + Arrays.deepHashCode(args)) + Objects.hashCode(dataSourceKey);
+    }
+
+    public Object getQuery() {
+        return query;
+    }
+
+    public Object[] getArgs() {
+        return args;
+    }
+
+    public String getDataSourceKey() {
+        return dataSourceKey;
+    }
+
+    /**
+     * 查询中使用的表（小写），指定了 schema 的表为 {@code schema.table}，用于在这些表插入、删除数据后移除缓存。
+     */
+    public Set<String> getTableNames() {
+        return tableNames;
+    }
+
+    /**
+     * 数据源中的表插入、删除数据后，是否需要移除该缓存。数据源或 schema 未知时按匹配处理。
+     *
+     * @param dataSourceKey 修改数据的数据源，可以为 {@code null}
+     * @param schema        修改的表的 schema，可以为 {@code null}
+     * @param tableName     修改的表名
+     * @return {@code true} 需要移除
+     */
+    public boolean matches(String dataSourceKey, String schema, String tableName) {
+        if (this.dataSourceKey != null && dataSourceKey != null && !this.dataSourceKey.equals(dataSourceKey)) {
+            return false;
+        }
+        String table = tableName.toLowerCase();
+        if (tableNames.contains(table)) {
+            return true;
+        }
+        if (StringUtil.hasText(schema)) {
+            return tableNames.contains(schema.toLowerCase() + "." + table);
+        }
+        String suffix = "." + table;
+        for (String name : tableNames) {
+            if (name.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof CountCacheKey)) {
+            return false;
+        }
+        CountCacheKey that = (CountCacheKey) o;
+        return hashCode == that.hashCode
+            && query.equals(that.query)
+            && Arrays.deepEquals(args, that.args)
+            && Objects.equals(dataSourceKey, that.dataSourceKey);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "CountCacheKey{" +
+            "query=" + query +
+            ", args=" + Arrays.toString(args) +
+            ", dataSourceKey='" + dataSourceKey + '\'' +
+            '}';
+    }
+
+}
@@ -0,0 +1,316 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.paginate;
+
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.exception.FlexAssert;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.transaction.TransactionContext;
+import com.mybatisflex.core.util.CollectionUtil;
+import com.mybatisflex.core.util.QueryKeyUtil;
+import com.mybatisflex.core.util.StringUtil;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 分页查询总数缓存管理。
+ *
+ * <p>开启后，{@code paginate} 和 {@code xmlPaginate} 在需要查询总数时，会先以 COUNT 查询（{@code paginate} 使用查询条件的结构指纹，
+ * {@code xmlPaginate} 使用 SQL）、参数和数据源为 key 读取缓存，命中后不再执行 COUNT 查询。事务中不使用缓存。
+ *
+ * <p>通过 {@code BaseMapper} 或 {@code Db} 插入、删除数据后，查询中包含该表的缓存会被移除，在事务中时等到事务提交后再移除；
+ * 无法确定修改了哪些表时（例如 {@code Db.updateBySql}、自定义的 XML 方法），移除全部缓存。近似模式下不会移除，只等待缓存过期，
+ * 适合对总数准确性要求不高、写入频繁的场景。
+ *
+ * <p>更新数据可能改变数据是否满足查询条件，但不会被感知，依赖缓存过期时间保证最终一致。
+ */
+public class CountCacheManager {
+
+    private CountCacheManager() {
+    }
+
+    private static volatile boolean enable = false;
+
+    /**
+     * 近似模式，插入、删除数据时不移除缓存
+     */
+    private static volatile boolean approximate = false;
+
+    private static volatile CountCache countCache = new DefaultCountCache();
+
+    /**
+     * 每次移除缓存时加一，COUNT 查询期间有数据被修改时不缓存结果，避免缓存修改前的总数
+     */
+    private static final AtomicLong generation = new AtomicLong();
+
+    private static final LongAdder hitCount = new LongAdder();
+    private static final LongAdder missCount = new LongAdder();
+    private static final LongAdder queryNanos = new LongAdder();
+
+    public static boolean isEnable() {
+        return enable;
+    }
+
+    public static void setEnable(boolean enable) {
+        CountCacheManager.enable = enable;
+        countCache.clear();
+    }
+
+    public static boolean isApproximate() {
+        return approximate;
+    }
+
+    public static void setApproximate(boolean approximate) {
+        CountCacheManager.approximate = approximate;
+    }
+
+    public static CountCache getCountCache() {
+        return countCache;
+    }
+
+    public static void setCountCache(CountCache countCache) {
+        FlexAssert.notNull(countCache, "countCache");
+        CountCacheManager.countCache = countCache;
+    }
+
+    /**
+     * 创建 {@code paginate} 的缓存 key，使用查询条件的结构指纹和参数，不需要生成 COUNT 查询的 SQL。
+     *
+     * @param mapperInterface   Mapper 接口
+     * @param countQueryWrapper COUNT 查询条件
+     * @return 缓存 key，在事务中或者查询条件无法生成结构指纹时返回 {@code null}
+     */
+    public static CountCacheKey createKey(Class<?> mapperInterface, QueryWrapper countQueryWrapper) {
+        // 事务中可能读取到未提交的数据
+        if (TransactionContext.isTransactionActive()) {
+            return null;
+        }
+        Object[] args = new Object[]{countQueryWrapper};
+        Object[] keyArgs = QueryKeyUtil.toKeyArgs(args);
+        Object[] context = keyArgs == null ? null : QueryKeyUtil.getKeyContext(mapperInterface, args);
+        if (context == null) {
+            return null;
+        }
+        Set<String> tableNames = new HashSet<>();
+        QueryKeyUtil.collectTableNames(countQueryWrapper, tableNames, true);
+        if (CollectionUtil.isEmpty(CPI.getQueryTables(countQueryWrapper))) {
+            // 没有指定表时，查询的是 Mapper 对应的表
+            TableInfo tableInfo = TableInfoFactory.ofMapperClass(mapperInterface);
+            if (tableInfo != null) {
+                tableNames.add(tableInfo.getTableNameWithSchema().toLowerCase());
+            }
+        }
+        return new CountCacheKey(Arrays.asList(mapperInterface, Arrays.asList(context)), keyArgs, DataSourceKey.get(), tableNames);
+    }
+
+    /**
+     * 使用 COUNT 查询最终的 SQL 创建缓存 key，数据源为当前线程使用的数据源。
+     *
+     * @param sql          COUNT 查询 SQL
+     * @param args         COUNT 查询参数
+     * @param queryWrapper 查询条件，用于获取查询中使用的表
+     * @return 缓存 key，在事务中时返回 {@code null}
+     */
+    public static CountCacheKey createKey(String sql, Object[] args, QueryWrapper queryWrapper) {
+        // 事务中可能读取到未提交的数据
+        if (TransactionContext.isTransactionActive()) {
+            return null;
+        }
+        Set<String> tableNames = new HashSet<>();
+        if (queryWrapper != null) {
+            QueryKeyUtil.collectTableNames(queryWrapper, tableNames, true);
+        }
+        return new CountCacheKey(sql, args, DataSourceKey.get(), tableNames.isEmpty() ? Collections.emptySet() : tableNames);
+    }
+
+    /**
+     * 获取缓存的总数，并记录命中情况。
+     *
+     * @param key 缓存 key
+     * @return 总数，未命中时返回 {@code null}
+     */
+    public static Long getCount(CountCacheKey key) {
+        Long count = countCache.get(key);
+        if (count != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return count;
+    }
+
+    /**
+     * 获取当前的缓存版本，在执行 COUNT 查询之前获取，缓存结果时传入。
+     */
+    public static long getGeneration() {
+        return generation.get();
+    }
+
+    /**
+     * 缓存 COUNT 查询的结果。
+     *
+     * @param key        缓存 key
+     * @param count      总数
+     * @param queryNanos COUNT 查询耗时（纳秒）
+     * @param generation 执行查询之前通过 {@link #getGeneration()} 获取的缓存版本，查询期间有缓存被移除时不缓存
+     */
+    public static void putCount(CountCacheKey key, long count, long queryNanos, long generation) {
+        if (count < 0) {
+            return;
+        }
+        CountCacheManager.queryNanos.add(queryNanos);
+        if (generation == CountCacheManager.generation.get()) {
+            countCache.put(key, count);
+        }
+    }
+
+    /**
+     * 表中的数据被插入或删除，移除查询中包含该表的缓存，在事务中时等到事务提交后再移除。
+     *
+     * @param tableName 表名
+     */
+    public static void invalidate(String tableName) {
+        invalidate(null, null, tableName);
+    }
+
+    /**
+     * 数据源中的表被插入或删除数据，移除查询中包含该表的缓存，在事务中时等到事务提交后再移除。
+     *
+     * @param dataSourceKey 修改数据的数据源，为 {@code null} 时移除所有数据源中该表的缓存
+     * @param schema        表的 schema，为 {@code null} 时移除所有 schema 中该表的缓存
+     * @param tableName     表名
+     */
+    public static void invalidate(String dataSourceKey, String schema, String tableName) {
+        if (enable && !approximate && StringUtil.hasText(tableName)) {
+            TransactionContext.runAfterCommit(new Invalidation(dataSourceKey, schema, tableName));
+        }
+    }
+
+    /**
+     * 无法确定修改了哪些表，移除全部缓存，在事务中时等到事务提交后再移除。
+     */
+    public static void invalidateAll() {
+        if (enable && !approximate) {
+            TransactionContext.runAfterCommit(new Invalidation(null, null, null));
+        }
+    }
+
+    /**
+     * 清空缓存，命中统计不会被重置。
+     */
+    public static void clear() {
+        generation.incrementAndGet();
+        countCache.clear();
+    }
+
+    public static long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public static long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取命中率。
+     *
+     * @return 命中率，没有查询时返回 0
+     */
+    public static double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * 估算因命中缓存而节省的 COUNT 查询时间，为命中次数乘以 COUNT 查询的平均耗时。
+     *
+     * @return 节省的时间（毫秒）
+     */
+    public static long getSavedTimeMillis() {
+        long misses = missCount.sum();
+        if (misses == 0) {
+            return 0;
+        }
+        return queryNanos.sum() / misses * hitCount.sum() / 1_000_000;
+    }
+
+    /**
+     * 重置命中统计。
+     */
+    public static void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        queryNanos.reset();
+    }
+
+
+    /**
+     * 移除缓存的操作，同一个事务中相同的表只移除一次。
+     */
+    private static final class Invalidation implements Runnable {
+
+        private final String dataSourceKey;
+        private final String schema;
+        private final String tableName;
+
+        Invalidation(String dataSourceKey, String schema, String tableName) {
+            this.dataSourceKey = dataSourceKey;
+            this.schema = schema;
+            this.tableName = tableName;
+        }
+
+        @Override
+        public void run() {
+            generation.incrementAndGet();
+            if (tableName == null) {
+                countCache.clear();
+            } else {
+                countCache.invalidate(dataSourceKey, schema, tableName);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Invalidation)) {
+                return false;
+            }
+            Invalidation that = (Invalidation) o;
+            return Objects.equals(dataSourceKey, that.dataSourceKey)
+                && Objects.equals(schema, that.schema)
+                && Objects.equals(tableName, that.tableName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(dataSourceKey, schema, tableName);
+        }
+
+    }
+
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.paginate;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 游标（Keyset）分页对象。
+ *
+ * <p>与 {@link Page} 使用 {@code LIMIT ? OFFSET ?} 不同，游标分页根据上一页最后一条数据的排序列的值生成
+ * {@code (a, b) > (?, ?)} 条件查询下一页，无论翻到第几页，查询的代价都是相同的，但不支持跳页和查询总数。
+ *
+ * @param <T> 当前页数据类型
+ */
+public class CursorPage<T> implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 当前页数据。
+     */
+    private List<T> records = Collections.emptyList();
+
+    /**
+     * 每页数据数量。
+     */
+    private long pageSize = FlexGlobalConfig.getDefaultConfig().getDefaultPageSize();
+
+    /**
+     * 当前页的游标，为 {@code null} 时查询第一页。
+     */
+    private String cursor;
+
+    /**
+     * 下一页的游标，为 {@code null} 时表示没有下一页。
+     */
+    private String nextCursor;
+
+    /**
+     * 创建第一页的分页对象。
+     *
+     * @param pageSize 每页数据数量
+     * @param <T>      数据类型
+     * @return 分页对象
+     */
+    public static <T> CursorPage<T> of(Number pageSize) {
+        return new CursorPage<>(null, pageSize);
+    }
+
+    /**
+     * 创建分页对象。
+     *
+     * @param cursor   上一页返回的 {@link #getNextCursor()}，为 {@code null} 时查询第一页
+     * @param pageSize 每页数据数量
+     * @param <T>      数据类型
+     * @return 分页对象
+     */
+    public static <T> CursorPage<T> of(String cursor, Number pageSize) {
+        return new CursorPage<>(cursor, pageSize);
+    }
+
+    /**
+     * 创建分页对象。
+     */
+    public CursorPage() {
+    }
+
+    /**
+     * 创建分页对象。
+     *
+     * @param cursor   当前页的游标
+     * @param pageSize 每页数据数量
+     */
+    public CursorPage(String cursor, Number pageSize) {
+        this.setCursor(cursor);
+        this.setPageSize(pageSize.longValue());
+    }
+
+    /**
+     * 获取当前页的数据。
+     *
+     * @return 当前页的数据
+     */
+    public List<T> getRecords() {
+        return records;
+    }
+
+    /**
+     * 设置当前页的数据。
+     *
+     * @param records 当前页的数据
+     */
+    public void setRecords(List<T> records) {
+        if (records == null) {
+            records = Collections.emptyList();
+        }
+        this.records = records;
+    }
+
+    /**
+     * 获取每页数据数量。
+     *
+     * @return 每页数据数量
+     */
+    public long getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 设置每页数据数量。
+     *
+     * @param pageSize 每页数据数量
+     */
+    public void setPageSize(long pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must greater than 0，current value is: " + pageSize);
+        }
+        this.pageSize = Math.min(pageSize, FlexGlobalConfig.getDefaultConfig().getDefaultMaxPageSize());
+    }
+
+    /**
+     * 获取当前页的游标。
+     *
+     * @return 游标，{@code null} 表示第一页
+     */
+    public String getCursor() {
+        return cursor;
+    }
+
+    /**
+     * 设置当前页的游标。
+     *
+     * @param cursor 游标，{@code null} 表示第一页
+     */
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+
+    /**
+     * 获取下一页的游标。
+     *
+     * @return 游标，{@code null} 表示没有下一页
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * 设置下一页的游标。
+     *
+     * @param nextCursor 游标
+     */
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * 是否存在下一页。
+     *
+     * @return {@code true} 存在下一页，{@code false} 不存在下一页
+     */
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    @Override
+    public String toString() {
+        return "CursorPage{" +
+            "pageSize=" + pageSize +
+            ", cursor='" + cursor + '\'' +
+            ", nextCursor='" + nextCursor + '\'' +
+            ", records=" + records +
+            '}';
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.paginate;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 默认的分页查询总数缓存，基于内存的 LRU 缓存，每条数据在 {@code ttlMillis} 后过期。
+ */
+public class DefaultCountCache implements CountCache {
+
+    private final long ttlMillis;
+    private final Map<CountCacheKey, Entry> cache;
+
+    public DefaultCountCache() {
+        this(60_000, 1024);
+    }
+
+    /**
+     * @param ttlMillis 过期时间（毫秒）
+     * @param maxSize   最大缓存数量
+     */
+    public DefaultCountCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.cache = new LinkedHashMap<CountCacheKey, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CountCacheKey, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    @Override
+    public Long get(CountCacheKey key) {
+        synchronized (cache) {
+            Entry entry = cache.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expireAt < System.currentTimeMillis()) {
+                cache.remove(key);
+                return null;
+            }
+            return entry.count;
+        }
+    }
+
+    @Override
+    public void put(CountCacheKey key, long count) {
+        Entry entry = new Entry(count, System.currentTimeMillis() + ttlMillis);
+        synchronized (cache) {
+            cache.put(key, entry);
+        }
+    }
+
+    @Override
+    public void invalidate(String dataSourceKey, String schema, String tableName) {
+        synchronized (cache) {
+            Iterator<CountCacheKey> iterator = cache.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().matches(dataSourceKey, schema, tableName)) {
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+
+    private static class Entry {
+
+        private final long count;
+        private final long expireAt;
+
+        Entry(long count, long expireAt) {
+            this.count = count;
+            this.expireAt = expireAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,357 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.paginate;
+
+import com.mybatisflex.core.constant.SqlConsts;
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.query.Brackets;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryCondition;
+import com.mybatisflex.core.query.QueryOrderBy;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.query.RowValueQueryCondition;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.table.IdInfo;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.CollectionUtil;
+import com.mybatisflex.core.util.FieldWrapper;
+import com.mybatisflex.core.util.StringUtil;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 游标（Keyset）分页。
+ *
+ * <p>排序列取自 {@link QueryWrapper} 的 {@code orderBy}，排序列的值不能为 {@code null}，并且所有排序列组合起来必须唯一
+ * （通常最后一个排序列为主键），否则可能会漏掉或者重复数据。
+ *
+ * <p>排序方向一致且数据库支持行值比较时生成 {@code (a, b) > (?, ?)} 条件，否则生成等价的
+ * {@code a > ? OR (a = ? AND b > ?)} 条件。
+ */
+public class KeysetPaginator {
+
+    private KeysetPaginator() {
+    }
+
+    /**
+     * 支持行值比较 {@code (a, b) > (?, ?)} 的数据库
+     */
+    private static final Set<DbType> ROW_VALUE_DB_TYPES = EnumSet.of(
+        DbType.MYSQL, DbType.MARIADB, DbType.OCEAN_BASE, DbType.H2, DbType.SQLITE, DbType.DB2,
+        DbType.POSTGRE_SQL, DbType.KINGBASE_ES, DbType.OPENGAUSS, DbType.GAUSS, DbType.HIGH_GO, DbType.UXDB
+    );
+
+    /**
+     * 游标分页查询。
+     *
+     * @param page         分页对象
+     * @param queryWrapper 查询条件，不会被修改
+     * @param selector     查询数据
+     * @param <T>          数据类型
+     * @return 分页对象
+     */
+    public static <T> CursorPage<T> paginate(CursorPage<T> page, QueryWrapper queryWrapper, Function<QueryWrapper, List<T>> selector) {
+        List<QueryOrderBy> orderBys = CPI.getOrderBys(queryWrapper);
+        if (CollectionUtil.isEmpty(orderBys)) {
+            throw FlexExceptions.wrap("Keyset paginate requires order by columns.");
+        }
+
+        int size = orderBys.size();
+        List<QueryColumn> columns = new ArrayList<>(size);
+        boolean[] descs = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            QueryOrderBy orderBy = orderBys.get(i);
+            QueryColumn column = orderBy.getClass() == QueryOrderBy.class ? CPI.getOrderByColumn(orderBy) : null;
+            if (column == null || StringUtil.noText(column.getName())) {
+                throw FlexExceptions.wrap("Keyset paginate only supports order by columns, but got: %s", orderBy);
+            }
+            columns.add(column);
+            descs[i] = SqlConsts.DESC.trim().equalsIgnoreCase(CPI.getOrderType(orderBy).trim());
+        }
+
+        QueryWrapper query = queryWrapper.clone();
+        if (page.getCursor() != null) {
+            Object[] values = decodeCursor(page.getCursor());
+            if (values.length != size) {
+                throw FlexExceptions.wrap("The cursor does not match the order by columns: %s", page.getCursor());
+            }
+            // 原有条件中可能含有 OR，需要先用括号包裹，否则会与游标条件错误地结合
+            QueryCondition where = CPI.getWhereQueryCondition(query);
+            if (where != null && CPI.getNextCondition(where) != null) {
+                CPI.setWhereQueryCondition(query, new Brackets(where));
+            }
+            query.and(buildSeekCondition(columns, descs, values, DialectFactory.getDbType()));
+        }
+
+        // 多查询一条，用于判断是否存在下一页
+        long pageSize = page.getPageSize();
+        CPI.setLimitOffset(query, null);
+        CPI.setLimitRows(query, pageSize + 1);
+
+        List<T> records = selector.apply(query);
+        if (records != null && records.size() > pageSize) {
+            records = new ArrayList<>(records.subList(0, (int) pageSize));
+            T last = records.get(records.size() - 1);
+            Object[] values = new Object[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = getColumnValue(last, columns.get(i));
+            }
+            page.setNextCursor(encodeCursor(values));
+        } else {
+            page.setNextCursor(null);
+        }
+        page.setRecords(records);
+        return page;
+    }
+
+    /**
+     * 构建 "位于游标之后" 的条件。
+     *
+     * @param columns 排序列
+     * @param descs   每一列是否降序
+     * @param values  游标中排序列的值
+     * @param dbType  数据库类型
+     * @return 条件
+     */
+    public static QueryCondition buildSeekCondition(List<QueryColumn> columns, boolean[] descs, Object[] values, DbType dbType) {
+        int size = columns.size();
+        boolean sameDirection = true;
+        for (int i = 1; i < size; i++) {
+            if (descs[i] != descs[0]) {
+                sameDirection = false;
+                break;
+            }
+        }
+
+        if (size > 1 && sameDirection && ROW_VALUE_DB_TYPES.contains(dbType)) {
+            return new RowValueQueryCondition(columns, descs[0] ? SqlConsts.LT : SqlConsts.GT, values);
+        }
+
+        // a > ? OR (a = ? AND b > ?) OR (a = ? AND b = ? AND c > ?)
+        QueryCondition seek = null;
+        for (int i = 0; i < size; i++) {
+            QueryCondition part = null;
+            for (int j = 0; j < i; j++) {
+                QueryCondition equals = QueryCondition.create(columns.get(j), SqlConsts.EQUALS, values[j]);
+                part = part == null ? equals : part.and(equals);
+            }
+            QueryCondition compare = QueryCondition.create(columns.get(i), descs[i] ? SqlConsts.LT : SqlConsts.GT, values[i]);
+            part = part == null ? compare : part.and(compare);
+            seek = seek == null ? part : seek.or(part);
+        }
+        return seek;
+    }
+
+    private static Object getColumnValue(Object record, QueryColumn column) {
+        String name = StringUtil.hasText(column.getAlias()) ? column.getAlias() : column.getName();
+        Object value;
+        if (record instanceof Row) {
+            value = ((Row) record).getIgnoreCase(name);
+        } else if (record instanceof Map) {
+            value = ((Map<?, ?>) record).get(name);
+        } else {
+            value = FieldWrapper.of(record.getClass(), getProperty(record.getClass(), name)).get(record);
+        }
+        if (value == null) {
+            throw FlexExceptions.wrap("Keyset paginate order by column \"%s\" must not be null.", name);
+        }
+        return value;
+    }
+
+    private static String getProperty(Class<?> recordClass, String column) {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(recordClass);
+        for (IdInfo idInfo : tableInfo.getPrimaryKeyList()) {
+            if (column.equalsIgnoreCase(idInfo.getColumn())) {
+                return idInfo.getProperty();
+            }
+        }
+        for (Map.Entry<String, String> entry : tableInfo.getPropertyColumnMapping().entrySet()) {
+            if (column.equalsIgnoreCase(entry.getValue())) {
+                return entry.getKey();
+            }
+        }
+        return StringUtil.underlineToCamel(column);
+    }
+
+
+    /**
+     * 将排序列的值编码为不透明的游标，只支持常见的数字、字符串、布尔和时间类型。
+     *
+     * @param values 排序列的值
+     * @return 游标
+     */
+    public static String encodeCursor(Object[] values) {
+        StringBuilder builder = new StringBuilder();
+        for (Object value : values) {
+            char type;
+            String text;
+            if (value instanceof String) {
+                type = 'S';
+                text = (String) value;
+            } else if (value instanceof Integer) {
+                type = 'I';
+                text = value.toString();
+            } else if (value instanceof Long) {
+                type = 'J';
+                text = value.toString();
+            } else if (value instanceof Short) {
+                type = 'H';
+                text = value.toString();
+            } else if (value instanceof Byte) {
+                type = 'B';
+                text = value.toString();
+            } else if (value instanceof Double) {
+                type = 'D';
+                text = value.toString();
+            } else if (value instanceof Float) {
+                type = 'F';
+                text = value.toString();
+            } else if (value instanceof BigDecimal) {
+                type = 'M';
+                text = value.toString();
+            } else if (value instanceof BigInteger) {
+                type = 'G';
+                text = value.toString();
+            } else if (value instanceof Boolean) {
+                type = 'Z';
+                text = value.toString();
+            } else if (value instanceof Timestamp) {
+                type = 'T';
+                text = ((Timestamp) value).toInstant().toString();
+            } else if (value instanceof java.sql.Date) {
+                type = 'd';
+                text = ((java.sql.Date) value).toLocalDate().toString();
+            } else if (value instanceof Date) {
+                type = 'U';
+                text = String.valueOf(((Date) value).getTime());
+            } else if (value instanceof LocalDateTime) {
+                type = 'L';
+                text = value.toString();
+            } else if (value instanceof LocalDate) {
+                type = 'l';
+                text = value.toString();
+            } else if (value instanceof LocalTime) {
+                type = 't';
+                text = value.toString();
+            } else if (value instanceof OffsetDateTime) {
+                type = 'O';
+                text = value.toString();
+            } else if (value instanceof Instant) {
+                type = 'Q';
+                text = value.toString();
+            } else if (value instanceof UUID) {
+                type = 'X';
+                text = value.toString();
+            } else {
+                throw FlexExceptions.wrap("Keyset paginate can not encode value type: %s", value == null ? null : value.getClass().getName());
+            }
+            builder.append(type).append(text.length()).append(':').append(text);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码游标。
+     *
+     * @param cursor 游标
+     * @return 排序列的值
+     */
+    public static Object[] decodeCursor(String cursor) {
+        try {
+            String content = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<Object> values = new ArrayList<>();
+            int index = 0;
+            while (index < content.length()) {
+                char type = content.charAt(index);
+                int colon = content.indexOf(':', index + 1);
+                int length = Integer.parseInt(content.substring(index + 1, colon));
+                String text = content.substring(colon + 1, colon + 1 + length);
+                values.add(decodeValue(type, text));
+                index = colon + 1 + length;
+            }
+            return values.toArray();
+        } catch (RuntimeException e) {
+            throw FlexExceptions.wrap(e, "Invalid keyset cursor: %s", cursor);
+        }
+    }
+
+    private static Object decodeValue(char type, String text) {
+        switch (type) {
+            case 'S':
+                return text;
+            case 'I':
+                return Integer.valueOf(text);
+            case 'J':
+                return Long.valueOf(text);
+            case 'H':
+                return Short.valueOf(text);
+            case 'B':
+                return Byte.valueOf(text);
+            case 'D':
+                return Double.valueOf(text);
+            case 'F':
+                return Float.valueOf(text);
+            case 'M':
+                return new BigDecimal(text);
+            case 'G':
+                return new BigInteger(text);
+            case 'Z':
+                return Boolean.valueOf(text);
+            case 'T':
+                return Timestamp.from(Instant.parse(text));
+            case 'd':
+                return java.sql.Date.valueOf(LocalDate.parse(text));
+            case 'U':
+                return new Date(Long.parseLong(text));
+            case 'L':
+                return LocalDateTime.parse(text);
+            case 'l':
+                return LocalDate.parse(text);
+            case 't':
+                return LocalTime.parse(text);
+            case 'O':
+                return OffsetDateTime.parse(text);
+            case 'Q':
+                return Instant.parse(text);
+            case 'X':
+                return UUID.fromString(text);
+            default:
+                throw new IllegalArgumentException("Unknown value type: " + type);
+        }
+    }
+
+}
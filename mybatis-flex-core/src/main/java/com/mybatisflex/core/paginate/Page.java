@@ -71,6 +71,11 @@ public class Page<T> implements Serializable {
      */
     private boolean optimizeCountQuery = true;
 
+    /**
+     * 是否并发执行 COUNT 查询，为 {@code null} 时使用全局配置。
+     */
+    private Boolean concurrentCountQuery;
+
     /**
      * 创建分页对象。
      *
@@ -307,6 +312,25 @@ public class Page<T> implements Serializable {
         return optimizeCountQuery;
     }
 
+    /**
+     * 设置是否与数据查询并发执行 COUNT 查询，为 {@code null} 时使用全局配置。
+     *
+     * @param concurrentCountQuery 是否并发执行
+     */
+    public void setConcurrentCountQuery(Boolean concurrentCountQuery) {
+        this.concurrentCountQuery = concurrentCountQuery;
+    }
+
+    /**
+     * 是否与数据查询并发执行 COUNT 查询（默认使用全局配置）。
+     *
+     * @return {@code true} 并发执行，{@code false} 串行执行
+     */
+    public boolean needConcurrentCountQuery() {
+        return concurrentCountQuery != null ? concurrentCountQuery
+            : FlexGlobalConfig.getDefaultConfig().isConcurrentCountQuery();
+    }
+
     public <R> Page<R> map(Function<? super T, ? extends R> mapper) {
         Page<R> newPage = new Page<>();
         newPage.pageNumber = pageNumber;
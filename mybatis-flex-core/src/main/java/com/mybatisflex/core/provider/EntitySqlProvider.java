@@ -15,7 +15,6 @@
  */
 package com.mybatisflex.core.provider;
 
-import com.mybatisflex.core.FlexConsts;
 import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.query.CPI;
@@ -30,6 +29,7 @@ import org.apache.ibatis.builder.annotation.ProviderContext;
 
 import java.io.Serializable;
 import java.util.*;
+import java.util.function.Supplier;
 
 @SuppressWarnings({"rawtypes", "DuplicatedCode"})
 public class EntitySqlProvider {
@@ -138,12 +138,13 @@ public class EntitySqlProvider {
         }
 
 
-        Object[] allValues = FlexConsts.EMPTY_ARRAY;
+        // 预先按 数据条数 × 列数 分配参数数组，避免每条数据都复制一次之前的所有参数
+        SqlArgsBuilder allValues = new SqlArgsBuilder(entities.size() * tableInfo.getInsertColumnCount());
         for (Object entity : entities) {
-            allValues = ArrayUtil.concat(allValues, tableInfo.buildInsertSqlArgs(entity, false));
+            tableInfo.buildInsertSqlArgs(entity, false, allValues);
         }
 
-        ProviderUtil.setSqlArgs(params, allValues);
+        ProviderUtil.setSqlArgs(params, allValues.toArray());
 
         return DialectFactory.getDialect().forInsertEntityBatch(tableInfo, entities);
     }
@@ -241,7 +242,10 @@ public class EntitySqlProvider {
 
         FlexAssert.assertAreNotNull(primaryValues, "The value of primary key must not be null for execute update an entity, entity[%s]", entity);
 
-        ProviderUtil.setSqlArgs(params, ArrayUtil.concat(updateValues, primaryValues, tenantIdArgs));
+        SqlArgsBuilder allValues = new SqlArgsBuilder(updateValues.length + primaryValues.length
+            + (tenantIdArgs == null ? 0 : tenantIdArgs.length));
+        allValues.addAll(updateValues).addAll(primaryValues).addAll(tenantIdArgs);
+        ProviderUtil.setSqlArgs(params, allValues.toArray());
 
         return DialectFactory.getDialect().forUpdateEntity(tableInfo, entity, ignoreNulls);
     }
@@ -280,9 +284,10 @@ public class EntitySqlProvider {
         Object[] values = tableInfo.buildUpdateSqlArgs(entity, ignoreNulls, true);
         Object[] queryParams = CPI.getConditionValueArray(queryWrapper);
 
-        Object[] paramValues = ArrayUtil.concat(joinValueArray, ArrayUtil.concat(values, queryParams));
+        SqlArgsBuilder paramValues = new SqlArgsBuilder(joinValueArray.length + values.length + queryParams.length);
+        paramValues.addAll(joinValueArray).addAll(values).addAll(queryParams);
 
-        ProviderUtil.setSqlArgs(params, paramValues);
+        ProviderUtil.setSqlArgs(params, paramValues.toArray());
 
         return sql;
     }
@@ -380,7 +385,19 @@ public class EntitySqlProvider {
 
 
     private static void appendTableConditions(ProviderContext context, QueryWrapper queryWrapper, boolean setSelectColumns) {
-        List<TableInfo> tableInfos = getTableInfos(context, queryWrapper);
+        appendTableConditions(() -> ProviderUtil.getTableInfo(context), queryWrapper, setSelectColumns);
+    }
+
+
+    /**
+     * 为查询追加逻辑删除、多租户等表条件，与 Mapper 查询时追加的条件一致。
+     *
+     * @param defaultTableInfo 查询没有指定表时使用的表信息，通常为 Mapper 对应的实体类
+     * @param queryWrapper     查询条件
+     * @param setSelectColumns 是否设置默认的查询列
+     */
+    public static void appendTableConditions(Supplier<TableInfo> defaultTableInfo, QueryWrapper queryWrapper, boolean setSelectColumns) {
+        List<TableInfo> tableInfos = getTableInfos(defaultTableInfo, queryWrapper);
         if (CollectionUtil.isNotEmpty(tableInfos)) {
             for (TableInfo tableInfo : tableInfos) {
                 tableInfo.appendConditions(null, queryWrapper);
@@ -393,14 +410,14 @@ public class EntitySqlProvider {
             List<QueryWrapper> childQueryWrappers = CPI.getChildSelect(queryWrapper);
             if (CollectionUtil.isNotEmpty(childQueryWrappers)) {
                 for (QueryWrapper childQueryWrapper : childQueryWrappers) {
-                    appendTableConditions(context, childQueryWrapper, setSelectColumns);
+                    appendTableConditions(defaultTableInfo, childQueryWrapper, setSelectColumns);
                 }
             }
         }
     }
 
 
-    private static List<TableInfo> getTableInfos(ProviderContext context, QueryWrapper queryWrapper) {
+    private static List<TableInfo> getTableInfos(Supplier<TableInfo> defaultTableInfo, QueryWrapper queryWrapper) {
         List<TableInfo> tableInfos;
         List<QueryTable> queryTables = CPI.getQueryTables(queryWrapper);
         if (CollectionUtil.isNotEmpty(queryTables)) {
@@ -415,7 +432,7 @@ public class EntitySqlProvider {
                 }
             }
         } else {
-            tableInfos = Collections.singletonList(ProviderUtil.getTableInfo(context));
+            tableInfos = Collections.singletonList(defaultTableInfo.get());
         }
         return tableInfos;
     }
@@ -15,7 +15,6 @@
  */
 package com.mybatisflex.core.provider;
 
-import com.mybatisflex.core.FlexConsts;
 import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.exception.FlexAssert;
 import com.mybatisflex.core.query.CPI;
@@ -100,11 +99,11 @@ public class RowSqlProvider {
         // sql: INSERT INTO `tb_table`(`name`, `sex`) VALUES (?, ?),(?, ?),(?, ?)
         String sql = DialectFactory.getDialect().forInsertBatchWithFirstRowColumns(schema, tableName, rows);
 
-        Object[] values = new Object[]{};
+        SqlArgsBuilder values = new SqlArgsBuilder(rows.size() * modifyAttrs.size());
         for (Row row : rows) {
-            values = ArrayUtil.concat(values, row.obtainInsertValues(modifyAttrs));
+            values.addAll(row.obtainInsertValues(modifyAttrs));
         }
-        ProviderUtil.setSqlArgs(params, values);
+        ProviderUtil.setSqlArgs(params, values.toArray());
 
         return sql;
     }
@@ -229,11 +228,11 @@ public class RowSqlProvider {
 
         String sql = DialectFactory.getDialect().forUpdateBatchById(schema, tableName, rows);
 
-        Object[] values = FlexConsts.EMPTY_ARRAY;
+        SqlArgsBuilder values = new SqlArgsBuilder(rows.size() * rows.get(0).size());
         for (Row row : rows) {
-            values = ArrayUtil.concat(values, RowCPI.obtainUpdateValues(row));
+            values.addAll(RowCPI.obtainUpdateValues(row));
         }
-        ProviderUtil.setSqlArgs(params, values);
+        ProviderUtil.setSqlArgs(params, values.toArray());
         return sql;
     }
 
@@ -0,0 +1,147 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.provider;
+
+import com.mybatisflex.core.FlexConsts;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * SQL 参数构建器。
+ *
+ * <p>用于代替在循环中反复调用 {@link com.mybatisflex.core.util.ArrayUtil#concat(Object[], Object[])}
+ * 拼接参数，所有参数追加到同一个数组中，构建 N 条数据的参数只需要 O(N) 的复制。在预先指定了正确的容量时，
+ * {@link #toArray()} 不会产生额外的数组复制。
+ */
+public class SqlArgsBuilder {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private Object[] args;
+    private int size;
+    /**
+     * 内部数组是否已经通过 {@link #toArray()} 返回给调用方
+     */
+    private boolean shared;
+
+    public SqlArgsBuilder() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param initialCapacity 初始容量，一般为 数据条数 × 列数
+     */
+    public SqlArgsBuilder(int initialCapacity) {
+        this.args = initialCapacity > 0 ? new Object[initialCapacity] : FlexConsts.EMPTY_ARRAY;
+    }
+
+    /**
+     * 添加一个参数。
+     *
+     * @param arg 参数
+     * @return 当前构建器
+     */
+    public SqlArgsBuilder add(Object arg) {
+        ensureCapacity(size + 1);
+        args[size++] = arg;
+        return this;
+    }
+
+    /**
+     * 添加多个参数，{@code null} 数组会被忽略。
+     *
+     * @param values 参数
+     * @return 当前构建器
+     */
+    public SqlArgsBuilder addAll(Object[] values) {
+        if (values == null || values.length == 0) {
+            return this;
+        }
+        ensureCapacity(size + values.length);
+        System.arraycopy(values, 0, args, size, values.length);
+        size += values.length;
+        return this;
+    }
+
+    /**
+     * 添加多个参数，{@code null} 集合会被忽略。
+     *
+     * @param values 参数
+     * @return 当前构建器
+     */
+    public SqlArgsBuilder addAll(Collection<?> values) {
+        if (values == null || values.isEmpty()) {
+            return this;
+        }
+        ensureCapacity(size + values.size());
+        for (Object value : values) {
+            args[size++] = value;
+        }
+        return this;
+    }
+
+    /**
+     * 保证至少可以容纳 {@code minCapacity} 个参数。
+     *
+     * @param minCapacity 最小容量
+     */
+    public void ensureCapacity(int minCapacity) {
+        if (minCapacity > args.length) {
+            int newCapacity = Math.max(Math.max(args.length + (args.length >> 1), minCapacity), DEFAULT_CAPACITY);
+            args = Arrays.copyOf(args, newCapacity);
+            shared = false;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 清空已添加的参数，以便复用当前构建器。
+     */
+    public void clear() {
+        if (shared) {
+            args = new Object[args.length];
+            shared = false;
+        } else {
+            Arrays.fill(args, 0, size, null);
+        }
+        size = 0;
+    }
+
+    /**
+     * 获取所有参数。容量与参数数量一致时直接返回内部数组。
+     *
+     * @return 参数数组
+     */
+    public Object[] toArray() {
+        if (size == 0) {
+            return FlexConsts.EMPTY_ARRAY;
+        }
+        if (size == args.length) {
+            shared = true;
+            return args;
+        }
+        return Arrays.copyOf(args, size);
+    }
+
+}
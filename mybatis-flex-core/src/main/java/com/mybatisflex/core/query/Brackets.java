@@ -106,29 +106,31 @@ public class Brackets extends QueryCondition {
     }
 
     @Override
-    public String toSql(List<QueryTable> queryTables, IDialect dialect) {
-
-        String sqlNext = next == null ? null : next.toSql(queryTables, dialect);
-
-        StringBuilder sql = new StringBuilder();
-        if (checkEffective()) {
-            String childSql = childCondition.toSql(queryTables, dialect);
-            if (StringUtil.hasText(childSql)) {
-                QueryCondition prevEffectiveCondition = getPrevEffectiveCondition();
-                if (prevEffectiveCondition != null && this.connector != null) {
-                    childSql = this.connector + SqlConsts.BRACKET_LEFT + childSql + SqlConsts.BRACKET_RIGHT;
-                } else if (StringUtil.hasText(sqlNext)) {
-                    childSql = SqlConsts.BRACKET_LEFT + childSql + SqlConsts.BRACKET_RIGHT;
-                }
-                sql.append(childSql);
-            } else {
-                //all child conditions are not effective
-                //fixed gitee #I6W89G
-                this.effective = false;
-            }
+    protected void buildSelfSql(StringBuilder sqlBuilder, boolean prevEffective, List<QueryTable> queryTables, IDialect dialect) {
+        if (!checkEffective()) {
+            return;
+        }
+
+        int start = sqlBuilder.length();
+        // 没有连接符时，是否需要括号取决于后面的条件，由 buildSql 统一处理
+        boolean withConnector = prevEffective && this.connector != null;
+        if (withConnector) {
+            sqlBuilder.append(this.connector).append(SqlConsts.BRACKET_LEFT);
         }
 
-        return sqlNext != null ? sql + sqlNext : sql.toString();
+        int childStart = sqlBuilder.length();
+        childCondition.buildSql(sqlBuilder, queryTables, dialect);
+
+        if (StringUtil.hasText(sqlBuilder, childStart)) {
+            if (withConnector) {
+                sqlBuilder.append(SqlConsts.BRACKET_RIGHT);
+            }
+        } else {
+            sqlBuilder.setLength(start);
+            //all child conditions are not effective
+            //fixed gitee #I6W89G
+            this.effective = false;
+        }
     }
 
 
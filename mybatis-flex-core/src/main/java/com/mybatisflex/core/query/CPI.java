@@ -184,6 +184,14 @@ public class CPI {
         queryWrapper.setOrderBys(orderBys);
     }
 
+    public static QueryColumn getOrderByColumn(QueryOrderBy orderBy) {
+        return orderBy.queryColumn;
+    }
+
+    public static String getOrderType(QueryOrderBy orderBy) {
+        return orderBy.getOrderType();
+    }
+
     public static List<UnionWrapper> getUnions(QueryWrapper queryWrapper) {
         return queryWrapper.getUnions();
     }
@@ -40,30 +40,31 @@ public class OperatorQueryCondition extends QueryCondition {
         return childCondition;
     }
 
-    @Override
-    public String toSql(List<QueryTable> queryTables, IDialect dialect) {
-        StringBuilder sql = new StringBuilder();
+    String getOperator() {
+        return operator;
+    }
 
+    @Override
+    protected void buildSelfSql(StringBuilder sqlBuilder, boolean prevEffective, List<QueryTable> queryTables, IDialect dialect) {
         //检测是否生效
-        if (checkEffective()) {
-            String childSql = childCondition.toSql(queryTables, dialect);
-            if (StringUtil.hasText(childSql)) {
-                QueryCondition prevEffectiveCondition = getPrevEffectiveCondition();
-                if (prevEffectiveCondition != null && this.connector != null) {
-                    sql.append(this.connector);
-                }
-                sql.append(operator)
-                    .append(SqlConsts.BRACKET_LEFT)
-                    .append(childSql)
-                    .append(SqlConsts.BRACKET_RIGHT);
-            }
+        if (!checkEffective()) {
+            return;
         }
 
-        if (this.next != null) {
-            return sql + next.toSql(queryTables, dialect);
+        int start = sqlBuilder.length();
+        if (prevEffective && this.connector != null) {
+            sqlBuilder.append(this.connector);
         }
+        sqlBuilder.append(operator).append(SqlConsts.BRACKET_LEFT);
 
-        return sql.toString();
+        int childStart = sqlBuilder.length();
+        childCondition.buildSql(sqlBuilder, queryTables, dialect);
+
+        if (StringUtil.hasText(sqlBuilder, childStart)) {
+            sqlBuilder.append(SqlConsts.BRACKET_RIGHT);
+        } else {
+            sqlBuilder.setLength(start);
+        }
     }
 
     @Override
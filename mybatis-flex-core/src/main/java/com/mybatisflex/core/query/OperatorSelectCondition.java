@@ -42,30 +42,27 @@ public class OperatorSelectCondition extends QueryCondition {
         return queryWrapper;
     }
 
-    @Override
-    public String toSql(List<QueryTable> queryTables, IDialect dialect) {
-        StringBuilder sql = new StringBuilder();
+    String getOperator() {
+        return operator;
+    }
 
+    @Override
+    protected void buildSelfSql(StringBuilder sqlBuilder, boolean prevEffective, List<QueryTable> queryTables, IDialect dialect) {
         //检测是否生效
-        if (checkEffective()) {
-            String childSql = dialect.buildSelectSql(queryWrapper, queryTables);
-            if (StringUtil.hasText(childSql)) {
-                QueryCondition prevEffectiveCondition = getPrevEffectiveCondition();
-                if (prevEffectiveCondition != null && this.connector != null) {
-                    sql.append(this.connector);
-                }
-                sql.append(operator)
-                    .append(SqlConsts.BRACKET_LEFT)
-                    .append(childSql)
-                    .append(SqlConsts.BRACKET_RIGHT);
-            }
+        if (!checkEffective()) {
+            return;
         }
 
-        if (this.next != null) {
-            return sql + next.toSql(queryTables, dialect);
+        String childSql = dialect.buildSelectSql(queryWrapper, queryTables);
+        if (StringUtil.hasText(childSql)) {
+            if (prevEffective && this.connector != null) {
+                sqlBuilder.append(this.connector);
+            }
+            sqlBuilder.append(operator)
+                .append(SqlConsts.BRACKET_LEFT)
+                .append(childSql)
+                .append(SqlConsts.BRACKET_RIGHT);
         }
-
-        return sql.toString();
     }
 
     @Override
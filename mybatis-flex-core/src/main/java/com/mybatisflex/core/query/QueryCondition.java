@@ -26,6 +26,7 @@ import com.mybatisflex.core.util.ObjectUtil;
 import com.mybatisflex.core.util.StringUtil;
 
 import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.BooleanSupplier;
@@ -52,6 +53,24 @@ public class QueryCondition implements CloneSupport<QueryCondition> {
      */
     private boolean empty = false;
 
+    /**
+     * 是否重写了 {@link #toSql(List, IDialect)} 方法
+     */
+    private static final ClassValue<Boolean> OVERRIDE_TO_SQL = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            for (Class<?> clazz = type; clazz != QueryCondition.class; clazz = clazz.getSuperclass()) {
+                try {
+                    clazz.getDeclaredMethod("toSql", List.class, IDialect.class);
+                    return true;
+                } catch (NoSuchMethodException ignored) {
+                    // 继续查找父类
+                }
+            }
+            return false;
+        }
+    };
+
     protected boolean notEmpty() {
         return !empty;
     }
@@ -174,55 +193,114 @@ public class QueryCondition implements CloneSupport<QueryCondition> {
     }
 
     protected void connect(QueryCondition nextCondition, SqlConnector connector) {
-
-        if (this.next != null) {
-            this.next.connect(nextCondition, connector);
-        } else {
-            nextCondition.connector = connector;
-            this.next = nextCondition;
-            nextCondition.prev = this;
+        QueryCondition last = this;
+        while (last.next != null) {
+            last = last.next;
         }
+        nextCondition.connector = connector;
+        last.next = nextCondition;
+        nextCondition.prev = last;
     }
 
     public String toSql(List<QueryTable> queryTables, IDialect dialect) {
         StringBuilder sql = new StringBuilder();
-        //检测是否生效
-        if (checkEffective()) {
-            QueryCondition prevEffectiveCondition = getPrevEffectiveCondition();
-            if (prevEffectiveCondition != null && this.connector != null) {
-                sql.append(this.connector);
+        buildSql(sql, queryTables, dialect);
+        return sql.toString();
+    }
+
+    /**
+     * 构建当前条件及其后面所有条件的 SQL，并追加到 {@code sqlBuilder} 中。
+     *
+     * <p>条件链表通过循环逐个构建，所有条件（包括括号内的子条件）共用同一个 StringBuilder，
+     * 条件再多也不会产生字符串的重复复制和过深的递归调用。
+     *
+     * @param sqlBuilder  SQL 构建器
+     * @param queryTables 查询表
+     * @param dialect     方言
+     */
+    public void buildSql(StringBuilder sqlBuilder, List<QueryTable> queryTables, IDialect dialect) {
+        boolean prevEffective = getPrevEffectiveCondition() != null;
+        // 没有连接符的括号，只有后面还有条件时才需要添加括号，记录其开始、结束位置，最后再处理
+        int[] bracketPositions = null;
+        int bracketCount = 0;
+
+        QueryCondition condition = this;
+        while (condition != null) {
+            // 兼容重写了 toSql 方法的自定义条件，由其自行构建后续的条件
+            if (OVERRIDE_TO_SQL.get(condition.getClass())) {
+                sqlBuilder.append(condition.toSql(queryTables, dialect));
+                break;
             }
-            //列
-            sql.append(getColumn().toConditionSql(queryTables, dialect));
 
-            //逻辑符号
-            sql.append(logic);
+            boolean effective = condition.checkEffective();
+            int start = sqlBuilder.length();
+            condition.buildSelfSql(sqlBuilder, prevEffective, queryTables, dialect);
 
-            //值（或者问号）
-            if (value instanceof QueryColumn) {
-                sql.append(((QueryColumn) value).toConditionSql(queryTables, dialect));
-            }
-            //子查询
-            else if (value instanceof QueryWrapper) {
-                sql.append(SqlConsts.BRACKET_LEFT)
-                    .append(dialect.buildSelectSql((QueryWrapper) value))
-                    .append(SqlConsts.BRACKET_RIGHT);
-            }
-            //原生sql
-            else if (value instanceof RawQueryCondition) {
-                sql.append(((RawQueryCondition) value).getContent());
+            if (condition instanceof Brackets && sqlBuilder.length() > start
+                && (!prevEffective || condition.connector == null)) {
+                if (bracketPositions == null) {
+                    bracketPositions = new int[4];
+                } else if (bracketPositions.length == bracketCount * 2) {
+                    bracketPositions = Arrays.copyOf(bracketPositions, bracketCount * 4);
+                }
+                bracketPositions[bracketCount * 2] = start;
+                bracketPositions[bracketCount * 2 + 1] = sqlBuilder.length();
+                bracketCount++;
             }
-            //正常查询，构建问号
-            else {
-                appendQuestionMark(sql);
+
+            prevEffective = prevEffective || effective;
+            condition = condition.next;
+        }
+
+        // 从后往前插入括号，前面记录的位置不受影响
+        for (int i = bracketCount - 1; i >= 0; i--) {
+            int end = bracketPositions[i * 2 + 1];
+            if (StringUtil.hasText(sqlBuilder, end)) {
+                sqlBuilder.insert(end, SqlConsts.BRACKET_RIGHT).insert(bracketPositions[i * 2], SqlConsts.BRACKET_LEFT);
             }
         }
+    }
 
-        if (this.next != null) {
-            return sql + next.toSql(queryTables, dialect);
+    /**
+     * 构建当前条件自身的 SQL（不包含后面的条件），并追加到 {@code sqlBuilder} 中。
+     *
+     * @param sqlBuilder    SQL 构建器
+     * @param prevEffective 前面是否有生效的条件，有则需要添加连接符
+     * @param queryTables   查询表
+     * @param dialect       方言
+     */
+    protected void buildSelfSql(StringBuilder sqlBuilder, boolean prevEffective, List<QueryTable> queryTables, IDialect dialect) {
+        //检测是否生效
+        if (!checkEffective()) {
+            return;
         }
+        if (prevEffective && this.connector != null) {
+            sqlBuilder.append(this.connector);
+        }
+        //列
+        sqlBuilder.append(getColumn().toConditionSql(queryTables, dialect));
 
-        return sql.toString();
+        //逻辑符号
+        sqlBuilder.append(logic);
+
+        //值（或者问号）
+        if (value instanceof QueryColumn) {
+            sqlBuilder.append(((QueryColumn) value).toConditionSql(queryTables, dialect));
+        }
+        //子查询
+        else if (value instanceof QueryWrapper) {
+            sqlBuilder.append(SqlConsts.BRACKET_LEFT)
+                .append(dialect.buildSelectSql((QueryWrapper) value))
+                .append(SqlConsts.BRACKET_RIGHT);
+        }
+        //原生sql
+        else if (value instanceof RawQueryCondition) {
+            sqlBuilder.append(((RawQueryCondition) value).getContent());
+        }
+        //正常查询，构建问号
+        else {
+            appendQuestionMark(sqlBuilder);
+        }
     }
 
 
@@ -232,10 +310,11 @@ public class QueryCondition implements CloneSupport<QueryCondition> {
      * @return QueryCondition
      */
     protected QueryCondition getPrevEffectiveCondition() {
-        if (prev == null) {
-            return null;
+        QueryCondition condition = prev;
+        while (condition != null && !condition.checkEffective()) {
+            condition = condition.prev;
         }
-        return prev.checkEffective() ? prev : prev.getPrevEffectiveCondition();
+        return condition;
     }
 
     protected QueryCondition getNextEffectiveCondition() {
@@ -277,7 +356,7 @@ public class QueryCondition implements CloneSupport<QueryCondition> {
     }
 
 
-    private int calculateValueArrayCount() {
+    int calculateValueArrayCount() {
         Object[] values = (Object[]) value;
         int paramsCount = 0;
         for (Object object : values) {
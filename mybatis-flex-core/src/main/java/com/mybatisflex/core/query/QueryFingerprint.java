@@ -0,0 +1,377 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.query;
+
+import com.mybatisflex.core.constant.SqlConnector;
+import com.mybatisflex.core.constant.SqlConsts;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.util.StringUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link QueryWrapper} 的结构指纹。
+ *
+ * <p>指纹只记录会影响最终 SQL 文本的"结构"：方言、真实表名（包含动态表名和动态 schema）、查询列、
+ * 连接符、条件是否生效（包括 {@code when(false)} 的条件）、IN 参数数量、limit/offset 等，而忽略条件的参数值。
+ * 两个指纹相同的 {@link QueryWrapper} 生成的 SQL 一定相同，只需要重新收集参数即可。
+ *
+ * <p>遇到 with、自定义的列、条件等无法确定 SQL 结构的内容时，{@link #of(QueryWrapper, IDialect)} 返回 {@code null}，
+ * 表示当前 {@link QueryWrapper} 不能使用指纹缓存。
+ */
+public final class QueryFingerprint {
+
+    private final Object[] tokens;
+    private final int hashCode;
+
+    private QueryFingerprint(Object[] tokens) {
+        this.tokens = tokens;
+        this.hashCode = Arrays.hashCode(tokens);
+    }
+
+    /**
+     * 生成 {@link QueryWrapper} 的结构指纹。
+     *
+     * @param queryWrapper 查询条件
+     * @param dialect      方言
+     * @return 结构指纹，无法生成时返回 {@code null}
+     */
+    public static QueryFingerprint of(QueryWrapper queryWrapper, IDialect dialect) {
+        Builder builder = new Builder(dialect);
+        builder.add(dialect);
+        builder.appendWrapper(queryWrapper);
+        return builder.cacheable ? new QueryFingerprint(builder.tokens.toArray()) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof QueryFingerprint)) {
+            return false;
+        }
+        QueryFingerprint that = (QueryFingerprint) o;
+        return hashCode == that.hashCode && Arrays.equals(tokens, that.tokens);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "QueryFingerprint{" + "tokens=" + Arrays.toString(tokens) + '}';
+    }
+
+
+    /**
+     * 没有重写 SQL 构建方法的表，例如 APT 生成的 TableDef
+     */
+    private static final ClassValue<Boolean> PLAIN_TABLE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !overrides(type, QueryTable.class, "toSql", IDialect.class, OperateType.class);
+        }
+    };
+
+    /**
+     * 没有重写 SQL 构建方法的列
+     */
+    private static final ClassValue<Boolean> PLAIN_COLUMN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return !overrides(type, QueryColumn.class, "toConditionSql", List.class, IDialect.class)
+                && !overrides(type, QueryColumn.class, "toSelectSql", List.class, IDialect.class);
+        }
+    };
+
+    private static boolean overrides(Class<?> type, Class<?> baseClass, String methodName, Class<?>... parameterTypes) {
+        if (!baseClass.isAssignableFrom(type)) {
+            return true;
+        }
+        for (Class<?> clazz = type; clazz != baseClass; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ignored) {
+                // 继续查找父类
+            }
+        }
+        return false;
+    }
+
+
+    private static class Builder {
+
+        private final IDialect dialect;
+        private final List<Object> tokens = new ArrayList<>(64);
+        private boolean cacheable = true;
+
+        Builder(IDialect dialect) {
+            this.dialect = dialect;
+        }
+
+        void add(Object token) {
+            tokens.add(token);
+        }
+
+        void unsupported() {
+            cacheable = false;
+        }
+
+        void appendWrapper(QueryWrapper queryWrapper) {
+            if (!cacheable) {
+                return;
+            }
+            if (queryWrapper == null) {
+                add(null);
+                return;
+            }
+            // with 的内容形式较多，直接不缓存
+            if (queryWrapper.with != null) {
+                unsupported();
+                return;
+            }
+
+            add(QueryWrapper.class);
+            add(queryWrapper.hint);
+            appendTables(queryWrapper.queryTables);
+            appendTables(queryWrapper.joinTables);
+            appendColumns(queryWrapper.selectColumns);
+
+            List<Join> joins = queryWrapper.joins;
+            add(joins == null ? -1 : joins.size());
+            if (joins != null) {
+                for (Join join : joins) {
+                    appendJoin(join);
+                }
+            }
+
+            appendCondition(queryWrapper.whereQueryCondition);
+            appendColumns(queryWrapper.groupByColumns);
+            appendCondition(queryWrapper.havingQueryCondition);
+
+            List<QueryOrderBy> orderBys = queryWrapper.orderBys;
+            add(orderBys == null ? -1 : orderBys.size());
+            if (orderBys != null) {
+                for (QueryOrderBy orderBy : orderBys) {
+                    appendOrderBy(orderBy);
+                }
+            }
+
+            List<UnionWrapper> unions = queryWrapper.unions;
+            add(unions == null ? -1 : unions.size());
+            if (unions != null) {
+                for (UnionWrapper union : unions) {
+                    add(union.getKey());
+                    appendWrapper(union.getQueryWrapper());
+                }
+            }
+
+            // limit 和 offset 会被直接拼接到 SQL 中
+            add(queryWrapper.limitRows);
+            add(queryWrapper.limitOffset);
+
+            List<String> endFragments = queryWrapper.endFragments;
+            add(endFragments == null ? -1 : endFragments.size());
+            if (endFragments != null) {
+                tokens.addAll(endFragments);
+            }
+        }
+
+        void appendTables(List<QueryTable> queryTables) {
+            add(queryTables == null ? -1 : queryTables.size());
+            if (queryTables != null) {
+                for (QueryTable queryTable : queryTables) {
+                    appendTable(queryTable);
+                }
+            }
+        }
+
+        void appendTable(QueryTable queryTable) {
+            if (!cacheable) {
+                return;
+            }
+            if (queryTable == null) {
+                add(null);
+                return;
+            }
+            Class<?> tableClass = queryTable.getClass();
+            add(tableClass);
+            add(queryTable.schema);
+            add(queryTable.name);
+            add(queryTable.alias);
+            if (PLAIN_TABLE.get(tableClass)) {
+                // 真实表名受动态表名、动态 schema 影响
+                if (StringUtil.hasText(queryTable.name)) {
+                    String realTable = dialect.getRealTable(queryTable.name, OperateType.SELECT);
+                    add(realTable);
+                    add(StringUtil.hasText(queryTable.schema)
+                        ? dialect.getRealSchema(queryTable.schema, realTable, OperateType.SELECT) : null);
+                }
+            } else if (tableClass == SelectQueryTable.class) {
+                appendWrapper(((SelectQueryTable) queryTable).getQueryWrapper());
+            } else if (tableClass == RawQueryTable.class) {
+                add(((RawQueryTable) queryTable).getContent());
+            } else {
+                unsupported();
+            }
+        }
+
+        void appendColumns(List<QueryColumn> columns) {
+            add(columns == null ? -1 : columns.size());
+            if (columns != null) {
+                for (QueryColumn column : columns) {
+                    appendColumn(column);
+                }
+            }
+        }
+
+        void appendColumn(QueryColumn column) {
+            if (!cacheable) {
+                return;
+            }
+            if (column == null) {
+                add(null);
+                return;
+            }
+            Class<?> columnClass = column.getClass();
+            add(columnClass);
+            appendTable(column.table);
+            add(column.name);
+            add(column.alias);
+            if (PLAIN_COLUMN.get(columnClass)) {
+                return;
+            }
+            if (columnClass == FunctionQueryColumn.class) {
+                FunctionQueryColumn functionColumn = (FunctionQueryColumn) column;
+                add(functionColumn.getFnName());
+                appendColumns(functionColumn.getColumns());
+            } else if (columnClass == RawQueryColumn.class) {
+                add(((RawQueryColumn) column).getContent());
+            } else if (columnClass == SelectQueryColumn.class) {
+                appendWrapper(((SelectQueryColumn) column).getQueryWrapper());
+            } else {
+                unsupported();
+            }
+        }
+
+        void appendJoin(Join join) {
+            if (!cacheable) {
+                return;
+            }
+            if (join.getClass() != Join.class) {
+                unsupported();
+                return;
+            }
+            add(join.type);
+            add(join.effective);
+            appendTable(join.queryTable);
+            appendCondition(join.on);
+        }
+
+        void appendOrderBy(QueryOrderBy orderBy) {
+            if (!cacheable) {
+                return;
+            }
+            Class<?> orderByClass = orderBy.getClass();
+            add(orderByClass);
+            if (orderByClass == QueryOrderBy.class) {
+                appendColumn(orderBy.queryColumn);
+                add(orderBy.getOrderType());
+                add(orderBy.isNullsFirst());
+                add(orderBy.isNullsLast());
+            } else if (orderByClass == RawQueryOrderBy.class) {
+                add(((RawQueryOrderBy) orderBy).getContent());
+            } else {
+                unsupported();
+            }
+        }
+
+        void appendCondition(QueryCondition condition) {
+            if (condition == null) {
+                add(null);
+                return;
+            }
+            // 链表头的前一个条件会影响连接符的生成
+            add(condition.getPrevEffectiveCondition() != null);
+            while (condition != null && cacheable) {
+                appendConditionNode(condition);
+                condition = condition.next;
+            }
+            // 条件链结束标记
+            add(SqlConnector.class);
+        }
+
+        private void appendConditionNode(QueryCondition condition) {
+            Class<?> conditionClass = condition.getClass();
+            boolean effective = condition.checkEffective();
+            add(conditionClass);
+            add(condition.connector);
+            add(effective);
+            // 未生效的条件不会生成 SQL 内容，只需要记录其位置和状态
+            if (!effective) {
+                return;
+            }
+            if (conditionClass == QueryCondition.class) {
+                appendColumn(condition.getColumn());
+                String logic = condition.logic;
+                Object value = condition.value;
+                add(logic);
+                if (value instanceof QueryColumn) {
+                    add(QueryColumn.class);
+                    appendColumn((QueryColumn) value);
+                } else if (value instanceof QueryWrapper) {
+                    add(QueryWrapper.class);
+                    appendWrapper((QueryWrapper) value);
+                } else if (value instanceof RawQueryCondition) {
+                    add(RawQueryCondition.class);
+                    add(((RawQueryCondition) value).getContent());
+                } else if (SqlConsts.IN.equals(logic) || SqlConsts.NOT_IN.equals(logic)) {
+                    if (value instanceof Object[]) {
+                        add(condition.calculateValueArrayCount());
+                    } else {
+                        unsupported();
+                    }
+                }
+            } else if (conditionClass == Brackets.class) {
+                appendCondition(((Brackets) condition).getChildCondition());
+            } else if (conditionClass == OperatorQueryCondition.class) {
+                OperatorQueryCondition operatorCondition = (OperatorQueryCondition) condition;
+                add(operatorCondition.getOperator());
+                appendCondition(operatorCondition.getChildCondition());
+            } else if (conditionClass == OperatorSelectCondition.class) {
+                OperatorSelectCondition operatorCondition = (OperatorSelectCondition) condition;
+                add(operatorCondition.getOperator());
+                appendWrapper(operatorCondition.getQueryWrapper());
+            } else if (conditionClass == RawQueryCondition.class) {
+                add(((RawQueryCondition) condition).getContent());
+            } else if (conditionClass == RowValueQueryCondition.class) {
+                appendColumns(((RowValueQueryCondition) condition).getColumns());
+                add(condition.logic);
+            } else {
+                unsupported();
+            }
+        }
+
+    }
+
+}
@@ -67,6 +67,19 @@ public class QueryOrderBy implements CloneSupport<QueryOrderBy> {
     }
 
 
+    String getOrderType() {
+        return orderType;
+    }
+
+    boolean isNullsFirst() {
+        return nullsFirst;
+    }
+
+    boolean isNullsLast() {
+        return nullsLast;
+    }
+
+
     public String toSql(List<QueryTable> queryTables, IDialect dialect) {
         String sql = queryColumn.toConditionSql(queryTables, dialect) + orderType;
         if (nullsFirst) {
@@ -15,14 +15,13 @@
  */
 package com.mybatisflex.core.query;
 
-import com.mybatisflex.core.FlexConsts;
 import com.mybatisflex.core.constant.SqlConnector;
 import com.mybatisflex.core.constant.SqlConsts;
 import com.mybatisflex.core.constant.SqlOperator;
 import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.provider.SqlArgsBuilder;
 import com.mybatisflex.core.table.TableInfo;
 import com.mybatisflex.core.table.TableInfoFactory;
-import com.mybatisflex.core.util.ArrayUtil;
 import com.mybatisflex.core.util.ClassUtil;
 import com.mybatisflex.core.util.CollectionUtil;
 import com.mybatisflex.core.util.LambdaGetter;
@@ -2483,104 +2482,89 @@ public class QueryWrapper extends BaseQueryWrapper<QueryWrapper> {
      * 在构建 sql 的时候，需要保证 where 在 having 的前面
      */
     Object[] getAllValueArray() {
+        SqlArgsBuilder values = new SqlArgsBuilder();
+        appendAllValues(values);
+        return values.toArray();
+    }
 
-        List<Object> withValues = null;
-        if (with != null) {
-            Object[] paramValues = with.getParamValues();
-            if (ArrayUtil.isNotEmpty(paramValues)) {
-                withValues = new ArrayList<>(Arrays.asList(paramValues));
 
-            }
+    /**
+     * 将 queryWrapper 的所有参数按照 SQL 中的顺序追加到 {@code values} 中，
+     * join、union 以及子查询的参数直接写入同一个构建器，避免多次复制参数数组
+     */
+    void appendAllValues(SqlArgsBuilder values) {
+
+        if (with != null) {
+            values.addAll(with.getParamValues());
         }
 
-        List<Object> columnValues = null;
         List<QueryColumn> selectColumns = getSelectColumns();
         if (CollectionUtil.isNotEmpty(selectColumns)) {
             for (QueryColumn selectColumn : selectColumns) {
                 if (selectColumn instanceof HasParamsColumn) {
-                    Object[] paramValues = ((HasParamsColumn) selectColumn).getParamValues();
-                    if (ArrayUtil.isNotEmpty(paramValues)) {
-                        if (columnValues == null) {
-                            columnValues = new ArrayList<>(paramValues.length);
-                        }
-                        columnValues.addAll(Arrays.asList(paramValues));
-                    }
+                    values.addAll(((HasParamsColumn) selectColumn).getParamValues());
                 }
             }
         }
 
         // select 子查询的参数：select * from (select ....)
-        List<Object> tableValues = null;
         List<QueryTable> queryTables = getQueryTables();
         if (CollectionUtil.isNotEmpty(queryTables)) {
             for (QueryTable queryTable : queryTables) {
-                Object[] tableValueArray = queryTable.getValueArray();
-                if (tableValueArray.length > 0) {
-                    if (tableValues == null) {
-                        tableValues = new ArrayList<>(tableValueArray.length);
-                    }
-                    tableValues.addAll(Arrays.asList(tableValueArray));
-                }
+                appendTableValues(queryTable, values);
             }
         }
 
         // join 子查询的参数：left join (select ...)
-        List<Object> joinValues = null;
-        List<Join> joins = getJoins();
-        if (CollectionUtil.isNotEmpty(joins)) {
-            for (Join join : joins) {
-                QueryTable joinTable = join.getQueryTable();
-                Object[] valueArray = joinTable.getValueArray();
-                if (valueArray.length > 0) {
-                    if (joinValues == null) {
-                        joinValues = new ArrayList<>(valueArray.length);
-                    }
-                    joinValues.addAll(Arrays.asList(valueArray));
-                }
-                QueryCondition onCondition = join.getOnCondition();
-                Object[] values = WrapperUtil.getValues(onCondition);
-                if (values.length > 0) {
-                    if (joinValues == null) {
-                        joinValues = new ArrayList<>(values.length);
-                    }
-                    joinValues.addAll(Arrays.asList(values));
-                }
-            }
-        }
+        appendJoinValues(values);
 
         // where 参数
-        Object[] whereValues = WrapperUtil.getValues(whereQueryCondition);
+        WrapperUtil.appendValues(whereQueryCondition, values);
 
         // having 参数
-        Object[] havingValues = WrapperUtil.getValues(havingQueryCondition);
-
-        Object[] paramValues = ArrayUtil.concat(whereValues, havingValues);
+        WrapperUtil.appendValues(havingQueryCondition, values);
 
         // orderBy 参数
         if (CollectionUtil.isNotEmpty(orderBys)) {
             for (QueryOrderBy orderBy : orderBys) {
                 QueryColumn orderByColumn = orderBy.queryColumn;
-                if (orderByColumn != null && orderByColumn instanceof HasParamsColumn) {
-                    paramValues = ArrayUtil.concat(paramValues, ((HasParamsColumn) orderByColumn).getParamValues());
+                if (orderByColumn instanceof HasParamsColumn) {
+                    values.addAll(((HasParamsColumn) orderByColumn).getParamValues());
                 }
             }
         }
 
         // unions 参数
-        if (CollectionUtil.isNotEmpty(unions)) {
-            for (UnionWrapper union : unions) {
-                QueryWrapper queryWrapper = union.getQueryWrapper();
-                paramValues = ArrayUtil.concat(paramValues, queryWrapper.getAllValueArray());
+        appendUnionValues(values);
+    }
+
+
+    private static void appendTableValues(QueryTable queryTable, SqlArgsBuilder values) {
+        if (queryTable instanceof SelectQueryTable) {
+            ((SelectQueryTable) queryTable).getQueryWrapper().appendAllValues(values);
+        } else {
+            values.addAll(queryTable.getValueArray());
+        }
+    }
+
+
+    private void appendJoinValues(SqlArgsBuilder values) {
+        List<Join> joins = getJoins();
+        if (CollectionUtil.isNotEmpty(joins)) {
+            for (Join join : joins) {
+                appendTableValues(join.getQueryTable(), values);
+                WrapperUtil.appendValues(join.getOnCondition(), values);
             }
         }
+    }
 
-        Object[] returnValues = withValues == null ? FlexConsts.EMPTY_ARRAY : withValues.toArray();
-        returnValues = columnValues != null ? ArrayUtil.concat(returnValues, columnValues.toArray()) : returnValues;
-        returnValues = tableValues != null ? ArrayUtil.concat(returnValues, tableValues.toArray()) : returnValues;
-        returnValues = joinValues != null ? ArrayUtil.concat(returnValues, joinValues.toArray()) : returnValues;
-        returnValues = ArrayUtil.concat(returnValues, paramValues);
 
-        return returnValues;
+    private void appendUnionValues(SqlArgsBuilder values) {
+        if (CollectionUtil.isNotEmpty(unions)) {
+            for (UnionWrapper union : unions) {
+                union.getQueryWrapper().appendAllValues(values);
+            }
+        }
     }
 
 
@@ -2589,31 +2573,9 @@ public class QueryWrapper extends BaseQueryWrapper<QueryWrapper> {
      * 在构建 sql 的时候，需要保证 where 在 having 的前面
      */
     Object[] getJoinValueArray() {
-        // join 子查询的参数：left join (select ...)
-        List<Object> joinValues = null;
-        List<Join> joins = getJoins();
-        if (CollectionUtil.isNotEmpty(joins)) {
-            for (Join join : joins) {
-                QueryTable joinTable = join.getQueryTable();
-                Object[] valueArray = joinTable.getValueArray();
-                if (valueArray.length > 0) {
-                    if (joinValues == null) {
-                        joinValues = new ArrayList<>(valueArray.length);
-                    }
-                    joinValues.addAll(Arrays.asList(valueArray));
-                }
-                QueryCondition onCondition = join.getOnCondition();
-                Object[] values = WrapperUtil.getValues(onCondition);
-                if (values.length > 0) {
-                    if (joinValues == null) {
-                        joinValues = new ArrayList<>(values.length);
-                    }
-                    joinValues.addAll(Arrays.asList(values));
-                }
-            }
-        }
-
-        return joinValues == null ? FlexConsts.EMPTY_ARRAY : joinValues.toArray();
+        SqlArgsBuilder values = new SqlArgsBuilder();
+        appendJoinValues(values);
+        return values.toArray();
     }
 
 
@@ -2622,23 +2584,18 @@ public class QueryWrapper extends BaseQueryWrapper<QueryWrapper> {
      * 在构建 sql 的时候，需要保证 where 在 having 的前面
      */
     Object[] getConditionValueArray() {
+        SqlArgsBuilder values = new SqlArgsBuilder();
+
         // where 参数
-        Object[] whereValues = WrapperUtil.getValues(whereQueryCondition);
+        WrapperUtil.appendValues(whereQueryCondition, values);
 
         // having 参数
-        Object[] havingValues = WrapperUtil.getValues(havingQueryCondition);
-
-        Object[] paramValues = ArrayUtil.concat(whereValues, havingValues);
+        WrapperUtil.appendValues(havingQueryCondition, values);
 
         // unions 参数
-        if (CollectionUtil.isNotEmpty(unions)) {
-            for (UnionWrapper union : unions) {
-                QueryWrapper queryWrapper = union.getQueryWrapper();
-                paramValues = ArrayUtil.concat(paramValues, queryWrapper.getAllValueArray());
-            }
-        }
+        appendUnionValues(values);
 
-        return paramValues;
+        return values.toArray();
     }
 
 
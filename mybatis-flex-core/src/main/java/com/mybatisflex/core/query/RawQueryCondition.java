@@ -53,23 +53,15 @@ public class RawQueryCondition extends QueryCondition {
     }
 
     @Override
-    public String toSql(List<QueryTable> queryTables, IDialect dialect) {
-        StringBuilder sql = new StringBuilder();
-
+    protected void buildSelfSql(StringBuilder sqlBuilder, boolean prevEffective, List<QueryTable> queryTables, IDialect dialect) {
         //检测是否生效
-        if (checkEffective()) {
-            QueryCondition prevEffectiveCondition = getPrevEffectiveCondition();
-            if (prevEffectiveCondition != null && this.connector != null) {
-                sql.append(this.connector);
-            }
-            sql.append(SqlConsts.BLANK).append(content).append(SqlConsts.BLANK);
+        if (!checkEffective()) {
+            return;
         }
-
-        if (this.next != null) {
-            return sql + next.toSql(queryTables, dialect);
+        if (prevEffective && this.connector != null) {
+            sqlBuilder.append(this.connector);
         }
-
-        return sql.toString();
+        sqlBuilder.append(SqlConsts.BLANK).append(content).append(SqlConsts.BLANK);
     }
 
     @Override
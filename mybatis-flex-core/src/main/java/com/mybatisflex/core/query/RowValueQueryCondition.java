@@ -0,0 +1,103 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.query;
+
+import com.mybatisflex.core.constant.SqlConsts;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.util.CollectionUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 行值比较条件。
+ * 示例：(create_time, id) &gt; (?, ?)
+ */
+public class RowValueQueryCondition extends QueryCondition {
+
+    private List<QueryColumn> columns;
+
+    public RowValueQueryCondition(List<QueryColumn> columns, String logic, Object[] values) {
+        this.columns = columns;
+        this.logic = logic;
+        this.value = values;
+    }
+
+    public List<QueryColumn> getColumns() {
+        return columns;
+    }
+
+    @Override
+    protected void buildSelfSql(StringBuilder sqlBuilder, boolean prevEffective, List<QueryTable> queryTables, IDialect dialect) {
+        //检测是否生效
+        if (!checkEffective()) {
+            return;
+        }
+        if (prevEffective && this.connector != null) {
+            sqlBuilder.append(this.connector);
+        }
+        sqlBuilder.append(SqlConsts.BRACKET_LEFT);
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sqlBuilder.append(SqlConsts.DELIMITER);
+            }
+            sqlBuilder.append(columns.get(i).toConditionSql(queryTables, dialect));
+        }
+        sqlBuilder.append(SqlConsts.BRACKET_RIGHT).append(logic).append(SqlConsts.BRACKET_LEFT);
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                sqlBuilder.append(SqlConsts.DELIMITER);
+            }
+            sqlBuilder.append(SqlConsts.PLACEHOLDER);
+        }
+        sqlBuilder.append(SqlConsts.BRACKET_RIGHT);
+    }
+
+    @Override
+    boolean containsTable(String... tables) {
+        if (checkEffective()) {
+            for (QueryColumn queryColumn : columns) {
+                if (containsTable(queryColumn, tables)) {
+                    return true;
+                }
+            }
+        }
+        return nextContainsTable(tables);
+    }
+
+    @Override
+    public String toString() {
+        return "RowValueQueryCondition{" +
+            "columns=" + columns +
+            ", logic='" + logic + '\'' +
+            '}';
+    }
+
+    @Override
+    public RowValueQueryCondition clone() {
+        RowValueQueryCondition clone = (RowValueQueryCondition) super.clone();
+        // deep clone ...
+        if (CollectionUtil.isNotEmpty(this.columns)) {
+            List<QueryColumn> newColumns = new ArrayList<>(this.columns.size());
+            for (QueryColumn column : this.columns) {
+                newColumns.add(column.clone());
+            }
+            clone.columns = newColumns;
+        }
+        return clone;
+    }
+
+}
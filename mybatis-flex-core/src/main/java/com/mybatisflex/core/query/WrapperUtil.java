@@ -21,13 +21,13 @@ import com.mybatisflex.core.constant.SqlConsts;
 import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.dialect.IDialect;
 import com.mybatisflex.core.dialect.impl.OracleDialect;
+import com.mybatisflex.core.provider.SqlArgsBuilder;
 import com.mybatisflex.core.util.ClassUtil;
 import com.mybatisflex.core.util.EnumWrapper;
 import com.mybatisflex.core.util.StringUtil;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -83,59 +83,69 @@ class WrapperUtil {
             return FlexConsts.EMPTY_ARRAY;
         }
 
-        List<Object> params = new ArrayList<>();
-        getValues(condition, params);
+        SqlArgsBuilder params = new SqlArgsBuilder();
+        appendValues(condition, params);
 
-        return params.isEmpty() ? FlexConsts.EMPTY_ARRAY : params.toArray();
+        return params.toArray();
     }
 
 
-    private static void getValues(QueryCondition condition, List<Object> params) {
-        if (condition == null) {
-            return;
-        }
-
-        QueryColumn column = condition.getColumn();
-        if (column instanceof HasParamsColumn) {
-            addParam(params, ((HasParamsColumn) column).getParamValues());
-        }
+    /**
+     * 将条件链上的所有参数追加到 {@code params} 中，条件链通过循环遍历，括号等子条件直接写入同一个构建器。
+     */
+    static void appendValues(QueryCondition condition, SqlArgsBuilder params) {
+        while (condition != null) {
+            QueryColumn column = condition.getColumn();
+            if (column instanceof HasParamsColumn) {
+                addParam(params, ((HasParamsColumn) column).getParamValues());
+            }
 
-        Object value = condition.getValue();
+            // 括号和 not (...) 等子条件，直接追加子条件的参数，不再创建中间数组
+            if (condition instanceof Brackets || condition instanceof OperatorQueryCondition) {
+                if (condition.checkEffective()) {
+                    appendValues(condition instanceof Brackets ? ((Brackets) condition).getChildCondition()
+                        : ((OperatorQueryCondition) condition).getChildCondition(), params);
+                }
+                condition = condition.next;
+                continue;
+            }
 
-        if (value == null) {
-            // column = user_name; logic = eq; value = null
-            // sql: user_name = null
-            String logic;
-            if (condition.checkEffective()
-                && (logic = condition.getLogic()) != null
-                && !logic.equals(SqlConsts.IS_NULL)
-                && !logic.equals(SqlConsts.IS_NOT_NULL)) {
-                params.add(null);
+            Object value = condition.getValue();
+
+            if (value == null) {
+                // column = user_name; logic = eq; value = null
+                // sql: user_name = null
+                String logic;
+                if (condition.checkEffective()
+                    && (logic = condition.getLogic()) != null
+                    && !logic.equals(SqlConsts.IS_NULL)
+                    && !logic.equals(SqlConsts.IS_NOT_NULL)) {
+                    params.add(null);
+                }
+            } else if (!(value instanceof QueryColumn || value instanceof RawQueryCondition)) {
+                addParam(params, value);
             }
-            getValues(condition.next, params);
-            return;
-        }
 
-        if (value instanceof QueryColumn || value instanceof RawQueryCondition) {
-            getValues(condition.next, params);
-            return;
+            condition = condition.next;
         }
-
-        addParam(params, value);
-        getValues(condition.next, params);
     }
 
     @SuppressWarnings("all")
-    private static void addParam(List<Object> paras, Object value) {
+    private static void addParam(SqlArgsBuilder paras, Object value) {
         if (value == null) {
             paras.add(null);
+        } else if (value instanceof Object[]) {
+            Object[] array = (Object[]) value;
+            paras.ensureCapacity(paras.size() + array.length);
+            for (Object arrayValue : array) {
+                addParam(paras, arrayValue);
+            }
         } else if (ClassUtil.isArray(value.getClass())) {
             for (int i = 0; i < Array.getLength(value); i++) {
                 addParam(paras, Array.get(value, i));
             }
         } else if (value instanceof QueryWrapper) {
-            Object[] valueArray = ((QueryWrapper) value).getAllValueArray();
-            paras.addAll(Arrays.asList(valueArray));
+            ((QueryWrapper) value).appendAllValues(paras);
         } else if (value instanceof Enum) {
             // 枚举类型，处理枚举实际值
             EnumWrapper enumWrapper = EnumWrapper.of(value.getClass());
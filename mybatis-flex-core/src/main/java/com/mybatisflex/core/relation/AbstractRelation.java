@@ -374,6 +374,52 @@ public abstract class AbstractRelation<SelfEntity> {
      * @return QueryWrapper
      */
     public QueryWrapper buildQueryWrapper(Set<Object> targetValues) {
+        return doBuildQueryWrapper(prepareTargetValues(targetValues));
+    }
+
+
+    /**
+     * 构建查询目标对象的 QueryWrapper，条件的值超过 {@code maxInSize} 个时拆分为多个查询，
+     * 避免 IN 条件的值过多（例如 Oracle 最多 1000 个）。
+     *
+     * @param targetValues 条件的值
+     * @param maxInSize    每个查询 IN 条件最多的值数量，小于等于 0 时不拆分
+     * @return QueryWrapper 列表
+     */
+    public List<QueryWrapper> buildQueryWrappers(Set<Object> targetValues, int maxInSize) {
+        Set<Object> values = prepareTargetValues(targetValues);
+        if (maxInSize <= 0 || values.size() <= maxInSize) {
+            return Collections.singletonList(doBuildQueryWrapper(values));
+        }
+
+        List<QueryWrapper> queryWrappers = new ArrayList<>();
+        for (Set<Object> chunk : RelationManager.splitValues(values, maxInSize)) {
+            queryWrappers.add(doBuildQueryWrapper(chunk));
+        }
+        return queryWrappers;
+    }
+
+
+    /**
+     * 处理条件的值，方便子类对条件的值进行转换
+     *
+     * @param targetValues 条件的值
+     * @return 处理后的条件的值
+     */
+    protected Set<Object> prepareTargetValues(Set<Object> targetValues) {
+        return targetValues;
+    }
+
+
+    /**
+     * 通过已处理（{@link #prepareTargetValues(Set)}）的条件的值构建 QueryWrapper，
+     * {@link #buildQueryWrapper(Set)} 与 {@link #buildQueryWrappers(Set, int)} 都通过此方法构建，
+     * 子类需要修改查询条件时应重写此方法或 {@link #customizeQueryWrapper(QueryWrapper)}。
+     *
+     * @param targetValues 已处理的条件的值
+     * @return QueryWrapper
+     */
+    protected QueryWrapper doBuildQueryWrapper(Set<Object> targetValues) {
         QueryWrapper queryWrapper = QueryWrapper.create();
 
         if (ArrayUtil.isNotEmpty(selectColumns)) {
@@ -0,0 +1,223 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.relation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 内存 join 时使用的关联值 Map。
+ *
+ * <p>关联值按以下规则归一化后作为 key，与原来按 {@code toString()} 比较的结果保持一致：
+ * <ul>
+ *     <li>整数类型以及整数形式的字符串（例如 {@code "123"}）按 {@code long} 比较，存放在以基本类型 {@code long} 为 key 的开放寻址表中，不需要装箱；</li>
+ *     <li>{@link UUID} 以及 UUID 形式的字符串按 {@link UUID} 比较；</li>
+ *     <li>其他类型按 {@code toString()} 比较。</li>
+ * </ul>
+ *
+ * <p>非线程安全。
+ *
+ * @param <V> 值类型
+ */
+final class JoinKeyMap<V> {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] longKeys;
+    private Object[] longValues;
+    private int longSize;
+
+    private Map<Object, V> objectMap;
+
+    /**
+     * 最近一次 {@link #toLong(Object)} 解析到的值
+     */
+    private long parsedLong;
+
+    JoinKeyMap(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        longKeys = new long[capacity];
+        longValues = new Object[capacity];
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (toLong(value)) {
+            int index = indexOf(longKeys, longValues, parsedLong);
+            return (V) longValues[index];
+        }
+        return objectMap == null ? null : objectMap.get(toObjectKey(value));
+    }
+
+    void put(Object value, V v) {
+        if (value == null) {
+            return;
+        }
+        if (toLong(value)) {
+            int index = indexOf(longKeys, longValues, parsedLong);
+            if (longValues[index] == null) {
+                longKeys[index] = parsedLong;
+                longValues[index] = v;
+                if (++longSize * 2 > longKeys.length) {
+                    resize();
+                }
+            } else {
+                longValues[index] = v;
+            }
+        } else {
+            if (objectMap == null) {
+                objectMap = new HashMap<>();
+            }
+            objectMap.put(toObjectKey(value), v);
+        }
+    }
+
+    boolean isEmpty() {
+        return longSize == 0 && (objectMap == null || objectMap.isEmpty());
+    }
+
+    private void resize() {
+        long[] oldKeys = longKeys;
+        Object[] oldValues = longValues;
+        long[] newKeys = new long[oldKeys.length << 1];
+        Object[] newValues = new Object[oldValues.length << 1];
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int index = indexOf(newKeys, newValues, oldKeys[i]);
+                newKeys[index] = oldKeys[i];
+                newValues[index] = oldValues[i];
+            }
+        }
+        longKeys = newKeys;
+        longValues = newValues;
+    }
+
+    private static int indexOf(long[] keys, Object[] values, long key) {
+        int mask = keys.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int index = (int) (h ^ (h >>> 32)) & mask;
+        while (values[index] != null && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+
+    /**
+     * 尝试将关联值转换为 long，成功时结果存放在 {@link #parsedLong} 中。
+     */
+    private boolean toLong(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            parsedLong = ((Number) value).longValue();
+            return true;
+        }
+        if (value instanceof String) {
+            return parseLong((String) value);
+        }
+        if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            if (bigInteger.bitLength() < 64) {
+                parsedLong = bigInteger.longValue();
+                return true;
+            }
+            return false;
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal bigDecimal = (BigDecimal) value;
+            // scale 大于 0 时 toString() 带有小数部分，scale 小于 0 时为科学计数法
+            if (bigDecimal.scale() == 0 && bigDecimal.unscaledValue().bitLength() < 64) {
+                parsedLong = bigDecimal.longValue();
+                return true;
+            }
+            return false;
+        }
+        return false;
+    }
+
+    /**
+     * 解析与 {@link Long#toString(long)} 格式完全相同的字符串，例如 {@code "007"}、{@code "+7"} 不会被解析。
+     */
+    private boolean parseLong(String value) {
+        int length = value.length();
+        if (length == 0 || length > 20) {
+            return false;
+        }
+        boolean negative = value.charAt(0) == '-';
+        int start = negative ? 1 : 0;
+        if (start == length) {
+            return false;
+        }
+        if (value.charAt(start) == '0' && (length - start > 1 || negative)) {
+            return false;
+        }
+
+        // 按负数累加，可以表示 Long.MIN_VALUE
+        long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long multiMin = limit / 10;
+        long result = 0;
+        for (int i = start; i < length; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9 || result < multiMin) {
+                return false;
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                return false;
+            }
+            result -= digit;
+        }
+        parsedLong = negative ? result : -result;
+        return true;
+    }
+
+    private static Object toObjectKey(Object value) {
+        if (value instanceof UUID) {
+            return value;
+        }
+        String string = value.toString();
+        return isUUID(string) ? UUID.fromString(string) : string;
+    }
+
+    /**
+     * 是否为与 {@link UUID#toString()} 格式完全相同的字符串（小写）。
+     */
+    private static boolean isUUID(String string) {
+        if (string.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = string.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
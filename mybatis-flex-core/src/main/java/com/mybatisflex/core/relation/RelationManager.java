@@ -21,12 +21,14 @@ import com.mybatisflex.annotation.RelationOneToMany;
 import com.mybatisflex.annotation.RelationOneToOne;
 import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.FlexConsts;
+import com.mybatisflex.core.FlexContext;
 import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.datasource.DataSourceKey;
 import com.mybatisflex.core.query.QueryWrapper;
 import com.mybatisflex.core.row.Row;
 import com.mybatisflex.core.util.ClassUtil;
 import com.mybatisflex.core.util.CollectionUtil;
+import com.mybatisflex.core.util.ConcurrentQuery;
 import com.mybatisflex.core.util.LambdaGetter;
 import com.mybatisflex.core.util.LambdaUtil;
 import com.mybatisflex.core.util.MapUtil;
@@ -35,12 +37,19 @@ import com.mybatisflex.core.util.StringUtil;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import static com.mybatisflex.core.query.QueryMethods.column;
 
@@ -61,32 +70,19 @@ public class RelationManager {
     private static int defaultQueryDepth = FlexGlobalConfig.getDefaultConfig().getDefaultRelationQueryDepth();
 
     /**
-     * 递归查询深度，默认为 2，在一些特殊场景下可以修改这个值
+     * 每个查询 IN 条件最多的值数量，超过时拆分为多个查询，小于等于 0 时不拆分
      */
-    private static ThreadLocal<Integer> depthThreadLocal = ThreadLocal.withInitial(() -> defaultQueryDepth);
+    private static int maxInSize = 1000;
 
     /**
-     * 附加条件的查询参数
+     * 并行查询同一个实体类的多个关联属性（以及它们的下一层关联）的线程池，为 {@code null} 时依次查询
      */
-    private static ThreadLocal<Map<String, Object>> extraConditionParams = new ThreadLocal<>();
+    private static volatile Executor executor;
 
-
-    /**
-     * 查询时，可忽略某些已经添加 Relation 注解的属性
-     */
-    private static ThreadLocal<Set<String>> ignoreRelations = new ThreadLocal<>();
-
-
-    /**
-     * 查询时，仅查询这个配置的 Relations
-     */
-    private static ThreadLocal<Set<String>> onlyQueryRelations = new ThreadLocal<>();
-
-
-    /**
-     * 每次查询是否自动清除 depth  extraConditionParams ignoreRelations 的配置
+    /*
+     * 递归查询深度（默认为 defaultQueryDepth）、附加条件的查询参数、查询时忽略的 Relations、仅查询的 Relations
+     * 以及每次查询是否自动清除这些配置，都保存在当前线程的 FlexContext 中
      */
-    private static ThreadLocal<Boolean> autoClearConfig = ThreadLocal.withInitial(() -> true);
 
 
     public static int getDefaultQueryDepth() {
@@ -97,127 +93,137 @@ public class RelationManager {
         RelationManager.defaultQueryDepth = defaultQueryDepth;
     }
 
+    public static int getMaxInSize() {
+        return maxInSize;
+    }
+
+    public static void setMaxInSize(int maxInSize) {
+        RelationManager.maxInSize = maxInSize;
+    }
+
+    public static Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * 设置并行查询关联属性的线程池。
+     *
+     * <p>执行查询的线程会恢复调用线程的数据源以及附加条件的查询参数等设置；在事务中查询时，依然依次查询。
+     *
+     * @param executor 线程池，为 {@code null} 时依次查询
+     */
+    public static void setExecutor(Executor executor) {
+        RelationManager.executor = executor;
+    }
+
     public static void setMaxDepth(int maxDepth) {
-        depthThreadLocal.set(maxDepth);
+        FlexContext.set(FlexContext.current().withRelationQueryDepth(maxDepth));
     }
 
     public static int getMaxDepth() {
-        return depthThreadLocal.get();
+        Integer depth = FlexContext.current().getRelationQueryDepth();
+        return depth != null ? depth : defaultQueryDepth;
     }
 
     public static void clearMaxDepth() {
-        depthThreadLocal.remove();
+        FlexContext.set(FlexContext.current().withRelationQueryDepth(null));
     }
 
 
     public static void setExtraConditionParams(Map<String, Object> params) {
-        extraConditionParams.set(params);
+        FlexContext.set(FlexContext.current().withRelationExtraConditionParams(params));
     }
 
     public static void addExtraConditionParam(String key, Object value) {
-        Map<String, Object> params = extraConditionParams.get();
-        if (params == null) {
-            params = new HashMap<>();
-            extraConditionParams.set(params);
-        }
-        params.put(key, value);
+        FlexContext.set(FlexContext.current().withRelationExtraConditionParam(key, value));
     }
 
     public static Map<String, Object> getExtraConditionParams() {
-        return extraConditionParams.get();
+        return FlexContext.current().getRelationExtraConditionParams();
     }
 
     public static void clearExtraConditionParams() {
-        extraConditionParams.remove();
+        FlexContext.set(FlexContext.current().withRelationExtraConditionParams(null));
     }
 
 
     //////ignore relations //////
     public static Set<String> getIgnoreRelations() {
-        return ignoreRelations.get();
+        return FlexContext.current().getIgnoreRelations();
     }
 
     public static void setIgnoreRelations(Set<String> ignoreRelations) {
-        RelationManager.ignoreRelations.set(ignoreRelations);
+        FlexContext.set(FlexContext.current().withIgnoreRelations(ignoreRelations));
     }
 
 
     public static <T> void addIgnoreRelations(LambdaGetter<T>... ignoreRelations) {
-        Set<String> relations = RelationManager.ignoreRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setIgnoreRelations(relations);
-        }
-        for (LambdaGetter<T> lambdaGetter : ignoreRelations) {
-            Class<?> implClass = LambdaUtil.getImplClass(lambdaGetter);
-            String fieldName = LambdaUtil.getFieldName(lambdaGetter);
-            relations.add(implClass.getSimpleName() + "." + fieldName);
-        }
+        setIgnoreRelations(addRelations(getIgnoreRelations(), ignoreRelations));
     }
 
     public static void addIgnoreRelations(String... ignoreRelations) {
-        Set<String> relations = RelationManager.ignoreRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setIgnoreRelations(relations);
-        }
-        relations.addAll(Arrays.asList(ignoreRelations));
+        setIgnoreRelations(addRelations(getIgnoreRelations(), ignoreRelations));
     }
 
 
     public static void clearIgnoreRelations() {
-        ignoreRelations.remove();
+        setIgnoreRelations(null);
     }
 
 
     //////query relations //////
     public static Set<String> getQueryRelations() {
-        return onlyQueryRelations.get();
+        return FlexContext.current().getQueryRelations();
     }
 
     public static void setQueryRelations(Set<String> queryRelations) {
-        RelationManager.onlyQueryRelations.set(queryRelations);
+        FlexContext.set(FlexContext.current().withQueryRelations(queryRelations));
     }
 
 
     public static <T> void addQueryRelations(LambdaGetter<T>... queryRelations) {
-        Set<String> relations = RelationManager.onlyQueryRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setQueryRelations(relations);
-        }
-        for (LambdaGetter<T> lambdaGetter : queryRelations) {
-            Class<?> implClass = LambdaUtil.getImplClass(lambdaGetter);
-            String fieldName = LambdaUtil.getFieldName(lambdaGetter);
-            relations.add(implClass.getSimpleName() + "." + fieldName);
-        }
+        setQueryRelations(addRelations(getQueryRelations(), queryRelations));
     }
 
     public static void addQueryRelations(String... queryRelations) {
-        Set<String> relations = RelationManager.onlyQueryRelations.get();
-        if (relations == null) {
-            relations = new HashSet<>();
-            setQueryRelations(relations);
-        }
-        relations.addAll(Arrays.asList(queryRelations));
+        setQueryRelations(addRelations(getQueryRelations(), queryRelations));
     }
 
 
     public static void clearQueryRelations() {
-        onlyQueryRelations.remove();
+        setQueryRelations(null);
+    }
+
+    @SafeVarargs
+    private static <T> Set<String> addRelations(Set<String> relations, LambdaGetter<T>... lambdaGetters) {
+        String[] names = new String[lambdaGetters.length];
+        for (int i = 0; i < lambdaGetters.length; i++) {
+            Class<?> implClass = LambdaUtil.getImplClass(lambdaGetters[i]);
+            String fieldName = LambdaUtil.getFieldName(lambdaGetters[i]);
+            names[i] = implClass.getSimpleName() + "." + fieldName;
+        }
+        return addRelations(relations, names);
+    }
+
+    private static Set<String> addRelations(Set<String> relations, String... names) {
+        // 上下文可能已经被传递给其他线程，不能直接修改原来的 Set
+        Set<String> newRelations = relations == null ? new HashSet<>() : new HashSet<>(relations);
+        newRelations.addAll(Arrays.asList(names));
+        return newRelations;
     }
 
 
     public static void setAutoClearConfig(boolean enable) {
-        autoClearConfig.set(enable);
+        FlexContext.set(FlexContext.current().withRelationAutoClearConfig(enable));
     }
 
     public static boolean getAutoClearConfig() {
-        return autoClearConfig.get();
+        Boolean autoClearConfig = FlexContext.current().getRelationAutoClearConfig();
+        return autoClearConfig == null || autoClearConfig;
     }
 
     public static void clearAutoClearConfig() {
-        autoClearConfig.remove();
+        FlexContext.set(FlexContext.current().withRelationAutoClearConfig(null));
     }
 
 
@@ -225,7 +231,7 @@ public class RelationManager {
         if (keys == null || keys.isEmpty()) {
             return FlexConsts.EMPTY_ARRAY;
         }
-        Map<String, Object> paramMap = extraConditionParams.get();
+        Map<String, Object> paramMap = getExtraConditionParams();
         if (paramMap == null || paramMap.isEmpty()) {
             return new Object[keys.size()];
         }
@@ -273,22 +279,32 @@ public class RelationManager {
 
     public static <Entity> void queryRelations(BaseMapper<?> mapper, List<Entity> entities) {
         try {
-            doQueryRelations(mapper, entities, 0, depthThreadLocal.get(), ignoreRelations.get(), onlyQueryRelations.get());
+            queryRelationsWithoutClearConfig(mapper, entities);
         } finally {
             clearConfigIfNecessary();
         }
     }
 
+    /**
+     * 查询一批数据的关联数据，与 {@link #queryRelations(BaseMapper, List)} 不同，查询后不会清除查询配置，
+     * 用于分批查询时每一批数据都使用相同的配置，全部查询完成后需要调用 {@link #clearConfigIfNecessary()}。
+     *
+     * @param mapper   Mapper
+     * @param entities 当前批次的数据
+     */
+    public static <Entity> void queryRelationsWithoutClearConfig(BaseMapper<?> mapper, List<Entity> entities) {
+        FlexContext context = FlexContext.current();
+        Integer depth = context.getRelationQueryDepth();
+        doQueryRelations(mapper, entities, 0, depth != null ? depth : defaultQueryDepth
+            , context.getIgnoreRelations(), context.getQueryRelations());
+    }
+
     /**
      * 清除查询配置
      */
     public static void clearConfigIfNecessary() {
-        Boolean autoClearEnable = autoClearConfig.get();
-        if (autoClearEnable != null && autoClearEnable) {
-            depthThreadLocal.remove();
-            extraConditionParams.remove();
-            onlyQueryRelations.remove();
-            ignoreRelations.remove();
+        if (getAutoClearConfig()) {
+            FlexContext.set(FlexContext.current().withoutRelationConfig());
         }
     }
 
@@ -309,87 +325,221 @@ public class RelationManager {
             return;
         }
 
-        relations.forEach(relation -> {
-
+        List<AbstractRelation> needQueryRelations = new ArrayList<>(relations.size());
+        for (AbstractRelation relation : relations) {
             //ignore
             if (ignoreRelations != null && (ignoreRelations.contains(relation.getSimpleName())
                 || ignoreRelations.contains(relation.getName()))) {
-                return;
+                continue;
             }
 
             //only query
             if (queryRelations != null && !queryRelations.isEmpty()
                 && !queryRelations.contains(relation.getSimpleName())
                 && !queryRelations.contains(relation.getName())) {
+                continue;
+            }
+
+            needQueryRelations.add(relation);
+        }
+
+        Executor relationExecutor = executor;
+        if (relationExecutor != null && needQueryRelations.size() > 1) {
+            doQueryRelationsInParallel(relationExecutor, mapper, entities, needQueryRelations, currentDepth, maxDepth, ignoreRelations, queryRelations);
+        } else {
+            for (AbstractRelation relation : needQueryRelations) {
+                doQueryRelation(mapper, entities, relation, currentDepth, maxDepth, ignoreRelations, queryRelations);
+            }
+        }
+    }
+
+
+    private static <Entity> void doQueryRelationsInParallel(Executor relationExecutor, BaseMapper<?> mapper, List<Entity> entities
+        , List<AbstractRelation> relations, int currentDepth, int maxDepth, Set<String> ignoreRelations, Set<String> queryRelations) {
+        List<RelationTask> tasks = new ArrayList<>(relations.size());
+        for (AbstractRelation relation : relations) {
+            Supplier<Object> query = ConcurrentQuery.wrap(mapper, relationMapper -> {
+                doQueryRelation(relationMapper, entities, relation, currentDepth, maxDepth, ignoreRelations, queryRelations);
+                return null;
+            });
+            // 不能并发查询，例如在事务中
+            if (query == null) {
+                for (AbstractRelation r : relations) {
+                    doQueryRelation(mapper, entities, r, currentDepth, maxDepth, ignoreRelations, queryRelations);
+                }
                 return;
             }
+            tasks.add(new RelationTask(query));
+        }
 
-            //注解配置的数据源
-            String relationDsKey = relation.getDataSource();
-            if (StringUtil.hasText(relationDsKey)) {
-                DataSourceKey.use(relationDsKey);
+        // 第一个关联属性在当前线程中查询
+        for (int i = 1; i < tasks.size(); i++) {
+            try {
+                relationExecutor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                // 等待时在当前线程中查询
             }
+        }
 
+        RuntimeException exception = null;
+        for (RelationTask task : tasks) {
             try {
-                Set<Object> targetValues;
-                List<Row> mappingRows = null;
+                task.await();
+            } catch (RuntimeException e) {
+                if (exception == null) {
+                    exception = e;
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
 
-                //通过中间表关联查询
-                if (relation.isRelationByMiddleTable()) {
 
-                    Set selfFieldValues = relation.getSelfFieldValues(entities);
-                    // 当数据对应的字段没有值的情况下，直接返回
-                    if (selfFieldValues.isEmpty()) {
-                        return;
-                    }
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static <Entity> void doQueryRelation(BaseMapper<?> mapper, List<Entity> entities, AbstractRelation relation
+        , int currentDepth, int maxDepth, Set<String> ignoreRelations, Set<String> queryRelations) {
+        //注解配置的数据源
+        String relationDsKey = relation.getDataSource();
+        if (StringUtil.hasText(relationDsKey)) {
+            DataSourceKey.use(relationDsKey);
+        }
+
+        try {
+            Set<Object> targetValues;
+            List<Row> mappingRows = null;
+
+            //通过中间表关联查询
+            if (relation.isRelationByMiddleTable()) {
+
+                Set<Object> selfFieldValues = relation.getSelfFieldValues(entities);
+                // 当数据对应的字段没有值的情况下，直接返回
+                if (selfFieldValues.isEmpty()) {
+                    return;
+                }
+
+                mappingRows = new ArrayList<>();
+                for (Set<Object> values : splitValues(selfFieldValues, maxInSize)) {
                     QueryWrapper queryWrapper = QueryWrapper.create().select()
                         .from(relation.getJoinTable());
-                    if (selfFieldValues.size() > 1) {
-                        queryWrapper.where(column(relation.getJoinSelfColumn()).in(selfFieldValues));
+                    if (values.size() > 1) {
+                        queryWrapper.where(column(relation.getJoinSelfColumn()).in(values));
                     } else {
-                        queryWrapper.where(column(relation.getJoinSelfColumn()).eq(selfFieldValues.iterator().next()));
+                        queryWrapper.where(column(relation.getJoinSelfColumn()).eq(values.iterator().next()));
                     }
+                    mappingRows.addAll(mapper.selectRowsByQuery(queryWrapper));
+                }
 
-                    mappingRows = mapper.selectRowsByQuery(queryWrapper);
-                    if (CollectionUtil.isEmpty(mappingRows)) {
-                        return;
-                    }
+                if (CollectionUtil.isEmpty(mappingRows)) {
+                    return;
+                }
 
-                    targetValues = new HashSet<>();
+                targetValues = new HashSet<>();
 
-                    for (Row mappingData : mappingRows) {
-                        Object targetValue = mappingData.getIgnoreCase(relation.getJoinTargetColumn());
-                        if (targetValue != null) {
-                            targetValues.add(targetValue);
-                        }
+                for (Row mappingData : mappingRows) {
+                    Object targetValue = mappingData.getIgnoreCase(relation.getJoinTargetColumn());
+                    if (targetValue != null) {
+                        targetValues.add(targetValue);
                     }
                 }
-                //通过外键字段关联查询
-                else {
-                    targetValues = relation.getSelfFieldValues(entities);
-                }
+            }
+            //通过外键字段关联查询
+            else {
+                targetValues = relation.getSelfFieldValues(entities);
+            }
 
-                if (CollectionUtil.isEmpty(targetValues)) {
-                    return;
+            if (CollectionUtil.isEmpty(targetValues)) {
+                return;
+            }
+
+            //仅绑定字段:As目标实体类 不进行字段绑定:As映射类型
+            Class<?> asType = relation.isOnlyQueryValueField() ? relation.getTargetEntityClass() : relation.getMappingType();
+            List<QueryWrapper> queryWrappers = relation.buildQueryWrappers(targetValues, maxInSize);
+            List targetObjectList;
+            if (queryWrappers.size() == 1) {
+                targetObjectList = mapper.selectListByQueryAs(queryWrappers.get(0), asType);
+            } else {
+                targetObjectList = new ArrayList<>();
+                for (QueryWrapper queryWrapper : queryWrappers) {
+                    targetObjectList.addAll(mapper.selectListByQueryAs(queryWrapper, asType));
                 }
+            }
 
-                //仅绑定字段:As目标实体类 不进行字段绑定:As映射类型
-                QueryWrapper queryWrapper = relation.buildQueryWrapper(targetValues);
-                List<?> targetObjectList = mapper.selectListByQueryAs(queryWrapper, relation.isOnlyQueryValueField() ? relation.getTargetEntityClass() : relation.getMappingType());
-                if (CollectionUtil.isNotEmpty(targetObjectList)) {
+            if (CollectionUtil.isNotEmpty(targetObjectList)) {
 
-                    //递归查询
-                    doQueryRelations(mapper, targetObjectList, currentDepth + 1, maxDepth, ignoreRelations, queryRelations);
+                //递归查询
+                doQueryRelations(mapper, targetObjectList, currentDepth + 1, maxDepth, ignoreRelations, queryRelations);
 
-                    //进行内存 join
-                    relation.join(entities, targetObjectList, mappingRows);
-                }
-            } finally {
-                if (StringUtil.hasText(relationDsKey)) {
-                    DataSourceKey.clear();
-                }
+                //进行内存 join
+                relation.join(entities, targetObjectList, mappingRows);
+            }
+        } finally {
+            if (StringUtil.hasText(relationDsKey)) {
+                DataSourceKey.clear();
             }
-        });
+        }
+    }
+
+
+    /**
+     * 按 {@code maxInSize} 拆分条件的值。
+     *
+     * @param values    条件的值
+     * @param maxInSize 每组最多的值数量，小于等于 0 时不拆分
+     * @return 拆分后的条件的值
+     */
+    static List<Set<Object>> splitValues(Set<Object> values, int maxInSize) {
+        if (maxInSize <= 0 || values.size() <= maxInSize) {
+            return Collections.singletonList(values);
+        }
+        List<Set<Object>> chunks = new ArrayList<>((values.size() + maxInSize - 1) / maxInSize);
+        Set<Object> chunk = new LinkedHashSet<>(maxInSize);
+        for (Object value : values) {
+            chunk.add(value);
+            if (chunk.size() == maxInSize) {
+                chunks.add(chunk);
+                chunk = new LinkedHashSet<>(maxInSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+
+    /**
+     * 关联属性查询任务，等待时如果还没有开始执行，则在等待的线程中执行，避免线程池中的线程全部等待下一层的任务。
+     */
+    private static class RelationTask implements Runnable {
+
+        private final Supplier<?> query;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        RelationTask(Supplier<?> query) {
+            this.query = query;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                query.get();
+                future.complete(null);
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }
+
+        void await() {
+            run();
+            ConcurrentQuery.join(future);
+        }
+
     }
 
 }
@@ -56,13 +56,13 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
     }
 
     /**
-     * 构建查询目标对象的 QueryWrapper
+     * 按 {@code selfValueSplitBy} 拆分条件的值
      *
      * @param targetValues 条件的值
-     * @return QueryWrapper
+     * @return 拆分后的条件的值
      */
     @Override
-    public QueryWrapper buildQueryWrapper(Set<Object> targetValues) {
+    protected Set<Object> prepareTargetValues(Set<Object> targetValues) {
         if (StringUtil.hasText(selfValueSplitBy) && CollectionUtil.isNotEmpty(targetValues)) {
             Set<Object> newTargetValues = new HashSet<>();
             for (Object targetValue : targetValues) {
@@ -80,7 +80,7 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
             }
             targetValues = newTargetValues;
         }
-        return super.buildQueryWrapper(targetValues);
+        return targetValues;
     }
 
     @Override
@@ -99,18 +99,23 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
     public void join(List<SelfEntity> selfEntities, List<?> targetObjectList, List<Row> mappingRows) {
 
         //目标表关联字段->目标表对象
-        Map<String, List<Object>> leftFieldToRightTableMap = new HashMap<>(targetObjectList.size());
+        JoinKeyMap<List<Object>> leftFieldToRightTableMap = new JoinKeyMap<>(targetObjectList.size());
         for (Object targetObject : targetObjectList) {
             Object targetJoinFieldValue = targetFieldWrapper.get(targetObject);
             if (targetJoinFieldValue != null) {
-                leftFieldToRightTableMap.computeIfAbsent(targetJoinFieldValue.toString(), k -> new ArrayList<>(1)).add(targetObject);
+                List<Object> targetObjects = leftFieldToRightTableMap.get(targetJoinFieldValue);
+                if (targetObjects == null) {
+                    targetObjects = new ArrayList<>(1);
+                    leftFieldToRightTableMap.put(targetJoinFieldValue, targetObjects);
+                }
+                targetObjects.add(targetObject);
             }
         }
 
         //通过中间表
         if (mappingRows != null) {
             //当使用中间表时，需要重新映射关联关系
-            Map<String, List<Object>> temp = new HashMap<>(selfEntities.size());
+            JoinKeyMap<List<Object>> temp = new JoinKeyMap<>(selfEntities.size());
             for (Row mappingRow : mappingRows) {
                 Object midTableJoinSelfValue = mappingRow.getIgnoreCase(joinSelfColumn);
                 if (midTableJoinSelfValue == null) {
@@ -120,11 +125,16 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
                 if (midTableJoinTargetValue == null) {
                     continue;
                 }
-                List<Object> targetObjects = leftFieldToRightTableMap.get(midTableJoinTargetValue.toString());
+                List<Object> targetObjects = leftFieldToRightTableMap.get(midTableJoinTargetValue);
                 if (targetObjects == null) {
                     continue;
                 }
-                temp.computeIfAbsent(midTableJoinSelfValue.toString(), k -> new ArrayList<>(targetObjects.size())).addAll(targetObjects);
+                List<Object> selfTargetObjects = temp.get(midTableJoinSelfValue);
+                if (selfTargetObjects == null) {
+                    selfTargetObjects = new ArrayList<>(targetObjects.size());
+                    temp.put(midTableJoinSelfValue, selfTargetObjects);
+                }
+                selfTargetObjects.addAll(targetObjects);
             }
             leftFieldToRightTableMap = temp;
         }
@@ -136,6 +146,10 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
         Class<?> wrapType = isMapType ? getMapWrapType(fieldType) : MapperUtil.getCollectionWrapType(fieldType);
         boolean splitMode = StringUtil.hasText(selfValueSplitBy);
 
+        //将getter方法用单独的变量存储 FieldWrapper.of虽然有缓存 但每次调用至少有一个HashMap的get开销
+        FieldWrapper fieldValueFieldWrapper = onlyQueryValueField && !targetObjectList.isEmpty()
+            ? FieldWrapper.of(targetObjectList.get(0).getClass(), valueField) : null;
+
         for (SelfEntity selfEntity : selfEntities) {
             if (selfEntity == null) {
                 continue;
@@ -144,48 +158,17 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
             if (selfValue == null) {
                 continue;
             }
-            selfValue = selfValue.toString();
-
-            //只有当splitBy不为空时才会有多个值
-            Set<String> targetMappingValues;
-
-            if (splitMode) {
-                String[] splitValues = ((String) selfValue).split(selfValueSplitBy);
-                targetMappingValues = new LinkedHashSet<>(Arrays.asList(splitValues));
-            } else {
-                targetMappingValues = new HashSet<>(1);
-                targetMappingValues.add((String) selfValue);
-            }
-
-            if (targetMappingValues.isEmpty()) {
-                return;
-            }
 
             // map
             if (isMapType) {
                 Map map = (Map) ClassUtil.newInstance(wrapType);
-                Set<Object> validateCountSet = new HashSet<>(targetMappingValues.size());
-                for (String targetMappingValue : targetMappingValues) {
-                    List<Object> targetObjects = leftFieldToRightTableMap.get(targetMappingValue);
-                    //如果非真实外键约束 可能没有对应的对象
-                    if (targetObjects == null) {
-                        continue;
-                    }
-                    for (Object targetObject : targetObjects) {
-                        Object keyValue = mapKeyFieldWrapper.get(targetObject);
-                        Object needKeyValue = ConvertUtil.convert(keyValue, relationFieldWrapper.getKeyType());
-                        if (validateCountSet.contains(needKeyValue)) {
-                            //当字段类型为Map时，一个key对应的value只能有一个
-                            throw FlexExceptions.wrap("When fieldType is Map, the target entity can only be one,\n" +
-                                " current entity type is : " + selfEntity + "\n" +
-                                " relation field name is : " + relationField.getName() + "\n" +
-                                " target entity is : " + targetObjects);
-                        }
-                        validateCountSet.add(needKeyValue);
-
-                        //noinspection unchecked
-                        map.put(needKeyValue, targetObject);
+                //只有当splitBy不为空时才会有多个值
+                if (splitMode) {
+                    for (String splitValue : splitSelfValue(selfValue)) {
+                        putTargetObjects(map, leftFieldToRightTableMap.get(splitValue), selfEntity);
                     }
+                } else {
+                    putTargetObjects(map, leftFieldToRightTableMap.get(selfValue), selfEntity);
                 }
                 if (!map.isEmpty()) {
                     relationFieldWrapper.set(map, selfEntity);
@@ -195,38 +178,58 @@ public class ToManyRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
             //集合
             else {
                 Collection collection = (Collection) ClassUtil.newInstance(wrapType);
-                if (onlyQueryValueField) {
-                    Object first = targetObjectList.iterator().next();
-                    //将getter方法用单独的变量存储 FieldWrapper.of虽然有缓存 但每次调用至少有一个HashMap的get开销
-                    FieldWrapper fieldValueFieldWrapper = FieldWrapper.of(first.getClass(), valueField);
-                    for (String targetMappingValue : targetMappingValues) {
-                        List<Object> targetObjects = leftFieldToRightTableMap.get(targetMappingValue);
-                        if (targetObjects == null) {
-                            continue;
-                        }
-                        for (Object targetObject : targetObjects) {
-                            //仅绑定某个字段
-                            //noinspection unchecked
-                            collection.add(fieldValueFieldWrapper.get(targetObject));
-                        }
+                if (splitMode) {
+                    for (String splitValue : splitSelfValue(selfValue)) {
+                        addTargetObjects(collection, leftFieldToRightTableMap.get(splitValue), fieldValueFieldWrapper);
                     }
                 } else {
-                    for (String targetMappingValue : targetMappingValues) {
-                        List<Object> targetObjects = leftFieldToRightTableMap.get(targetMappingValue);
-                        if (targetObjects == null) {
-                            continue;
-                        }
-                        //noinspection unchecked
-                        collection.addAll(targetObjects);
-                    }
+                    addTargetObjects(collection, leftFieldToRightTableMap.get(selfValue), fieldValueFieldWrapper);
                 }
-
                 relationFieldWrapper.set(collection, selfEntity);
             }
         }
 
     }
 
+    private Set<String> splitSelfValue(Object selfValue) {
+        return new LinkedHashSet<>(Arrays.asList(selfValue.toString().split(selfValueSplitBy)));
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private void putTargetObjects(Map map, List<Object> targetObjects, SelfEntity selfEntity) {
+        //如果非真实外键约束 可能没有对应的对象
+        if (targetObjects == null) {
+            return;
+        }
+        for (Object targetObject : targetObjects) {
+            Object keyValue = mapKeyFieldWrapper.get(targetObject);
+            Object needKeyValue = ConvertUtil.convert(keyValue, relationFieldWrapper.getKeyType());
+            if (map.containsKey(needKeyValue)) {
+                //当字段类型为Map时，一个key对应的value只能有一个
+                throw FlexExceptions.wrap("When fieldType is Map, the target entity can only be one,\n" +
+                    " current entity type is : " + selfEntity + "\n" +
+                    " relation field name is : " + relationField.getName() + "\n" +
+                    " target entity is : " + targetObjects);
+            }
+            map.put(needKeyValue, targetObject);
+        }
+    }
+
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static void addTargetObjects(Collection collection, List<Object> targetObjects, FieldWrapper fieldValueFieldWrapper) {
+        if (targetObjects == null) {
+            return;
+        }
+        if (fieldValueFieldWrapper != null) {
+            for (Object targetObject : targetObjects) {
+                //仅绑定某个字段
+                collection.add(fieldValueFieldWrapper.get(targetObject));
+            }
+        } else {
+            collection.addAll(targetObjects);
+        }
+    }
+
     public void setMapKeyField(String mapKeyField) {
         this.mapKeyField = mapKeyField;
         if (StringUtil.hasText(mapKeyField)) {
@@ -38,47 +38,54 @@ public class ToOneRelation<SelfEntity> extends AbstractRelation<SelfEntity> {
 
     @Override
     public void join(List<SelfEntity> selfEntities, List<?> targetObjectList, List<Row> mappingRows) {
-        selfEntities.forEach(selfEntity -> {
-            Object selfValue = selfFieldWrapper.get(selfEntity);
-            if (selfValue != null) {
-                selfValue = selfValue.toString();
-                String targetMappingValue = null;
-                if (mappingRows != null) {
-                    targetMappingValue = getTargetMappingValue(mappingRows, selfValue);
-                    if (targetMappingValue == null) {
-                        return;
-                    }
-                } else {
-                    targetMappingValue = (String) selfValue;
-                }
+        //目标表关联字段->目标表对象，存在多个时使用第一个
+        JoinKeyMap<Object> targetObjectMap = new JoinKeyMap<>(targetObjectList.size());
+        for (Object targetObject : targetObjectList) {
+            Object targetValue = targetFieldWrapper.get(targetObject);
+            if (targetValue != null && targetObjectMap.get(targetValue) == null) {
+                targetObjectMap.put(targetValue, targetObject);
+            }
+        }
 
-                for (Object targetObject : targetObjectList) {
-                    Object targetValue = targetFieldWrapper.get(targetObject);
-                    if (targetValue != null && targetMappingValue.equals(targetValue.toString())) {
-                        if (onlyQueryValueField) {
-                            //仅绑定某个字段
-                            relationFieldWrapper.set(FieldWrapper.of(targetObject.getClass(), valueField).get(targetObject), selfEntity);
-                        } else {
-                            relationFieldWrapper.set(targetObject, selfEntity);
-                        }
-                        break;
-                    }
+        //中间表关联字段->目标表关联字段，存在多个时使用第一个
+        JoinKeyMap<Object> targetMappingValueMap = null;
+        if (mappingRows != null) {
+            targetMappingValueMap = new JoinKeyMap<>(mappingRows.size());
+            for (Row mappingRow : mappingRows) {
+                Object joinSelfValue = mappingRow.getIgnoreCase(joinSelfColumn);
+                Object joinTargetValue = mappingRow.getIgnoreCase(joinTargetColumn);
+                if (joinSelfValue != null && joinTargetValue != null && targetMappingValueMap.get(joinSelfValue) == null) {
+                    targetMappingValueMap.put(joinSelfValue, joinTargetValue);
                 }
             }
-        });
-    }
+        }
 
+        FieldWrapper fieldValueFieldWrapper = null;
+        for (SelfEntity selfEntity : selfEntities) {
+            Object selfValue = selfFieldWrapper.get(selfEntity);
+            if (selfValue == null) {
+                continue;
+            }
+            Object targetMappingValue = targetMappingValueMap != null ? targetMappingValueMap.get(selfValue) : selfValue;
+            if (targetMappingValue == null) {
+                continue;
+            }
 
-    private String getTargetMappingValue(List<Row> mappingRows, Object selfValue) {
-        for (Row mappingRow : mappingRows) {
-            if (selfValue.equals(String.valueOf(mappingRow.getIgnoreCase(joinSelfColumn)))) {
-                Object joinValue = mappingRow.getIgnoreCase(joinTargetColumn);
-                if (joinValue != null) {
-                    return joinValue.toString();
+            Object targetObject = targetObjectMap.get(targetMappingValue);
+            if (targetObject == null) {
+                continue;
+            }
+            if (onlyQueryValueField) {
+                //仅绑定某个字段
+                if (fieldValueFieldWrapper == null) {
+                    fieldValueFieldWrapper = FieldWrapper.of(targetObject.getClass(), valueField);
                 }
+                relationFieldWrapper.set(fieldValueFieldWrapper.get(targetObject), selfEntity);
+            } else {
+                relationFieldWrapper.set(targetObject, selfEntity);
             }
         }
-        return null;
     }
 
+
 }
@@ -0,0 +1,509 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.row;
+
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 紧凑的 {@link Row}，同一个结果集的所有行共享同一个 {@link RowHeader}，每一行只使用数组保存列的值，
+ * 不再为每一行创建哈希表和 Entry 对象。
+ *
+ * <p>读取数据、修改已有列的值以及删除列时保持紧凑存储；添加新的列或者调用其他修改方法时，会先转换为普通的 {@link Row} 存储。
+ * 通过 {@link CompactRowManager} 开启后，{@link RowMapper} 和 {@link Db} 的查询方法返回该类型。
+ */
+public class CompactRow extends Row {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 列不存在（例如 callSettersOnNulls 为 false 时值为 null 的列）
+     */
+    private static final Object ABSENT = new Object();
+
+    private transient RowHeader header;
+    private transient Object[] values;
+    private transient int compactSize;
+
+    public CompactRow() {
+    }
+
+    /**
+     * 创建紧凑的 Row。
+     *
+     * @param header 列头
+     * @param values 列的值，与列头的顺序一致，该数组会被直接使用
+     */
+    public CompactRow(RowHeader header, Object[] values) {
+        if (header.size() != values.length) {
+            throw new IllegalArgumentException("values length must be " + header.size() + ", current value is: " + values.length);
+        }
+        this.header = header;
+        this.values = values;
+        this.compactSize = values.length;
+    }
+
+    static Object[] newValues(RowHeader header) {
+        Object[] values = new Object[header.size()];
+        Arrays.fill(values, ABSENT);
+        return values;
+    }
+
+    void init(RowHeader header, Object[] values) {
+        int size = 0;
+        for (Object value : values) {
+            if (value != ABSENT) {
+                size++;
+            }
+        }
+        this.header = header;
+        this.values = values;
+        this.compactSize = size;
+    }
+
+    /**
+     * 是否使用紧凑存储。
+     */
+    public boolean isCompact() {
+        return values != null;
+    }
+
+    /**
+     * 转换为普通的 {@link Row} 存储。
+     */
+    private void inflate() {
+        if (values == null) {
+            return;
+        }
+        RowHeader h = this.header;
+        Object[] vs = this.values;
+        this.header = null;
+        this.values = null;
+        this.compactSize = 0;
+        for (int i = 0; i < vs.length; i++) {
+            if (vs[i] != ABSENT) {
+                super.putValue(h.getColumn(i), vs[i]);
+            }
+        }
+    }
+
+    private int indexOf(Object key) {
+        int index = header.indexOf(key);
+        return index >= 0 && values[index] != ABSENT ? index : -1;
+    }
+
+    @Override
+    public int size() {
+        return values != null ? compactSize : super.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (values == null) {
+            return super.get(key);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        if (values == null) {
+            return super.getOrDefault(key, defaultValue);
+        }
+        int index = indexOf(key);
+        return index >= 0 ? values[index] : defaultValue;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return values != null ? indexOf(key) >= 0 : super.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (values == null) {
+            return super.containsValue(value);
+        }
+        for (Object v : values) {
+            if (v != ABSENT && Objects.equals(v, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        if (values == null) {
+            super.forEach(action);
+            return;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != ABSENT) {
+                action.accept(header.getColumn(i), values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        inflate();
+        return super.put(key, value);
+    }
+
+    @Override
+    Object putValue(String key, Object value) {
+        if (values != null) {
+            int index = indexOf(key);
+            if (index >= 0) {
+                Object old = values[index];
+                values[index] = value;
+                return old;
+            }
+            inflate();
+        }
+        return super.putValue(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        inflate();
+        super.putAll(m);
+    }
+
+    @Override
+    public Object putIfAbsent(String key, Object value) {
+        inflate();
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (values == null) {
+            return super.remove(key);
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != ABSENT && header.getColumn(i).equalsIgnoreCase((String) key)) {
+                Object old = values[i];
+                values[i] = ABSENT;
+                compactSize--;
+                return old;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        inflate();
+        return super.remove(key, value);
+    }
+
+    @Override
+    public boolean replace(String key, Object oldValue, Object newValue) {
+        inflate();
+        return super.replace(key, oldValue, newValue);
+    }
+
+    @Override
+    public Object replace(String key, Object value) {
+        inflate();
+        return super.replace(key, value);
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super String, ? super Object, ?> function) {
+        if (values == null) {
+            super.replaceAll(function);
+            return;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != ABSENT) {
+                values[i] = function.apply(header.getColumn(i), values[i]);
+            }
+        }
+    }
+
+    @Override
+    public Object computeIfAbsent(String key, Function<? super String, ?> mappingFunction) {
+        inflate();
+        return super.computeIfAbsent(key, mappingFunction);
+    }
+
+    @Override
+    public Object computeIfPresent(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        inflate();
+        return super.computeIfPresent(key, remappingFunction);
+    }
+
+    @Override
+    public Object compute(String key, BiFunction<? super String, ? super Object, ?> remappingFunction) {
+        inflate();
+        return super.compute(key, remappingFunction);
+    }
+
+    @Override
+    public Object merge(String key, Object value, BiFunction<? super Object, ? super Object, ?> remappingFunction) {
+        inflate();
+        return super.merge(key, value, remappingFunction);
+    }
+
+    @Override
+    public void clear() {
+        this.header = null;
+        this.values = null;
+        this.compactSize = 0;
+        super.clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new KeySet();
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new Values();
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    @Override
+    public Object clone() {
+        // HashMap.clone() 通过 entrySet() 复制数据，复制后的对象使用普通存储
+        CompactRow row = (CompactRow) super.clone();
+        row.header = null;
+        row.values = null;
+        row.compactSize = 0;
+        return row;
+    }
+
+    private Object writeReplace() {
+        return values != null ? clone() : this;
+    }
+
+
+    private class CompactIterator {
+
+        private int next = -1;
+        private int current = -1;
+
+        CompactIterator() {
+            advance();
+        }
+
+        private void advance() {
+            next++;
+            while (next < values.length && values[next] == ABSENT) {
+                next++;
+            }
+        }
+
+        public boolean hasNext() {
+            if (values == null) {
+                throw new ConcurrentModificationException();
+            }
+            return next < values.length;
+        }
+
+        int nextIndex() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            advance();
+            return current;
+        }
+
+        public void remove() {
+            if (current < 0 || values == null || values[current] == ABSENT) {
+                throw new IllegalStateException();
+            }
+            values[current] = ABSENT;
+            compactSize--;
+        }
+
+    }
+
+    private class KeyIterator extends CompactIterator implements Iterator<String> {
+        @Override
+        public String next() {
+            return header.getColumn(nextIndex());
+        }
+    }
+
+    private class ValueIterator extends CompactIterator implements Iterator<Object> {
+        @Override
+        public Object next() {
+            return values[nextIndex()];
+        }
+    }
+
+    private class EntryIterator extends CompactIterator implements Iterator<Map.Entry<String, Object>> {
+        @Override
+        public Map.Entry<String, Object> next() {
+            return new CompactEntry(nextIndex());
+        }
+    }
+
+    private class CompactEntry implements Map.Entry<String, Object> {
+
+        private final String key;
+        private final int index;
+
+        CompactEntry(int index) {
+            this.key = header.getColumn(index);
+            this.index = index;
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return values != null ? values[index] : CompactRow.this.get(key);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return putValue(key, value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+
+    }
+
+    private class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            return values != null ? new KeyIterator() : CompactRow.super.keySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactRow.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (values == null) {
+                return CompactRow.super.keySet().remove(o);
+            }
+            int index = indexOf(o);
+            if (index < 0) {
+                return false;
+            }
+            values[index] = ABSENT;
+            compactSize--;
+            return true;
+        }
+
+        @Override
+        public void clear() {
+            CompactRow.this.clear();
+        }
+
+    }
+
+    private class Values extends AbstractCollection<Object> {
+
+        @Override
+        public Iterator<Object> iterator() {
+            return values != null ? new ValueIterator() : CompactRow.super.values().iterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactRow.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return containsValue(o);
+        }
+
+        @Override
+        public void clear() {
+            CompactRow.this.clear();
+        }
+
+    }
+
+    private class EntrySet extends AbstractSet<Map.Entry<String, Object>> {
+
+        @Override
+        public Iterator<Map.Entry<String, Object>> iterator() {
+            return values != null ? new EntryIterator() : CompactRow.super.entrySet().iterator();
+        }
+
+        @Override
+        public int size() {
+            return CompactRow.this.size();
+        }
+
+        @Override
+        public void clear() {
+            CompactRow.this.clear();
+        }
+
+    }
+
+}
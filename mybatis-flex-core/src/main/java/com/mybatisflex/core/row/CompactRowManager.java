@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.row;
+
+import com.mybatisflex.core.FlexContext;
+
+import java.util.function.Supplier;
+
+/**
+ * {@link CompactRow} 管理器。
+ *
+ * <p>开启后，{@link RowMapper} 和 {@link Db} 的查询方法返回 {@link CompactRow}：同一个结果集的所有行共享
+ * 同一个 {@link RowHeader}，每一行只使用数组保存列的值，适用于查询大量数据的场景。
+ *
+ * <pre>{@code
+ * List<Row> rows = CompactRowManager.execWithCompactRow(() -> Db.selectListByQuery("tb_account", queryWrapper));
+ * }</pre>
+ */
+public class CompactRowManager {
+
+    private CompactRowManager() {
+    }
+
+    /**
+     * 全局开启，默认不开启
+     */
+    private static volatile boolean enable = false;
+
+    public static boolean isEnable() {
+        return enable;
+    }
+
+    public static void setEnable(boolean enable) {
+        CompactRowManager.enable = enable;
+    }
+
+    /**
+     * 当前线程的查询是否返回 {@link CompactRow}。
+     */
+    public static boolean isCompact() {
+        Boolean compact = FlexContext.current().getCompactRow();
+        return compact != null ? compact : enable;
+    }
+
+    /**
+     * 查询时返回 {@link CompactRow}
+     */
+    public static <T> T execWithCompactRow(Supplier<T> supplier) {
+        Boolean prev = FlexContext.current().getCompactRow();
+        try {
+            setCompact(Boolean.TRUE);
+            return supplier.get();
+        } finally {
+            restore(prev);
+        }
+    }
+
+    /**
+     * 查询时返回 {@link CompactRow}
+     */
+    public static void execWithCompactRow(Runnable runnable) {
+        Boolean prev = FlexContext.current().getCompactRow();
+        try {
+            setCompact(Boolean.TRUE);
+            runnable.run();
+        } finally {
+            restore(prev);
+        }
+    }
+
+    /**
+     * 查询时返回普通的 {@link Row}，忽略全局配置
+     */
+    public static <T> T execWithoutCompactRow(Supplier<T> supplier) {
+        Boolean prev = FlexContext.current().getCompactRow();
+        try {
+            setCompact(Boolean.FALSE);
+            return supplier.get();
+        } finally {
+            restore(prev);
+        }
+    }
+
+    private static void setCompact(Boolean compact) {
+        FlexContext.set(FlexContext.current().withCompactRow(compact));
+    }
+
+    private static void restore(Boolean prev) {
+        setCompact(prev);
+    }
+
+}
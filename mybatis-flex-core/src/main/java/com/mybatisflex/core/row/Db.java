@@ -17,6 +17,7 @@ package com.mybatisflex.core.row;
 
 import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.paginate.CursorPage;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.query.CPI;
 import com.mybatisflex.core.query.QueryCondition;
@@ -162,6 +163,21 @@ public class Db {
         return invoker().insertBatchWithFirstRowColumns(null, tableName, rows);
     }
 
+    /**
+     * 批量插入数据，根据第一条内容来构建插入的字段，按 batchSize 切分为多条 SQL 执行
+     * <p>
+     * 切分后的多条 SQL 不是原子操作，如需全部成功或全部失败，请在 {@link #tx(Supplier)} 中调用。
+     * 不需要切分时，请使用 {@link #insertBatchWithFirstRowColumns(String, String, List)}，始终只执行一条 SQL。
+     *
+     * @param schema    模式
+     * @param tableName 表名
+     * @param rows      数据
+     * @param batchSize 每条 SQL 插入的数据量
+     */
+    public static int insertBatchWithFirstRowColumns(String schema, String tableName, List<Row> rows, int batchSize) {
+        return invoker().insertBatchWithFirstRowColumns(schema, tableName, rows, batchSize);
+    }
+
     /**
      * 编写 delete sql 来删除数据
      *
@@ -1147,6 +1163,30 @@ public class Db {
     }
 
 
+    /**
+     * 游标（Keyset）分页查询，排序列取自 queryWrapper 的 orderBy
+     *
+     * @param schema       模式
+     * @param tableName    表名
+     * @param page         包含了游标和每页的数据量
+     * @param queryWrapper 条件，必须包含排序列
+     */
+    public static CursorPage<Row> paginateByKeyset(String schema, String tableName, CursorPage<Row> page, QueryWrapper queryWrapper) {
+        return invoker().paginateByKeyset(schema, tableName, page, queryWrapper);
+    }
+
+    /**
+     * 游标（Keyset）分页查询，排序列取自 queryWrapper 的 orderBy
+     *
+     * @param tableName    表名
+     * @param page         包含了游标和每页的数据量
+     * @param queryWrapper 条件，必须包含排序列
+     */
+    public static CursorPage<Row> paginateByKeyset(String tableName, CursorPage<Row> page, QueryWrapper queryWrapper) {
+        return invoker().paginateByKeyset(null, tableName, page, queryWrapper);
+    }
+
+
     /**
      * 进行事务操作，返回 null 或者 false 或者 抛出异常，事务回滚
      */
@@ -61,5 +61,13 @@ public class RowCPI {
         return row.getRawValueMap();
     }
 
+    public static Object[] newCompactValues(RowHeader header) {
+        return CompactRow.newValues(header);
+    }
+
+    public static void initCompactRow(CompactRow row, RowHeader header, Object[] values) {
+        row.init(header, values);
+    }
+
 
 }
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.row;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link CompactRow} 的列头，同一个结果集的所有 {@link CompactRow} 共享同一个列头，每一行只保存列的值。
+ */
+public final class RowHeader {
+
+    private final String[] columns;
+    private final Map<String, Integer> indexes;
+
+    private RowHeader(String[] columns, Map<String, Integer> indexes) {
+        this.columns = columns;
+        this.indexes = indexes;
+    }
+
+    /**
+     * 创建列头。
+     *
+     * @param columns 列名，不能重复
+     * @return 列头
+     */
+    public static RowHeader of(String... columns) {
+        Map<String, Integer> indexes = new HashMap<>(columns.length * 4 / 3 + 1);
+        for (int i = 0; i < columns.length; i++) {
+            if (indexes.put(columns[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate column: " + columns[i]);
+            }
+        }
+        return new RowHeader(columns.clone(), indexes);
+    }
+
+    /**
+     * 根据结果集的列创建列头，与 {@link Row#put(String, Object)} 一样处理重复的列名。
+     *
+     * @param columnLabels 结果集的列
+     * @param positions    返回每一列在列头中的下标，长度与 {@code columnLabels} 相同
+     * @return 列头
+     */
+    public static RowHeader ofResultColumns(List<String> columnLabels, int[] positions) {
+        String[] columns = new String[columnLabels.size()];
+        Map<String, Integer> indexes = new HashMap<>(columns.length * 4 / 3 + 1);
+        int size = 0;
+        for (int i = 0; i < columns.length; i++) {
+            String column = columnLabels.get(i);
+            Integer index = indexes.get(column);
+            if (index != null) {
+                String newColumn = column + RowUtil.INDEX_SEPARATOR + 1;
+                if (!indexes.containsKey(newColumn)) {
+                    column = newColumn;
+                    index = null;
+                }
+            }
+            if (index == null) {
+                index = size++;
+                columns[index] = column;
+                indexes.put(column, index);
+            }
+            positions[i] = index;
+        }
+        return new RowHeader(size == columns.length ? columns : Arrays.copyOf(columns, size), indexes);
+    }
+
+    /**
+     * 获取列的下标。
+     *
+     * @param column 列名
+     * @return 下标，不存在时返回 -1
+     */
+    public int indexOf(Object column) {
+        Integer index = indexes.get(column);
+        return index == null ? -1 : index;
+    }
+
+    public String getColumn(int index) {
+        return columns[index];
+    }
+
+    public int size() {
+        return columns.length;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(columns);
+    }
+
+}
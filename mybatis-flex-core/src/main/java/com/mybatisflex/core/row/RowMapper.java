@@ -16,7 +16,11 @@
 package com.mybatisflex.core.row;
 
 import com.mybatisflex.core.FlexConsts;
+import com.mybatisflex.core.dialect.BatchInsertPlanner;
+import com.mybatisflex.core.dialect.DialectFactory;
 import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.paginate.CursorPage;
+import com.mybatisflex.core.paginate.KeysetPaginator;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.provider.RowSqlProvider;
 import com.mybatisflex.core.query.CPI;
@@ -79,6 +83,40 @@ public interface RowMapper {
     @InsertProvider(value = RowSqlProvider.class, method = "insertBatchWithFirstRowColumns")
     int insertBatchWithFirstRowColumns(@Param(FlexConsts.SCHEMA_NAME) String schema, @Param(FlexConsts.TABLE_NAME) String tableName, @Param(FlexConsts.ROWS) List<Row> rows);
 
+    /**
+     * 批量插入 rows 到数据表，按 batchSize 切分
+     * <p>
+     * 当 batchSize 条数据的参数数量或 SQL 大小超出数据库的限制时，会按 {@link BatchInsertPlanner} 计算的行数进一步切分。
+     * 切分后会执行多条 SQL，并非原子操作，需要时请在事务中调用。
+     *
+     * @param schema    模式
+     * @param tableName 表名
+     * @param rows      数据内容，当设置有主键时，主键会自动填充
+     * @param batchSize 每条 SQL 插入的数据量
+     * @return 执行影响的行数
+     */
+    default int insertBatchWithFirstRowColumns(String schema, String tableName, List<Row> rows, int batchSize) {
+        if (CollectionUtil.isEmpty(rows)) {
+            return insertBatchWithFirstRowColumns(schema, tableName, rows);
+        }
+        if (batchSize <= 0) {
+            batchSize = DEFAULT_BATCH_SIZE;
+        }
+
+        String table = StringUtil.hasText(schema) ? schema + "." + tableName : tableName;
+        int size = BatchInsertPlanner.getRowsPerStatement(DialectFactory.getDbType(), batchSize
+            , table, RowCPI.getInsertAttrs(rows.get(0)));
+        if (size >= rows.size()) {
+            return insertBatchWithFirstRowColumns(schema, tableName, rows);
+        }
+
+        int sum = 0;
+        for (int i = 0; i < rows.size(); i += size) {
+            sum += insertBatchWithFirstRowColumns(schema, tableName, rows.subList(i, Math.min(i + size, rows.size())));
+        }
+        return sum;
+    }
+
 
     /////// delete /////
 
@@ -460,4 +498,18 @@ public interface RowMapper {
     }
 
 
+    /**
+     * 游标（Keyset）分页查询，排序列取自 {@code queryWrapper} 的 orderBy
+     *
+     * @param schema       模式
+     * @param tableName    表名
+     * @param page         包含了游标和每页的数据量
+     * @param queryWrapper 条件，必须包含排序列
+     * @return 分页数据
+     */
+    default CursorPage<Row> paginateByKeyset(String schema, String tableName, CursorPage<Row> page, QueryWrapper queryWrapper) {
+        CPI.setFromIfNecessary(queryWrapper, schema, tableName);
+        return KeysetPaginator.paginate(page, queryWrapper, query -> selectListByQuery(schema, tableName, query));
+    }
+
 }
@@ -16,6 +16,7 @@
 package com.mybatisflex.core.row;
 
 import com.mybatisflex.core.mybatis.MappedStatementTypes;
+import com.mybatisflex.core.paginate.CursorPage;
 import com.mybatisflex.core.paginate.Page;
 import com.mybatisflex.core.query.QueryWrapper;
 import org.apache.ibatis.executor.BatchResult;
@@ -68,6 +69,10 @@ public class RowMapperInvoker {
         return execute(mapper -> mapper.insertBatchWithFirstRowColumns(schema, tableName, rows));
     }
 
+    public int insertBatchWithFirstRowColumns(String schema, String tableName, List<Row> rows, int batchSize) {
+        return execute(mapper -> mapper.insertBatchWithFirstRowColumns(schema, tableName, rows, batchSize));
+    }
+
     public int deleteBySql(String sql, Object... args) {
         return execute(mapper -> mapper.deleteBySql(sql, args));
     }
@@ -238,4 +243,8 @@ public class RowMapperInvoker {
         return execute(mapper -> mapper.paginate(schema, tableName, page, queryWrapper));
     }
 
+    public CursorPage<Row> paginateByKeyset(String schema, String tableName, CursorPage<Row> page, QueryWrapper queryWrapper) {
+        return execute(mapper -> mapper.paginateByKeyset(schema, tableName, page, queryWrapper));
+    }
+
 }
@@ -78,6 +78,11 @@ public class ColumnInfo {
      */
     protected TypeHandler<?> buildTypeHandler;
 
+    /**
+     * 属性在 {@link EntityAccessor#getProperties()} 中的下标，不存在时为 -1
+     */
+    protected int accessorIndex = -1;
+
     /**
      * 数据脱敏类型。
      */
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.table;
+
+/**
+ * 实体类属性访问器，由 APT 为每个实体类生成，直接调用实体类的 getter/setter 方法，代替反射读取属性。
+ *
+ * <p>生成的类与实体类在同一个包中，类名为实体类名加上 {@link #CLASS_SUFFIX} 后缀，例如 {@code Account_Accessor}。
+ * {@link TableInfo} 存在该类时使用它读取属性，否则（或者属性不在 {@link #getProperties()} 中时）使用反射。
+ *
+ * @param <T> 实体类类型
+ */
+public interface EntityAccessor<T> {
+
+    /**
+     * 生成的访问器类名后缀。
+     */
+    String CLASS_SUFFIX = "_Accessor";
+
+    /**
+     * 获取可以访问的属性，数组下标即为 {@link #get(Object, int)} 和 {@link #set(Object, int, Object)} 的 {@code index}。
+     *
+     * @return 属性名称
+     */
+    String[] getProperties();
+
+    /**
+     * 读取属性的值。
+     *
+     * @param entity 实体类
+     * @param index  属性下标
+     * @return 属性的值
+     */
+    Object get(T entity, int index);
+
+    /**
+     * 设置属性的值，{@code value} 为 {@code null} 时不会设置基本类型的属性。
+     *
+     * @param entity 实体类
+     * @param index  属性下标
+     * @param value  属性的值
+     */
+    void set(T entity, int index, Object value);
+
+}
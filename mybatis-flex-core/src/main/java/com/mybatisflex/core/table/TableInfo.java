@@ -31,6 +31,7 @@ import com.mybatisflex.core.exception.locale.LocalizedFormats;
 import com.mybatisflex.core.logicdelete.LogicDeleteManager;
 import com.mybatisflex.core.mybatis.TypeHandlerObject;
 import com.mybatisflex.core.optimisticlock.OptimisticLockManager;
+import com.mybatisflex.core.provider.SqlArgsBuilder;
 import com.mybatisflex.core.query.Brackets;
 import com.mybatisflex.core.query.CPI;
 import com.mybatisflex.core.query.Join;
@@ -144,6 +145,16 @@ public class TableInfo {
     };
     private Reflector reflector; // 反射工具
 
+    /**
+     * APT 生成的属性访问器，不存在时为 {@code null}
+     */
+    private EntityAccessor<Object> entityAccessor;
+
+    /**
+     * 是否所有列对应的属性都可以通过 {@link #entityAccessor} 读取
+     */
+    private boolean entityAccessorComplete;
+
     public String getSchema() {
         return schema;
     }
@@ -424,6 +435,33 @@ public class TableInfo {
     }
 
 
+    public EntityAccessor<Object> getEntityAccessor() {
+        return entityAccessor;
+    }
+
+    /**
+     * 设置属性访问器，需要在设置主键和列之后调用。
+     *
+     * @param entityAccessor 属性访问器，为 {@code null} 时使用反射
+     */
+    void setEntityAccessor(EntityAccessor<Object> entityAccessor) {
+        this.entityAccessor = entityAccessor;
+        Map<String, Integer> indexes = new HashMap<>();
+        if (entityAccessor != null) {
+            String[] properties = entityAccessor.getProperties();
+            for (int i = 0; i < properties.length; i++) {
+                indexes.put(properties[i], i);
+            }
+        }
+        boolean complete = entityAccessor != null;
+        for (ColumnInfo columnInfo : columnInfoMapping.values()) {
+            Integer index = indexes.get(columnInfo.property);
+            columnInfo.accessorIndex = index == null ? -1 : index;
+            complete &= index != null;
+        }
+        this.entityAccessorComplete = complete;
+    }
+
     public List<IdInfo> getPrimaryKeyList() {
         return primaryKeyList;
     }
@@ -463,30 +501,49 @@ public class TableInfo {
      * @return 数组
      */
     public Object[] buildInsertSqlArgs(Object entity, boolean ignoreNulls) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+        SqlArgsBuilder values = new SqlArgsBuilder(getInsertColumnCount());
+        buildInsertSqlArgs(entity, ignoreNulls, values);
+        return values.toArray();
+    }
+
+    /**
+     * 构建 insert 的 Sql 参数，并追加到 {@code values} 中，用于批量插入时避免多次复制参数数组
+     *
+     * @param entity      从 entity 中获取
+     * @param ignoreNulls 是否忽略 null 值
+     * @param values      参数构建器
+     */
+    public void buildInsertSqlArgs(Object entity, boolean ignoreNulls, SqlArgsBuilder values) {
+        MetaObject metaObject = newMetaObjectIfNecessary(entity);
         String[] insertColumns = obtainInsertColumns(entity, ignoreNulls);
 
         Map<String, RawValue> rawValueMap = obtainUpdateRawValueMap(entity);
 
-        List<Object> values = new ArrayList<>();
         for (String insertColumn : insertColumns) {
             if (onInsertColumns == null || !onInsertColumns.containsKey(insertColumn)) {
                 if (rawValueMap.containsKey(insertColumn)) {
-                    values.addAll(Arrays.asList(rawValueMap.remove(insertColumn).getParams()));
+                    values.addAll(rawValueMap.remove(insertColumn).getParams());
                     continue;
                 }
-                Object value = buildColumnSqlArg(metaObject, insertColumn);
+                Object value = buildColumnSqlArg(entity, metaObject, insertColumn);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
                 values.add(value);
             }
         }
-        values.addAll(rawValueMap.values()
-            .stream()
-            .flatMap(e -> Arrays.stream(e.getParams()))
-            .collect(Collectors.toList()));
-        return values.toArray();
+        for (RawValue rawValue : rawValueMap.values()) {
+            values.addAll(rawValue.getParams());
+        }
+    }
+
+    /**
+     * 获取 insert 时的最大列数（包含主键），用于预估参数数量
+     *
+     * @return 列数
+     */
+    public int getInsertColumnCount() {
+        return insertPrimaryKeys.length + columns.length;
     }
 
     /**
@@ -502,13 +559,13 @@ public class TableInfo {
         }
         // 忽略 null 字段，
         else {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+            MetaObject metaObject = newMetaObjectIfNecessary(entity);
             List<String> retColumns = new ArrayList<>();
             for (String insertColumn : allColumns) {
                 if (onInsertColumns != null && onInsertColumns.containsKey(insertColumn)) {
                     retColumns.add(insertColumn);
                 } else {
-                    Object value = buildColumnSqlArg(metaObject, insertColumn);
+                    Object value = buildColumnSqlArg(entity, metaObject, insertColumn);
                     if (value == null) {
                         continue;
                     }
@@ -521,13 +578,13 @@ public class TableInfo {
 
 
     public Object[] buildInsertSqlArgsWithPk(Object entity, boolean ignoreNulls) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+        MetaObject metaObject = newMetaObjectIfNecessary(entity);
         String[] insertColumns = obtainInsertColumnsWithPk(entity, ignoreNulls);
 
         List<Object> values = new ArrayList<>(insertColumns.length);
         for (String insertColumn : insertColumns) {
             if (onInsertColumns == null || !onInsertColumns.containsKey(insertColumn)) {
-                Object value = buildColumnSqlArg(metaObject, insertColumn);
+                Object value = buildColumnSqlArg(entity, metaObject, insertColumn);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
@@ -549,10 +606,10 @@ public class TableInfo {
         if (!ignoreNulls) {
             return allColumns;
         } else {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+            MetaObject metaObject = newMetaObjectIfNecessary(entity);
             List<String> retColumns = new ArrayList<>();
             for (String primaryKey : primaryColumns) {
-                Object value = buildColumnSqlArg(metaObject, primaryKey);
+                Object value = buildColumnSqlArg(entity, metaObject, primaryKey);
                 if (value == null) {
                     throw new IllegalArgumentException("Entity Primary Key value must not be null.");
                 }
@@ -562,7 +619,7 @@ public class TableInfo {
                 if (onInsertColumns != null && onInsertColumns.containsKey(insertColumn)) {
                     retColumns.add(insertColumn);
                 } else {
-                    Object value = buildColumnSqlArg(metaObject, insertColumn);
+                    Object value = buildColumnSqlArg(entity, metaObject, insertColumn);
                     if (value == null) {
                         continue;
                     }
@@ -603,7 +660,7 @@ public class TableInfo {
      * @param ignoreNulls
      */
     public Set<String> obtainUpdateColumns(Object entity, boolean ignoreNulls, boolean includePrimary) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+        MetaObject metaObject = newMetaObjectIfNecessary(entity);
         Set<String> columns = new LinkedHashSet<>(); // 需使用 LinkedHashSet 保证 columns 的顺序
         boolean isIgnoreTenantCondition = TenantManager.isIgnoreTenantCondition();
         if (entity instanceof UpdateWrapper) {
@@ -659,7 +716,7 @@ public class TableInfo {
                     continue;
                 }
 
-                Object value = buildColumnSqlArg(metaObject, column);
+                Object value = buildColumnSqlArg(entity, metaObject, column);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
@@ -738,7 +795,7 @@ public class TableInfo {
         }
         // normal entity. not ModifyAttrsRecord
         else {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+            MetaObject metaObject = newMetaObjectIfNecessary(entity);
 
             for (String column : this.columns) {
                 if (onUpdateColumns != null && onUpdateColumns.containsKey(column)) {
@@ -760,7 +817,7 @@ public class TableInfo {
                 // if (includePrimary) {
                 // }
 
-                Object value = buildColumnSqlArg(metaObject, column);
+                Object value = buildColumnSqlArg(entity, metaObject, column);
                 if (ignoreNulls && value == null) {
                     continue;
                 }
@@ -779,10 +836,10 @@ public class TableInfo {
      * @param entity
      */
     public Object[] buildPkSqlArgs(Object entity) {
-        MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+        MetaObject metaObject = newMetaObjectIfNecessary(entity);
         Object[] values = new Object[primaryColumns.length];
         for (int i = 0; i < primaryColumns.length; i++) {
-            values[i] = buildColumnSqlArg(metaObject, primaryColumns[i]);
+            values[i] = buildColumnSqlArg(entity, metaObject, primaryColumns[i]);
         }
         return values;
     }
@@ -801,17 +858,17 @@ public class TableInfo {
     public Object getPkValue(Object entity) {
         // 绝大多数情况为 1 个主键
         if (primaryColumns.length == 1) {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+            MetaObject metaObject = newMetaObjectIfNecessary(entity);
             ColumnInfo columnInfo = columnInfoMapping.get(primaryColumns[0]);
-            return getPropertyValue(metaObject, columnInfo.property);
+            return getColumnValue(entity, metaObject, columnInfo);
         }
         // 多个主键
         else if (primaryColumns.length > 1) {
-            MetaObject metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+            MetaObject metaObject = newMetaObjectIfNecessary(entity);
             Object[] values = new Object[primaryColumns.length];
             for (int i = 0; i < primaryColumns.length; i++) {
                 ColumnInfo columnInfo = columnInfoMapping.get(primaryColumns[i]);
-                values[i] = getPropertyValue(metaObject, columnInfo.property);
+                values[i] = getColumnValue(entity, metaObject, columnInfo);
             }
             return values;
         }
@@ -1290,9 +1347,9 @@ public class TableInfo {
     }
 
 
-    private Object buildColumnSqlArg(MetaObject metaObject, String column) {
+    private Object buildColumnSqlArg(Object entity, MetaObject metaObject, String column) {
         ColumnInfo columnInfo = columnInfoMapping.get(column);
-        Object value = getPropertyValue(metaObject, columnInfo.property);
+        Object value = getColumnValue(entity, metaObject, columnInfo);
         if (value != null) {
             TypeHandler<?> typeHandler = columnInfo.buildTypeHandler(null);
             if (typeHandler != null) {
@@ -1304,8 +1361,31 @@ public class TableInfo {
 
 
     public Object buildColumnSqlArg(Object entityObject, String column) {
-        MetaObject metaObject = EntityMetaObject.forObject(entityObject, reflectorFactory);
-        return buildColumnSqlArg(metaObject, column);
+        return buildColumnSqlArg(entityObject, null, column);
+    }
+
+
+    /**
+     * 所有列对应的属性都可以通过 {@link EntityAccessor} 读取时，不需要创建 {@link MetaObject}。
+     */
+    private MetaObject newMetaObjectIfNecessary(Object entity) {
+        return entityAccessorComplete ? null : EntityMetaObject.forObject(entity, reflectorFactory);
+    }
+
+
+    /**
+     * 读取列对应的属性值，存在 {@link EntityAccessor} 时直接调用 getter 方法。
+     *
+     * @param metaObject 为 {@code null} 时按需创建
+     */
+    private Object getColumnValue(Object entity, MetaObject metaObject, ColumnInfo columnInfo) {
+        if (columnInfo.accessorIndex >= 0) {
+            return entityAccessor.get(entity, columnInfo.accessorIndex);
+        }
+        if (metaObject == null) {
+            metaObject = EntityMetaObject.forObject(entity, reflectorFactory);
+        }
+        return getPropertyValue(metaObject, columnInfo.property);
     }
 
 
@@ -28,6 +28,9 @@ import com.mybatisflex.annotation.UpdateListener;
 import com.mybatisflex.core.BaseMapper;
 import com.mybatisflex.core.FlexGlobalConfig;
 import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.handler.BaseJsonTypeHandler;
+import com.mybatisflex.core.handler.LazyJson;
+import com.mybatisflex.core.handler.LazyJsonTypeHandler;
 import com.mybatisflex.core.query.QueryChain;
 import com.mybatisflex.core.query.QueryColumn;
 import com.mybatisflex.core.query.QueryCondition;
@@ -477,9 +480,14 @@ public class TableInfoFactory {
             if (columnAnnotation != null && columnAnnotation.typeHandler() != UnknownTypeHandler.class) {
                 TypeHandler<?> typeHandler = null;
 
+                // 延迟解析的 JSON 类型
+                if (fieldType == LazyJson.class) {
+                    typeHandler = createLazyJsonTypeHandler(entityClass, field, columnAnnotation.typeHandler(), typeHandlerRegistry);
+                }
+
                 // 集合类型，支持泛型
                 // fixed https://gitee.com/mybatis-flex/mybatis-flex/issues/I7S2YE
-                if (Collection.class.isAssignableFrom(fieldType)) {
+                else if (Collection.class.isAssignableFrom(fieldType)) {
                     typeHandler = createCollectionTypeHandler(entityClass, field, columnAnnotation.typeHandler(), fieldType);
                 }
 
@@ -542,11 +550,30 @@ public class TableInfoFactory {
         // 否则会影响 SQL 的字段构建顺序
         tableInfo.setPrimaryKeyList(idInfos);
         tableInfo.setColumnInfoList(columnInfoList);
+        tableInfo.setEntityAccessor(loadEntityAccessor(entityClass));
 
 
         return tableInfo;
     }
 
+    /**
+     * 加载 APT 生成的属性访问器，不存在时返回 {@code null}
+     *
+     * @param entityClass 实体类
+     */
+    @SuppressWarnings("unchecked")
+    private static EntityAccessor<Object> loadEntityAccessor(Class<?> entityClass) {
+        try {
+            Class<?> accessorClass = Class.forName(entityClass.getName() + EntityAccessor.CLASS_SUFFIX, true, entityClass.getClassLoader());
+            if (EntityAccessor.class.isAssignableFrom(accessorClass)) {
+                return (EntityAccessor<Object>) ClassUtil.newInstance(accessorClass);
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            // 没有使用 APT 或者没有生成，使用反射
+        }
+        return null;
+    }
+
     /**
      * 创建 typeHandler
      * 参考 {@link TypeHandlerRegistry#getInstance(Class, Class)}
@@ -566,6 +593,53 @@ public class TableInfoFactory {
             }
         }
 
+        return newTypeHandler(typeHandlerClass, fieldType, genericClass);
+    }
+
+    /**
+     * 创建 {@link LazyJson} 类型的 typeHandler，根据 {@code LazyJson<T>} 的泛型 T 创建 JSON 的 typeHandler
+     *
+     * @param entityClass
+     * @param field
+     * @param typeHandlerClass
+     * @param typeHandlerRegistry
+     */
+    @SuppressWarnings("unchecked")
+    private static TypeHandler<?> createLazyJsonTypeHandler(Class<?> entityClass, Field field, Class<?> typeHandlerClass
+        , TypeHandlerRegistry typeHandlerRegistry) {
+        Class<?> valueClass = Object.class;
+        Class<?> genericClass = null;
+        Type fieldType = TypeParameterResolver.resolveFieldType(field, entityClass);
+        if (fieldType instanceof ParameterizedType) {
+            Type valueType = ((ParameterizedType) fieldType).getActualTypeArguments()[0];
+            if (valueType instanceof Class) {
+                valueClass = (Class<?>) valueType;
+            } else if (valueType instanceof ParameterizedType) {
+                valueClass = (Class<?>) ((ParameterizedType) valueType).getRawType();
+                Type actualTypeArgument = ((ParameterizedType) valueType).getActualTypeArguments()[0];
+                if (Collection.class.isAssignableFrom(valueClass) && actualTypeArgument instanceof Class) {
+                    genericClass = (Class<?>) actualTypeArgument;
+                }
+            }
+        }
+
+        TypeHandler<?> typeHandler;
+        if (genericClass != null) {
+            typeHandler = newTypeHandler(typeHandlerClass, valueClass, genericClass);
+        } else if (typeHandlerRegistry != null) {
+            typeHandler = typeHandlerRegistry.getInstance(valueClass, typeHandlerClass);
+        } else {
+            typeHandler = newTypeHandler(typeHandlerClass, valueClass, null);
+        }
+
+        if (!(typeHandler instanceof BaseJsonTypeHandler)) {
+            throw FlexExceptions.wrap("The typeHandler of LazyJson property \"%s.%s\" must extends BaseJsonTypeHandler, but it is: %s"
+                , entityClass.getName(), field.getName(), typeHandlerClass.getName());
+        }
+        return new LazyJsonTypeHandler<>((BaseJsonTypeHandler<Object>) typeHandler);
+    }
+
+    private static TypeHandler<?> newTypeHandler(Class<?> typeHandlerClass, Class<?> fieldType, Class<?> genericClass) {
         try {
             Constructor<?> constructor = typeHandlerClass.getConstructor(Class.class, Class.class);
             return (TypeHandler<?>) constructor.newInstance(fieldType, genericClass);
@@ -15,10 +15,11 @@
  */
 package com.mybatisflex.core.table;
 
+import com.mybatisflex.core.FlexContext;
 import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.dialect.SqlTemplateCache;
 import com.mybatisflex.core.util.StringUtil;
 
-import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -32,9 +33,6 @@ public class TableManager {
     private static DynamicTableProcessor dynamicTableProcessor;
     private static DynamicSchemaProcessor dynamicSchemaProcessor;
 
-    private static final ThreadLocal<Map<String, String>> tableNameMappingTL = new ThreadLocal<>();
-    private static final ThreadLocal<Map<String, String>> schemaMappingTL = new ThreadLocal<>();
-
 
     public static DynamicTableProcessor getDynamicTableProcessor() {
         return dynamicTableProcessor;
@@ -42,6 +40,7 @@ public class TableManager {
 
     public static void setDynamicTableProcessor(DynamicTableProcessor dynamicTableProcessor) {
         TableManager.dynamicTableProcessor = dynamicTableProcessor;
+        SqlTemplateCache.clear();
     }
 
     public static DynamicSchemaProcessor getDynamicSchemaProcessor() {
@@ -50,38 +49,39 @@ public class TableManager {
 
     public static void setDynamicSchemaProcessor(DynamicSchemaProcessor dynamicSchemaProcessor) {
         TableManager.dynamicSchemaProcessor = dynamicSchemaProcessor;
+        SqlTemplateCache.clear();
     }
 
     public static void setHintTableMapping(String tableName, String mappingTable) {
-        Map<String, String> hintTables = tableNameMappingTL.get();
-        if (hintTables == null) {
-            hintTables = new HashMap<>();
-            tableNameMappingTL.set(hintTables);
-        }
-        hintTables.put(tableName, mappingTable);
+        FlexContext.set(FlexContext.current().withHintTableMapping(tableName, mappingTable));
     }
 
     public static String getHintTableMapping(String tableName) {
-        return tableNameMappingTL.get().get(tableName);
+        Map<String, String> mapping = FlexContext.current().getHintTableMappings();
+        return mapping != null ? mapping.get(tableName) : null;
     }
 
     public static void setHintSchemaMapping(String schema, String mappingSchema) {
-        Map<String, String> hintTables = schemaMappingTL.get();
-        if (hintTables == null) {
-            hintTables = new HashMap<>();
-            schemaMappingTL.set(hintTables);
-        }
-        hintTables.put(schema, mappingSchema);
+        FlexContext.set(FlexContext.current().withHintSchemaMapping(schema, mappingSchema));
     }
 
     public static String getHintSchemaMapping(String schema) {
-        return schemaMappingTL.get().get(schema);
+        Map<String, String> mapping = FlexContext.current().getHintSchemaMappings();
+        return mapping != null ? mapping.get(schema) : null;
+    }
+
+    public static Map<String, String> getHintTableMappings() {
+        return FlexContext.current().getHintTableMappings();
+    }
+
+    public static Map<String, String> getHintSchemaMappings() {
+        return FlexContext.current().getHintSchemaMappings();
     }
 
 
     public static String getRealTable(String tableName, OperateType operateType) {
 
-        Map<String, String> mapping = tableNameMappingTL.get();
+        Map<String, String> mapping = FlexContext.current().getHintTableMappings();
         if (mapping != null) {
             String dynamicTableName = mapping.get(tableName);
             if (StringUtil.hasText(dynamicTableName)) {
@@ -99,7 +99,7 @@ public class TableManager {
 
 
     public static String getRealSchema(String schema, String table, OperateType operateType) {
-        Map<String, String> mapping = schemaMappingTL.get();
+        Map<String, String> mapping = FlexContext.current().getHintSchemaMappings();
         if (mapping != null) {
             String dynamicSchema = mapping.get(schema);
             if (StringUtil.hasText(dynamicSchema)) {
@@ -117,8 +117,7 @@ public class TableManager {
 
 
     public static void clear() {
-        tableNameMappingTL.remove();
-        schemaMappingTL.remove();
+        FlexContext.set(FlexContext.current().withoutHintMappings());
     }
 
 }
@@ -19,6 +19,8 @@ package com.mybatisflex.core.transaction;
 import org.apache.ibatis.cursor.Cursor;
 
 import java.io.IOException;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 
 /**
  * @author michael
@@ -32,10 +34,74 @@ public class TransactionContext {
     private static final ThreadLocal<String> XID_HOLDER = new ThreadLocal<>();
     private static final ThreadLocal<Cursor<?>> CURSOR_HOLDER = new ThreadLocal<>();
 
+    /**
+     * 外部事务（例如 Spring 事务）的检测器
+     */
+    private static volatile BooleanSupplier transactionActiveChecker;
+
+    /**
+     * 外部事务（例如 Spring 事务）提交后回调的注册器
+     */
+    private static volatile Consumer<Runnable> afterCommitRegistrar;
+
     public static String getXID() {
         return XID_HOLDER.get();
     }
 
+    public static BooleanSupplier getTransactionActiveChecker() {
+        return transactionActiveChecker;
+    }
+
+    public static void setTransactionActiveChecker(BooleanSupplier transactionActiveChecker) {
+        TransactionContext.transactionActiveChecker = transactionActiveChecker;
+    }
+
+    /**
+     * 当前线程是否处于事务中，包括 {@code Db.tx()} 开启的事务以及通过
+     * {@link #setTransactionActiveChecker(BooleanSupplier)} 检测到的外部事务。
+     *
+     * @return {@code true} 处于事务中
+     */
+    public static boolean isTransactionActive() {
+        if (XID_HOLDER.get() != null) {
+            return true;
+        }
+        BooleanSupplier checker = transactionActiveChecker;
+        return checker != null && checker.getAsBoolean();
+    }
+
+    public static Consumer<Runnable> getAfterCommitRegistrar() {
+        return afterCommitRegistrar;
+    }
+
+    public static void setAfterCommitRegistrar(Consumer<Runnable> afterCommitRegistrar) {
+        TransactionContext.afterCommitRegistrar = afterCommitRegistrar;
+    }
+
+    /**
+     * 在当前事务提交后执行，事务回滚时不执行；不在事务中时立即执行。
+     *
+     * <p>{@code Db.tx()} 开启的事务由 {@link TransactionalManager} 在提交后执行，外部事务通过
+     * {@link #setAfterCommitRegistrar(Consumer)} 设置的注册器执行，没有设置注册器时立即执行。
+     * 同一个事务中重复注册相等的操作只会执行一次。
+     *
+     * @param action 事务提交后执行的操作
+     */
+    public static void runAfterCommit(Runnable action) {
+        String xid = XID_HOLDER.get();
+        if (xid != null) {
+            TransactionalManager.registerAfterCommit(xid, action);
+            return;
+        }
+        Consumer<Runnable> registrar = afterCommitRegistrar;
+        BooleanSupplier checker = transactionActiveChecker;
+        if (registrar != null && checker != null && checker.getAsBoolean()) {
+            registrar.accept(action);
+            return;
+        }
+        action.run();
+    }
+
     public static void release() {
         XID_HOLDER.remove();
         closeCursor();
@@ -20,7 +20,10 @@ import org.apache.ibatis.logging.LogFactory;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
@@ -39,6 +42,9 @@ public class TransactionalManager {
     private static final ThreadLocal<Map<String, Map<String, Connection>>> CONNECTION_HOLDER
         = ThreadLocal.withInitial(ConcurrentHashMap::new);
 
+    //<xid : 事务提交后执行的操作>
+    private static final ThreadLocal<Map<String, Set<Runnable>>> AFTER_COMMIT_HOLDER = new ThreadLocal<>();
+
 
     public static void hold(String xid, String ds, Connection connection) {
         Map<String, Map<String, Connection>> holdMap = CONNECTION_HOLDER.get();
@@ -56,6 +62,22 @@ public class TransactionalManager {
     }
 
 
+    /**
+     * 注册事务提交后执行的操作，事务回滚时丢弃。
+     *
+     * @param xid    事务 id
+     * @param action 事务提交后执行的操作
+     */
+    public static void registerAfterCommit(String xid, Runnable action) {
+        Map<String, Set<Runnable>> holdMap = AFTER_COMMIT_HOLDER.get();
+        if (holdMap == null) {
+            holdMap = new HashMap<>();
+            AFTER_COMMIT_HOLDER.set(holdMap);
+        }
+        holdMap.computeIfAbsent(xid, k -> new LinkedHashSet<>()).add(action);
+    }
+
+
     public static <T> T exec(Supplier<T> supplier, Propagation propagation, boolean withResult) {
         //上一级事务的id，支持事务嵌套
         String currentXID = TransactionContext.getXID();
@@ -169,6 +191,35 @@ public class TransactionalManager {
     }
 
     private static void release(String xid, boolean commit) {
+        Set<Runnable> afterCommitActions = removeAfterCommitActions(xid);
+        try {
+            releaseConnections(xid, commit);
+        } finally {
+            if (commit && afterCommitActions != null) {
+                for (Runnable action : afterCommitActions) {
+                    try {
+                        action.run();
+                    } catch (RuntimeException e) {
+                        log.error("TransactionalManager after commit action is error. Cause: " + e.getMessage(), e);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<Runnable> removeAfterCommitActions(String xid) {
+        Map<String, Set<Runnable>> holdMap = AFTER_COMMIT_HOLDER.get();
+        if (holdMap == null) {
+            return null;
+        }
+        Set<Runnable> actions = holdMap.remove(xid);
+        if (holdMap.isEmpty()) {
+            AFTER_COMMIT_HOLDER.remove();
+        }
+        return actions;
+    }
+
+    private static void releaseConnections(String xid, boolean commit) {
         //先release，才能正常的进行 commit 或者 rollback.
         TransactionContext.release();
 
@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.util;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.FlexContext;
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.cache.QueryResultCacheManager;
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.mybatis.binding.MybatisMapperProxy;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.transaction.TransactionContext;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSession;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.apache.ibatis.transaction.Transaction;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 在另一个连接上并发执行查询，例如分页时的 COUNT 查询以及关联查询。
+ *
+ * <p>查询所在的线程会恢复调用线程的 {@link FlexContext}，包括数据源、方言、忽略租户条件、跳过逻辑删除、动态表名以及关联查询附加条件参数等设置。
+ * 如果自定义的 {@code TenantFactory} 等依赖其他线程变量，需要自行设置可以传递这些变量的线程池。
+ *
+ * <p>每个并发的查询都会占用一个额外的数据库连接。默认的线程池最多使用 {@link #DEFAULT_MAX_THREADS} 个线程，
+ * 线程都在使用时在调用线程中执行查询；调用线程的 {@code SqlSession} 已经持有连接时也在调用线程中执行，
+ * 避免一个请求同时占用两个连接，在连接池较小时相互等待。连接池更大时可以通过 {@code FlexGlobalConfig.setPaginateExecutor} 设置线程池。
+ */
+public final class ConcurrentQuery {
+
+    private ConcurrentQuery() {
+    }
+
+    /**
+     * 默认线程池的最大线程数，小于常见连接池的默认最大连接数（例如 HikariCP 为 10，Druid 为 8）
+     */
+    public static final int DEFAULT_MAX_THREADS = 4;
+
+    private static volatile ExecutorService defaultExecutor;
+
+    private static final Map<Class<?>, Optional<Field>> connectionFields = new ConcurrentHashMap<>();
+
+    /**
+     * 提交 COUNT 查询。
+     *
+     * @param mapper            当前的 Mapper
+     * @param countQueryWrapper COUNT 查询条件，提交后不能再被修改
+     * @return COUNT 查询结果，不能并发执行（例如在事务中）时返回 {@code null}
+     */
+    static CompletableFuture<Long> submit(BaseMapper<?> mapper, QueryWrapper countQueryWrapper) {
+        Supplier<Long> countQuery = wrap(mapper, countMapper -> countMapper.selectCountByQuery(countQueryWrapper));
+        if (countQuery == null) {
+            return null;
+        }
+        Executor executor = FlexGlobalConfig.getDefaultConfig().getPaginateExecutor();
+        return CompletableFuture.supplyAsync(countQuery, executor != null ? executor : getDefaultExecutor());
+    }
+
+    /**
+     * 包装一个可以在其他线程中执行的查询。
+     *
+     * <p>返回的查询在其他线程中执行时，会恢复调用线程的上下文，并在 Mapper 的 {@code SqlSession} 不是线程安全时，
+     * 另外打开一个自动提交的 {@code SqlSession} 执行查询；在调用线程中执行时，直接使用当前的 Mapper。
+     *
+     * @param mapper 当前的 Mapper
+     * @param query  查询，参数为可以在执行线程中使用的 Mapper
+     * @param <M>    Mapper 类型
+     * @param <R>    查询结果类型
+     * @return 包装后的查询，不能并发执行（例如在事务中）时返回 {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static <M extends BaseMapper<?>, R> Supplier<R> wrap(M mapper, Function<M, R> query) {
+        if (!Proxy.isProxyClass(mapper.getClass())) {
+            return null;
+        }
+        InvocationHandler handler = Proxy.getInvocationHandler(mapper);
+        if (!(handler instanceof MybatisMapperProxy)) {
+            return null;
+        }
+
+        // 事务中的数据只在当前连接可见
+        if (TransactionContext.isTransactionActive()) {
+            return null;
+        }
+
+        MybatisMapperProxy<?> mapperProxy = (MybatisMapperProxy<?>) handler;
+        SqlSession sqlSession = mapperProxy.getSqlSession();
+
+        Function<M, R> asyncQuery;
+        if (sqlSession instanceof DefaultSqlSession) {
+            // DefaultSqlSession 不是线程安全的，需要另外打开一个 SqlSession
+            // 已经持有连接时，另外获取连接可能在连接池耗尽时与其他请求相互等待
+            if (!isAutoCommit(sqlSession) || holdsConnection((DefaultSqlSession) sqlSession)) {
+                return null;
+            }
+            SqlSessionFactory sqlSessionFactory = getSqlSessionFactory(sqlSession.getConfiguration());
+            Class<?> mapperInterface = mapperProxy.getMapperInterface();
+            asyncQuery = m -> {
+                try (SqlSession asyncSession = sqlSessionFactory.openSession(true)) {
+                    return query.apply((M) asyncSession.getMapper(mapperInterface));
+                }
+            };
+        } else {
+            // 例如 SqlSessionTemplate，每个线程使用各自的 SqlSession
+            asyncQuery = query;
+        }
+
+        Thread callerThread = Thread.currentThread();
+        FlexContext context = FlexContext.current();
+        QueryResultCacheManager.Scope cacheScope = QueryResultCacheManager.currentScope();
+        return () -> Thread.currentThread() == callerThread ? query.apply(mapper)
+            : context.call(() -> QueryResultCacheManager.callInScope(cacheScope, () -> asyncQuery.apply(mapper)));
+    }
+
+    /**
+     * 等待查询结果。
+     *
+     * @param future 查询结果
+     * @param <R>    查询结果类型
+     * @return 查询结果
+     */
+    public static <R> R join(Future<R> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw FlexExceptions.wrap(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw FlexExceptions.wrap(cause);
+        }
+    }
+
+    private static boolean isAutoCommit(SqlSession sqlSession) {
+        // 读取打开 SqlSession 时的 autoCommit 参数，不为此获取数据库连接
+        MetaObject metaObject = SystemMetaObject.forObject(sqlSession);
+        return metaObject.hasGetter("autoCommit") && Boolean.TRUE.equals(metaObject.getValue("autoCommit"));
+    }
+
+    private static boolean holdsConnection(DefaultSqlSession sqlSession) {
+        Object executor = SystemMetaObject.forObject(sqlSession).getValue("executor");
+        if (!(executor instanceof org.apache.ibatis.executor.Executor)) {
+            return false;
+        }
+        // 不能调用 Transaction.getConnection()，该方法会打开连接
+        Transaction transaction = ((org.apache.ibatis.executor.Executor) executor).getTransaction();
+        Optional<Field> connectionField = MapUtil.computeIfAbsent(connectionFields, transaction.getClass(), clazz -> {
+            Field field = ClassUtil.getFirstField(clazz, f -> Connection.class.isAssignableFrom(f.getType()));
+            if (field != null) {
+                field.setAccessible(true);
+            }
+            return Optional.ofNullable(field);
+        });
+        try {
+            return connectionField.isPresent() && connectionField.get().get(transaction) != null;
+        } catch (IllegalAccessException e) {
+            return false;
+        }
+    }
+
+    private static SqlSessionFactory getSqlSessionFactory(Configuration configuration) {
+        FlexGlobalConfig globalConfig = configuration.getEnvironment() != null
+            ? FlexGlobalConfig.getConfig(configuration) : null;
+        if (globalConfig != null && globalConfig.getSqlSessionFactory() != null) {
+            return globalConfig.getSqlSessionFactory();
+        }
+        return new DefaultSqlSessionFactory(configuration);
+    }
+
+    private static Executor getDefaultExecutor() {
+        if (defaultExecutor == null) {
+            synchronized (ConcurrentQuery.class) {
+                if (defaultExecutor == null) {
+                    AtomicInteger threadNumber = new AtomicInteger();
+                    // 线程都在使用时由调用线程执行查询，不排队等待
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(DEFAULT_MAX_THREADS, DEFAULT_MAX_THREADS
+                        , 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "mybatis-flex-count-" + threadNumber.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+                    executor.allowCoreThreadTimeOut(true);
+                    defaultExecutor = executor;
+                }
+            }
+        }
+        return defaultExecutor;
+    }
+
+}
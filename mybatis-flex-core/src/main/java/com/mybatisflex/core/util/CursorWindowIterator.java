@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.util;
+
+import com.mybatisflex.core.BaseMapper;
+import com.mybatisflex.core.exception.FlexExceptions;
+import com.mybatisflex.core.field.FieldQueryBuilder;
+import com.mybatisflex.core.relation.RelationManager;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 按窗口读取游标数据。
+ *
+ * <p>每次从游标中读取 {@code windowSize} 条数据，查询这一批数据的 Relation 注解字段以及字段查询后再返回，
+ * 内存中最多只保存一个窗口的数据，关联查询的 IN 条件也不会超过窗口大小。
+ *
+ * @param <T> 数据类型
+ */
+public class CursorWindowIterator<T> implements Iterator<List<T>>, Closeable {
+
+    private final BaseMapper<?> mapper;
+    private final Cursor<T> cursor;
+    private final Iterator<T> iterator;
+    private final int windowSize;
+    private final boolean queryRelations;
+    private final Consumer<FieldQueryBuilder<T>>[] consumers;
+    private boolean closed;
+
+    /**
+     * @param mapper         查询关联数据使用的 Mapper
+     * @param cursor         游标
+     * @param windowSize     每个窗口的数据数量
+     * @param queryRelations 是否查询 Relation 注解字段
+     * @param consumers      字段查询
+     */
+    public CursorWindowIterator(BaseMapper<?> mapper, Cursor<T> cursor, int windowSize, boolean queryRelations
+        , Consumer<FieldQueryBuilder<T>>[] consumers) {
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize must greater than 0，current value is: " + windowSize);
+        }
+        this.mapper = mapper;
+        this.cursor = cursor;
+        this.iterator = cursor.iterator();
+        this.windowSize = windowSize;
+        this.queryRelations = queryRelations;
+        this.consumers = consumers;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return !closed && iterator.hasNext();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<T> window = new ArrayList<>(windowSize);
+        while (window.size() < windowSize && iterator.hasNext()) {
+            window.add(iterator.next());
+        }
+        if (queryRelations) {
+            RelationManager.queryRelationsWithoutClearConfig(mapper, window);
+        }
+        MapperUtil.queryFields(mapper, window, consumers);
+        return window;
+    }
+
+    /**
+     * 依次处理每个窗口的数据，处理完成后关闭游标。
+     *
+     * @param windowConsumer 窗口数据处理
+     */
+    public void forEachWindow(Consumer<List<T>> windowConsumer) {
+        try {
+            while (hasNext()) {
+                windowConsumer.accept(next());
+            }
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * 转换为 {@link Stream}，使用完毕后需要关闭（例如使用 try-with-resources），以便关闭游标。
+     *
+     * @return 数据流
+     */
+    public Stream<T> stream() {
+        Spliterator<List<T>> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false)
+            .flatMap(List::stream)
+            .onClose(this::close);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            cursor.close();
+        } catch (IOException e) {
+            throw FlexExceptions.wrap(e);
+        } finally {
+            if (queryRelations) {
+                RelationManager.clearConfigIfNecessary();
+            }
+        }
+    }
+
+}
@@ -18,9 +18,13 @@ package com.mybatisflex.core.util;
 import com.mybatisflex.annotation.EnumValue;
 import com.mybatisflex.core.exception.FlexExceptions;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -36,6 +40,32 @@ public class EnumWrapper<E extends Enum<E>> {
     private Class<?> propertyType;
     private Method getterMethod;
 
+    /**
+     * 每个枚举常量的值，下标为 {@link Enum#ordinal()}
+     */
+    private final Object[] enumValues;
+
+    /**
+     * 枚举值与枚举常量的对应关系
+     */
+    private final Map<Object, E> valueEnumMap;
+
+    /**
+     * 枚举值为整数时，转换为 long 之后与枚举常量的对应关系，兼容不同驱动返回的 Integer、Long、BigDecimal 等类型
+     */
+    private final Map<Long, E> longEnumMap;
+
+    /**
+     * 枚举值为较小且连续的整数时，使用数组保存，下标为枚举值减去 {@link #denseOffset}
+     */
+    private final E[] denseEnums;
+    private final long denseOffset;
+
+    /**
+     * 使用数组保存时，最大的数组长度
+     */
+    private static final int MAX_DENSE_SIZE = 1024;
+
     public static <R extends Enum<R>> EnumWrapper<R> of(Class<?> enumClass) {
         return MapUtil.computeIfAbsent(cache, enumClass, EnumWrapper::new);
     }
@@ -86,6 +116,63 @@ public class EnumWrapper<E extends Enum<E>> {
                 this.propertyType = returnType;
             }
         }
+
+        // 预先读取所有的枚举值，避免每次转换时都通过反射读取
+        this.enumValues = new Object[enums.length];
+        this.valueEnumMap = new HashMap<>(enums.length * 4 / 3 + 1);
+        Map<Long, E> longEnums = new HashMap<>();
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (E e : enums) {
+            Object enumValue = readEnumValue(e);
+            enumValues[e.ordinal()] = enumValue;
+            if (enumValue == null) {
+                continue;
+            }
+            valueEnumMap.putIfAbsent(enumValue, e);
+            Long longValue = toLong(enumValue);
+            if (longValue != null && !longEnums.containsKey(longValue)) {
+                longEnums.put(longValue, e);
+                min = Math.min(min, longValue);
+                max = Math.max(max, longValue);
+            }
+        }
+
+        if (!longEnums.isEmpty() && max - min >= 0 && max - min < MAX_DENSE_SIZE) {
+            //noinspection unchecked
+            E[] table = (E[]) Array.newInstance(enumClass, (int) (max - min + 1));
+            for (Map.Entry<Long, E> entry : longEnums.entrySet()) {
+                table[(int) (entry.getKey() - min)] = entry.getValue();
+            }
+            this.denseEnums = table;
+            this.denseOffset = min;
+            this.longEnumMap = null;
+        } else {
+            this.denseEnums = null;
+            this.denseOffset = 0;
+            this.longEnumMap = longEnums.isEmpty() ? null : longEnums;
+        }
+    }
+
+    /**
+     * 把整数类型的值转换为 long，不是整数（或者超出 long 的范围）时返回 {@code null}
+     */
+    private static Long toLong(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            return bigInteger.bitLength() < 64 ? bigInteger.longValue() : null;
+        }
+        if (value instanceof BigDecimal) {
+            try {
+                return ((BigDecimal) value).longValueExact();
+            } catch (ArithmeticException e) {
+                return null;
+            }
+        }
+        return null;
     }
 
     /**
@@ -99,6 +186,13 @@ public class EnumWrapper<E extends Enum<E>> {
      * @return
      */
     public Object getEnumValue(Object object) {
+        if (enumClass.isInstance(object)) {
+            return enumValues[((Enum<?>) object).ordinal()];
+        }
+        return readEnumValue(object);
+    }
+
+    private Object readEnumValue(Object object) {
         try {
             if (getterMethod != null) {
                 return getterMethod.invoke(object);
@@ -114,15 +208,27 @@ public class EnumWrapper<E extends Enum<E>> {
     }
 
 
+    /**
+     * 根据枚举值获取枚举常量，整数类型的值不区分 Integer、Long、BigDecimal 等具体类型
+     *
+     * @param value 枚举值
+     * @return 枚举常量，找不到时返回 {@code null}
+     */
     public E getEnum(Object value) {
-        if (value != null) {
-            for (E e : enums) {
-                if (value.equals(getEnumValue(e))) {
-                    return e;
+        if (value == null) {
+            return null;
+        }
+        if (denseEnums != null || longEnumMap != null) {
+            Long longValue = toLong(value);
+            if (longValue != null) {
+                if (denseEnums != null) {
+                    long index = longValue - denseOffset;
+                    return longValue >= denseOffset && index >= 0 && index < denseEnums.length ? denseEnums[(int) index] : null;
                 }
+                return longEnumMap.get(longValue);
             }
         }
-        return null;
+        return valueEnumMap.get(value);
     }
 
 
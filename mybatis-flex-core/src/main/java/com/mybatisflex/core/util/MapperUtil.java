@@ -24,12 +24,21 @@ import com.mybatisflex.core.exception.FlexExceptions;
 import com.mybatisflex.core.field.FieldQuery;
 import com.mybatisflex.core.field.FieldQueryBuilder;
 import com.mybatisflex.core.field.FieldQueryManager;
+import com.mybatisflex.core.paginate.CountCacheKey;
+import com.mybatisflex.core.paginate.CountCacheManager;
 import com.mybatisflex.core.paginate.Page;
+import com.mybatisflex.core.provider.EntitySqlProvider;
 import com.mybatisflex.core.query.*;
 import com.mybatisflex.core.relation.RelationManager;
 import com.mybatisflex.core.table.TableInfo;
 import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.transaction.TransactionContext;
 import org.apache.ibatis.exceptions.TooManyResultsException;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.ParameterMode;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.defaults.DefaultSqlSession;
 
 import java.util.ArrayList;
@@ -40,6 +49,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static com.mybatisflex.core.query.QueryMethods.count;
@@ -199,6 +209,8 @@ public class MapperUtil {
             // 这样方便用户做总数缓存，而非每次都要去查询总量
             // 一般的分页场景中，只有第一页的时候有必要去查询总量，第二页以后是不需要的
 
+            List<R> records = null;
+
             if (page.getTotalRow() < 0) {
 
                 QueryWrapper countQueryWrapper;
@@ -206,14 +218,40 @@ public class MapperUtil {
                 if (page.needOptimizeCountQuery()) {
                     countQueryWrapper = MapperUtil.optimizeCountQueryWrapper(queryWrapper);
                 } else {
-                    countQueryWrapper = MapperUtil.rawCountQueryWrapper(queryWrapper);
+                    // 并发查询时，原来的 queryWrapper 会被设置 limit，这里使用克隆对象
+                    countQueryWrapper = MapperUtil.rawCountQueryWrapper(page.needConcurrentCountQuery()
+                        ? queryWrapper.clone() : queryWrapper);
                 }
 
                 // optimize: 在 count 之前先去掉 limit 参数，避免 count 查询错误
                 CPI.setLimitRows(countQueryWrapper, null);
                 CPI.setLimitOffset(countQueryWrapper, null);
 
-                page.setTotalRow(mapper.selectCountByQuery(countQueryWrapper));
+                CountCacheKey countCacheKey = CountCacheManager.isEnable() ? createCountCacheKey(mapper, countQueryWrapper) : null;
+                Long cachedCount = countCacheKey != null ? CountCacheManager.getCount(countCacheKey) : null;
+
+                if (cachedCount != null) {
+                    page.setTotalRow(cachedCount);
+                } else {
+                    long generation = CountCacheManager.getGeneration();
+                    long start = System.nanoTime();
+                    CompletableFuture<Long> countFuture = page.needConcurrentCountQuery()
+                        ? ConcurrentQuery.submit(mapper, countQueryWrapper) : null;
+                    if (countFuture != null) {
+                        // 数据查询不依赖总数，与 count 查询并发执行，总数为 0 或页码超出时丢弃查询结果
+                        // count 查询已经先完成时，直接按总数判断是否还需要查询数据
+                        if (!countFuture.isDone()) {
+                            queryWrapper.limit(page.offset(), page.getPageSize());
+                            records = selectRecords(mapper, queryWrapper, asType);
+                        }
+                        page.setTotalRow(ConcurrentQuery.join(countFuture));
+                    } else {
+                        page.setTotalRow(mapper.selectCountByQuery(countQueryWrapper));
+                    }
+                    if (countCacheKey != null) {
+                        CountCacheManager.putCount(countCacheKey, page.getTotalRow(), System.nanoTime() - start, generation);
+                    }
+                }
             }
 
             if (!page.hasRecords()) {
@@ -223,14 +261,9 @@ public class MapperUtil {
                 return page;
             }
 
-            queryWrapper.limit(page.offset(), page.getPageSize());
-
-            List<R> records;
-            if (asType != null) {
-                records = mapper.selectListByQueryAs(queryWrapper, asType);
-            } else {
-                // noinspection unchecked
-                records = (List<R>) mapper.selectListByQuery(queryWrapper);
+            if (records == null) {
+                queryWrapper.limit(page.offset(), page.getPageSize());
+                records = selectRecords(mapper, queryWrapper, asType);
             }
 
             if (withRelations) {
@@ -251,6 +284,65 @@ public class MapperUtil {
     }
 
 
+    /**
+     * 创建分页查询总数的缓存 key，优先使用查询条件的结构指纹；无法生成结构指纹时使用 COUNT 查询最终的 SQL，
+     * 包含 Mapper 查询时追加的逻辑删除、多租户等条件，保证不同租户的总数不会相互影响。
+     */
+    private static CountCacheKey createCountCacheKey(BaseMapper<?> mapper, QueryWrapper countQueryWrapper) {
+        if (TransactionContext.isTransactionActive()) {
+            return null;
+        }
+        Class<?> mapperClass = ClassUtil.getUsefulClass(mapper.getClass());
+        CountCacheKey countCacheKey = CountCacheManager.createKey(mapperClass, countQueryWrapper);
+        if (countCacheKey != null) {
+            return countCacheKey;
+        }
+        QueryWrapper queryWrapper = countQueryWrapper.clone();
+        EntitySqlProvider.appendTableConditions(() -> TableInfoFactory.ofMapperClass(mapperClass), queryWrapper, false);
+        String sql = DialectFactory.getDialect().forSelectByQuery(queryWrapper);
+        return CountCacheManager.createKey(sql, CPI.getValueArray(queryWrapper), queryWrapper);
+    }
+
+
+    /**
+     * 创建 {@code xmlPaginate} 总数查询的缓存 key，使用 COUNT 语句最终的 SQL 和参数。
+     *
+     * @param configuration MyBatis 配置
+     * @param countSelectId COUNT 查询语句 id
+     * @param params        查询参数
+     * @param queryWrapper  查询条件，用于获取查询中使用的表
+     * @return 缓存 key，在事务中时返回 {@code null}
+     */
+    public static CountCacheKey createXmlCountCacheKey(Configuration configuration, String countSelectId
+        , Map<String, Object> params, QueryWrapper queryWrapper) {
+        if (TransactionContext.isTransactionActive()) {
+            return null;
+        }
+        BoundSql boundSql = configuration.getMappedStatement(countSelectId).getBoundSql(params);
+        List<ParameterMapping> parameterMappings = boundSql.getParameterMappings();
+        MetaObject metaObject = configuration.newMetaObject(params);
+        List<Object> args = new ArrayList<>(parameterMappings.size());
+        for (ParameterMapping parameterMapping : parameterMappings) {
+            if (parameterMapping.getMode() == ParameterMode.OUT) {
+                continue;
+            }
+            String property = parameterMapping.getProperty();
+            args.add(boundSql.hasAdditionalParameter(property)
+                ? boundSql.getAdditionalParameter(property) : metaObject.getValue(property));
+        }
+        return CountCacheManager.createKey(boundSql.getSql(), args.toArray(), queryWrapper);
+    }
+
+
+    private static <T, R> List<R> selectRecords(BaseMapper<T> mapper, QueryWrapper queryWrapper, Class<R> asType) {
+        if (asType != null) {
+            return mapper.selectListByQueryAs(queryWrapper, asType);
+        }
+        // noinspection unchecked
+        return (List<R>) mapper.selectListByQuery(queryWrapper);
+    }
+
+
     public static <R> void queryFields(BaseMapper<?> mapper, List<R> list, Consumer<FieldQueryBuilder<R>>[] consumers) {
         if (CollectionUtil.isEmpty(list) || ArrayUtil.isEmpty(consumers) || consumers[0] == null) {
             return;
@@ -0,0 +1,231 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.util;
+
+import com.mybatisflex.core.FlexContext;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.dialect.OperateType;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryColumn;
+import com.mybatisflex.core.query.QueryFingerprint;
+import com.mybatisflex.core.query.QueryTable;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.query.SelectQueryColumn;
+import com.mybatisflex.core.query.SelectQueryTable;
+import com.mybatisflex.core.query.UnionWrapper;
+import com.mybatisflex.core.row.RowMapper;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.table.TableManager;
+import com.mybatisflex.core.tenant.TenantManager;
+
+import java.lang.reflect.Array;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 查询缓存的 key 以及查询中使用的表，查询结果缓存和分页查询总数缓存共用。
+ */
+public class QueryKeyUtil {
+
+    private QueryKeyUtil() {
+    }
+
+    private static final Object UNCACHEABLE = new Object();
+
+    /**
+     * 把 Mapper 方法的参数转换为可以作为 key 的值，集合、数组会被复制为 {@link List}，避免参数被修改后影响 key，
+     * {@link QueryWrapper} 转换为结构指纹和参数。
+     *
+     * @param args 方法参数
+     * @return 转换后的参数，包含无法作为 key 的对象（例如实体类、lambda）时返回 {@code null}
+     */
+    public static Object[] toKeyArgs(Object[] args) {
+        Object parts = toKeyPart(args == null ? new Object[0] : args);
+        return parts == UNCACHEABLE ? null : ((List<?>) parts).toArray();
+    }
+
+    /**
+     * 获取当前线程中影响查询结果的上下文，包括数据源、逻辑删除、动态表名、租户等。
+     *
+     * @param mapperInterface Mapper 接口
+     * @param args            方法参数，{@link RowMapper} 的前两个参数为 schema 和表名
+     * @return 上下文，无法作为 key 时返回 {@code null}
+     */
+    public static Object[] getKeyContext(Class<?> mapperInterface, Object[] args) {
+        String tableName = null;
+        String schema = null;
+        if (mapperInterface == RowMapper.class) {
+            if (args != null && args.length > 1 && args[0] instanceof String && args[1] instanceof String) {
+                schema = (String) args[0];
+                tableName = (String) args[1];
+            }
+        } else {
+            TableInfo tableInfo = TableInfoFactory.ofMapperClass(mapperInterface);
+            if (tableInfo != null) {
+                schema = tableInfo.getSchema();
+                tableName = tableInfo.getTableName();
+            }
+        }
+
+        FlexContext flexContext = FlexContext.current();
+        Object[] context = new Object[]{
+            flexContext.getDataSourceKey(),
+            flexContext.getHintDbType(),
+            flexContext.isSkipLogicDelete(),
+            flexContext.isSkipMask(),
+            flexContext.getCompactRow(),
+            flexContext.getHintTableMappings(),
+            flexContext.getHintSchemaMappings(),
+            flexContext.getRelationQueryDepth(),
+            toKeyPart(flexContext.getRelationExtraConditionParams()),
+            flexContext.getIgnoreRelations(),
+            flexContext.getQueryRelations(),
+            tableName == null ? null : TableManager.getRealTable(tableName, OperateType.SELECT),
+            StringUtil.noText(schema) ? null : TableManager.getRealSchema(schema, tableName, OperateType.SELECT),
+            toKeyPart(TenantManager.getTenantIds(tableName))
+        };
+        if (context[8] == UNCACHEABLE || context[13] == UNCACHEABLE) {
+            return null;
+        }
+        return context;
+    }
+
+    private static Object toKeyPart(Object value) {
+        if (value == null || value instanceof CharSequence) {
+            return value == null ? null : value.toString();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character || value instanceof Enum
+            || value instanceof Class || value instanceof TemporalAccessor || value instanceof UUID) {
+            return value;
+        }
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof QueryWrapper) {
+            QueryWrapper queryWrapper = (QueryWrapper) value;
+            QueryFingerprint fingerprint = QueryFingerprint.of(queryWrapper, DialectFactory.getDialect());
+            if (fingerprint == null) {
+                return UNCACHEABLE;
+            }
+            Object values = toKeyPart(CPI.getValueArray(queryWrapper));
+            return values == UNCACHEABLE ? UNCACHEABLE : Arrays.asList(fingerprint, values);
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = new LinkedHashMap<>();
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                Object k = toKeyPart(entry.getKey());
+                Object v = toKeyPart(entry.getValue());
+                if (k == UNCACHEABLE || v == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                map.put(k, v);
+            }
+            return map;
+        }
+        if (value instanceof Collection) {
+            List<Object> list = new ArrayList<>(((Collection<?>) value).size());
+            for (Object element : (Collection<?>) value) {
+                Object part = toKeyPart(element);
+                if (part == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                list.add(part);
+            }
+            return list;
+        }
+        if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            List<Object> list = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                Object part = toKeyPart(Array.get(value, i));
+                if (part == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                list.add(part);
+            }
+            return list;
+        }
+        return UNCACHEABLE;
+    }
+
+    /**
+     * 收集查询中使用的表，包括 join 的表、子查询的表以及 union 的表。
+     *
+     * @param queryWrapper 查询条件
+     * @param tableNames   表名（小写）
+     * @param withSchema   是否包含 schema，为 {@code true} 时指定了 schema 的表为 {@code schema.table}
+     */
+    public static void collectTableNames(QueryWrapper queryWrapper, Set<String> tableNames, boolean withSchema) {
+        addTableNames(CPI.getQueryTables(queryWrapper), tableNames, withSchema);
+        addTableNames(CPI.getJoinTables(queryWrapper), tableNames, withSchema);
+        List<QueryWrapper> childSelects = CPI.getChildSelect(queryWrapper);
+        if (CollectionUtil.isNotEmpty(childSelects)) {
+            for (QueryWrapper childSelect : childSelects) {
+                collectTableNames(childSelect, tableNames, withSchema);
+            }
+        }
+        List<QueryColumn> selectColumns = CPI.getSelectColumns(queryWrapper);
+        if (CollectionUtil.isNotEmpty(selectColumns)) {
+            for (QueryColumn selectColumn : selectColumns) {
+                if (selectColumn instanceof SelectQueryColumn) {
+                    collectTableNames(CPI.getQueryWrapper((SelectQueryColumn) selectColumn), tableNames, withSchema);
+                }
+            }
+        }
+        List<UnionWrapper> unions = CPI.getUnions(queryWrapper);
+        if (CollectionUtil.isNotEmpty(unions)) {
+            for (UnionWrapper union : unions) {
+                collectTableNames(union.getQueryWrapper(), tableNames, withSchema);
+            }
+        }
+    }
+
+    private static void addTableNames(List<QueryTable> queryTables, Set<String> tableNames, boolean withSchema) {
+        if (CollectionUtil.isNotEmpty(queryTables)) {
+            for (QueryTable queryTable : queryTables) {
+                if (queryTable instanceof SelectQueryTable) {
+                    collectTableNames(((SelectQueryTable) queryTable).getQueryWrapper(), tableNames, withSchema);
+                } else if (withSchema && StringUtil.hasText(queryTable.getSchema())) {
+                    addTableName(queryTable.getSchema() + "." + queryTable.getName(), tableNames);
+                } else {
+                    addTableName(queryTable.getName(), tableNames);
+                }
+            }
+        }
+    }
+
+    /**
+     * 添加表名，转换为小写，忽略空的表名。
+     *
+     * @param tableName  表名
+     * @param tableNames 表名集合
+     */
+    public static void addTableName(String tableName, Set<String> tableNames) {
+        if (StringUtil.hasText(tableName)) {
+            tableNames.add(tableName.toLowerCase());
+        }
+    }
+
+}
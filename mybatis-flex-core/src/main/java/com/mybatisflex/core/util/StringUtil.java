@@ -176,6 +176,24 @@ public class StringUtil {
     }
 
 
+    /**
+     * 判断 {@code charSequence} 从 {@code fromIndex} 开始的内容是否包含非空白字符，
+     * 用于检查追加到 StringBuilder 中的 SQL 片段，避免先转换为字符串。
+     *
+     * @param charSequence 字符序列
+     * @param fromIndex    开始位置
+     * @return 包含非空白字符时返回 true
+     */
+    public static boolean hasText(CharSequence charSequence, int fromIndex) {
+        for (int i = fromIndex; i < charSequence.length(); i++) {
+            if (!Character.isWhitespace(charSequence.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+
     public static boolean allHasText(String... strings) {
         for (String string : strings) {
             if (!hasText(string)) {
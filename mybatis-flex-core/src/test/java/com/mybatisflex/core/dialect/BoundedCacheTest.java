@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.core.dialect;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BoundedCacheTest {
+
+    @Test
+    public void testEvict() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(64);
+        for (int i = 0; i < 64; i++) {
+            cache.put(i, String.valueOf(i));
+        }
+        Assert.assertEquals(64, cache.size());
+
+        // 被访问过的条目在第一轮淘汰时保留
+        cache.get(0);
+        cache.put(64, "64");
+        Assert.assertEquals(61, cache.size());
+        Assert.assertEquals("0", cache.get(0));
+        Assert.assertEquals("64", cache.get(64));
+
+        for (int i = 100; i < 1000; i++) {
+            cache.put(i, String.valueOf(i));
+            Assert.assertTrue(cache.size() <= 64);
+        }
+
+        cache.removeIf(key -> key % 2 == 0);
+        Assert.assertNull(cache.get(998));
+        Assert.assertEquals("999", cache.get(999));
+    }
+
+    @Test
+    public void testConcurrentPut() throws Exception {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(128);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int offset = t * 10000;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10000; i++) {
+                    cache.put(offset + i, "v");
+                    cache.get(offset + i / 2);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // 淘汰期间的并发写入可能短暂超出上限，但不会无限增长
+        Assert.assertTrue(cache.size() <= 128 * 2);
+    }
+
+}
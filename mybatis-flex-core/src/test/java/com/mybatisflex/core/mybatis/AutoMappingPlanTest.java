@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.mybatis;
+
+import com.mybatisflex.core.row.CompactRow;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.coretest.Account;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.IntegerTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+import org.apache.ibatis.type.LongTypeHandler;
+import org.apache.ibatis.type.StringTypeHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class AutoMappingPlanTest {
+
+    private static ResultSet resultSet(Map<String, Object> row) {
+        Object[] last = new Object[1];
+        return (ResultSet) Proxy.newProxyInstance(AutoMappingPlanTest.class.getClassLoader(), new Class[]{ResultSet.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "getLong":
+                    case "getInt":
+                    case "getString":
+                        last[0] = row.get((String) args[0]);
+                        if (last[0] == null) {
+                            return method.getReturnType() == String.class ? null : 0;
+                        }
+                        return last[0];
+                    case "wasNull":
+                        return last[0] == null;
+                    default:
+                        throw new UnsupportedOperationException(method.getName());
+                }
+            });
+    }
+
+    private static AutoMappingPlan createPlan(Configuration configuration) {
+        List<AutoMappingPlan.Slot> slots = Arrays.asList(
+            new AutoMappingPlan.Slot("ID", "id", new LongTypeHandler(), false),
+            new AutoMappingPlan.Slot("USER_NAME", "userName", new StringTypeHandler(), false),
+            new AutoMappingPlan.Slot("AGE", "age", new IntegerTypeHandler(), false)
+        );
+        return new AutoMappingPlan(configuration, Account.class, slots);
+    }
+
+    @Test
+    public void testApply() throws Exception {
+        Configuration configuration = new Configuration();
+        configuration.setObjectWrapperFactory(new FlexWrapperFactory());
+        AutoMappingPlan plan = createPlan(configuration);
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("ID", 1L);
+        row.put("USER_NAME", "michael");
+
+        Account account = new Account();
+        account.setAge(18);
+        MetaObject metaObject = configuration.newMetaObject(account);
+        Assert.assertTrue(plan.apply(resultSet(row), metaObject, false));
+        Assert.assertEquals(Long.valueOf(1), account.getId());
+        Assert.assertEquals("michael", account.getUserName());
+        Assert.assertEquals(Integer.valueOf(18), account.getAge());
+
+        Assert.assertTrue(plan.apply(resultSet(row), metaObject, true));
+        Assert.assertNull(account.getAge());
+
+        // 子类对象通过 MetaObject 设置属性
+        Account subAccount = new Account() {
+        };
+        Assert.assertTrue(plan.apply(resultSet(row), configuration.newMetaObject(subAccount), false));
+        Assert.assertEquals("michael", subAccount.getUserName());
+    }
+
+    @Test
+    public void testApplyCompactRow() throws Exception {
+        Configuration configuration = new Configuration();
+        AutoMappingPlan plan = new AutoMappingPlan(configuration, Row.class, Arrays.asList(
+            new AutoMappingPlan.Slot("ID", "ID", new LongTypeHandler(), false),
+            new AutoMappingPlan.Slot("USER_NAME", "USER_NAME", new StringTypeHandler(), false)
+        ));
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("ID", 1L);
+
+        CompactRow compactRow = new CompactRow();
+        Assert.assertTrue(plan.apply(resultSet(row), configuration.newMetaObject(compactRow), false));
+        Assert.assertTrue(compactRow.isCompact());
+        Assert.assertEquals(1, compactRow.size());
+        Assert.assertEquals(1L, compactRow.get("ID"));
+        Assert.assertFalse(compactRow.containsKey("USER_NAME"));
+
+        compactRow = new CompactRow();
+        plan.apply(resultSet(row), configuration.newMetaObject(compactRow), true);
+        Assert.assertEquals(2, compactRow.size());
+        Assert.assertTrue(compactRow.containsKey("USER_NAME"));
+    }
+
+    @Test
+    public void testKey() {
+        List<String> columns = Arrays.asList("ID", "USER_NAME");
+        List<JdbcType> jdbcTypes = Arrays.asList(JdbcType.BIGINT, JdbcType.VARCHAR);
+        List<String> classNames = Arrays.asList("java.lang.Long", "java.lang.String");
+
+        Configuration configuration = new Configuration();
+        ResultMap resultMap = new ResultMap.Builder(configuration, "account", Account.class, new ArrayList<>()).build();
+
+        AutoMappingPlanCache.Key key = new AutoMappingPlanCache.Key(resultMap, null, Row.class, columns, jdbcTypes, classNames, true);
+        Assert.assertEquals(key, new AutoMappingPlanCache.Key(resultMap, null, Row.class, columns, jdbcTypes, classNames, true));
+        Assert.assertNotEquals(key, new AutoMappingPlanCache.Key(resultMap, "A_", Row.class, columns, jdbcTypes, classNames, true));
+        Assert.assertNotEquals(key, new AutoMappingPlanCache.Key(resultMap, null, Row.class, columns,
+            Arrays.asList(JdbcType.INTEGER, JdbcType.VARCHAR), classNames, true));
+        Assert.assertNotEquals(key, new AutoMappingPlanCache.Key(resultMap, null, CompactRow.class, columns, jdbcTypes, classNames, true));
+    }
+
+}
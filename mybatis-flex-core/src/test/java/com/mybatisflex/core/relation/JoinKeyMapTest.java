@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.core.relation;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.UUID;
+
+public class JoinKeyMapTest {
+
+    @Test
+    public void testNumberKeys() {
+        JoinKeyMap<String> map = new JoinKeyMap<>(0);
+        map.put(1L, "a");
+        map.put("-9223372036854775808", "min");
+        map.put(Long.MAX_VALUE, "max");
+
+        Assert.assertEquals("a", map.get(1));
+        Assert.assertEquals("a", map.get("1"));
+        Assert.assertEquals("a", map.get(BigInteger.ONE));
+        Assert.assertEquals("a", map.get(BigDecimal.ONE));
+        Assert.assertEquals("min", map.get(Long.MIN_VALUE));
+        Assert.assertEquals("max", map.get("9223372036854775807"));
+
+        // 与 toString() 的比较结果保持一致
+        Assert.assertNull(map.get("01"));
+        Assert.assertNull(map.get("+1"));
+        Assert.assertNull(map.get(new BigDecimal("1.0")));
+        Assert.assertNull(map.get(1.0D));
+        Assert.assertNull(map.get("9223372036854775808"));
+    }
+
+    @Test
+    public void testObjectKeys() {
+        UUID uuid = UUID.randomUUID();
+        JoinKeyMap<String> map = new JoinKeyMap<>(0);
+        map.put(uuid.toString(), "uuid");
+        map.put("abc", "string");
+        map.put(1.5D, "double");
+
+        Assert.assertEquals("uuid", map.get(uuid));
+        Assert.assertNull(map.get(uuid.toString().toUpperCase()));
+        Assert.assertEquals("string", map.get("abc"));
+        Assert.assertEquals("double", map.get("1.5"));
+    }
+
+    @Test
+    public void testResize() {
+        JoinKeyMap<Long> map = new JoinKeyMap<>(0);
+        Assert.assertTrue(map.isEmpty());
+        for (long i = 0; i < 10_000; i++) {
+            map.put(i * 31, i);
+        }
+        for (long i = 0; i < 10_000; i++) {
+            Assert.assertEquals(Long.valueOf(i), map.get(i * 31));
+        }
+        Assert.assertNull(map.get(1));
+        Assert.assertFalse(map.isEmpty());
+    }
+
+}
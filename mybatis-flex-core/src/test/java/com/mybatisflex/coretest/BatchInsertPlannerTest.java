@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.dialect.BatchInsertPlanner;
+import com.mybatisflex.core.dialect.DbType;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 多行 INSERT 切分计划测试。
+ */
+public class BatchInsertPlannerTest {
+
+    @After
+    public void after() {
+        BatchInsertPlanner.setTargetStatementSize(0);
+        BatchInsertPlanner.setEstimatedParameterSize(32);
+    }
+
+    private static List<String> columns(int count) {
+        List<String> columns = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            columns.add("column_" + i);
+        }
+        return columns;
+    }
+
+    @Test
+    public void testMaxParameters() {
+        // PostgreSQL 最多 65535 个参数
+        Assert.assertEquals(655, BatchInsertPlanner.getRowsPerStatement(DbType.POSTGRE_SQL, 1000, "tb_wide", columns(100)));
+        Assert.assertEquals(100, BatchInsertPlanner.getRowsPerStatement(DbType.POSTGRE_SQL, 100, "tb_wide", columns(100)));
+
+        // SQLServer 最多 2100 个参数
+        Assert.assertEquals(210, BatchInsertPlanner.getRowsPerStatement(DbType.SQLSERVER, 1000, "tb_account", columns(10)));
+
+        // 列数超出限制时，每条语句至少一行
+        Assert.assertEquals(1, BatchInsertPlanner.getRowsPerStatement(DbType.SQLSERVER, 1000, "tb_wide", columns(3000)));
+
+        // 没有配置限制的数据库
+        Assert.assertEquals(100000, BatchInsertPlanner.getRowsPerStatement(DbType.H2, 100000, "tb_account", columns(10)));
+    }
+
+    @Test
+    public void testStatementSize() {
+        // 较大的参数值（例如长文本）时受 max_allowed_packet 限制
+        BatchInsertPlanner.setEstimatedParameterSize(1024);
+        int rows = BatchInsertPlanner.getRowsPerStatement(DbType.MYSQL, 100000, "tb_account", columns(10));
+        int rowLength = 10 * (3 + BatchInsertPlanner.getEstimatedParameterSize());
+        Assert.assertTrue(rows < 65535 / 10);
+        Assert.assertTrue((long) rows * rowLength <= BatchInsertPlanner.getMaxPacketSize(DbType.MYSQL));
+
+        BatchInsertPlanner.setTargetStatementSize(64 * 1024);
+        int targetRows = BatchInsertPlanner.getRowsPerStatement(DbType.MYSQL, 100000, "tb_account", columns(10));
+        Assert.assertTrue(targetRows < rows);
+        Assert.assertTrue((long) targetRows * rowLength <= 64 * 1024);
+
+        // Oracle 的 INSERT ALL 每一行都会重复表名和列名
+        BatchInsertPlanner.setEstimatedParameterSize(32);
+        int oracleRows = BatchInsertPlanner.getRowsPerStatement(DbType.ORACLE, 100000, "tb_account", columns(10));
+        int postgresqlRows = BatchInsertPlanner.getRowsPerStatement(DbType.POSTGRE_SQL, 100000, "tb_account", columns(10));
+        Assert.assertTrue(oracleRows < postgresqlRows);
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.FlexConsts;
+import com.mybatisflex.core.mybatis.TypeHandlerObject;
+import com.mybatisflex.core.mybatis.executor.CacheKeyBuilder;
+import com.mybatisflex.core.mybatis.executor.LocalCacheManager;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.type.ClobTypeHandler;
+import org.apache.ibatis.type.StringTypeHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+public class CacheKeyBuilderTest {
+
+    private final CacheKeyBuilder builder = new CacheKeyBuilder() {
+    };
+
+    private CacheKey key(Object... args) {
+        Map<String, Object> parameter = new HashMap<>();
+        parameter.put(FlexConsts.SQL_ARGS, args);
+        CacheKey cacheKey = new CacheKey();
+        cacheKey.update("select * from tb_account where id in (?, ?) and data = ?");
+        return builder.buildCacheKey(cacheKey, parameter);
+    }
+
+    @Test
+    public void testBuildCacheKey() {
+        Assert.assertEquals(key(1, 2, new byte[]{1, 2}), key(1, 2, new byte[]{1, 2}));
+        Assert.assertNotEquals(key(1, 2, new byte[]{1, 2}), key(1, 2, new byte[]{1, 3}));
+
+        Assert.assertEquals(key(Arrays.asList(1, 2), "a"), key(new Object[]{1, 2}, "a"));
+        Assert.assertNotEquals(key(Arrays.asList(1, 2), Collections.singletonList(3)), key(Collections.singletonList(1), Arrays.asList(2, 3)));
+
+        // 包含 TypeHandler 的类型
+        Assert.assertEquals(key(new TypeHandlerObject(new StringTypeHandler(), Arrays.asList(1, 2), null))
+            , key(new TypeHandlerObject(new StringTypeHandler(), new Object[]{1, 2}, null)));
+        Assert.assertNotEquals(key(new TypeHandlerObject(new StringTypeHandler(), "json", null)), key("json"));
+        Assert.assertNotEquals(key(new TypeHandlerObject(new StringTypeHandler(), "json", null))
+            , key(new TypeHandlerObject(new ClobTypeHandler(), "json", null)));
+    }
+
+    @Test
+    public void testUniqueCacheKey() throws Exception {
+        Assert.assertNotEquals(LocalCacheManager.newUniqueCacheKey(), LocalCacheManager.newUniqueCacheKey());
+
+        // 可以序列化，用于二级缓存时不会出错
+        CacheKey cacheKey = LocalCacheManager.newUniqueCacheKey();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(cacheKey);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertEquals(cacheKey, in.readObject());
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.mybatis.FlexConfiguration;
+import com.mybatisflex.core.row.CompactRow;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.row.RowHeader;
+import org.apache.ibatis.reflection.MetaObject;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class CompactRowTest {
+
+    private static final RowHeader HEADER = RowHeader.of("id", "user_name", "age");
+
+    private static CompactRow newRow() {
+        return new CompactRow(HEADER, new Object[]{1L, "michael", 18});
+    }
+
+    @Test
+    public void testRead() {
+        CompactRow row = newRow();
+        Assert.assertTrue(row.isCompact());
+        Assert.assertEquals(3, row.size());
+        Assert.assertEquals("michael", row.get("user_name"));
+        Assert.assertEquals("michael", row.getIgnoreCase("userName"));
+        Assert.assertEquals(Integer.valueOf(18), row.getInt("age"));
+        Assert.assertNull(row.get("other"));
+        Assert.assertEquals(Arrays.asList("id", "user_name", "age"), new ArrayList<>(row.keySet()));
+
+        Row plainRow = new Row();
+        plainRow.put("id", 1L);
+        plainRow.put("user_name", "michael");
+        plainRow.put("age", 18);
+        Assert.assertEquals(plainRow, row);
+        Assert.assertEquals(row, plainRow);
+        Assert.assertEquals(plainRow.hashCode(), row.hashCode());
+        Assert.assertEquals(plainRow.toString(), row.toString());
+
+        Account account = row.toEntity(Account.class);
+        Assert.assertEquals(Long.valueOf(1), account.getId());
+        Assert.assertEquals("michael", account.getUserName());
+        Assert.assertEquals(Integer.valueOf(18), account.getAge());
+    }
+
+    @Test
+    public void testWrite() {
+        CompactRow row = newRow();
+        row.set("age", 20);
+        row.remove("USER_NAME");
+        Assert.assertTrue(row.isCompact());
+        Assert.assertEquals(2, row.size());
+        Assert.assertEquals(20, row.get("age"));
+        Assert.assertFalse(row.containsKey("user_name"));
+
+        row.keep("age");
+        Assert.assertTrue(row.isCompact());
+        Assert.assertEquals(1, row.size());
+
+        // 新增列后使用普通存储
+        row.set("sex", 1);
+        Assert.assertFalse(row.isCompact());
+        Assert.assertEquals(Arrays.asList("age", "sex"), new ArrayList<>(row.keySet()));
+        Assert.assertEquals(20, row.get("age"));
+
+        CompactRow other = newRow();
+        other.put("id", 2L);
+        Assert.assertFalse(other.isCompact());
+        Assert.assertEquals(1L, other.get("id"));
+        Assert.assertEquals(2L, other.get("id$1"));
+    }
+
+    @Test
+    public void testCopy() throws Exception {
+        CompactRow row = newRow();
+        CompactRow clone = (CompactRow) row.clone();
+        clone.set("age", 20);
+        Assert.assertEquals(18, row.get("age"));
+        Assert.assertEquals(20, clone.get("age"));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(row);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            Assert.assertEquals(row, in.readObject());
+        }
+    }
+
+    @Test
+    public void testCamelCaseMapping() {
+        FlexConfiguration configuration = new FlexConfiguration();
+        configuration.setMapUnderscoreToCamelCase(true);
+
+        // CompactRow 与 Row 一样，列名不会被转换为驼峰
+        MetaObject metaObject = configuration.newMetaObject(newRow());
+        Assert.assertEquals("user_name", metaObject.findProperty("user_name", configuration.isMapUnderscoreToCamelCase()));
+        Assert.assertEquals("michael", metaObject.getValue("user_name"));
+    }
+
+    @Test
+    public void testResultColumns() {
+        int[] positions = new int[4];
+        RowHeader header = RowHeader.ofResultColumns(Arrays.asList("id", "name", "id", "id"), positions);
+        Assert.assertEquals(3, header.size());
+        Assert.assertEquals("id$1", header.getColumn(2));
+        Assert.assertArrayEquals(new int[]{0, 1, 2, 0}, positions);
+    }
+
+}
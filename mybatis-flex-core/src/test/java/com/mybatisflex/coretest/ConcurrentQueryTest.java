@@ -0,0 +1,211 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.paginate.Page;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static com.mybatisflex.coretest.table.AccountTableDef.ACCOUNT;
+
+/**
+ * 分页时并发执行 COUNT 查询的测试。
+ */
+public class ConcurrentQueryTest {
+
+    private static FakeDataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+
+    private static volatile long total = 3;
+
+    @BeforeClass
+    public static void start() {
+        dataSource = new FakeDataSource(ConcurrentQueryTest::query);
+        MybatisFlexBootstrap bootstrap = new MybatisFlexBootstrap()
+            .setEnvironmentId("concurrent_query")
+            .setDataSource(dataSource)
+            .addMapper(AccountMapper.class)
+            .start();
+        sqlSessionFactory = FlexGlobalConfig.getConfig(bootstrap.getConfiguration()).getSqlSessionFactory();
+    }
+
+    private static List<Map<String, Object>> query(String sql, List<Object> args) throws SQLException {
+        if (sql.contains("COUNT(*)")) {
+            if (total < 0) {
+                throw new SQLException("count failed");
+            }
+            return Collections.singletonList(Collections.singletonMap("total", total));
+        }
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (long id = 1; id <= Math.min(total, 2); id++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", id);
+            row.put("user_name", "name" + id);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    @After
+    public void reset() {
+        total = 3;
+        dataSource.reset();
+        FlexGlobalConfig.getDefaultConfig().setPaginateExecutor(null);
+    }
+
+    private static Page<Account> paginate(AccountMapper mapper, boolean concurrent) {
+        Page<Account> page = new Page<>(1, 2);
+        page.setConcurrentCountQuery(concurrent);
+        return mapper.paginate(page, QueryWrapper.create().where(ACCOUNT.AGE.ge(18)));
+    }
+
+    private static List<String> threadNames() {
+        return dataSource.getExecutedSqls().stream()
+            .map(FakeDataSource.ExecutedSql::getThreadName)
+            .distinct()
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testSameResult() {
+        Page<Account> serial;
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            serial = paginate(sqlSession.getMapper(AccountMapper.class), false);
+        }
+        List<FakeDataSource.ExecutedSql> serialSqls = dataSource.getExecutedSqls();
+        dataSource.reset();
+
+        // 同步执行时 COUNT 查询总是先完成，这里让 COUNT 查询等待数据查询
+        CountDownLatch recordsQueried = new CountDownLatch(1);
+        dataSource.setQueryHandler((sql, args) -> {
+            if (sql.contains("COUNT(*)")) {
+                awaitQuietly(recordsQueried);
+            } else {
+                recordsQueried.countDown();
+            }
+            return query(sql, args);
+        });
+        Page<Account> concurrent;
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            concurrent = paginate(sqlSession.getMapper(AccountMapper.class), true);
+        } finally {
+            dataSource.setQueryHandler(ConcurrentQueryTest::query);
+        }
+        List<FakeDataSource.ExecutedSql> concurrentSqls = dataSource.getExecutedSqls();
+
+        Assert.assertEquals(3, concurrent.getTotalRow());
+        Assert.assertEquals(serial.getTotalRow(), concurrent.getTotalRow());
+        Assert.assertEquals(serial.getRecords().stream().map(Account::getUserName).collect(Collectors.toList())
+            , concurrent.getRecords().stream().map(Account::getUserName).collect(Collectors.toList()));
+        Assert.assertEquals(serialSqls.stream().map(FakeDataSource.ExecutedSql::toString).sorted().collect(Collectors.toList())
+            , concurrentSqls.stream().map(FakeDataSource.ExecutedSql::toString).sorted().collect(Collectors.toList()));
+        // COUNT 查询在另一个线程中执行
+        Assert.assertEquals(2, threadNames().size());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    public void testSkipRecordsWhenCountIsZero() {
+        total = 0;
+        // 同步执行的线程池，保证查询数据前 COUNT 查询已经完成
+        FlexGlobalConfig.getDefaultConfig().setPaginateExecutor(Runnable::run);
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            Page<Account> page = paginate(sqlSession.getMapper(AccountMapper.class), true);
+
+            Assert.assertEquals(0, page.getTotalRow());
+            Assert.assertTrue(page.getRecords().isEmpty());
+            Assert.assertEquals(1, dataSource.getExecutedSqls().size());
+            Assert.assertTrue(dataSource.getExecutedSqls().get(0).getSql().contains("COUNT(*)"));
+        }
+    }
+
+    @Test
+    public void testSerialInTransaction() {
+        Db.tx(() -> {
+            try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+                Page<Account> page = paginate(sqlSession.getMapper(AccountMapper.class), true);
+                Assert.assertEquals(3, page.getTotalRow());
+            }
+            return true;
+        });
+        Assert.assertEquals(2, dataSource.getExecutedSqls().size());
+        Assert.assertEquals(Collections.singletonList(Thread.currentThread().getName()), threadNames());
+    }
+
+    @Test
+    public void testSerialWithoutAutoCommit() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(false)) {
+            Page<Account> page = paginate(sqlSession.getMapper(AccountMapper.class), true);
+            Assert.assertEquals(3, page.getTotalRow());
+        }
+        Assert.assertEquals(Collections.singletonList(Thread.currentThread().getName()), threadNames());
+    }
+
+    @Test
+    public void testSerialWhenSessionHoldsConnection() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            AccountMapper mapper = sqlSession.getMapper(AccountMapper.class);
+            mapper.selectListByQuery(QueryWrapper.create().where(ACCOUNT.AGE.ge(18)));
+            Page<Account> page = paginate(mapper, true);
+            Assert.assertEquals(3, page.getTotalRow());
+        }
+        Assert.assertEquals(3, dataSource.getExecutedSqls().size());
+        Assert.assertEquals(Collections.singletonList(Thread.currentThread().getName()), threadNames());
+    }
+
+    @Test
+    public void testCountException() {
+        total = -1;
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            paginate(sqlSession.getMapper(AccountMapper.class), true);
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Throwable cause = e;
+            while (cause != null && !(cause instanceof SQLException)) {
+                cause = cause.getCause();
+            }
+            Assert.assertNotNull(cause);
+            Assert.assertEquals("count failed", cause.getMessage());
+        }
+        Assert.assertTrue(dataSource.getExecutedSqls().stream().anyMatch(sql -> sql.getSql().contains("COUNT(*)")));
+    }
+
+}
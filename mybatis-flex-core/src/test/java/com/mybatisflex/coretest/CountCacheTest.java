@@ -0,0 +1,192 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.paginate.CountCacheKey;
+import com.mybatisflex.core.paginate.CountCacheManager;
+import com.mybatisflex.core.paginate.DefaultCountCache;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static com.mybatisflex.coretest.table.AccountTableDef.ACCOUNT;
+import static com.mybatisflex.coretest.table.ArticleTableDef.ARTICLE;
+
+/**
+ * 分页查询总数缓存测试。
+ */
+public class CountCacheTest {
+
+    @Before
+    public void before() {
+        CountCacheManager.setCountCache(new DefaultCountCache());
+        CountCacheManager.setEnable(true);
+        CountCacheManager.resetStatistics();
+    }
+
+    @After
+    public void after() {
+        CountCacheManager.setEnable(false);
+        CountCacheManager.setApproximate(false);
+        CountCacheManager.setCountCache(new DefaultCountCache());
+    }
+
+    private static CountCacheKey key(String sql, Object... args) {
+        return new CountCacheKey(sql, args, null, Collections.singleton("tb_account"));
+    }
+
+    @Test
+    public void testKey() {
+        Assert.assertEquals(key("SELECT COUNT(*) FROM tb_account WHERE age > ?", 18)
+            , key("SELECT COUNT(*) FROM tb_account WHERE age > ?", 18));
+        Assert.assertNotEquals(key("SELECT COUNT(*) FROM tb_account WHERE age > ?", 18)
+            , key("SELECT COUNT(*) FROM tb_account WHERE age > ?", 19));
+
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .from(ACCOUNT)
+            .leftJoin(ARTICLE).on(ARTICLE.ACCOUNT_ID.eq(ACCOUNT.ID));
+        CountCacheKey key = CountCacheManager.createKey("SELECT COUNT(*) FROM tb_account", new Object[0], queryWrapper);
+        Assert.assertTrue(key.getTableNames().contains("tb_account"));
+        Assert.assertTrue(key.getTableNames().contains("tb_article"));
+
+        DataSourceKey.use("ds2");
+        try {
+            CountCacheKey otherDsKey = CountCacheManager.createKey("SELECT COUNT(*) FROM tb_account", new Object[0], queryWrapper);
+            Assert.assertNotEquals(key, otherDsKey);
+        } finally {
+            DataSourceKey.clear();
+        }
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        DefaultCountCache cache = new DefaultCountCache(50, 2);
+        cache.put(key("a"), 1);
+        cache.put(key("b"), 2);
+        Assert.assertEquals(Long.valueOf(1), cache.get(key("a")));
+
+        // b 最久未被访问
+        cache.put(key("c"), 3);
+        Assert.assertNull(cache.get(key("b")));
+        Assert.assertEquals(2, cache.size());
+
+        Thread.sleep(100);
+        Assert.assertNull(cache.get(key("a")));
+        Assert.assertNull(cache.get(key("c")));
+    }
+
+    @Test
+    public void testInvalidate() {
+        CountCacheKey key = key("SELECT COUNT(*) FROM tb_account");
+        CountCacheManager.putCount(key, 10, 1_000_000, CountCacheManager.getGeneration());
+
+        CountCacheManager.setApproximate(true);
+        CountCacheManager.invalidate("TB_ACCOUNT");
+        Assert.assertEquals(Long.valueOf(10), CountCacheManager.getCount(key));
+
+        CountCacheManager.setApproximate(false);
+        CountCacheManager.invalidate("tb_article");
+        Assert.assertEquals(Long.valueOf(10), CountCacheManager.getCount(key));
+
+        CountCacheManager.invalidate("TB_ACCOUNT");
+        Assert.assertNull(CountCacheManager.getCount(key));
+    }
+
+    @Test
+    public void testStatistics() {
+        CountCacheKey key = key("SELECT COUNT(*) FROM tb_account");
+        Assert.assertNull(CountCacheManager.getCount(key));
+        CountCacheManager.putCount(key, 10, 4_000_000, CountCacheManager.getGeneration());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(Long.valueOf(10), CountCacheManager.getCount(key));
+        }
+        Assert.assertEquals(3, CountCacheManager.getHitCount());
+        Assert.assertEquals(1, CountCacheManager.getMissCount());
+        Assert.assertEquals(0.75, CountCacheManager.getHitRate(), 0.0001);
+        Assert.assertEquals(12, CountCacheManager.getSavedTimeMillis());
+    }
+
+    @Test
+    public void testMapperKey() {
+        CountCacheKey key = CountCacheManager.createKey(AccountMapper.class, QueryWrapper.create().where(ACCOUNT.AGE.ge(18)));
+        Assert.assertEquals(key, CountCacheManager.createKey(AccountMapper.class, QueryWrapper.create().where(ACCOUNT.AGE.ge(18))));
+        Assert.assertNotEquals(key, CountCacheManager.createKey(AccountMapper.class, QueryWrapper.create().where(ACCOUNT.AGE.ge(19))));
+        // 没有指定表时使用 Mapper 对应的表
+        Assert.assertEquals(Collections.singleton("tb_account"), key.getTableNames());
+
+        // 事务中不使用缓存
+        Db.tx(() -> {
+            Assert.assertNull(CountCacheManager.createKey(AccountMapper.class, QueryWrapper.create().where(ACCOUNT.AGE.ge(18))));
+            Assert.assertNull(CountCacheManager.createKey("SELECT COUNT(*) FROM tb_account", new Object[0], null));
+            return true;
+        });
+    }
+
+    @Test
+    public void testMatches() {
+        CountCacheKey key = new CountCacheKey("sql", new Object[0], "ds1"
+            , new HashSet<>(Arrays.asList("s1.tb_account", "tb_article")));
+        Assert.assertTrue(key.matches(null, null, "TB_ACCOUNT"));
+        Assert.assertTrue(key.matches("ds1", "S1", "tb_account"));
+        Assert.assertFalse(key.matches("ds1", "s2", "tb_account"));
+        Assert.assertFalse(key.matches("ds2", null, "tb_account"));
+        Assert.assertTrue(key.matches("ds1", "s2", "tb_article"));
+        Assert.assertFalse(key.matches(null, null, "tb_user"));
+    }
+
+    @Test
+    public void testGeneration() {
+        CountCacheKey key = key("SELECT COUNT(*) FROM tb_account");
+        long generation = CountCacheManager.getGeneration();
+        // COUNT 查询期间有数据被删除
+        CountCacheManager.invalidate("tb_article");
+        CountCacheManager.putCount(key, 10, 1_000_000, generation);
+        Assert.assertNull(CountCacheManager.getCount(key));
+    }
+
+    @Test
+    public void testInvalidateAfterCommit() {
+        CountCacheKey key = key("SELECT COUNT(*) FROM tb_account");
+        CountCacheManager.putCount(key, 10, 1_000_000, CountCacheManager.getGeneration());
+
+        Db.tx(() -> {
+            CountCacheManager.invalidate("tb_account");
+            CountCacheManager.invalidateAll();
+            return false;
+        });
+        Assert.assertEquals(Long.valueOf(10), CountCacheManager.getCount(key));
+
+        Db.tx(() -> {
+            CountCacheManager.invalidate("tb_account");
+            Assert.assertEquals(Long.valueOf(10), CountCacheManager.getCount(key));
+            return true;
+        });
+        Assert.assertNull(CountCacheManager.getCount(key));
+
+        CountCacheManager.putCount(key, 10, 1_000_000, CountCacheManager.getGeneration());
+        CountCacheManager.invalidateAll();
+        Assert.assertNull(CountCacheManager.getCount(key));
+    }
+
+}
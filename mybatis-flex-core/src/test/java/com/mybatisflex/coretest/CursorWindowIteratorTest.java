@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.util.CursorWindowIterator;
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class CursorWindowIteratorTest {
+
+    private static class ListCursor<T> implements Cursor<T> {
+
+        private final List<T> list;
+        private boolean closed;
+
+        ListCursor(List<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed;
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return false;
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return -1;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return list.iterator();
+        }
+
+    }
+
+    private static List<Account> accounts(int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Account account = new Account();
+            account.setId((long) i);
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    @Test
+    public void testWindows() {
+        ListCursor<Account> cursor = new ListCursor<>(accounts(7));
+        List<Integer> sizes = new ArrayList<>();
+        new CursorWindowIterator<>(null, cursor, 3, true, null).forEachWindow(window -> sizes.add(window.size()));
+
+        Assert.assertEquals("[3, 3, 1]", sizes.toString());
+        Assert.assertFalse(cursor.isOpen());
+    }
+
+    @Test
+    public void testStream() {
+        ListCursor<Account> cursor = new ListCursor<>(accounts(10));
+        List<Long> ids;
+        try (Stream<Account> stream = new CursorWindowIterator<>(null, cursor, 4, true, null).stream()) {
+            ids = stream.map(Account::getId).collect(Collectors.toList());
+        }
+
+        Assert.assertEquals(10, ids.size());
+        Assert.assertEquals(Long.valueOf(9), ids.get(9));
+        Assert.assertFalse(cursor.isOpen());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWindowSize() {
+        new CursorWindowIterator<>(null, new ListCursor<>(accounts(1)), 0, false, null);
+    }
+
+}
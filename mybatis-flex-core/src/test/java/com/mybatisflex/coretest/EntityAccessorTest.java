@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.table.EntityAccessor;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * APT 生成的实体类属性访问器测试。
+ */
+public class EntityAccessorTest {
+
+    @Test
+    public void testAccessor() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+        EntityAccessor<Object> accessor = tableInfo.getEntityAccessor();
+        Assert.assertNotNull(accessor);
+
+        Account account = new Account();
+        int index = Arrays.asList(accessor.getProperties()).indexOf("userName");
+        accessor.set(account, index, "michael");
+        Assert.assertEquals("michael", account.getUserName());
+        Assert.assertEquals("michael", accessor.get(account, index));
+
+        // 基本类型不设置 null 值
+        int sexIndex = Arrays.asList(accessor.getProperties()).indexOf("sex");
+        accessor.set(account, sexIndex, 1);
+        accessor.set(account, sexIndex, null);
+        Assert.assertEquals(1, account.getSex());
+    }
+
+    @Test
+    public void testTableInfo() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+        Account account = new Account();
+        account.setId(1L);
+        account.setUserName("michael");
+        account.setAge(18);
+
+        Assert.assertEquals(1L, tableInfo.getPkValue(account));
+        Assert.assertArrayEquals(new Object[]{1L}, tableInfo.buildPkSqlArgs(account));
+        Assert.assertEquals("michael", tableInfo.buildColumnSqlArg(account, "user_name"));
+
+        // isNormal 没有对应的 getter 方法，通过反射读取
+        Object[] args = tableInfo.buildInsertSqlArgs(account, true);
+        Assert.assertEquals(Arrays.asList(1L, "michael", 0, 18, false), Arrays.asList(args));
+    }
+
+}
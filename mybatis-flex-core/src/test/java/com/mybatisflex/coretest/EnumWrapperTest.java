@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.annotation.EnumValue;
+import com.mybatisflex.core.util.EnumWrapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+public class EnumWrapperTest {
+
+    public enum Gender {
+        MALE(1), FEMALE(2), UNKNOWN(0);
+
+        @EnumValue
+        private final int code;
+
+        Gender(int code) {
+            this.code = code;
+        }
+
+        public int getCode() {
+            return code;
+        }
+    }
+
+    public enum Level {
+        LOW(-1_000_000L), HIGH(1_000_000L);
+
+        private final long value;
+
+        Level(long value) {
+            this.value = value;
+        }
+
+        @EnumValue
+        public long getValue() {
+            return value;
+        }
+    }
+
+    public enum Color {
+        RED, GREEN
+    }
+
+    @Test
+    public void testDenseValues() {
+        EnumWrapper<Gender> wrapper = EnumWrapper.of(Gender.class);
+        Assert.assertEquals(Gender.MALE, wrapper.getEnum(1));
+        Assert.assertEquals(Gender.MALE, wrapper.getEnum(1L));
+        Assert.assertEquals(Gender.FEMALE, wrapper.getEnum(new BigDecimal("2.00")));
+        Assert.assertEquals(Gender.UNKNOWN, wrapper.getEnum(BigInteger.ZERO));
+        Assert.assertEquals(Gender.UNKNOWN, wrapper.getEnum((short) 0));
+        Assert.assertNull(wrapper.getEnum(3));
+        Assert.assertNull(wrapper.getEnum(-1));
+        Assert.assertNull(wrapper.getEnum(new BigDecimal("1.5")));
+        Assert.assertNull(wrapper.getEnum(null));
+        Assert.assertEquals(2, wrapper.getEnumValue(Gender.FEMALE));
+    }
+
+    @Test
+    public void testSparseValues() {
+        EnumWrapper<Level> wrapper = EnumWrapper.of(Level.class);
+        Assert.assertEquals(Level.LOW, wrapper.getEnum(-1_000_000));
+        Assert.assertEquals(Level.HIGH, wrapper.getEnum(1_000_000L));
+        Assert.assertEquals(Level.HIGH, wrapper.getEnum(new BigDecimal("1000000")));
+        Assert.assertNull(wrapper.getEnum(0));
+        Assert.assertEquals(-1_000_000L, wrapper.getEnumValue(Level.LOW));
+    }
+
+    @Test
+    public void testNameValues() {
+        EnumWrapper<Color> wrapper = EnumWrapper.of(Color.class);
+        Assert.assertFalse(wrapper.hasEnumValueAnnotation());
+        Assert.assertEquals(Color.GREEN, wrapper.getEnum("GREEN"));
+        Assert.assertNull(wrapper.getEnum(1));
+        Assert.assertEquals("RED", wrapper.getEnumValue(Color.RED));
+    }
+
+}
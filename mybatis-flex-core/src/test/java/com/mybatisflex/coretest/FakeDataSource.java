@@ -0,0 +1,434 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import javax.sql.DataSource;
+import java.io.PrintWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+/**
+ * 测试用的内存数据源，不连接真实数据库，按 SQL 返回预设的结果，并记录执行过的 SQL。
+ *
+ * <p>查询语句交给 {@link QueryHandler} 返回结果行，其他语句返回影响 1 行。
+ */
+public class FakeDataSource implements DataSource {
+
+    /**
+     * 根据 SQL 和参数返回查询结果，每行的列按 Map 的顺序返回。
+     */
+    public interface QueryHandler {
+
+        List<Map<String, Object>> query(String sql, List<Object> args) throws SQLException;
+
+    }
+
+    /**
+     * 执行过的 SQL。
+     */
+    public static class ExecutedSql {
+
+        private final String sql;
+        private final List<Object> args;
+        private final String threadName;
+
+        ExecutedSql(String sql, List<Object> args) {
+            this.sql = sql;
+            this.args = args;
+            this.threadName = Thread.currentThread().getName();
+        }
+
+        public String getSql() {
+            return sql;
+        }
+
+        public List<Object> getArgs() {
+            return args;
+        }
+
+        public String getThreadName() {
+            return threadName;
+        }
+
+        @Override
+        public String toString() {
+            return sql + " " + args;
+        }
+
+    }
+
+    private final List<ExecutedSql> executedSqls = Collections.synchronizedList(new ArrayList<>());
+    private final AtomicInteger openedConnections = new AtomicInteger();
+    private final AtomicInteger commits = new AtomicInteger();
+    private final AtomicInteger rollbacks = new AtomicInteger();
+    private volatile QueryHandler queryHandler = (sql, args) -> Collections.emptyList();
+
+    public FakeDataSource() {
+    }
+
+    public FakeDataSource(QueryHandler queryHandler) {
+        this.queryHandler = queryHandler;
+    }
+
+    /**
+     * 用于识别数据库类型。
+     */
+    public String getUrl() {
+        return "jdbc:mysql://localhost:3306/fake";
+    }
+
+    public void setQueryHandler(QueryHandler queryHandler) {
+        this.queryHandler = queryHandler;
+    }
+
+    public List<ExecutedSql> getExecutedSqls() {
+        synchronized (executedSqls) {
+            return new ArrayList<>(executedSqls);
+        }
+    }
+
+    public int getOpenedConnections() {
+        return openedConnections.get();
+    }
+
+    public int getCommits() {
+        return commits.get();
+    }
+
+    public int getRollbacks() {
+        return rollbacks.get();
+    }
+
+    public void reset() {
+        executedSqls.clear();
+        openedConnections.set(0);
+        commits.set(0);
+        rollbacks.set(0);
+    }
+
+    @Override
+    public Connection getConnection() {
+        openedConnections.incrementAndGet();
+        boolean[] autoCommit = {true};
+        boolean[] closed = {false};
+        return proxy(Connection.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "prepareStatement":
+                    return statement((Connection) proxy, (String) args[0]);
+                case "getAutoCommit":
+                    return autoCommit[0];
+                case "setAutoCommit":
+                    autoCommit[0] = (Boolean) args[0];
+                    return null;
+                case "commit":
+                    commits.incrementAndGet();
+                    return null;
+                case "rollback":
+                    rollbacks.incrementAndGet();
+                    return null;
+                case "close":
+                    closed[0] = true;
+                    return null;
+                case "isClosed":
+                    return closed[0];
+                case "getMetaData":
+                    return metaData((Connection) proxy);
+                case "getTransactionIsolation":
+                    return Connection.TRANSACTION_READ_COMMITTED;
+                default:
+                    return defaultValue(proxy, method, args);
+            }
+        });
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) {
+        return getConnection();
+    }
+
+    private DatabaseMetaData metaData(Connection connection) {
+        return proxy(DatabaseMetaData.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getURL":
+                    return getUrl();
+                case "getDatabaseProductName":
+                    return "MySQL";
+                case "getConnection":
+                    return connection;
+                default:
+                    return defaultValue(proxy, method, args);
+            }
+        });
+    }
+
+    private PreparedStatement statement(Connection connection, String sql) {
+        List<Object> params = new ArrayList<>();
+        ResultSet[] resultSet = {null};
+        int[] updateCount = {-1};
+        return proxy(PreparedStatement.class, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                int index = (Integer) args[0] - 1;
+                while (params.size() <= index) {
+                    params.add(null);
+                }
+                params.set(index, "setNull".equals(name) ? null : args[1]);
+                return null;
+            }
+            switch (name) {
+                case "execute":
+                case "executeQuery":
+                case "executeUpdate":
+                    ExecutedSql executedSql = new ExecutedSql(sql, new ArrayList<>(params));
+                    executedSqls.add(executedSql);
+                    if (sql.trim().toUpperCase().startsWith("SELECT")) {
+                        resultSet[0] = resultSet((PreparedStatement) proxy, queryHandler.query(sql, executedSql.getArgs()));
+                        updateCount[0] = -1;
+                    } else {
+                        resultSet[0] = null;
+                        updateCount[0] = 1;
+                    }
+                    if ("executeQuery".equals(name)) {
+                        return resultSet[0];
+                    }
+                    return "executeUpdate".equals(name) ? updateCount[0] : resultSet[0] != null;
+                case "getResultSet":
+                    ResultSet current = resultSet[0];
+                    resultSet[0] = null;
+                    return current;
+                case "getUpdateCount":
+                    int count = updateCount[0];
+                    updateCount[0] = -1;
+                    return count;
+                case "getGeneratedKeys":
+                    return resultSet((PreparedStatement) proxy, Collections.emptyList());
+                case "clearParameters":
+                    params.clear();
+                    return null;
+                case "getConnection":
+                    return connection;
+                default:
+                    return defaultValue(proxy, method, args);
+            }
+        });
+    }
+
+    private static ResultSet resultSet(PreparedStatement statement, List<Map<String, Object>> rows) {
+        List<String> columns = rows.isEmpty() ? Collections.emptyList() : new ArrayList<>(rows.get(0).keySet());
+        int[] rowIndex = {-1};
+        boolean[] wasNull = {false};
+        ResultSetMetaData metaData = proxy(ResultSetMetaData.class, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "getColumnCount":
+                    return columns.size();
+                case "getColumnLabel":
+                case "getColumnName":
+                    return columns.get((Integer) args[0] - 1);
+                case "getColumnClassName":
+                    return columnClass(rows, columns.get((Integer) args[0] - 1)).getName();
+                case "getColumnType":
+                    return columnType(columnClass(rows, columns.get((Integer) args[0] - 1)));
+                default:
+                    return defaultValue(proxy, method, args);
+            }
+        });
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            String name = method.getName();
+            switch (name) {
+                case "next":
+                    return ++rowIndex[0] < rows.size();
+                case "getMetaData":
+                    return metaData;
+                case "getStatement":
+                    return statement;
+                case "getType":
+                    return ResultSet.TYPE_FORWARD_ONLY;
+                case "wasNull":
+                    return wasNull[0];
+                case "findColumn":
+                    return columns.indexOf((String) args[0]) + 1;
+                default:
+                    if (name.startsWith("get") && args != null && args.length >= 1) {
+                        String column = args[0] instanceof Integer ? columns.get((Integer) args[0] - 1) : (String) args[0];
+                        Object value = rows.get(rowIndex[0]).get(column);
+                        wasNull[0] = value == null;
+                        Class<?> type = args.length == 2 && args[1] instanceof Class ? (Class<?>) args[1] : method.getReturnType();
+                        return convert(value, type);
+                    }
+                    return defaultValue(proxy, method, args);
+            }
+        });
+    }
+
+    private static Class<?> columnClass(List<Map<String, Object>> rows, String column) {
+        for (Map<String, Object> row : rows) {
+            Object value = row.get(column);
+            if (value != null) {
+                return value.getClass();
+            }
+        }
+        return Object.class;
+    }
+
+    private static int columnType(Class<?> columnClass) {
+        if (columnClass == Long.class) {
+            return Types.BIGINT;
+        }
+        if (columnClass == Integer.class) {
+            return Types.INTEGER;
+        }
+        if (columnClass == String.class) {
+            return Types.VARCHAR;
+        }
+        if (columnClass == Boolean.class) {
+            return Types.BOOLEAN;
+        }
+        return Types.OTHER;
+    }
+
+    private static Object convert(Object value, Class<?> type) {
+        if (type == Object.class || (value != null && type.isInstance(value))) {
+            return value;
+        }
+        if (value == null) {
+            return type.isPrimitive() ? defaultValue(type) : null;
+        }
+        if (type == String.class) {
+            return value.toString();
+        }
+        if (value instanceof Number) {
+            Number number = (Number) value;
+            if (type == long.class || type == Long.class) {
+                return number.longValue();
+            }
+            if (type == int.class || type == Integer.class) {
+                return number.intValue();
+            }
+            if (type == short.class || type == Short.class) {
+                return number.shortValue();
+            }
+            if (type == double.class || type == Double.class) {
+                return number.doubleValue();
+            }
+            if (type == float.class || type == Float.class) {
+                return number.floatValue();
+            }
+            if (type == BigDecimal.class) {
+                return new BigDecimal(number.toString());
+            }
+            if (type == boolean.class || type == Boolean.class) {
+                return number.intValue() != 0;
+            }
+        }
+        throw new IllegalArgumentException("Can not convert " + value + " to " + type.getName());
+    }
+
+    private static Object defaultValue(Object proxy, Method method, Object[] args) {
+        switch (method.getName()) {
+            case "unwrap":
+                return proxy;
+            case "isWrapperFor":
+                return false;
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "equals":
+                return proxy == args[0];
+            case "toString":
+                return proxy.getClass().getInterfaces()[0].getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            default:
+                return defaultValue(method.getReturnType());
+        }
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == double.class) {
+            return 0D;
+        }
+        if (type == float.class) {
+            return 0F;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == char.class) {
+            return (char) 0;
+        }
+        return type.isPrimitive() ? 0 : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(FakeDataSource.class.getClassLoader(), new Class[]{type}, handler);
+    }
+
+    @Override
+    public PrintWriter getLogWriter() {
+        return null;
+    }
+
+    @Override
+    public void setLogWriter(PrintWriter out) {
+    }
+
+    @Override
+    public void setLoginTimeout(int seconds) {
+    }
+
+    @Override
+    public int getLoginTimeout() {
+        return 0;
+    }
+
+    @Override
+    public Logger getParentLogger() {
+        return Logger.getGlobal();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        throw new SQLException("Not a wrapper");
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) {
+        return false;
+    }
+
+}
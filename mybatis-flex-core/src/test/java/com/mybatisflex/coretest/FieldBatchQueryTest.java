@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.FlexGlobalConfig;
+import com.mybatisflex.core.MybatisFlexBootstrap;
+import com.mybatisflex.core.exception.MybatisFlexException;
+import com.mybatisflex.core.field.FieldQuery;
+import com.mybatisflex.core.field.FieldQueryBuilder;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.relation.RelationManager;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static com.mybatisflex.coretest.table.AccountTableDef.ACCOUNT;
+import static com.mybatisflex.coretest.table.ArticleTableDef.ARTICLE;
+
+/**
+ * 属性批量查询配置测试。
+ */
+public class FieldBatchQueryTest {
+
+    private static FakeDataSource dataSource;
+    private static SqlSessionFactory sqlSessionFactory;
+
+    /**
+     * 文章的 account_id，null 表示没有关联的账户。
+     */
+    private static volatile List<Long> accountIds = Arrays.asList(1L, 2L, 1L, null, 3L);
+
+    @BeforeClass
+    public static void start() {
+        dataSource = new FakeDataSource(FieldBatchQueryTest::query);
+        MybatisFlexBootstrap bootstrap = new MybatisFlexBootstrap()
+            .setEnvironmentId("field_batch_query")
+            .setDataSource(dataSource)
+            .addMapper(ArticleMapper.class)
+            .start();
+        sqlSessionFactory = FlexGlobalConfig.getConfig(bootstrap.getConfiguration()).getSqlSessionFactory();
+    }
+
+    private static List<Map<String, Object>> query(String sql, List<Object> args) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        if (sql.contains("`tb_article`")) {
+            for (int i = 0; i < accountIds.size(); i++) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("id", (long) i + 1);
+                row.put("account_id", accountIds.get(i));
+                row.put("title", "title" + (i + 1));
+                rows.add(row);
+            }
+        } else if (sql.contains("`tb_account`")) {
+            // 账户 3 不存在，最后一个参数为逻辑删除的条件
+            for (Object arg : args.subList(0, args.size() - 1)) {
+                if (arg instanceof Number && ((Number) arg).longValue() != 3L) {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    row.put("id", ((Number) arg).longValue());
+                    row.put("user_name", "name" + arg);
+                    rows.add(row);
+                }
+            }
+        }
+        return rows;
+    }
+
+    @After
+    public void reset() {
+        accountIds = Arrays.asList(1L, 2L, 1L, null, 3L);
+        RelationManager.setMaxInSize(0);
+        dataSource.reset();
+    }
+
+    private static List<Article> selectArticles() {
+        try (SqlSession sqlSession = sqlSessionFactory.openSession(true)) {
+            return sqlSession.getMapper(ArticleMapper.class).selectListByQuery(QueryWrapper.create()
+                , fieldQueryBuilder -> fieldQueryBuilder.field(Article::getAccount)
+                    .batchQuery(Article::getAccountId, Account::getId, QueryWrapper.create().from(ACCOUNT)));
+        }
+    }
+
+    private static List<FakeDataSource.ExecutedSql> accountQueries() {
+        return dataSource.getExecutedSqls().stream()
+            .filter(executedSql -> executedSql.getSql().contains("`tb_account`"))
+            .collect(Collectors.toList());
+    }
+
+    private static List<Object> inArgs(FakeDataSource.ExecutedSql executedSql) {
+        // 最后一个参数为逻辑删除的条件
+        List<Object> args = executedSql.getArgs();
+        return args.subList(0, args.size() - 1);
+    }
+
+    private static List<String> userNames(List<Article> articles) {
+        return articles.stream()
+            .map(article -> article.getAccount() == null ? null : article.getAccount().getUserName())
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testQueryBatchField() {
+        List<Article> articles = selectArticles();
+
+        // 一条文章查询 + 一条 IN 查询
+        Assert.assertEquals(2, dataSource.getExecutedSqls().size());
+        List<FakeDataSource.ExecutedSql> accountQueries = accountQueries();
+        Assert.assertEquals(1, accountQueries.size());
+        Assert.assertTrue(accountQueries.get(0).getSql().contains(" IN "));
+        // 去重并忽略 null
+        Assert.assertEquals(Arrays.asList(1L, 2L, 3L), inArgs(accountQueries.get(0)));
+
+        Assert.assertEquals(Arrays.asList("name1", "name2", "name1", null, null), userNames(articles));
+        Assert.assertEquals(Long.valueOf(1L), articles.get(0).getAccount().getId());
+    }
+
+    @Test
+    public void testQueryBatchFieldChunk() {
+        RelationManager.setMaxInSize(2);
+        List<Article> articles = selectArticles();
+
+        List<FakeDataSource.ExecutedSql> accountQueries = accountQueries();
+        Assert.assertEquals(2, accountQueries.size());
+        Assert.assertEquals(Arrays.asList(1L, 2L), inArgs(accountQueries.get(0)));
+        Assert.assertEquals(Arrays.asList(3L), inArgs(accountQueries.get(1)));
+
+        Assert.assertEquals(Arrays.asList("name1", "name2", "name1", null, null), userNames(articles));
+    }
+
+    @Test
+    public void testQueryBatchFieldWithoutKeys() {
+        accountIds = Arrays.asList(null, null);
+        List<Article> articles = selectArticles();
+
+        // 没有关联属性的值时不执行 IN 查询
+        Assert.assertEquals(1, dataSource.getExecutedSqls().size());
+        Assert.assertTrue(accountQueries().isEmpty());
+        Assert.assertEquals(Arrays.asList(null, null), userNames(articles));
+    }
+
+    @Test
+    public void testBatchQuery() {
+        FieldQueryBuilder<Article> builder = new FieldQueryBuilder<>();
+        builder.field(Article::getAccount)
+            .batchQuery(Article::getAccountId, Account::getId, QueryWrapper.create().from(ACCOUNT));
+        FieldQuery fieldQuery = builder.build();
+
+        Assert.assertTrue(fieldQuery.isBatch());
+        Assert.assertEquals("id", fieldQuery.getBatchTargetColumn().getName());
+        Assert.assertEquals(Long.class, fieldQuery.getBatchSelfFieldWrapper().getFieldType());
+    }
+
+    @Test(expected = MybatisFlexException.class)
+    public void testBatchQueryWithColumnType() {
+        new FieldQueryBuilder<Article>().field(Article::getTitle)
+            .batchQuery(Article::getAccountId, Article::getId, QueryWrapper.create().from(ARTICLE));
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.FlexContext;
+import com.mybatisflex.core.datasource.DataSourceKey;
+import com.mybatisflex.core.logicdelete.LogicDeleteManager;
+import com.mybatisflex.core.relation.RelationManager;
+import com.mybatisflex.core.table.TableManager;
+import com.mybatisflex.core.tenant.TenantManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class FlexContextTest {
+
+    @After
+    public void clear() {
+        DataSourceKey.forceClear();
+        FlexContext.clear();
+    }
+
+    @Test
+    public void testManagers() {
+        Assert.assertSame(FlexContext.EMPTY, FlexContext.current());
+
+        DataSourceKey.use("ds1");
+        DataSourceKey.use("ds2");
+        TenantManager.ignoreTenantCondition();
+        TableManager.setHintTableMapping("tb_account", "tb_account_01");
+        RelationManager.addIgnoreRelations("Account.articles");
+
+        FlexContext context = FlexContext.current();
+        Assert.assertEquals("ds2", context.getDataSourceKey());
+        Assert.assertTrue(context.isIgnoreTenantCondition());
+        Assert.assertEquals("tb_account_01", TableManager.getHintTableMapping("tb_account"));
+        Assert.assertTrue(RelationManager.getIgnoreRelations().contains("Account.articles"));
+
+        DataSourceKey.clear();
+        Assert.assertEquals("ds1", DataSourceKey.get());
+        // 快照不会被修改
+        Assert.assertEquals("ds2", context.getDataSourceKey());
+
+        DataSourceKey.clear();
+        TenantManager.restoreTenantCondition();
+        TableManager.clear();
+        RelationManager.clearConfigIfNecessary();
+        Assert.assertSame(FlexContext.EMPTY, FlexContext.current());
+    }
+
+    @Test
+    public void testPropagate() throws Exception {
+        DataSourceKey.use("ds2");
+        LogicDeleteManager.skipLogicDelete();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> future = executor.submit(FlexContext.current().wrap(
+                () -> DataSourceKey.get() + ":" + LogicDeleteManager.isSkipLogicDelete()));
+            Assert.assertEquals("ds2:true", future.get());
+
+            // 执行完成后恢复线程池线程原来的上下文
+            Future<Boolean> empty = executor.submit(() -> FlexContext.current().isEmpty());
+            Assert.assertTrue(empty.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testDataSourceKeyThreadLocal() throws Exception {
+        DataSourceKey.use("ds1");
+        DataSourceKey.setThreadLocal(new InheritableThreadLocal<>());
+        try {
+            Assert.assertEquals("ds1", DataSourceKey.get());
+
+            // 子线程只继承数据源 key，不继承忽略租户条件、跳过逻辑删除等设置
+            DataSourceKey.use("ds2");
+            CompletableFuture<String> future = new CompletableFuture<>();
+            TenantManager.withoutTenantCondition(() -> {
+                LogicDeleteManager.skipLogicDelete();
+                try {
+                    new Thread(() -> {
+                        String result = DataSourceKey.get() + ":" + TenantManager.isIgnoreTenantCondition()
+                            + ":" + LogicDeleteManager.isSkipLogicDelete();
+                        DataSourceKey.use("ds3");
+                        DataSourceKey.clear();
+                        DataSourceKey.clear();
+                        future.complete(result + ":" + DataSourceKey.get());
+                    }).start();
+                    return null;
+                } finally {
+                    LogicDeleteManager.restoreLogicDelete();
+                }
+            });
+            Assert.assertEquals("ds2:false:false:ds1", future.get());
+
+            // 子线程修改数据源 key 不影响父线程
+            Assert.assertEquals("ds2", DataSourceKey.get());
+            DataSourceKey.clear();
+            Assert.assertEquals("ds1", DataSourceKey.get());
+        } finally {
+            DataSourceKey.setThreadLocal(new ThreadLocal<>());
+        }
+    }
+
+}
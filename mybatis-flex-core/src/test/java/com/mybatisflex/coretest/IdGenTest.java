@@ -16,6 +16,7 @@
 
 package com.mybatisflex.coretest;
 
+import com.mybatisflex.core.keygen.IBatchKeyGenerator;
 import com.mybatisflex.core.keygen.IKeyGenerator;
 import com.mybatisflex.core.keygen.KeyGeneratorFactory;
 import com.mybatisflex.core.keygen.KeyGenerators;
@@ -23,6 +24,9 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.LongStream;
 
 /**
@@ -44,6 +48,42 @@ public class IdGenTest {
         Assert.assertEquals(size, LongStream.of(ids).distinct().count());
     }
 
+    @Test
+    public void atomicSnowFlakeID() throws Exception {
+        int threads = 8;
+        int size = 5_0000;
+        IKeyGenerator keyGenerator = KeyGeneratorFactory.getKeyGenerator(KeyGenerators.atomicSnowFlakeId);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Future<?>[] futures = new Future[threads];
+            long[] ids = new long[threads * size];
+            for (int t = 0; t < threads; t++) {
+                int offset = t * size;
+                futures[t] = executor.submit(() -> {
+                    for (int i = 0; i < size; i++) {
+                        ids[offset + i] = (Long) keyGenerator.generate(null, null);
+                    }
+                });
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            Assert.assertEquals(ids.length, LongStream.of(ids).distinct().count());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void atomicSnowFlakeBatchID() {
+        IBatchKeyGenerator keyGenerator = (IBatchKeyGenerator) KeyGeneratorFactory.getKeyGenerator(KeyGenerators.atomicSnowFlakeId);
+        Object[] ids = keyGenerator.generate(10000, null);
+        Assert.assertEquals(10000, Arrays.stream(ids).distinct().count());
+        for (int i = 1; i < ids.length; i++) {
+            Assert.assertTrue((Long) ids[i] > (Long) ids[i - 1]);
+        }
+    }
+
     @Test
     public void flexID() {
         int size = 100_0000;
@@ -0,0 +1,174 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.dialect.DbType;
+import com.mybatisflex.core.dialect.DialectFactory;
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.paginate.CursorPage;
+import com.mybatisflex.core.paginate.KeysetPaginator;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Row;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mybatisflex.coretest.table.AccountTableDef.ACCOUNT;
+
+/**
+ * 游标分页测试。
+ */
+public class KeysetPaginatorTest {
+
+    @After
+    public void after() {
+        DialectFactory.clearHintDbType();
+    }
+
+    private static List<Account> accounts(long fromId, int count) {
+        List<Account> accounts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Account account = new Account();
+            account.setId(fromId + i);
+            account.setAge(18);
+            accounts.add(account);
+        }
+        return accounts;
+    }
+
+    @Test
+    public void testPaginate() {
+        IDialect dialect = DialectFactory.getDialect();
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .from(ACCOUNT)
+            .where(ACCOUNT.AGE.ge(18))
+            .orderBy(ACCOUNT.AGE.desc(), ACCOUNT.ID.desc());
+        String originalSql = queryWrapper.toSQL();
+
+        List<String> sqls = new ArrayList<>();
+        CursorPage<Account> page = KeysetPaginator.paginate(CursorPage.of(10), queryWrapper, query -> {
+            sqls.add(dialect.forSelectByQuery(query));
+            return accounts(100, 11);
+        });
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `age` >= ? ORDER BY `age` DESC, `id` DESC LIMIT 11", sqls.get(0));
+        Assert.assertEquals(10, page.getRecords().size());
+        Assert.assertTrue(page.hasNext());
+        Assert.assertArrayEquals(new Object[]{18, 109L}, KeysetPaginator.decodeCursor(page.getNextCursor()));
+
+        CursorPage<Account> nextPage = KeysetPaginator.paginate(CursorPage.of(page.getNextCursor(), 10), queryWrapper, query -> {
+            sqls.add(dialect.forSelectByQuery(query));
+            Assert.assertArrayEquals(new Object[]{18, 18, 109L}, CPI.getValueArray(query));
+            return accounts(110, 3);
+        });
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `age` >= ? AND (`age`, `id`) < (?, ?) ORDER BY `age` DESC, `id` DESC LIMIT 11", sqls.get(1));
+        Assert.assertEquals(3, nextPage.getRecords().size());
+        Assert.assertFalse(nextPage.hasNext());
+
+        // 原来的 queryWrapper 不会被修改
+        Assert.assertEquals(originalSql, queryWrapper.toSQL());
+    }
+
+    @Test
+    public void testSeekCondition() {
+        QueryWrapper mixed = QueryWrapper.create()
+            .from(ACCOUNT)
+            .orderBy(ACCOUNT.AGE.asc(), ACCOUNT.ID.desc());
+        String cursor = KeysetPaginator.encodeCursor(new Object[]{18, 109L});
+        List<String> sqls = new ArrayList<>();
+        KeysetPaginator.paginate(CursorPage.of(cursor, 10), mixed, query -> {
+            sqls.add(query.toSQL());
+            return new ArrayList<>();
+        });
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `age` > 18 OR (`age` = 18 AND `id` < 109) ORDER BY `age` ASC, `id` DESC LIMIT 11", sqls.get(0));
+
+        // 不支持行值比较的数据库
+        DialectFactory.setHintDbType(DbType.SQLSERVER);
+        QueryWrapper sameDirection = QueryWrapper.create()
+            .from(ACCOUNT)
+            .orderBy(ACCOUNT.AGE.asc(), ACCOUNT.ID.asc());
+        KeysetPaginator.paginate(CursorPage.of(cursor, 10), sameDirection, query -> {
+            sqls.add(query.toSQL());
+            return new ArrayList<>();
+        });
+        Assert.assertEquals("SELECT * FROM [tb_account] WHERE [age] > 18 OR ([age] = 18 AND [id] > 109)"
+            + " ORDER BY [age] ASC, [id] ASC OFFSET 0 ROWS FETCH NEXT 11 ROWS ONLY", sqls.get(1));
+    }
+
+    @Test
+    public void testOrWhere() {
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .from(ACCOUNT)
+            .where(ACCOUNT.AGE.ge(18))
+            .or(ACCOUNT.ID.lt(5))
+            .orderBy(ACCOUNT.AGE.desc(), ACCOUNT.ID.desc());
+        String cursor = KeysetPaginator.encodeCursor(new Object[]{18, 109L});
+        List<String> sqls = new ArrayList<>();
+        KeysetPaginator.paginate(CursorPage.of(cursor, 10), queryWrapper, query -> {
+            sqls.add(query.toSQL());
+            return new ArrayList<>();
+        });
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE (`age` >= 18 OR `id` < 5) AND (`age`, `id`) < (18, 109)"
+            + " ORDER BY `age` DESC, `id` DESC LIMIT 11", sqls.get(0));
+
+        DialectFactory.setHintDbType(DbType.SQLSERVER);
+        KeysetPaginator.paginate(CursorPage.of(cursor, 10), queryWrapper, query -> {
+            sqls.add(query.toSQL());
+            return new ArrayList<>();
+        });
+        Assert.assertEquals("SELECT * FROM [tb_account] WHERE ([age] >= 18 OR [id] < 5) AND ([age] < 18 OR ([age] = 18 AND [id] < 109))"
+            + " ORDER BY [age] DESC, [id] DESC OFFSET 0 ROWS FETCH NEXT 11 ROWS ONLY", sqls.get(1));
+    }
+
+    @Test
+    public void testRow() {
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .from(ACCOUNT)
+            .orderBy(ACCOUNT.ID.asc());
+        CursorPage<Row> page = KeysetPaginator.paginate(CursorPage.of(2), queryWrapper, query -> {
+            List<Row> rows = new ArrayList<>();
+            for (long i = 1; i <= 3; i++) {
+                rows.add(Row.of("ID", i));
+            }
+            return rows;
+        });
+        Assert.assertEquals(2, page.getRecords().size());
+        Assert.assertArrayEquals(new Object[]{2L}, KeysetPaginator.decodeCursor(page.getNextCursor()));
+    }
+
+    @Test
+    public void testCursorCodec() {
+        Object[] values = {"a:b|中文", 1, 2L, new BigDecimal("3.14"), true
+            , Timestamp.valueOf("2024-01-02 03:04:05.123456789"), LocalDateTime.of(2024, 1, 2, 3, 4, 5)};
+        String cursor = KeysetPaginator.encodeCursor(values);
+        Assert.assertArrayEquals(values, KeysetPaginator.decodeCursor(cursor));
+
+        try {
+            KeysetPaginator.decodeCursor("not a cursor");
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("Invalid keyset cursor"));
+        }
+    }
+
+}
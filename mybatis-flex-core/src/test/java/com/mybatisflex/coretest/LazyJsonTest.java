@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import com.mybatisflex.annotation.Column;
+import com.mybatisflex.annotation.Id;
+import com.mybatisflex.core.handler.JacksonTypeHandler;
+import com.mybatisflex.core.handler.LazyJson;
+import com.mybatisflex.core.handler.LazyJsonTypeHandler;
+import com.mybatisflex.core.table.ColumnInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import org.apache.ibatis.type.TypeHandler;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class LazyJsonTest {
+
+    public static class Item implements Serializable {
+
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+    }
+
+    public static class AuditLog {
+
+        @Id
+        private Long id;
+
+        @Column(typeHandler = JacksonTypeHandler.class)
+        private LazyJson<List<Item>> items;
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public LazyJson<List<Item>> getItems() {
+            return items;
+        }
+
+        public void setItems(LazyJson<List<Item>> items) {
+            this.items = items;
+        }
+
+    }
+
+    private static final String JSON = "[{\"name\":\"michael\"}]";
+
+    @SuppressWarnings("unchecked")
+    private static LazyJsonTypeHandler<List<Item>> getTypeHandler() {
+        for (ColumnInfo columnInfo : TableInfoFactory.ofEntityClass(AuditLog.class).getColumnInfoList()) {
+            if ("items".equals(columnInfo.getProperty())) {
+                TypeHandler<?> typeHandler = columnInfo.buildTypeHandler(null);
+                Assert.assertTrue(typeHandler instanceof LazyJsonTypeHandler);
+                return (LazyJsonTypeHandler<List<Item>>) typeHandler;
+            }
+        }
+        throw new AssertionError("items column not found");
+    }
+
+    private static ResultSet resultSet(String json) {
+        return (ResultSet) Proxy.newProxyInstance(LazyJsonTest.class.getClassLoader(), new Class[]{ResultSet.class},
+            (proxy, method, args) -> "wasNull".equals(method.getName()) ? json == null : json);
+    }
+
+    private static String write(LazyJsonTypeHandler<List<Item>> typeHandler, LazyJson<List<Item>> value) throws Exception {
+        String[] written = new String[1];
+        PreparedStatement ps = (PreparedStatement) Proxy.newProxyInstance(LazyJsonTest.class.getClassLoader(),
+            new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+                if ("setString".equals(method.getName())) {
+                    written[0] = (String) args[1];
+                }
+                return null;
+            });
+        typeHandler.setParameter(ps, 1, value, null);
+        return written[0];
+    }
+
+    @Test
+    public void testLazyParse() throws Exception {
+        LazyJsonTypeHandler<List<Item>> typeHandler = getTypeHandler();
+
+        LazyJson<List<Item>> items = typeHandler.getResult(resultSet(JSON), "items");
+        Assert.assertFalse(items.isResolved());
+        Assert.assertEquals(JSON, items.toString());
+
+        // 没有解析时直接写入原始内容
+        Assert.assertSame(JSON, write(typeHandler, items));
+
+        List<Item> list = items.get();
+        Assert.assertTrue(items.isResolved());
+        Assert.assertEquals("michael", list.get(0).getName());
+        Assert.assertSame(list, items.get());
+
+        list.get(0).setName("mike");
+        Assert.assertEquals("[{\"name\":\"mike\"}]", write(typeHandler, items));
+
+        Assert.assertNull(typeHandler.getResult(resultSet(null), "items"));
+        Assert.assertEquals("[]", write(typeHandler, LazyJson.of(Collections.emptyList())));
+    }
+
+    @Test
+    public void testSerialize() throws Exception {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setId(1L);
+        auditLog.setItems(getTypeHandler().getResult(resultSet(JSON), "items"));
+
+        String expected = "{\"id\":1,\"items\":" + JSON + "}";
+        Assert.assertEquals(expected, new ObjectMapper().writeValueAsString(auditLog));
+        Assert.assertEquals(expected, com.alibaba.fastjson2.JSON.toJSONString(auditLog));
+
+        AuditLog jacksonLog = new ObjectMapper().readValue(expected, AuditLog.class);
+        Assert.assertEquals("michael", jacksonLog.getItems().get().get(0).getName());
+    }
+
+    @Test
+    public void testGsonSerialize() throws Exception {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setId(1L);
+        auditLog.setItems(getTypeHandler().getResult(resultSet(JSON), "items"));
+
+        String expected = "{\"id\":1,\"items\":" + JSON + "}";
+        Assert.assertEquals(expected, new Gson().toJson(auditLog));
+
+        AuditLog gsonLog = new Gson().fromJson(expected, AuditLog.class);
+        Assert.assertEquals("michael", gsonLog.getItems().get().get(0).getName());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testJavaSerialize() throws Exception {
+        LazyJson<List<Item>> items = getTypeHandler().getResult(resultSet(JSON), "items");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(items);
+        }
+        Assert.assertTrue(items.isResolved());
+
+        LazyJson<List<Item>> copy;
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (LazyJson<List<Item>>) in.readObject();
+        }
+        Assert.assertTrue(copy.isResolved());
+        Assert.assertEquals("michael", copy.get().get(0).getName());
+    }
+
+    @Test
+    public void testConcurrentGet() throws Exception {
+        LazyJsonTypeHandler<List<Item>> typeHandler = getTypeHandler();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int i = 0; i < 100; i++) {
+                LazyJson<List<Item>> items = typeHandler.getResult(resultSet(JSON), "items");
+                List<Future<List<Item>>> futures = new ArrayList<>();
+                for (int j = 0; j < 4; j++) {
+                    futures.add(executor.submit(items::get));
+                }
+                // 只解析一次，所有线程得到同一个对象
+                for (Future<List<Item>> future : futures) {
+                    Assert.assertSame(items.get(), future.get());
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.datasource.loadbalance.DataSourceMember;
+import com.mybatisflex.core.datasource.loadbalance.LeastInFlightLoadBalancer;
+import com.mybatisflex.core.datasource.loadbalance.LoadBalanceDataSource;
+import com.mybatisflex.core.datasource.loadbalance.RandomLoadBalancer;
+import com.mybatisflex.core.datasource.loadbalance.WeightedRoundRobinLoadBalancer;
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadBalanceDataSourceTest {
+
+    private static DataSource dataSource(String name, boolean[] down) {
+        Connection connection = (Connection) Proxy.newProxyInstance(LoadBalanceDataSourceTest.class.getClassLoader()
+            , new Class[]{Connection.class}
+            , (proxy, method, args) -> "getCatalog".equals(method.getName()) ? name : null);
+        return (DataSource) Proxy.newProxyInstance(LoadBalanceDataSourceTest.class.getClassLoader()
+            , new Class[]{DataSource.class}
+            , (proxy, method, args) -> {
+                if ("getConnection".equals(method.getName())) {
+                    if (down[0]) {
+                        throw new SQLException(name + " is down");
+                    }
+                    return connection;
+                }
+                if ("isWrapperFor".equals(method.getName())) {
+                    return false;
+                }
+                return null;
+            });
+    }
+
+    @Test
+    public void testWeightedRoundRobin() throws SQLException {
+        boolean[] down = {false};
+        LoadBalanceDataSource dataSource = new LoadBalanceDataSource("ds*", Arrays.asList(
+            new DataSourceMember("ds1", dataSource("ds1", down), 3),
+            new DataSourceMember("ds2", dataSource("ds2", down), 1)
+        ), new WeightedRoundRobinLoadBalancer(), 5000, 60000);
+
+        Map<String, Integer> counts = new HashMap<>();
+        for (int i = 0; i < 400; i++) {
+            counts.merge(dataSource.getConnection().getCatalog(), 1, Integer::sum);
+        }
+        Assert.assertEquals(300, (int) counts.get("ds1"));
+        Assert.assertEquals(100, (int) counts.get("ds2"));
+    }
+
+    @Test
+    public void testEject() throws SQLException {
+        boolean[] down = {true};
+        LoadBalanceDataSource dataSource = new LoadBalanceDataSource("ds*", Arrays.asList(
+            new DataSourceMember("ds1", dataSource("ds1", down), 1),
+            new DataSourceMember("ds2", dataSource("ds2", new boolean[]{false}), 1)
+        ), new WeightedRoundRobinLoadBalancer(), 60000, 60000);
+
+        for (int i = 0; i < 10; i++) {
+            Assert.assertEquals("ds2", dataSource.getConnection().getCatalog());
+        }
+        DataSourceMember ds1 = dataSource.getMember(0);
+        Assert.assertTrue(ds1.isEjected());
+        // 被剔除后不再被选择
+        Assert.assertEquals(1, ds1.getFailureCount());
+        Assert.assertEquals(10, dataSource.getMember(1).getAcquiredCount());
+    }
+
+    @Test
+    public void testInFlight() throws SQLException {
+        boolean[] down = {false};
+        LoadBalanceDataSource dataSource = new LoadBalanceDataSource("ds*", Arrays.asList(
+            new DataSourceMember("ds1", dataSource("ds1", down), 1),
+            new DataSourceMember("ds2", dataSource("ds2", down), 1)
+        ), new LeastInFlightLoadBalancer(), 5000, 60000);
+
+        Connection[] connections = new Connection[10];
+        for (int i = 0; i < connections.length; i++) {
+            connections[i] = dataSource.getConnection();
+        }
+        Assert.assertEquals(10, dataSource.getMember(0).getInFlight() + dataSource.getMember(1).getInFlight());
+        Assert.assertTrue(connections[0].getCatalog().startsWith("ds"));
+
+        for (Connection connection : connections) {
+            connection.close();
+            connection.close();
+        }
+        Assert.assertEquals(0, dataSource.getMember(0).getInFlight());
+        Assert.assertEquals(0, dataSource.getMember(1).getInFlight());
+    }
+
+    @Test
+    public void testUnwrap() throws SQLException {
+        FakeDataSource fakeDataSource = new FakeDataSource();
+        LoadBalanceDataSource dataSource = new LoadBalanceDataSource("ds*", Arrays.asList(
+            new DataSourceMember("ds1", dataSource("ds1", new boolean[]{false}), 1),
+            new DataSourceMember("ds2", fakeDataSource, 1)
+        ), new RandomLoadBalancer(), 5000, 60000);
+
+        Assert.assertTrue(dataSource.isWrapperFor(FakeDataSource.class));
+        Assert.assertSame(fakeDataSource, dataSource.unwrap(FakeDataSource.class));
+        Assert.assertSame(dataSource, dataSource.unwrap(LoadBalanceDataSource.class));
+
+        Assert.assertFalse(dataSource.isWrapperFor(String.class));
+        try {
+            dataSource.unwrap(String.class);
+            Assert.fail();
+        } catch (SQLException e) {
+            Assert.assertTrue(e.getMessage().contains(String.class.getName()));
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.query.QueryCondition;
+import com.mybatisflex.core.query.QueryWrapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static com.mybatisflex.core.query.QueryMethods.not;
+import static com.mybatisflex.coretest.table.AccountTableDef.ACCOUNT;
+
+/**
+ * 条件 SQL 构建测试。
+ */
+public class QueryConditionSqlTest {
+
+    @Test
+    public void testBrackets() {
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .from(ACCOUNT)
+            .where(ACCOUNT.ID.ge(1).or(ACCOUNT.AGE.ge(18)))
+            .and(ACCOUNT.USER_NAME.like("michael").when(false).or(ACCOUNT.AGE.eq(1).when(false)))
+            .and(not(ACCOUNT.AGE.in(1, 2)));
+
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE (`id` >= 1 OR `age` >= 18) AND NOT (`age` IN (1, 2))"
+            , queryWrapper.toSQL());
+
+        QueryWrapper onlyBrackets = QueryWrapper.create()
+            .from(ACCOUNT)
+            .where(ACCOUNT.ID.ge(1).or(ACCOUNT.AGE.ge(18)));
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `id` >= 1 OR `age` >= 18", onlyBrackets.toSQL());
+    }
+
+    @Test
+    public void testLongChain() {
+        // 每个长度对应的 SQL 长度，10 和 1000 与之前递归拼接字符串时生成的 SQL 一致（10000 时之前会栈溢出）
+        int[] lengths = {10, 1000, 10000};
+        int[] sqlLengths = {517, 52837, 544837};
+        for (int index = 0; index < lengths.length; index++) {
+            int length = lengths[index];
+            QueryWrapper queryWrapper = QueryWrapper.create().from(ACCOUNT);
+            for (int i = 0; i < length; i++) {
+                queryWrapper.and(ACCOUNT.ID.eq(i).when(i % 3 != 0))
+                    .or(ACCOUNT.AGE.ge(i).and(ACCOUNT.USER_NAME.eq("name")));
+            }
+
+            String sql = queryWrapper.toSQL();
+
+            Assert.assertTrue(sql.startsWith("SELECT * FROM `tb_account` WHERE (`age` >= 0 AND `user_name` = 'name') AND `id` = 1"
+                + " OR (`age` >= 1 AND `user_name` = 'name') AND `id` = 2 OR (`age` >= 2 AND `user_name` = 'name') OR (`age` >= 3"));
+            Assert.assertEquals(sqlLengths[index], sql.length());
+        }
+    }
+
+    @Test
+    public void testConditionToSql() {
+        QueryCondition condition = ACCOUNT.ID.eq(1).when(false)
+            .and(ACCOUNT.AGE.ge(18))
+            .and(ACCOUNT.USER_NAME.isNotNull());
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `age` >= 18 AND `user_name` IS NOT NULL "
+            , QueryWrapper.create().from(ACCOUNT).where(condition).toSQL());
+    }
+
+}
@@ -0,0 +1,225 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.cache.DefaultQueryResultCache;
+import com.mybatisflex.core.cache.QueryResultCacheKey;
+import com.mybatisflex.core.cache.QueryResultCacheManager;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.row.Db;
+import com.mybatisflex.core.row.Row;
+import com.mybatisflex.core.row.RowMapper;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class QueryResultCacheTest {
+
+    private Method selectListByQuery;
+
+    @Before
+    public void setUp() throws Exception {
+        selectListByQuery = RowMapper.class.getMethod("selectListByQuery", String.class, String.class, QueryWrapper.class);
+        QueryResultCacheManager.setQueryResultCache(new DefaultQueryResultCache(60_000, 2));
+        QueryResultCacheManager.setEnable(true);
+        QueryResultCacheManager.resetStatistics();
+    }
+
+    @After
+    public void tearDown() {
+        QueryResultCacheManager.setCopyResults(true);
+        QueryResultCacheManager.setEnable(false);
+        QueryResultCacheManager.setQueryResultCache(new DefaultQueryResultCache());
+    }
+
+    private QueryResultCacheKey key(QueryWrapper queryWrapper) {
+        Object[] args = {null, "tb_account", queryWrapper};
+        return QueryResultCacheManager.createKey(RowMapper.class, selectListByQuery, args);
+    }
+
+    private static QueryWrapper query(int id) {
+        return QueryWrapper.create().from("tb_account")
+            .leftJoin("tb_article").on("tb_article.account_id = tb_account.id")
+            .where("tb_account.id >= ?", id);
+    }
+
+    @Test
+    public void testKey() {
+        Assert.assertEquals(key(query(1)), key(query(1)));
+        Assert.assertNotEquals(key(query(1)), key(query(2)));
+
+        Set<String> tableNames = QueryResultCacheManager.getTableNames(RowMapper.class, selectListByQuery
+            , new Object[]{null, "tb_account", query(1).where("id in ?", QueryWrapper.create().select("id").from("tb_other"))});
+        Assert.assertEquals(new HashSet<>(Arrays.asList("tb_account", "tb_article", "tb_other")), tableNames);
+    }
+
+    interface SharedMethods {
+        int execute();
+    }
+
+    interface UpdateMapper extends SharedMethods {
+    }
+
+    interface OtherMapper extends SharedMethods {
+    }
+
+    @Test
+    public void testSqlCommandType() throws Exception {
+        Configuration configuration = new Configuration();
+        String statementId = UpdateMapper.class.getName() + ".execute";
+        configuration.addMappedStatement(new MappedStatement.Builder(configuration, statementId
+            , new StaticSqlSource(configuration, "UPDATE tb_account SET age = 18"), SqlCommandType.UPDATE).build());
+
+        // 同一个继承的方法在不同的 Mapper 中对应不同的 SQL
+        Method execute = SharedMethods.class.getMethod("execute");
+        Assert.assertEquals(SqlCommandType.UPDATE, QueryResultCacheManager.getSqlCommandType(configuration, UpdateMapper.class, execute));
+        Assert.assertEquals(SqlCommandType.UNKNOWN, QueryResultCacheManager.getSqlCommandType(configuration, OtherMapper.class, execute));
+    }
+
+    @Test
+    public void testInvalidate() {
+        Set<String> tableNames = new HashSet<>(Arrays.asList("tb_account", "tb_article"));
+        QueryResultCacheKey key = key(query(1));
+        List<String> result = Collections.singletonList("row");
+
+        Assert.assertNull(QueryResultCacheManager.get(key));
+        QueryResultCacheManager.put(key, result, tableNames, QueryResultCacheManager.getGeneration());
+        Assert.assertEquals(result, QueryResultCacheManager.get(key));
+
+        QueryResultCacheManager.invalidate("TB_ARTICLE");
+        Assert.assertNull(QueryResultCacheManager.get(key));
+        Assert.assertEquals(1, QueryResultCacheManager.getStatistics("tb_article").getHitCount());
+        Assert.assertEquals(1, QueryResultCacheManager.getStatistics("tb_article").getEvictionCount());
+
+        // 查询期间其他表被修改，依然缓存
+        long generation = QueryResultCacheManager.getGeneration();
+        QueryResultCacheManager.invalidate("tb_other");
+        QueryResultCacheManager.put(key, result, tableNames, generation);
+        Assert.assertEquals(result, QueryResultCacheManager.get(key));
+
+        // 查询期间使用的表被修改，不缓存
+        QueryResultCacheManager.invalidate("tb_account");
+        generation = QueryResultCacheManager.getGeneration();
+        QueryResultCacheManager.invalidate("Tb_Article");
+        QueryResultCacheManager.put(key, result, tableNames, generation);
+        Assert.assertNull(QueryResultCacheManager.get(key));
+
+        generation = QueryResultCacheManager.getGeneration();
+        QueryResultCacheManager.clear();
+        QueryResultCacheManager.put(key, result, tableNames, generation);
+        Assert.assertNull(QueryResultCacheManager.get(key));
+    }
+
+    @Test
+    public void testLruEviction() {
+        Set<String> tableNames = Collections.singleton("tb_account");
+        for (int i = 0; i < 3; i++) {
+            QueryResultCacheManager.put(key(query(i)), i, tableNames, QueryResultCacheManager.getGeneration());
+        }
+        Assert.assertNull(QueryResultCacheManager.get(key(query(0))));
+        Assert.assertEquals(2, QueryResultCacheManager.get(key(query(2))));
+        Assert.assertEquals(1, QueryResultCacheManager.getStatistics("tb_account").getEvictionCount());
+    }
+
+    @Test
+    public void testScope() {
+        QueryResultCacheManager.beginScope();
+        QueryResultCacheManager.recordRead(Collections.singleton("tb_account"));
+        QueryResultCacheManager.recordRead(Collections.singleton("tb_article"));
+        Assert.assertEquals(2, QueryResultCacheManager.endScope().size());
+
+        QueryResultCacheManager.beginScope();
+        QueryResultCacheManager.recordRead(Collections.singleton("tb_account"));
+        QueryResultCacheManager.recordRead(null);
+        Assert.assertNull(QueryResultCacheManager.endScope());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCopy() {
+        Set<String> tableNames = Collections.singleton("tb_account");
+        QueryResultCacheKey key = key(query(1));
+        List<Row> rows = Collections.singletonList(Row.of("id", 1L).set("user_name", "michael"));
+        QueryResultCacheManager.put(key, rows, tableNames, QueryResultCacheManager.getGeneration());
+
+        // 修改查询结果不影响缓存
+        rows.get(0).set("user_name", "mike");
+        List<Row> cached = (List<Row>) QueryResultCacheManager.get(key);
+        Assert.assertEquals("michael", cached.get(0).getString("user_name"));
+        cached.get(0).set("user_name", "mike");
+        Assert.assertEquals("michael", ((List<Row>) QueryResultCacheManager.get(key)).get(0).getString("user_name"));
+        Assert.assertNotSame(cached, QueryResultCacheManager.get(key));
+
+        // 包含可变的值时序列化后缓存
+        Date date = new Date(0);
+        QueryResultCacheManager.put(key, Row.of("created", date), tableNames, QueryResultCacheManager.getGeneration());
+        date.setTime(1);
+        Row cachedRow = (Row) QueryResultCacheManager.get(key);
+        Assert.assertEquals(new Date(0), cachedRow.get("created"));
+
+        // 无法序列化的结果不缓存
+        QueryResultCacheKey other = key(query(2));
+        QueryResultCacheManager.put(other, Collections.singletonList(new Object()), tableNames, QueryResultCacheManager.getGeneration());
+        Assert.assertNull(QueryResultCacheManager.get(other));
+    }
+
+    @Test
+    public void testWithoutCopy() {
+        QueryResultCacheManager.setCopyResults(false);
+        Set<String> tableNames = Collections.singleton("tb_account");
+        QueryResultCacheKey key = key(query(1));
+        List<Object> result = Collections.singletonList(new Object());
+        QueryResultCacheManager.put(key, result, tableNames, QueryResultCacheManager.getGeneration());
+        Assert.assertSame(result, QueryResultCacheManager.get(key));
+    }
+
+    @Test
+    public void testInvalidateAfterCommit() {
+        Set<String> tableNames = Collections.singleton("tb_account");
+        QueryResultCacheKey key = key(query(1));
+        QueryResultCacheManager.put(key, 1L, tableNames, QueryResultCacheManager.getGeneration());
+
+        // 回滚时不移除
+        Db.tx(() -> {
+            QueryResultCacheManager.invalidate("tb_account");
+            QueryResultCacheManager.invalidate((Set<String>) null);
+            return false;
+        });
+        Assert.assertEquals(1L, QueryResultCacheManager.get(key));
+
+        // 提交后才移除
+        Db.tx(() -> {
+            QueryResultCacheManager.invalidate("tb_account");
+            Assert.assertEquals(1L, QueryResultCacheManager.get(key));
+            return true;
+        });
+        Assert.assertNull(QueryResultCacheManager.get(key));
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.dialect.QuerySqlCache;
+import com.mybatisflex.core.dialect.impl.CommonsDialectImpl;
+import com.mybatisflex.core.query.QueryFingerprint;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.table.TableManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.mybatisflex.core.query.QueryMethods.select;
+import static com.mybatisflex.coretest.table.AccountTableDef.ACCOUNT;
+import static com.mybatisflex.coretest.table.ArticleTableDef.ARTICLE;
+
+/**
+ * QueryWrapper 结构指纹及 SQL 缓存测试。
+ */
+public class QuerySqlCacheTest {
+
+    private final IDialect dialect = new CommonsDialectImpl();
+
+    @Before
+    public void before() {
+        QuerySqlCache.setEnable(true);
+        QuerySqlCache.resetStatistics();
+    }
+
+    @After
+    public void after() {
+        QuerySqlCache.setEnable(false);
+        TableManager.setDynamicTableProcessor(null);
+    }
+
+    private QueryWrapper buildQuery(Object id, int age, boolean ageEffective, Object... ids) {
+        return QueryWrapper.create()
+            .select(ACCOUNT.ID, ACCOUNT.USER_NAME, ARTICLE.ID)
+            .from(ACCOUNT)
+            .leftJoin(ARTICLE).on(ARTICLE.ACCOUNT_ID.eq(ACCOUNT.ID))
+            .where(ACCOUNT.ID.ge(id))
+            .and(ACCOUNT.AGE.ge(age).when(ageEffective))
+            .and(ACCOUNT.ID.in(ids))
+            .and(ACCOUNT.ID.in(select(ARTICLE.ACCOUNT_ID).from(ARTICLE).where(ARTICLE.ID.eq(id))))
+            .orderBy(ACCOUNT.ID.desc())
+            .limit(10);
+    }
+
+    @Test
+    public void testFingerprint() {
+        Assert.assertEquals(QueryFingerprint.of(buildQuery(1, 18, true, 1, 2), dialect)
+            , QueryFingerprint.of(buildQuery(100, 20, true, 3, 4), dialect));
+
+        // when(false) 的条件
+        Assert.assertNotEquals(QueryFingerprint.of(buildQuery(1, 18, true, 1, 2), dialect)
+            , QueryFingerprint.of(buildQuery(1, 18, false, 1, 2), dialect));
+
+        // IN 参数数量
+        Assert.assertNotEquals(QueryFingerprint.of(buildQuery(1, 18, true, 1, 2), dialect)
+            , QueryFingerprint.of(buildQuery(1, 18, true, 1, 2, 3), dialect));
+
+        // 方言
+        Assert.assertNotEquals(QueryFingerprint.of(buildQuery(1, 18, true, 1, 2), dialect)
+            , QueryFingerprint.of(buildQuery(1, 18, true, 1, 2), new CommonsDialectImpl()));
+
+        // with 不支持
+        QueryWrapper withQuery = QueryWrapper.create().with("cte").asSelect(select(ACCOUNT.ID).from(ACCOUNT))
+            .select().from("cte");
+        Assert.assertNull(QueryFingerprint.of(withQuery, dialect));
+    }
+
+    @Test
+    public void testCache() {
+        String sql1 = dialect.forSelectByQuery(buildQuery(1, 18, true, 1, 2));
+        String sql2 = dialect.forSelectByQuery(buildQuery(100, 20, true, 3, 4));
+        Assert.assertSame(sql1, sql2);
+        Assert.assertEquals(1, QuerySqlCache.getHitCount());
+        Assert.assertEquals(1, QuerySqlCache.getMissCount());
+
+        String sql3 = dialect.forSelectByQuery(buildQuery(1, 18, false, 1, 2, 3));
+        QuerySqlCache.setEnable(false);
+        Assert.assertEquals(dialect.forSelectByQuery(buildQuery(1, 18, true, 1, 2)), sql1);
+        Assert.assertEquals(dialect.forSelectByQuery(buildQuery(1, 18, false, 1, 2, 3)), sql3);
+        Assert.assertNotEquals(sql1, sql3);
+    }
+
+    @Test
+    public void testDynamicTable() {
+        String sql = dialect.forSelectByQuery(buildQuery(1, 18, true, 1, 2));
+        TableManager.setDynamicTableProcessor(tableName -> tableName + "_01");
+        String dynamicSql = dialect.forSelectByQuery(buildQuery(1, 18, true, 1, 2));
+
+        Assert.assertTrue(dynamicSql.contains("`tb_account_01`"));
+        Assert.assertFalse(sql.contains("`tb_account_01`"));
+        Assert.assertEquals(0, QuerySqlCache.getHitCount());
+    }
+
+    @Test
+    public void testRepeatedQueries() {
+        int count = 1000;
+        String[] expected = new String[count];
+        QuerySqlCache.setEnable(false);
+        for (int i = 0; i < count; i++) {
+            expected[i] = dialect.forSelectByQuery(buildQuery(i, i, true, i, i + 1));
+        }
+
+        QuerySqlCache.setEnable(true);
+        for (int i = 0; i < count; i++) {
+            Assert.assertEquals(expected[i], dialect.forSelectByQuery(buildQuery(i, i, true, i, i + 1)));
+        }
+        Assert.assertEquals(count - 1, QuerySqlCache.getHitCount());
+    }
+
+}
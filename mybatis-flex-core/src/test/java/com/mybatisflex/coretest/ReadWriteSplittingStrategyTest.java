@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.FlexContext;
+import com.mybatisflex.core.datasource.ReadWriteSplittingStrategy;
+import com.mybatisflex.core.mybatis.binding.MybatisMapperProxy;
+import com.mybatisflex.core.query.QueryWrapper;
+import org.apache.ibatis.builder.StaticSqlSource;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+
+public class ReadWriteSplittingStrategyTest {
+
+    public interface AccountMapper {
+        Object selectAccount(QueryWrapper queryWrapper);
+
+        int updateAccount(Object account);
+
+        default Object selectOrUpdate() {
+            return null;
+        }
+    }
+
+    private ReadWriteSplittingStrategy strategy;
+    private Object mapper;
+
+    @Before
+    public void setUp() {
+        Configuration configuration = new Configuration();
+        addStatement(configuration, "selectAccount", SqlCommandType.SELECT);
+        addStatement(configuration, "updateAccount", SqlCommandType.UPDATE);
+
+        SqlSession sqlSession = (SqlSession) Proxy.newProxyInstance(SqlSession.class.getClassLoader()
+            , new Class[]{SqlSession.class}
+            , (proxy, method, args) -> "getConfiguration".equals(method.getName()) ? configuration : null);
+
+        mapper = Proxy.newProxyInstance(AccountMapper.class.getClassLoader()
+            , new Class[]{AccountMapper.class}
+            , new MybatisMapperProxy<>(sqlSession, AccountMapper.class, new HashMap<>()));
+
+        strategy = new ReadWriteSplittingStrategy("master", "slave*");
+    }
+
+    @After
+    public void tearDown() {
+        FlexContext.clear();
+    }
+
+    private static void addStatement(Configuration configuration, String method, SqlCommandType commandType) {
+        String id = AccountMapper.class.getName() + "." + method;
+        configuration.addMappedStatement(new MappedStatement.Builder(configuration, id
+            , new StaticSqlSource(configuration, "SQL"), commandType).build());
+    }
+
+    private String route(String currentKey, String methodName, Object... args) throws Exception {
+        Method method = null;
+        for (Method m : AccountMapper.class.getMethods()) {
+            if (m.getName().equals(methodName)) {
+                method = m;
+            }
+        }
+        return strategy.doSharding(currentKey, mapper, method, args);
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        Assert.assertEquals("slave*", route(null, "selectAccount", QueryWrapper.create()));
+        Assert.assertEquals("master", route(null, "selectAccount", QueryWrapper.create().forUpdate()));
+        Assert.assertEquals("other", route("other", "selectAccount", QueryWrapper.create()));
+        Assert.assertNull(route(null, "selectOrUpdate"));
+    }
+
+    @Test
+    public void testReadYourWrites() throws Exception {
+        Assert.assertEquals("master", route(null, "updateAccount", new Object()));
+        Assert.assertEquals("master", route(null, "selectAccount", QueryWrapper.create()));
+
+        FlexContext.set(FlexContext.current().withPrimaryStickyUntil(System.currentTimeMillis() - 1));
+        Assert.assertEquals("slave*", route(null, "selectAccount", QueryWrapper.create()));
+        Assert.assertTrue(FlexContext.current().isEmpty());
+
+        strategy.setStickyMillis(0);
+        route(null, "updateAccount", new Object());
+        Assert.assertEquals("slave*", route(null, "selectAccount", QueryWrapper.create()));
+    }
+
+}
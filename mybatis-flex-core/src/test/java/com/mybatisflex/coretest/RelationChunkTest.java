@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.relation.AbstractRelation;
+import com.mybatisflex.core.relation.RelationManager;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 关联查询 IN 条件拆分测试。
+ */
+public class RelationChunkTest {
+
+    private static Set<Object> values(int count) {
+        Set<Object> values = new LinkedHashSet<>();
+        for (long i = 0; i < count; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+
+    @Test
+    public void testBuildQueryWrappers() {
+        AbstractRelation<?> relation = RelationManager.getRelations(AccountWithArticles.class).get(0);
+
+        List<QueryWrapper> queryWrappers = relation.buildQueryWrappers(values(2500), 1000);
+        Assert.assertEquals(3, queryWrappers.size());
+        Assert.assertEquals(1000, CPI.getValueArray(queryWrappers.get(0)).length);
+        Assert.assertEquals(1000, CPI.getValueArray(queryWrappers.get(1)).length);
+        Assert.assertEquals(500, CPI.getValueArray(queryWrappers.get(2)).length);
+        Assert.assertEquals(2000L, CPI.getValueArray(queryWrappers.get(2))[0]);
+
+        Assert.assertEquals(1, relation.buildQueryWrappers(values(1000), 1000).size());
+        Assert.assertEquals(1, relation.buildQueryWrappers(values(2500), 0).size());
+
+        String sql = relation.buildQueryWrappers(values(1), 1000).get(0).toSQL();
+        Assert.assertEquals("SELECT * FROM `tb_article` WHERE `account_id` = 0", sql);
+    }
+
+    @Test
+    public void testSameQueryWrapper() {
+        AbstractRelation<?> relation = RelationManager.getRelations(AccountWithArticles.class).get(0);
+
+        // 不拆分时与 buildQueryWrapper 构建的查询一致
+        Assert.assertEquals(relation.buildQueryWrapper(values(10)).toSQL()
+            , relation.buildQueryWrappers(values(10), 1000).get(0).toSQL());
+        Assert.assertEquals(relation.buildQueryWrapper(values(10)).toSQL()
+            , relation.buildQueryWrappers(values(10), 0).get(0).toSQL());
+    }
+
+}
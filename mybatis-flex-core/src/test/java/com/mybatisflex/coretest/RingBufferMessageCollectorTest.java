@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.audit.AuditMessage;
+import com.mybatisflex.core.audit.RingBufferMessageCollector;
+import com.mybatisflex.core.audit.RingBufferMessageCollector.OverflowPolicy;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class RingBufferMessageCollectorTest {
+
+    private static AuditMessage message(String query) {
+        AuditMessage message = new AuditMessage();
+        message.setQuery(query);
+        return message;
+    }
+
+    @Test
+    public void testDropNewest() {
+        List<AuditMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        RingBufferMessageCollector collector = new RingBufferMessageCollector(4, OverflowPolicy.DROP_NEWEST, 3600, sent::addAll);
+        for (int i = 0; i < 10; i++) {
+            collector.collect(message("select " + i));
+        }
+        collector.release();
+
+        // 队列已满时会立即发送，因此丢弃的数量不确定，但不会丢失未被丢弃的消息
+        Assert.assertEquals(10, sent.size() + collector.getDroppedCount());
+        Assert.assertEquals("select 0", sent.get(0).getQuery());
+    }
+
+    @Test
+    public void testDropOldest() {
+        List<AuditMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        RingBufferMessageCollector collector = new RingBufferMessageCollector(4, OverflowPolicy.DROP_OLDEST, 3600, sent::addAll);
+        for (int i = 0; i < 10; i++) {
+            collector.collect(message("select " + i));
+        }
+        collector.release();
+
+        Assert.assertEquals(10, sent.size() + collector.getDroppedCount());
+        Assert.assertEquals("select 9", sent.get(sent.size() - 1).getQuery());
+    }
+
+    @Test
+    public void testBlock() throws InterruptedException {
+        Set<String> sent = Collections.synchronizedSet(new HashSet<>());
+        RingBufferMessageCollector collector = new RingBufferMessageCollector(8, OverflowPolicy.BLOCK, 3600
+            , messages -> messages.forEach(m -> sent.add(m.getQuery())));
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int thread = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 1000; i++) {
+                    collector.collect(message(thread + ":" + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        collector.release();
+
+        Assert.assertEquals(0, collector.getDroppedCount());
+        Assert.assertEquals(4000, sent.size());
+    }
+
+    @Test
+    public void testSampling() {
+        List<AuditMessage> sent = Collections.synchronizedList(new ArrayList<>());
+        RingBufferMessageCollector collector = new RingBufferMessageCollector(64, OverflowPolicy.DROP_NEWEST, 3600, sent::addAll);
+        collector.setSampleRate("select 1", 0);
+        for (int i = 0; i < 10; i++) {
+            collector.collect(message("select 1"));
+            collector.collect(message("select 2"));
+        }
+        collector.release();
+
+        Assert.assertEquals(10, sent.size());
+        Assert.assertEquals(10, collector.getSampledOutCount());
+    }
+
+}
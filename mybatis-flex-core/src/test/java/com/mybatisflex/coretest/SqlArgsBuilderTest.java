@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.provider.SqlArgsBuilder;
+import com.mybatisflex.core.query.CPI;
+import com.mybatisflex.core.query.QueryWrapper;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.util.ArrayUtil;
+import org.junit.Assert;
+import org.junit.Test;
+
+import static com.mybatisflex.core.query.QueryMethods.select;
+import static com.mybatisflex.coretest.table.AccountTableDef.ACCOUNT;
+import static com.mybatisflex.coretest.table.ArticleTableDef.ARTICLE;
+
+/**
+ * SQL 参数构建测试。
+ */
+public class SqlArgsBuilderTest {
+
+    @Test
+    public void testBuilder() {
+        SqlArgsBuilder builder = new SqlArgsBuilder(2);
+        builder.add(1).addAll(new Object[]{2, 3}).addAll((Object[]) null).add(null);
+        Assert.assertArrayEquals(new Object[]{1, 2, 3, null}, builder.toArray());
+
+        SqlArgsBuilder exact = new SqlArgsBuilder(2);
+        Object[] array = exact.add(1).add(2).toArray();
+        exact.clear();
+        exact.add(3);
+        Assert.assertArrayEquals(new Object[]{1, 2}, array);
+        Assert.assertArrayEquals(new Object[]{3}, exact.toArray());
+    }
+
+    @Test
+    public void testQueryWrapperValues() {
+        QueryWrapper queryWrapper = QueryWrapper.create()
+            .select(ACCOUNT.ALL_COLUMNS)
+            .from(ACCOUNT)
+            .leftJoin(ARTICLE).on(ARTICLE.ACCOUNT_ID.eq(ACCOUNT.ID).and(ARTICLE.ID.ge(1)))
+            .where(ACCOUNT.AGE.ge(18).and(ACCOUNT.ID.in(2, 3)))
+            .and(ACCOUNT.ID.in(select(ARTICLE.ACCOUNT_ID).from(ARTICLE).where(ARTICLE.ID.eq(4))))
+            .union(select(ACCOUNT.ALL_COLUMNS).from(ACCOUNT).where(ACCOUNT.ID.eq(5)));
+
+        Assert.assertArrayEquals(new Object[]{1, 18, 2, 3, 4, 5}, CPI.getValueArray(queryWrapper));
+    }
+
+    @Test
+    public void testInsertBatchArgs() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+        int size = 1000;
+        Account[] accounts = new Account[size];
+        for (int i = 0; i < size; i++) {
+            Account account = new Account();
+            account.setId((long) i);
+            account.setUserName("name" + i);
+            accounts[i] = account;
+        }
+
+        SqlArgsBuilder builder = new SqlArgsBuilder(size * tableInfo.getInsertColumnCount());
+        Object[] concatArgs = new Object[0];
+        for (Account account : accounts) {
+            tableInfo.buildInsertSqlArgs(account, false, builder);
+            concatArgs = ArrayUtil.concat(concatArgs, tableInfo.buildInsertSqlArgs(account, false));
+        }
+        Object[] args = builder.toArray();
+
+        Assert.assertEquals(size * tableInfo.getInsertColumnCount(), args.length);
+        Assert.assertArrayEquals(concatArgs, args);
+    }
+
+}
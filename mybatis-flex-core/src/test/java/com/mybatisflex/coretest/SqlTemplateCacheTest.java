@@ -0,0 +1,130 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.dialect.IDialect;
+import com.mybatisflex.core.dialect.SqlTemplateCache;
+import com.mybatisflex.core.dialect.impl.CommonsDialectImpl;
+import com.mybatisflex.core.logicdelete.LogicDeleteManager;
+import com.mybatisflex.core.logicdelete.impl.DefaultLogicDeleteProcessor;
+import com.mybatisflex.core.logicdelete.impl.IntegerLogicDeleteProcessor;
+import com.mybatisflex.core.table.TableInfo;
+import com.mybatisflex.core.table.TableInfoFactory;
+import com.mybatisflex.core.table.TableManager;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 实体 SQL 模板缓存测试。
+ */
+public class SqlTemplateCacheTest {
+
+    private final IDialect dialect = new CommonsDialectImpl();
+
+    @After
+    public void after() {
+        TableManager.setDynamicTableProcessor(null);
+        LogicDeleteManager.setProcessor(new DefaultLogicDeleteProcessor());
+        SqlTemplateCache.setMaxSize(4096);
+    }
+
+    @Test
+    public void testCacheHit() {
+        SqlTemplateCache.clear();
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+
+        String sql1 = dialect.forSelectOneEntityById(tableInfo);
+        int size = SqlTemplateCache.size();
+        String sql2 = dialect.forSelectOneEntityById(tableInfo);
+
+        Assert.assertSame(sql1, sql2);
+        Assert.assertEquals(size, SqlTemplateCache.size());
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `id` = ?  AND `is_delete` = 0", sql1);
+    }
+
+    @Test
+    public void testSkipLogicDelete() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+        String sql = dialect.forSelectOneEntityById(tableInfo);
+        String skipSql = LogicDeleteManager.execWithoutLogicDelete(() -> dialect.forSelectOneEntityById(tableInfo));
+
+        Assert.assertNotEquals(sql, skipSql);
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `id` = ? ", skipSql);
+        Assert.assertEquals("DELETE FROM `tb_account` WHERE `id` = ? "
+            , LogicDeleteManager.execWithoutLogicDelete(() -> dialect.forDeleteEntityById(tableInfo)));
+    }
+
+    @Test
+    public void testDynamicTable() {
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+        Assert.assertEquals("SELECT * FROM `tb_account` WHERE `id` = ?  AND `is_delete` = 0", dialect.forSelectOneEntityById(tableInfo));
+
+        TableManager.setDynamicTableProcessor(tableName -> tableName + "_01");
+        Assert.assertEquals("SELECT * FROM `tb_account_01` WHERE `id` = ?  AND `is_delete` = 0", dialect.forSelectOneEntityById(tableInfo));
+    }
+
+    @Test
+    public void testNonConstantLogicDelete() {
+        AtomicInteger deletedValue = new AtomicInteger();
+        LogicDeleteManager.setProcessor(new IntegerLogicDeleteProcessor() {
+            @Override
+            public Object getLogicDeletedValue() {
+                return deletedValue.incrementAndGet();
+            }
+
+            @Override
+            public boolean isConstant() {
+                return false;
+            }
+        });
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+
+        Assert.assertTrue(dialect.forDeleteEntityById(tableInfo).contains("SET `is_delete` = 1 "));
+        Assert.assertTrue(dialect.forDeleteEntityById(tableInfo).contains("SET `is_delete` = 2 "));
+    }
+
+    @Test
+    public void testSubclassLogicDelete() {
+        AtomicInteger deletedValue = new AtomicInteger();
+        // 继承了内置处理器但没有重写 isConstant 时，不缓存包含逻辑删除的语句
+        LogicDeleteManager.setProcessor(new IntegerLogicDeleteProcessor() {
+            @Override
+            public Object getLogicDeletedValue() {
+                return deletedValue.incrementAndGet();
+            }
+        });
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+
+        Assert.assertTrue(dialect.forDeleteEntityById(tableInfo).contains("SET `is_delete` = 1 "));
+        Assert.assertTrue(dialect.forDeleteEntityById(tableInfo).contains("SET `is_delete` = 2 "));
+        Assert.assertTrue(new IntegerLogicDeleteProcessor().isConstant());
+    }
+
+    @Test
+    public void testMaxSize() {
+        SqlTemplateCache.setMaxSize(1);
+        TableInfo tableInfo = TableInfoFactory.ofEntityClass(Account.class);
+
+        dialect.forSelectOneEntityById(tableInfo);
+        dialect.forDeleteEntityById(tableInfo);
+        Assert.assertEquals(1, SqlTemplateCache.size());
+    }
+
+}
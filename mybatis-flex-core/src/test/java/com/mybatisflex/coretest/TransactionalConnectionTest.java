@@ -0,0 +1,81 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package com.mybatisflex.coretest;
+
+import com.mybatisflex.core.datasource.TransactionalConnection;
+import com.mybatisflex.core.transaction.TransactionContext;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TransactionalConnectionTest {
+
+    private final List<String> calls = new ArrayList<>();
+
+    private final Connection original = (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader()
+        , new Class[]{Connection.class}, (proxy, method, args) -> {
+            calls.add(method.getName() + (args == null ? "" : args[0]));
+            if ("prepareStatement".equals(method.getName())) {
+                throw new SQLException("bad sql");
+            }
+            return "getAutoCommit".equals(method.getName()) ? Boolean.FALSE : null;
+        });
+
+    @After
+    public void tearDown() {
+        TransactionContext.release();
+    }
+
+    @Test
+    public void testTransactional() throws SQLException {
+        TransactionContext.holdXID("xid-1");
+        Connection connection = new TransactionalConnection(original, "xid-1");
+        calls.clear();
+
+        connection.setAutoCommit(true);
+        connection.commit();
+        connection.rollback();
+        connection.rollback(null);
+        connection.close();
+        connection.setReadOnly(true);
+        Assert.assertEquals("[setReadOnlytrue]", calls.toString());
+
+        // 事务结束后才真正提交和关闭
+        TransactionContext.release();
+        connection.rollback(null);
+        connection.commit();
+        connection.close();
+        Assert.assertEquals("[setReadOnlytrue, rollbacknull, commit, getAutoCommit, setAutoCommittrue, close]", calls.toString());
+    }
+
+    @Test
+    public void testException() {
+        Connection connection = new TransactionalConnection(original, "xid-1");
+        try {
+            connection.prepareStatement("select");
+            Assert.fail();
+        } catch (SQLException e) {
+            Assert.assertEquals("bad sql", e.getMessage());
+        }
+    }
+
+}
@@ -23,11 +23,14 @@ import com.mybatisflex.core.FlexConsts;
 import com.mybatisflex.core.datasource.FlexDataSource;
 import com.mybatisflex.core.mybatis.FlexConfiguration;
 import com.mybatisflex.core.mybatis.FlexSqlSessionFactoryBuilder;
+import com.mybatisflex.core.transaction.TransactionContext;
 import com.mybatisflex.loveqq.framework.boot.autoconfig.transaction.FlexTransactionFactory;
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
 import org.apache.ibatis.mapping.Environment;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * <p>源于 {@link SqlSessionFactoryBean}，主要是用于构建 {@link com.mybatisflex.core.mybatis.FlexConfiguration }，而不是使用原生的 {@link Configuration}。
@@ -93,6 +96,50 @@ public class FlexSqlSessionFactoryBean extends SqlSessionFactoryBean {
     protected SqlSessionFactory build(Configuration configuration) {
         SqlSessionFactory sqlSessionFactory = new FlexSqlSessionFactoryBuilder().build(configuration);
         super.buildMapperLocations(configuration);
+
+        // 并发分页等功能需要感知事务，FlexTransactionManager 之外的事务管理器也能检测到
+        TransactionContext.setTransactionActiveChecker(TransactionSynchronizationManager::isActualTransactionActive);
+        TransactionContext.setAfterCommitRegistrar(FlexSqlSessionFactoryBean::registerAfterCommit);
         return sqlSessionFactory;
     }
+
+    /**
+     * 在 Spring 事务提交后执行，没有开启事务同步时立即执行。
+     */
+    private static void registerAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new AfterCommitSynchronization(action));
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 事务提交后执行的操作，同一个事务中相等的操作只注册一次。
+     */
+    private static class AfterCommitSynchronization implements TransactionSynchronization {
+
+        private final Runnable action;
+
+        AfterCommitSynchronization(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void afterCommit() {
+            action.run();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof AfterCommitSynchronization && action.equals(((AfterCommitSynchronization) o).action);
+        }
+
+        @Override
+        public int hashCode() {
+            return action.hashCode();
+        }
+
+    }
+
 }
@@ -22,6 +22,7 @@ import com.mybatisflex.annotation.Table;
 import com.mybatisflex.processor.builder.ContentBuilder;
 import com.mybatisflex.processor.config.ConfigurationKey;
 import com.mybatisflex.processor.config.MybatisFlexConfig;
+import com.mybatisflex.processor.entity.AccessorInfo;
 import com.mybatisflex.processor.entity.ColumnInfo;
 import com.mybatisflex.processor.entity.TableInfo;
 import com.mybatisflex.processor.util.FileUtil;
@@ -33,7 +34,9 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
 import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
@@ -131,6 +134,9 @@ public class MybatisFlexProcessor extends AbstractProcessor {
             String tableDefPropertiesNameStyle = configuration.get(ConfigurationKey.TABLE_DEF_PROPERTIES_NAME_STYLE);
             String[] tableDefIgnoreEntitySuffixes = configuration.get(ConfigurationKey.TABLE_DEF_IGNORE_ENTITY_SUFFIXES).split(",");
 
+            // accessor 配置
+            boolean accessorGenerateEnable = "true".equalsIgnoreCase(configuration.get(ConfigurationKey.ACCESSOR_GENERATE_ENABLE));
+
             // 如果不指定 Tables 生成包，那么 Tables 文件就会和最后一个 entity 文件在同一个包
             String entityClassReference = null;
 
@@ -195,6 +201,17 @@ public class MybatisFlexProcessor extends AbstractProcessor {
                     ContentBuilder.buildTablesField(importBuilder, fieldBuilder, tableInfo, tableDefClassSuffix, tableDefPropertiesNameStyle, tableDefInstanceSuffix, realTableDefPackage);
                 }
 
+                // 生成 EntityAccessor 文件，类名需要与 com.mybatisflex.core.table.EntityAccessor#CLASS_SUFFIX 保持一致
+                if (accessorGenerateEnable) {
+                    List<AccessorInfo> accessorInfos = buildAccessorInfos((TypeElement) entityClassElement);
+                    if (accessorInfos != null) {
+                        String accessorPackage = elementUtils.getPackageOf(entityClassElement).getQualifiedName().toString();
+                        String accessorClassName = entityClassElement.getSimpleName() + "_Accessor";
+                        String accessorContent = ContentBuilder.buildEntityAccessor(entityClass, accessorPackage, accessorClassName, accessorInfos);
+                        processGenClass(genPath, accessorPackage, accessorClassName, accessorContent, entityClassElement);
+                    }
+                }
+
                 // 是否生成 Mapper 文件
                 if ("true".equalsIgnoreCase(mapperGenerateEnable) && table.mapperGenerateEnable()) {
                     String realMapperPackage = StrUtil.isBlank(mapperPackage) ? StrUtil.buildMapperPackage(entityClass) : StrUtil.processPackageExpression(entityClass, mapperPackage);
@@ -321,6 +338,116 @@ public class MybatisFlexProcessor extends AbstractProcessor {
     }
 
 
+    /**
+     * 获取实体类中可以通过 getter 方法读取的属性，与 MyBatis {@code Reflector} 的规则一致。
+     *
+     * @return 属性信息，内部类等无法生成访问器的情况返回 {@code null}
+     */
+    private List<AccessorInfo> buildAccessorInfos(TypeElement entityElement) {
+        if (entityElement.getEnclosingElement().getKind() != ElementKind.PACKAGE) {
+            return null;
+        }
+        String packageName = elementUtils.getPackageOf(entityElement).getQualifiedName().toString();
+
+        Map<String, ExecutableElement> getters = new HashMap<>();
+        Map<String, ExecutableElement> isGetters = new HashMap<>();
+        Map<String, ExecutableElement> setters = new HashMap<>();
+        for (Element member : elementUtils.getAllMembers(entityElement)) {
+            Set<Modifier> modifiers = member.getModifiers();
+            if (member.getKind() != ElementKind.METHOD || !modifiers.contains(Modifier.PUBLIC) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            String name = method.getSimpleName().toString();
+            if (method.getParameters().isEmpty() && method.getReturnType().getKind() != TypeKind.VOID) {
+                if (name.startsWith("get") && name.length() > 3) {
+                    getters.putIfAbsent(StrUtil.methodToProperty(name.substring(3)), method);
+                } else if (name.startsWith("is") && name.length() > 2) {
+                    isGetters.putIfAbsent(StrUtil.methodToProperty(name.substring(2)), method);
+                }
+            } else if (method.getParameters().size() == 1 && name.startsWith("set") && name.length() > 3) {
+                setters.putIfAbsent(StrUtil.methodToProperty(name.substring(3)), method);
+            }
+        }
+
+        List<AccessorInfo> accessorInfos = new ArrayList<>();
+        Set<String> properties = new HashSet<>();
+        TypeElement classElement = entityElement;
+        while (classElement != null) {
+            for (Element fieldElement : classElement.getEnclosedElements()) {
+                if (ElementKind.FIELD != fieldElement.getKind() || fieldElement.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                Column column = fieldElement.getAnnotation(Column.class);
+                if (column != null && column.ignore()) {
+                    continue;
+                }
+                String property = fieldElement.getSimpleName().toString();
+                if (!properties.add(property)) {
+                    continue;
+                }
+
+                // getter 方法冲突时，boolean 类型优先使用 isXxx
+                ExecutableElement getter = getters.get(property);
+                ExecutableElement isGetter = isGetters.get(property);
+                if (isGetter != null && (getter == null || isGetter.getReturnType().getKind() == TypeKind.BOOLEAN)) {
+                    getter = isGetter;
+                }
+                // 没有 getter 方法的属性使用反射读取
+                if (getter == null) {
+                    continue;
+                }
+
+                AccessorInfo accessorInfo = new AccessorInfo();
+                accessorInfo.setProperty(property);
+                accessorInfo.setGetterName(getter.getSimpleName().toString());
+
+                ExecutableElement setter = setters.get(property);
+                if (setter != null) {
+                    TypeMirror setterType = typeUtils.erasure(setter.getParameters().get(0).asType());
+                    if (setterType.getKind().isPrimitive()) {
+                        accessorInfo.setSetterName(setter.getSimpleName().toString());
+                        accessorInfo.setSetterType(typeUtils.boxedClass((PrimitiveType) setterType).getQualifiedName().toString());
+                        accessorInfo.setPrimitive(true);
+                    } else if (isAccessible(setterType, packageName)) {
+                        accessorInfo.setSetterName(setter.getSimpleName().toString());
+                        accessorInfo.setSetterType(setterType.toString());
+                    }
+                }
+                accessorInfos.add(accessorInfo);
+            }
+            classElement = (TypeElement) typeUtils.asElement(classElement.getSuperclass());
+        }
+        return accessorInfos;
+    }
+
+
+    /**
+     * 生成的访问器中是否可以使用该类型。
+     */
+    private boolean isAccessible(TypeMirror typeMirror, String packageName) {
+        if (typeMirror.getKind().isPrimitive()) {
+            return true;
+        }
+        if (typeMirror.getKind() == TypeKind.ARRAY) {
+            return isAccessible(((ArrayType) typeMirror).getComponentType(), packageName);
+        }
+        if (typeMirror.getKind() != TypeKind.DECLARED) {
+            return false;
+        }
+        Element element = ((DeclaredType) typeMirror).asElement();
+        boolean samePackage = packageName.equals(elementUtils.getPackageOf(element).getQualifiedName().toString());
+        while (element != null && element.getKind() != ElementKind.PACKAGE) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || (!samePackage && !modifiers.contains(Modifier.PUBLIC))) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+
     private String[] getColumnAliasByGetterMethod(TypeElement baseElement, String property) {
         if (baseElement == null) {
             return null;
@@ -16,6 +16,7 @@
 
 package com.mybatisflex.processor.builder;
 
+import com.mybatisflex.processor.entity.AccessorInfo;
 import com.mybatisflex.processor.entity.ColumnInfo;
 import com.mybatisflex.processor.entity.TableInfo;
 import com.mybatisflex.processor.util.StrUtil;
@@ -56,6 +57,72 @@ public class ContentBuilder {
         return content.toString();
     }
 
+    /**
+     * 构建 EntityAccessor 文件内容。
+     */
+    public static String buildEntityAccessor(String entityClass, String accessorPackage, String accessorClassName,
+                                             List<AccessorInfo> accessorInfos) {
+        StringBuilder content = new StringBuilder("package ");
+        content.append(accessorPackage).append(";\n\n");
+        content.append("import com.mybatisflex.core.table.EntityAccessor;\n\n");
+        content.append("// Auto generate by mybatis-flex, do not modify it.\n");
+        content.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        content.append("public class ").append(accessorClassName).append(" implements EntityAccessor<Object> {\n\n");
+
+        StringJoiner properties = new StringJoiner(", ", "{", "}");
+        for (AccessorInfo accessorInfo : accessorInfos) {
+            properties.add("\"" + accessorInfo.getProperty() + "\"");
+        }
+        content.append("    private static final String[] PROPERTIES = ").append(properties).append(";\n\n");
+
+        content.append("    @Override\n");
+        content.append("    public String[] getProperties() {\n");
+        content.append("        return PROPERTIES.clone();\n");
+        content.append("    }\n\n");
+
+        content.append("    @Override\n");
+        content.append("    public Object get(Object entity, int index) {\n");
+        content.append("        ").append(entityClass).append(" e = (").append(entityClass).append(") entity;\n");
+        content.append("        switch (index) {\n");
+        for (int i = 0; i < accessorInfos.size(); i++) {
+            content.append("            case ").append(i).append(":\n");
+            content.append("                return e.").append(accessorInfos.get(i).getGetterName()).append("();\n");
+        }
+        content.append("            default:\n");
+        content.append("                throw new IndexOutOfBoundsException(\"index: \" + index);\n");
+        content.append("        }\n");
+        content.append("    }\n\n");
+
+        content.append("    @Override\n");
+        content.append("    public void set(Object entity, int index, Object value) {\n");
+        content.append("        ").append(entityClass).append(" e = (").append(entityClass).append(") entity;\n");
+        content.append("        switch (index) {\n");
+        for (int i = 0; i < accessorInfos.size(); i++) {
+            AccessorInfo accessorInfo = accessorInfos.get(i);
+            content.append("            case ").append(i).append(":\n");
+            if (accessorInfo.getSetterName() == null) {
+                content.append("                throw new UnsupportedOperationException(\"No setter for property: ")
+                    .append(accessorInfo.getProperty()).append("\");\n");
+                continue;
+            }
+            String setValue = "e." + accessorInfo.getSetterName() + "((" + accessorInfo.getSetterType() + ") value);";
+            if (accessorInfo.isPrimitive()) {
+                content.append("                if (value != null) {\n");
+                content.append("                    ").append(setValue).append("\n");
+                content.append("                }\n");
+            } else {
+                content.append("                ").append(setValue).append("\n");
+            }
+            content.append("                return;\n");
+        }
+        content.append("            default:\n");
+        content.append("                throw new IndexOutOfBoundsException(\"index: \" + index);\n");
+        content.append("        }\n");
+        content.append("    }\n\n");
+        content.append("}\n");
+        return content.toString();
+    }
+
     /**
      * 构建 TableDef 文件内容。
      */
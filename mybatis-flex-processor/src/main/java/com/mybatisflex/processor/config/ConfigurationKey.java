@@ -100,7 +100,13 @@ public enum ConfigurationKey {
     /**
      * 过滤 Entity 后缀。
      */
-    TABLE_DEF_IGNORE_ENTITY_SUFFIXES("processor.tableDef.ignoreEntitySuffixes", "");
+    TABLE_DEF_IGNORE_ENTITY_SUFFIXES("processor.tableDef.ignoreEntitySuffixes", ""),
+
+
+    /**
+     * 开启实体类属性访问器（EntityAccessor）自动生成。
+     */
+    ACCESSOR_GENERATE_ENABLE("processor.accessor.generateEnable", "true");
 
 
     private final String configKey;
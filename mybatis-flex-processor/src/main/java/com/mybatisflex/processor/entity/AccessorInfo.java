@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2022-2025, Mybatis-Flex (fuhai999@gmail.com).
+ *  <p>
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  <p>
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  <p>
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package com.mybatisflex.processor.entity;
+
+/**
+ * 属性访问器中的属性信息。
+ */
+public class AccessorInfo {
+
+    /**
+     * 属性名。
+     */
+    private String property;
+
+    /**
+     * getter 方法名。
+     */
+    private String getterName;
+
+    /**
+     * setter 方法名，没有可以访问的 setter 方法时为 {@code null}。
+     */
+    private String setterName;
+
+    /**
+     * setter 方法参数类型，基本类型为对应的包装类型。
+     */
+    private String setterType;
+
+    /**
+     * setter 方法参数是否为基本类型。
+     */
+    private boolean primitive;
+
+    public String getProperty() {
+        return property;
+    }
+
+    public void setProperty(String property) {
+        this.property = property;
+    }
+
+    public String getGetterName() {
+        return getterName;
+    }
+
+    public void setGetterName(String getterName) {
+        this.getterName = getterName;
+    }
+
+    public String getSetterName() {
+        return setterName;
+    }
+
+    public void setSetterName(String setterName) {
+        this.setterName = setterName;
+    }
+
+    public String getSetterType() {
+        return setterType;
+    }
+
+    public void setSetterType(String setterType) {
+        this.setterType = setterType;
+    }
+
+    public boolean isPrimitive() {
+        return primitive;
+    }
+
+    public void setPrimitive(boolean primitive) {
+        this.primitive = primitive;
+    }
+
+}
@@ -18,6 +18,7 @@ package com.mybatisflex.processor.util;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -165,4 +166,15 @@ public class StrUtil {
         }
     }
 
+
+    /**
+     * 去掉 get/set/is 前缀后的方法名转换为属性名，与 MyBatis {@code PropertyNamer#methodToProperty} 一致。
+     */
+    public static String methodToProperty(String name) {
+        if (name.length() == 1 || (name.length() > 1 && !Character.isUpperCase(name.charAt(1)))) {
+            return name.substring(0, 1).toLowerCase(Locale.ENGLISH) + name.substring(1);
+        }
+        return name;
+    }
+
 }
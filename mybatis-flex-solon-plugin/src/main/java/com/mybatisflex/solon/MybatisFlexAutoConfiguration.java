@@ -6,6 +6,7 @@ import com.mybatisflex.core.MybatisFlexBootstrap;
 import com.mybatisflex.core.mybatis.FlexConfiguration;
 import com.mybatisflex.core.mybatis.FlexSqlSessionFactoryBuilder;
 import com.mybatisflex.core.row.RowMapperInvoker;
+import com.mybatisflex.core.transaction.TransactionContext;
 import com.mybatisflex.solon.transaction.SolonManagedTransactionFactory;
 import com.mybatisflex.solon.transaction.MybatisSessionTemplate;
 import org.apache.ibatis.builder.xml.XMLMapperBuilder;
@@ -25,6 +26,7 @@ import org.noear.solon.annotation.Inject;
 import org.noear.solon.core.AppContext;
 import org.noear.solon.core.event.EventBus;
 import org.noear.solon.core.util.ResourceUtil;
+import org.noear.solon.data.tran.TranUtils;
 
 import javax.sql.DataSource;
 import java.io.InputStream;
@@ -64,6 +66,9 @@ public class MybatisFlexAutoConfiguration {
             configurationCustomizer.customize(configuration);
         }
 
+        // 并发分页等功能需要感知 Solon 事务
+        TransactionContext.setTransactionActiveChecker(TranUtils::inTrans);
+
         //增加事件总线扩展
         EventBus.publish(configuration);
 
@@ -20,6 +20,7 @@ import com.mybatisflex.core.FlexConsts;
 import com.mybatisflex.core.datasource.FlexDataSource;
 import com.mybatisflex.core.mybatis.FlexConfiguration;
 import com.mybatisflex.core.mybatis.FlexSqlSessionFactoryBuilder;
+import com.mybatisflex.core.transaction.TransactionContext;
 import org.apache.ibatis.builder.xml.XMLConfigBuilder;
 import org.apache.ibatis.builder.xml.XMLMapperBuilder;
 import org.apache.ibatis.cache.Cache;
@@ -53,6 +54,8 @@ import org.springframework.core.type.ClassMetadata;
 import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
 import org.springframework.jdbc.datasource.TransactionAwareDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.ClassUtils;
 
 import javax.sql.DataSource;
@@ -494,6 +497,10 @@ public class FlexSqlSessionFactoryBean extends SqlSessionFactoryBean
         );
 
         this.sqlSessionFactory = buildSqlSessionFactory();
+
+        // 并发分页等功能需要感知 Spring 事务
+        TransactionContext.setTransactionActiveChecker(TransactionSynchronizationManager::isActualTransactionActive);
+        TransactionContext.setAfterCommitRegistrar(FlexSqlSessionFactoryBean::registerAfterCommit);
     }
 
     /**
@@ -750,4 +757,43 @@ public class FlexSqlSessionFactoryBean extends SqlSessionFactoryBean
         return classes;
     }
 
+    /**
+     * 在 Spring 事务提交后执行，没有开启事务同步时立即执行。
+     */
+    private static void registerAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new AfterCommitSynchronization(action));
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 事务提交后执行的操作，同一个事务中相等的操作只注册一次。
+     */
+    private static class AfterCommitSynchronization implements TransactionSynchronization {
+
+        private final Runnable action;
+
+        AfterCommitSynchronization(Runnable action) {
+            this.action = action;
+        }
+
+        @Override
+        public void afterCommit() {
+            action.run();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof AfterCommitSynchronization && action.equals(((AfterCommitSynchronization) o).action);
+        }
+
+        @Override
+        public int hashCode() {
+            return action.hashCode();
+        }
+
+    }
+
 }